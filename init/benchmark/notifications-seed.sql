@@ -0,0 +1,43 @@
+-- 알림 페이징 벤치마크용 대량 데이터 (NotificationPageBenchmark)
+-- schema.sql 적용 후 빈 DB 에서 실행: psql -v users=100000 -v rows=50000000 -f init/benchmark/notifications-seed.sql
+-- 기본값: 유저 10만 명, 알림 5천만 건 (최근 365일에 고르게 분포, 약 70% 읽음)
+\if :{?users}
+\else
+\set users 100000
+\endif
+\if :{?rows}
+\else
+\set rows 50000000
+\endif
+
+SET synchronous_commit = off;
+SET maintenance_work_mem = '1GB';
+
+-- 벤치마크 유저 (id 는 md5('bench-user-' || n) 으로 고정해 벤치마크에서 다시 계산)
+INSERT INTO "users" ("id", "email", "name", "password")
+SELECT md5('bench-user-' || n)::uuid, 'bench-' || n || '@example.com', 'bench-' || n, '$2b$10$benchmark'
+FROM generate_series(0, :users - 1) AS n
+ON CONFLICT DO NOTHING;
+
+-- 적재 중 인덱스 갱신 비용을 줄이기 위해 인덱스를 내렸다가 마지막에 다시 생성
+DROP INDEX IF EXISTS idx_notifications_receiver_created;
+DROP INDEX IF EXISTS idx_notifications_created_at;
+DROP INDEX IF EXISTS idx_notifications_coalesce;
+
+INSERT INTO "notifications" ("id", "receiver_id", "type", "content", "subject_id", "coalesced_count", "is_read", "created_at")
+SELECT gen_random_uuid(),
+       md5('bench-user-' || (n % :users))::uuid,
+       (ARRAY ['ROLE_CHANGED', 'PLAYLIST_SUBSCRIBED', 'FOLLOWING_POSTED_PLAYLIST', 'PLAYLIST_UPDATED'])[1 + n % 4],
+       '벤치마크 알림 ' || n,
+       NULL,
+       1,
+       random() < 0.7,
+       now() - random() * interval '365 days'
+FROM generate_series(0, :rows - 1) AS n;
+
+CREATE INDEX idx_notifications_coalesce ON notifications (subject_id, type, created_at) WHERE subject_id IS NOT NULL;
+CREATE INDEX idx_notifications_receiver_created ON notifications (receiver_id, created_at DESC, id DESC);
+CREATE INDEX idx_notifications_created_at ON notifications (created_at);
+
+ANALYZE "users";
+ANALYZE "notifications";
@@ -122,6 +122,8 @@ CREATE TABLE "follows"
     "created_at"   TIMESTAMP DEFAULT now() NOT NULL,
     UNIQUE ("follower_id", "following_id")
 );
+-- 나를 팔로우한 사람 목록 (알림 fan-out keyset 페이징)
+CREATE INDEX idx_follows_following_follower ON follows (following_id, follower_id);
 
 -- 채팅&시청방 테이블
 CREATE TABLE "watch_rooms"
@@ -135,10 +137,15 @@ CREATE TABLE "watch_rooms"
     "play_time"              DOUBLE PRECISION DEFAULT 0.0      NOT NULL,
     "is_playing"             BOOLEAN          DEFAULT FALSE    NOT NULL,
     "video_state_updated_at" TIMESTAMP        DEFAULT now()    NOT NULL,
+    "participant_count"      BIGINT           DEFAULT 0        NOT NULL,
+    "participant_version"    BIGINT           DEFAULT 0        NOT NULL,
     FOREIGN KEY ("owner_id") REFERENCES "users" ("id"),
     FOREIGN KEY ("content_id") REFERENCES "contents" ("id")
 );
 
+-- 기본 정렬(참여자 수) 키셋 페이지네이션용
+CREATE INDEX idx_watch_rooms_participant_count ON watch_rooms (participant_count DESC, id DESC);
+
 -- 채팅 메시지 테이블
 CREATE TABLE "watch_room_messages"
 (
@@ -151,6 +158,9 @@ CREATE TABLE "watch_room_messages"
     FOREIGN KEY ("sender_id") REFERENCES "users" ("id")
 );
 
+-- 방별 최신순 채팅 기록 키셋 페이지네이션용
+CREATE INDEX idx_watch_room_messages_room_created ON watch_room_messages (room_id, created_at DESC, id DESC);
+
 -- 채팅방 참가자 테이블
 CREATE TABLE "watch_room_participants"
 (
@@ -196,11 +206,41 @@ CREATE TABLE "notifications"
     "receiver_id" UUID                    NOT NULL,
     "type"        VARCHAR(255)            NOT NULL,
     "content"     VARCHAR(255)            NOT NULL,
+    "subject_id"  UUID,
+    "coalesced_count" INTEGER DEFAULT 1   NOT NULL,
     "is_read"     BOOLEAN                 NOT NULL,
     "created_at"  TIMESTAMP DEFAULT now() NOT NULL,
     FOREIGN KEY ("receiver_id") REFERENCES "users" ("id")
 );
 COMMENT ON COLUMN "notifications"."type" IS 'ENUM?';
+-- 병합 구간 안의 같은 대상 알림 조회 (NotificationBulkRepository 병합 UPDATE)
+CREATE INDEX idx_notifications_coalesce ON notifications (subject_id, type, created_at) WHERE subject_id IS NOT NULL;
+-- 알림 목록 keyset 페이징 (created_at desc, id desc) 및 유저별 개수 조회
+CREATE INDEX idx_notifications_receiver_created ON notifications (receiver_id, created_at DESC, id DESC);
+-- 보관 대상(오래된 알림) 조회
+CREATE INDEX idx_notifications_created_at ON notifications (created_at);
+
+-- 보관 기간이 지난 읽은 알림 보관 테이블 (NotificationRetentionJob 이 옮기고, 보관 기간이 지나면 삭제)
+CREATE TABLE "notifications_archive"
+(
+    "id"              UUID PRIMARY KEY NOT NULL,
+    "receiver_id"     UUID             NOT NULL,
+    "type"            VARCHAR(255)     NOT NULL,
+    "subject_id"      UUID,
+    "content"         VARCHAR(255)     NOT NULL,
+    "coalesced_count" INTEGER          NOT NULL,
+    "created_at"      TIMESTAMP        NOT NULL,
+    "archived_at"     TIMESTAMP        NOT NULL
+);
+CREATE INDEX idx_notifications_archive_archived_at ON notifications_archive (archived_at);
+
+-- 알림 읽음 기준 시각 (이 시각 이전에 생성된 알림은 읽은 것으로 판단)
+CREATE TABLE "notification_read_states"
+(
+    "user_id"      UUID PRIMARY KEY NOT NULL,
+    "last_read_at" TIMESTAMP        NOT NULL,
+    FOREIGN KEY ("user_id") REFERENCES "users" ("id") ON DELETE CASCADE
+);
 
 
 -- JWT 세션 테이블
@@ -210,11 +250,16 @@ CREATE TABLE "jwt_sessions"
     "user_id"       UUID UNIQUE             NOT NULL,
     "access_token"  VARCHAR(512)            NOT NULL,
     "refresh_token" VARCHAR(512)            NOT NULL,
+    "access_token_hash"  CHAR(32)           NOT NULL,
+    "refresh_token_hash" CHAR(32)           NOT NULL,
     "created_at"    TIMESTAMP DEFAULT now() NOT NULL,
     "expires_at"    TIMESTAMP               NOT NULL,
     "is_active"     BOOLEAN                 NOT NULL,
     FOREIGN KEY ("user_id") REFERENCES "users" ("id")
 );
+-- 토큰 원문 대신 고정 길이 digest(SHA-256 앞 16바이트, hex)로 세션 조회
+CREATE UNIQUE INDEX idx_jwt_sessions_access_token_hash ON jwt_sessions (access_token_hash);
+CREATE UNIQUE INDEX idx_jwt_sessions_refresh_token_hash ON jwt_sessions (refresh_token_hash);
 
 
 CREATE TABLE "dm_read_users"
@@ -189,20 +189,25 @@ VALUES ('140e8400-e29b-41d4-a716-446655440001', '550e8400-e29b-41d4-a716-4466554
         'CHAT_INVITE', '새로운 채팅방에 초대되었습니다', false);
 
 -- JWT 세션 테스트 데이터
-INSERT INTO "jwt_sessions" ("id", "user_id", "access_token", "refresh_token", "expires_at",
-                            "is_active")
-VALUES ('150e8400-e29b-41d4-a716-446655440001', '550e8400-e29b-41d4-a716-446655440002',
-        'eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...', 'refresh_token_john_123456789',
-        '2025-07-27 14:30:00', true),
-       ('150e8400-e29b-41d4-a716-446655440002', '550e8400-e29b-41d4-a716-446655440003',
-        'eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...', 'refresh_token_jane_987654321',
-        '2025-07-28 09:15:00', true),
-       ('150e8400-e29b-41d4-a716-446655440003', '550e8400-e29b-41d4-a716-446655440004',
-        'eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...', 'refresh_token_bob_456789123',
-        '2025-07-26 18:45:00', false),
-       ('150e8400-e29b-41d4-a716-446655440004', '550e8400-e29b-41d4-a716-446655440001',
-        'eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...', 'refresh_token_admin_111222333',
-        '2025-08-01 12:00:00', true);
+INSERT INTO "jwt_sessions" ("id", "user_id", "access_token", "refresh_token", "access_token_hash",
+                            "refresh_token_hash", "expires_at", "is_active")
+-- 토큰 digest 는 TokenDigest 와 같은 SHA-256 앞 16바이트
+SELECT v.id, v.user_id, v.access_token, v.refresh_token,
+       left(encode(sha256(convert_to(v.access_token, 'UTF8')), 'hex'), 32),
+       left(encode(sha256(convert_to(v.refresh_token, 'UTF8')), 'hex'), 32),
+       v.expires_at, v.is_active
+FROM (VALUES (UUID '150e8400-e29b-41d4-a716-446655440001', UUID '550e8400-e29b-41d4-a716-446655440002',
+        'eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.john', 'refresh_token_john_123456789',
+        TIMESTAMP '2025-07-27 14:30:00', true),
+       (UUID '150e8400-e29b-41d4-a716-446655440002', UUID '550e8400-e29b-41d4-a716-446655440003',
+        'eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.jane', 'refresh_token_jane_987654321',
+        TIMESTAMP '2025-07-28 09:15:00', true),
+       (UUID '150e8400-e29b-41d4-a716-446655440003', UUID '550e8400-e29b-41d4-a716-446655440004',
+        'eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.bob', 'refresh_token_bob_456789123',
+        TIMESTAMP '2025-07-26 18:45:00', false),
+       (UUID '150e8400-e29b-41d4-a716-446655440004', UUID '550e8400-e29b-41d4-a716-446655440001',
+        'eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.admin', 'refresh_token_admin_111222333',
+        TIMESTAMP '2025-08-01 12:00:00', true)) AS v (id, user_id, access_token, refresh_token, expires_at, is_active);
 
 -- 임시 비밀번호 테스트 데이터
 INSERT INTO "temporary_passwords" ("id", "user_id", "temp_password", "expired_at", "is_used")
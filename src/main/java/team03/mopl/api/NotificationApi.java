@@ -23,6 +23,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import team03.mopl.common.dto.CursorPageResponseDto;
 import team03.mopl.domain.notification.dto.NotificationDto;
 import team03.mopl.domain.notification.dto.NotificationPagingDto;
+import team03.mopl.domain.notification.dto.UnreadCountDto;
 import team03.mopl.jwt.CustomUserDetails;
 
 @Tag(name = "Notification API", description = "알림 기능 관련 API")
@@ -52,6 +53,16 @@ public interface NotificationApi {
       @AuthenticationPrincipal CustomUserDetails user
   );
 
+  @Operation(summary = "읽지 않은 알림 수 조회", description = "로그인한 사용자의 읽지 않은 알림 수를 조회합니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = UnreadCountDto.class))),
+      @ApiResponse(responseCode = "401", description = "인증 필요")
+  })
+  @GetMapping("/unread-count")
+  ResponseEntity<UnreadCountDto> getUnreadCount(
+      @AuthenticationPrincipal CustomUserDetails user
+  );
+
   @Operation(summary = "단일 알림 읽음 처리", description = "특정 알림을 읽음 처리합니다.")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "읽음 처리 성공"),
@@ -11,12 +11,16 @@ import java.util.List;
 import java.util.UUID;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import team03.mopl.common.dto.CursorPageResponseDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomCreateRequest;
 import team03.mopl.domain.watchroom.dto.WatchRoomDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomSearchDto;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessagePagingDto;
+import team03.mopl.jwt.CustomUserDetails;
 
 @Tag(name = "Watch Room API", description = "같이보기 채팅방 관련 API")
 @RequestMapping("/api/rooms")
@@ -44,4 +48,16 @@ public interface WatchRoomApi {
       content = @Content(schema = @Schema(implementation = WatchRoomDto.class)))
   @PostMapping
   ResponseEntity<WatchRoomDto> createWatchRoom(@RequestBody WatchRoomCreateRequest request);
+
+  @Operation(summary = "채팅 기록 조회", description = "참여 중인 채팅방의 채팅 기록을 최신순으로 조회합니다. (커서 페이지네이션)")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 페이지네이션 파라미터"),
+      @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없거나 참여 중이 아님")
+  })
+  @GetMapping("/{roomId}/messages")
+  ResponseEntity<CursorPageResponseDto<WatchRoomMessageDto>> getMessages(
+      @Parameter(description = "채팅방 ID") @PathVariable("roomId") UUID roomId,
+      @ParameterObject @ModelAttribute WatchRoomMessagePagingDto request,
+      @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails user);
 }
@@ -0,0 +1,36 @@
+package team03.mopl.cluster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구독자 관리와 수신 메시지 분배를 담당하는 공통 구현
+ */
+@Slf4j
+public abstract class AbstractClusterBus implements ClusterBus {
+
+  private final Map<ClusterMessage.Kind, List<Consumer<ClusterMessage>>> listeners = new ConcurrentHashMap<>();
+
+  @Override
+  public void subscribe(ClusterMessage.Kind kind, Consumer<ClusterMessage> listener) {
+    listeners.computeIfAbsent(kind, k -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+
+  /**
+   * 수신한 메시지를 같은 종류의 구독자에게 전달합니다.
+   * 한 구독자의 실패가 다른 구독자에게 영향을 주지 않도록 예외는 여기서 삼킵니다.
+   */
+  protected void dispatch(ClusterMessage message) {
+    for (Consumer<ClusterMessage> listener : listeners.getOrDefault(message.kind(), List.of())) {
+      try {
+        listener.accept(message);
+      } catch (Exception e) {
+        log.warn("클러스터 메시지 처리 실패: kind={}, target={}, 에러={}", message.kind(), message.target(), e.getMessage());
+      }
+    }
+  }
+}
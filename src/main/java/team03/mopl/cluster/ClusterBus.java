@@ -0,0 +1,17 @@
+package team03.mopl.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 여러 노드(ECS task)에 SSE 알림과 STOMP 메시지를 전달하는 pub/sub 버스
+ *
+ * 발행한 메시지는 발행한 노드를 포함한 모든 노드의 구독자에게 전달되며,
+ * 각 노드는 자기에게 연결된 유저/구독자에게만 실제로 전송합니다.
+ * 구현체는 mopl.cluster.bus.type 으로 선택합니다. (memory: 단일 노드, redis: Redis pub/sub)
+ */
+public interface ClusterBus {
+
+  void publish(ClusterMessage message);
+
+  void subscribe(ClusterMessage.Kind kind, Consumer<ClusterMessage> listener);
+}
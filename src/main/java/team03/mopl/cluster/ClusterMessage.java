@@ -0,0 +1,53 @@
+package team03.mopl.cluster;
+
+/**
+ * 노드 간에 주고받는 전송 요청
+ *
+ * @param kind 수신 노드에서 처리할 대상 (SSE 알림 / 읽지 않은 알림 수 / STOMP 메시지 / 유저, 세션 캐시 무효화 / 토큰 블랙리스트 / 시청방 재생 상태 / 시청방 목록 / 시청방 참여자)
+ * @param target 종류별 대상 식별자 (SSE, 유저 캐시: userId, 세션 캐시: refresh token digest, 시청방 상태, 목록, 참여자: roomId, 유저 STOMP: principal name), 대상이 없으면 null
+ * @param destination STOMP 목적지 (SSE 는 null)
+ * @param payload JSON 으로 직렬화된 본문
+ */
+public record ClusterMessage(
+    Kind kind,
+    String target,
+    String destination,
+    String payload
+) {
+
+  /**
+   * 채널은 target 유무가 아니라 종류로 정해집니다.
+   * (시청방 메시지는 target 이 roomId 여도 방 채널, 토큰 블랙리스트는 target 이 없어도 유저 채널)
+   */
+  public enum Kind {
+    SSE_NOTIFICATION(Route.USER),
+    UNREAD_COUNT(Route.USER),
+    STOMP(Route.ROOM),      // 토픽 구독자 전체에게 전송
+    STOMP_USER(Route.USER), // 특정 유저의 STOMP 세션에 전송
+    USER_INVALIDATED(Route.USER),
+    JWT_REVOKED(Route.USER),
+    SESSION_INVALIDATED(Route.USER),
+    WATCH_ROOM_STATE(Route.ROOM),
+    WATCH_ROOM_LISTING(Route.ROOM),
+    WATCH_ROOM_PARTICIPANTS(Route.ROOM);
+
+    private final Route route;
+
+    Kind(Route route) {
+      this.route = route;
+    }
+
+    public Route route() {
+      return route;
+    }
+  }
+
+  public enum Route {
+    USER, // 유저, 인증 단위 메시지
+    ROOM  // 방(토픽) 단위 메시지
+  }
+
+  public Route route() {
+    return kind.route();
+  }
+}
@@ -0,0 +1,74 @@
+package team03.mopl.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * SimpMessagingTemplate 대신 사용하는 클러스터 전송 템플릿
+ *
+ * 메시지를 한 번만 JSON 으로 직렬화해 ClusterBus 로 발행하고,
+ * 각 노드는 수신한 메시지를 자기 SimpleBroker 에 그대로 넘겨 로컬 구독자에게 전달합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterMessagingTemplate {
+
+  private static final String USER_DESTINATION_PREFIX = "/user/";
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ClusterBus clusterBus;
+  private final ObjectMapper objectMapper;
+
+  @PostConstruct
+  public void subscribe() {
+    clusterBus.subscribe(ClusterMessage.Kind.STOMP, this::deliverLocally);
+    clusterBus.subscribe(ClusterMessage.Kind.STOMP_USER, this::deliverLocally);
+  }
+
+  // 방(토픽) 구독자 전체에게 전송
+  public void convertAndSend(String destination, Object payload) {
+    publish(null, destination, payload);
+  }
+
+  // 특정 유저에게 전송 (ex. "/queue/sync" -> "/user/{user}/queue/sync")
+  public void convertAndSendToUser(String user, String destination, Object payload) {
+    publish(user, destination, payload);
+  }
+
+  private void publish(String user, String destination, Object payload) {
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      log.error("STOMP 메시지 직렬화 실패: destination={}", destination, e);
+      return;
+    }
+    ClusterMessage.Kind kind = user == null ? ClusterMessage.Kind.STOMP : ClusterMessage.Kind.STOMP_USER;
+    clusterBus.publish(new ClusterMessage(kind, user, destination, json));
+  }
+
+  void deliverLocally(ClusterMessage message) {
+    String destination = message.target() == null
+        ? message.destination()
+        : USER_DESTINATION_PREFIX + StringUtils.replace(message.target(), "/", "%2F") + message.destination();
+
+    // 이미 직렬화된 JSON 이므로 변환 없이 broker 로 전달
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    accessor.setLeaveMutable(true);
+    messagingTemplate.send(destination,
+        MessageBuilder.createMessage(message.payload().getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+  }
+}
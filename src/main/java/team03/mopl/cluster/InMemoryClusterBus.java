@@ -0,0 +1,17 @@
+package team03.mopl.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 버스 - 발행 즉시 같은 프로세스의 구독자에게 전달합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "mopl.cluster.bus.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryClusterBus extends AbstractClusterBus {
+
+  @Override
+  public void publish(ClusterMessage message) {
+    dispatch(message);
+  }
+}
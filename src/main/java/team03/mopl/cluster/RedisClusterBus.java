@@ -0,0 +1,61 @@
+package team03.mopl.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 버스 - 유저 대상 메시지와 방 브로드캐스트를 채널을 나눠 발행합니다.
+ *
+ * 모든 노드가 두 채널을 구독하므로 발행한 노드도 자기 메시지를 받아 로컬 연결에 전달합니다.
+ * pub/sub 특성상 구독 중이 아닌 노드(재시작 중 등)에 발행된 메시지는 유실되며,
+ * SSE 알림은 재연결 시 Last-Event-ID 재전송으로 보완됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mopl.cluster.bus.type", havingValue = "redis")
+public class RedisClusterBus extends AbstractClusterBus {
+
+  static final String CHANNEL_PREFIX = "mopl:cluster:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  public RedisClusterBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+      ObjectMapper objectMapper) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    for (ClusterMessage.Route route : ClusterMessage.Route.values()) {
+      listenerContainer.addMessageListener((message, pattern) -> onMessage(message), new ChannelTopic(channel(route)));
+    }
+  }
+
+  static String channel(ClusterMessage.Route route) {
+    return CHANNEL_PREFIX + route.name().toLowerCase();
+  }
+
+  @Override
+  public void publish(ClusterMessage message) {
+    try {
+      redisTemplate.convertAndSend(channel(message.route()), objectMapper.writeValueAsString(message));
+    } catch (JsonProcessingException e) {
+      log.error("클러스터 메시지 직렬화 실패: kind={}, target={}", message.kind(), message.target(), e);
+    }
+  }
+
+  private void onMessage(Message message) {
+    try {
+      dispatch(objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), ClusterMessage.class));
+    } catch (JsonProcessingException e) {
+      log.warn("클러스터 메시지 역직렬화 실패: channel={}, 에러={}",
+          new String(message.getChannel(), StandardCharsets.UTF_8), e.getMessage());
+    }
+  }
+}
@@ -1,15 +1,34 @@
 package team03.mopl.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class EncoderConfig {
 
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  /**
+   * cost 는 설정값(strength)으로 고정합니다. 노드마다 하드웨어가 달라도 같은 cost 로 해시해야
+   * 재해시가 노드 사이를 오가며 반복되지 않습니다.
+   * calibrate 를 켜면 기동 시 target-hash-millis 에 맞는 cost 를 측정해 로그로만 남깁니다.
+   */
+  @Bean(destroyMethod = "shutdown")
+  public PasswordEncoder passwordEncoder(
+      MeterRegistry meterRegistry,
+      @Value("${mopl.auth.password.strength:10}") int strength,
+      @Value("${mopl.auth.password.calibrate:false}") boolean calibrate,
+      @Value("${mopl.auth.password.target-hash-millis:250}") long targetHashMillis,
+      @Value("${mopl.auth.password.min-strength:10}") int minStrength,
+      @Value("${mopl.auth.password.max-strength:14}") int maxStrength,
+      @Value("${mopl.auth.password.threads:0}") int threads,
+      @Value("${mopl.auth.password.queue-capacity:64}") int queueCapacity,
+      @Value("${mopl.auth.password.wait-millis:5000}") long waitMillis) {
+    if (calibrate) {
+      IsolatedPasswordEncoder.calibrateStrength(targetHashMillis, minStrength, maxStrength);
+    }
+    int resolvedThreads = threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    return new IsolatedPasswordEncoder(strength, resolvedThreads, queueCapacity, waitMillis, meterRegistry);
   }
 }
@@ -0,0 +1,157 @@
+package team03.mopl.common.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import team03.mopl.common.exception.auth.PasswordHashingBusyException;
+
+/**
+ * 비밀번호 해시/검증을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ *
+ * BCrypt 는 요청 하나에 수십~수백 ms 의 CPU 를 쓰므로, 로그인이 몰리면 Tomcat 요청 스레드가 모두 해시 계산에 묶입니다.
+ * 동시에 계산하는 수를 threads 로, 대기 수를 queueCapacity 로 제한하고 넘치면 바로 429(PASSWORD_HASHING_BUSY)로 거절합니다.
+ * upgradeEncoding 은 저장된 해시의 cost 가 현재 cost 보다 낮을 때만 true 를 반환하며, 로그인 성공 시 다시 해시합니다.
+ */
+@Slf4j
+public class IsolatedPasswordEncoder implements PasswordEncoder {
+
+  private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+  private final PasswordEncoder delegate;
+  private final int strength;
+  private final ThreadPoolExecutor executor;
+  private final long waitMillis;
+  private final MeterRegistry meterRegistry;
+
+  public IsolatedPasswordEncoder(int strength, int threads, int queueCapacity, long waitMillis,
+      MeterRegistry meterRegistry) {
+    this(new BCryptPasswordEncoder(strength), strength, threads, queueCapacity, waitMillis, meterRegistry);
+  }
+
+  IsolatedPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity, long waitMillis,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.strength = strength;
+    this.waitMillis = waitMillis;
+    this.meterRegistry = meterRegistry;
+
+    BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+        new CustomizableThreadFactory("password-hash-"), new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size())
+        .description("해시 계산을 기다리는 비밀번호 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("auth.password.strength", () -> this.strength)
+        .description("현재 BCrypt cost")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 가장 작은 cost 부터 한 번씩 해시해 보며, 해시 시간이 targetMillis 를 넘지 않는 가장 큰 cost 를 고릅니다.
+   * cost 가 1 오르면 시간이 두 배가 되므로 다음 cost 는 측정값의 두 배로 예상합니다.
+   * 결과는 설정할 strength 를 정하기 위한 참고값이며, 인코더의 cost 를 바꾸지 않습니다.
+   */
+  public static int calibrateStrength(long targetMillis, int minStrength, int maxStrength) {
+    int strength = minStrength;
+    long elapsedMillis = measureMillis(strength);
+    while (strength < maxStrength && elapsedMillis * 2 <= targetMillis) {
+      strength++;
+      elapsedMillis = measureMillis(strength);
+    }
+    log.info("BCrypt cost 측정 완료: 권장 cost={}, 해시 시간={}ms, 목표={}ms", strength, elapsedMillis, targetMillis);
+    return strength;
+  }
+
+  private static long measureMillis(int strength) {
+    long start = System.nanoTime();
+    new BCryptPasswordEncoder(strength).encode("calibration");
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute("encode", () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+    return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  private <T> T execute(String operation, Callable<T> task) {
+    Timer timer = Timer.builder("auth.password.hash")
+        .description("비밀번호 해시/검증 시간 (대기 시간 제외)")
+        .tag("operation", operation)
+        .register(meterRegistry);
+
+    Future<T> future;
+    try {
+      future = executor.submit(() -> timer.recordCallable(task));
+    } catch (RejectedExecutionException e) {
+      reject(operation, "queue_full");
+      throw new PasswordHashingBusyException();
+    }
+
+    try {
+      return future.get(waitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      reject(operation, "timeout");
+      throw new PasswordHashingBusyException();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+    }
+  }
+
+  private void reject(String operation, String reason) {
+    log.warn("비밀번호 해시 요청 거절: operation={}, reason={}, 대기 수={}", operation, reason, executor.getQueue().size());
+    Counter.builder("auth.password.rejected")
+        .description("해시 스레드 풀 포화로 거절된 비밀번호 요청 수")
+        .tag("operation", operation)
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
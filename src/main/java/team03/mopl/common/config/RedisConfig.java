@@ -1,10 +1,15 @@
 package team03.mopl.common.config;
 
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class RedisConfig {
@@ -17,4 +22,45 @@ public class RedisConfig {
     template.setHashKeySerializer(new StringRedisSerializer());
     return template;
   }
+
+  // 클러스터 버스(Redis pub/sub) 구독용 리스너 컨테이너
+  @Bean
+  @ConditionalOnProperty(name = "mopl.cluster.bus.type", havingValue = "redis")
+  public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory,
+      ThreadPoolTaskExecutor clusterBusListenerExecutor) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(factory);
+    container.setTaskExecutor(clusterBusListenerExecutor);
+    return container;
+  }
+
+  /**
+   * 수신 메시지 처리용 executor
+   * 기본값(SimpleAsyncTaskExecutor)은 메시지마다 스레드를 새로 만들어 발행 순서가 섞이므로
+   * 스레드 하나로 받은 순서대로 처리합니다. (상태, 참여자 변경 등은 순서가 바뀌면 이전 값으로 덮임)
+   * 큐가 가득 차면 버리지 않고 구독 스레드를 대기시켜 Redis 쪽으로 배압을 겁니다.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "mopl.cluster.bus.type", havingValue = "redis")
+  public ThreadPoolTaskExecutor clusterBusListenerExecutor(
+      @Value("${mopl.cluster.bus.listener-queue-capacity:10000}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("cluster-bus-");
+    executor.setRejectedExecutionHandler((task, pool) -> {
+      if (pool.isShutdown()) {
+        throw new RejectedExecutionException("클러스터 버스 수신 executor 종료됨");
+      }
+      try {
+        pool.getQueue().put(task);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RejectedExecutionException("클러스터 버스 수신 대기 중 인터럽트", e);
+      }
+    });
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    return executor;
+  }
 }
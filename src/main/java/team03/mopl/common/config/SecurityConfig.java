@@ -1,6 +1,11 @@
 package team03.mopl.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,7 +23,6 @@ import team03.mopl.domain.oauth2.OAuth2FailureHandler;
 import team03.mopl.domain.oauth2.OAuth2SuccessHandler;
 import team03.mopl.jwt.CustomUserDetailsService;
 import team03.mopl.jwt.JwtAuthenticationFilter;
-import team03.mopl.jwt.JwtBlacklist;
 import team03.mopl.jwt.JwtProvider;
 
 @Configuration
@@ -27,11 +31,18 @@ public class SecurityConfig {
 
   private final CustomUserDetailsService customUserDetailsService;
   private final JwtProvider jwtProvider;
-  private final JwtBlacklist jwtBlacklist;
   private final OAuth2SuccessHandler oAuth2SuccessHandler;
   private final OAuth2FailureHandler oAuth2FailureHandler;
   private final CorsConfigurationSource corsConfigurationSource;
   private final CustomOAuth2UserService customOAuth2UserService;
+  // 슬라이스 테스트(@WebMvcTest)처럼 메트릭 설정이 없는 컨텍스트에서도 뜨도록 선택 주입
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  // 인증이 필요 없어 JWT 필터가 토큰을 보지 않고 통과시키는 경로 (PathPattern)
+  // 토큰을 읽지 않으므로 아래 permitAll 경로만 넣어야 함, 권한이 필요한 경로를 넣으면 항상 401/403
+  @Value("${mopl.security.jwt-filter.bypass-paths:/profile/**,/actuator/health,/actuator/health/**,"
+      + "/actuator/prometheus,/ws/**}")
+  private List<String> jwtFilterBypassPaths;
 
   @Bean
   public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -52,7 +63,7 @@ public class SecurityConfig {
             .requestMatchers("/profile/**").permitAll()
             .requestMatchers("/ws/**").permitAll()
             .requestMatchers("/swagger-ui*/**", "/api-docs/**", "/v3/api-docs/**").permitAll()
-            .requestMatchers("/actuator/health").permitAll()
+            .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
             .requestMatchers("/actuator/prometheus").permitAll()
             .requestMatchers("/actuator/info", "/actuator/metrics", "/actuator/loggers")
             .hasRole("ADMIN")
@@ -92,7 +103,8 @@ public class SecurityConfig {
             .successHandler(oAuth2SuccessHandler)
             .failureHandler(oAuth2FailureHandler))
         .addFilterBefore(
-            new JwtAuthenticationFilter(jwtProvider, customUserDetailsService, jwtBlacklist),
+            new JwtAuthenticationFilter(jwtProvider, customUserDetailsService, jwtFilterBypassPaths,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)),
             UsernamePasswordAuthenticationFilter.class);
 
     return http.build();
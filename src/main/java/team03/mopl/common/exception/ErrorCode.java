@@ -14,6 +14,7 @@ public enum ErrorCode {
   INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "AUTH_001", "비밀번호가 일치하지 않습니다."),
   LOCKED_USER(HttpStatus.FORBIDDEN, "AUTH_002", "잠긴 계정입니다."),
   TEMP_PASSWORD_EXPIRED(HttpStatus.UNAUTHORIZED, "AUTH_003", "임시 비밀번호가 만료되었습니다."),
+  PASSWORD_HASHING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "AUTH_004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
   //Content
   CONTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CONTENT_001", "존재하지 않는 콘텐츠입니다."),
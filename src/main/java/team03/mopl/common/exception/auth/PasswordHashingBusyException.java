@@ -0,0 +1,10 @@
+package team03.mopl.common.exception.auth;
+
+import team03.mopl.common.exception.ErrorCode;
+
+public class PasswordHashingBusyException extends AuthException {
+
+  public PasswordHashingBusyException() {
+    super(ErrorCode.PASSWORD_HASHING_BUSY);
+  }
+}
@@ -1,7 +1,13 @@
 package team03.mopl.common.interceptor;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -12,17 +18,61 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
 import team03.mopl.jwt.CustomUserDetails;
 import team03.mopl.jwt.CustomUserDetailsService;
+import team03.mopl.jwt.JwtBlacklist;
+import team03.mopl.jwt.JwtClaims;
 import team03.mopl.jwt.JwtProvider;
 
+/**
+ * STOMP 인증 인터셉터
+ *
+ * CONNECT 에서 한 번 검증한 인증 정보를 STOMP 세션에 묶어 두고, 이후 SUBSCRIBE 는 토큰이 만료되기 전까지 재검증 없이 재사용합니다.
+ * 토큰이 만료되었거나 프레임에 다른 토큰이 실려 오면 다시 검증하며, DISCONNECT 에서 세션 인증 정보를 지웁니다.
+ * 재사용할 때도 블랙리스트는 매번 확인하고, USER_INVALIDATED 를 받으면 해당 유저의 세션 인증 정보를 모두 지웁니다.
+ * 명령별 인증 결과(verified / cached / rejected / anonymous)는 websocket.auth 카운터로 집계합니다.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
+  /**
+   * STOMP 세션에 묶인 인증 정보
+   *
+   * @param token 검증한 액세스 토큰
+   * @param userId 토큰 주인
+   * @param authentication 세션 유저
+   * @param expiresAt 토큰 만료 시각, 지나면 다시 검증
+   */
+  private record SessionPrincipal(String token, UUID userId, Authentication authentication, Instant expiresAt) {
+
+    private boolean isValid(Instant now) {
+      return expiresAt.isAfter(now);
+    }
+  }
+
   private final JwtProvider jwtProvider;
   private final CustomUserDetailsService customUserDetailsService;
+  private final MeterRegistry meterRegistry;
+  private final JwtBlacklist jwtBlacklist;
+  private final Map<String, SessionPrincipal> sessionPrincipals = new ConcurrentHashMap<>();
+
+  public WebSocketAuthInterceptor(
+      JwtProvider jwtProvider,
+      CustomUserDetailsService customUserDetailsService,
+      MeterRegistry meterRegistry,
+      JwtBlacklist jwtBlacklist,
+      ClusterBus clusterBus) {
+    this.jwtProvider = jwtProvider;
+    this.customUserDetailsService = customUserDetailsService;
+    this.meterRegistry = meterRegistry;
+    this.jwtBlacklist = jwtBlacklist;
+    // 권한 변경, 잠금, 탈퇴 등으로 유저가 무효화되면 묶어 둔 인증 정보도 버리고 다음 프레임에서 다시 검증
+    clusterBus.subscribe(ClusterMessage.Kind.USER_INVALIDATED,
+        message -> unbindUser(UUID.fromString(message.target())));
+  }
 
   @Override
   public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -32,48 +82,69 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
       return message;
     }
 
-    log.debug("=== WebSocket Message Debug ===");
-    log.debug("Message Type: {}", accessor.getMessageType());
-    log.debug("STOMP Command: {}", accessor.getCommand());
-    log.debug("Session ID: {}", accessor.getSessionId());
+    StompCommand command = accessor.getCommand();
+    if (StompCommand.DISCONNECT.equals(command)) {
+      if (accessor.getSessionId() != null) {
+        sessionPrincipals.remove(accessor.getSessionId());
+      }
+      return message;
+    }
 
     // CONNECT, SUBSCRIBE 명령이 아니면 통과
-    if (!StompCommand.CONNECT.equals(accessor.getCommand()) && !StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
-      log.info("preSend - Non-CONNECT message 처리 건너뜀");
+    if (!StompCommand.CONNECT.equals(command) && !StompCommand.SUBSCRIBE.equals(command)) {
       return message;
     }
 
-    log.info("preSend - CONNECT message 처리 시작");
+    log.debug("preSend - {} 인증 처리: sessionId = {}", command, accessor.getSessionId());
 
     try {
-      String authToken = accessor.getFirstNativeHeader("Authorization");
-      log.debug("Authorization header 존재 여부: authToken 존재 = {}", authToken != null);
-
-      if (authToken != null && authToken.startsWith("Bearer ")) {
-        String token = authToken.substring(7);
-        log.debug("Token 추출: length = {}", token.length());
+      String token = bearerToken(accessor);
+      SessionPrincipal bound = accessor.getSessionId() != null ? sessionPrincipals.get(accessor.getSessionId()) : null;
 
-        if (jwtProvider.validateToken(token)) {
-          log.debug("JWT token 검증 성공");
-
-          UUID userId = jwtProvider.extractUserId(token);
-          log.debug("사용자 ID 추출 : userId={}", userId);
+      // 세션에 묶인 인증 정보가 아직 유효하고 같은 토큰(또는 토큰 없음)이면 재사용
+      if (bound != null && bound.isValid(Instant.now()) && (token == null || token.equals(bound.token()))) {
+        // 로그아웃 등으로 폐기된 토큰은 만료 전이라도 재사용하지 않음
+        if (jwtBlacklist.blacklisted(bound.token())) {
+          sessionPrincipals.remove(accessor.getSessionId());
+          count(command, "rejected");
+          log.warn("세션에 묶인 토큰이 블랙리스트에 등록됨: command = {}", command);
+          return message;
+        }
+        accessor.setUser(bound.authentication());
+        count(command, "cached");
+        return message;
+      }
 
-          CustomUserDetails userDetails = customUserDetailsService.loadUserById(userId);
-          log.debug("UserDetail 불러오기: username = {}", userDetails.getUsername());
+      if (token == null) {
+        if (bound != null) {
+          sessionPrincipals.remove(accessor.getSessionId());
+        }
+        log.debug("유효한 Authorization header를 찾을 수 없음: command = {}", command);
+        count(command, "anonymous");
+        // Authorization 헤더가 없어도 일단 통과시켜보기
+        return message;
+      }
 
-          Authentication auth = new UsernamePasswordAuthenticationToken(
-              userDetails, null, userDetails.getAuthorities());
-          accessor.setUser(auth);
+      Optional<SessionPrincipal> verified = Timer.builder("websocket.auth.verify")
+          .description("STOMP 프레임의 JWT 검증 및 인증 정보 생성 시간")
+          .tag("command", command.name())
+          .register(meterRegistry)
+          .record(() -> authenticate(token));
 
-          log.info("preSend - WebSocket authentication 성공 : userId = {}", userId);
-        } else {
-          log.warn("JWT token 유효성 검증 실패");
-          // 토큰이 유효하지 않아도 일단 통과시켜보기
+      if (verified.isPresent()) {
+        accessor.setUser(verified.get().authentication());
+        if (accessor.getSessionId() != null) {
+          sessionPrincipals.put(accessor.getSessionId(), verified.get());
         }
+        count(command, "verified");
+        log.debug("preSend - WebSocket authentication 성공 : user = {}", verified.get().authentication().getName());
       } else {
-        log.warn("유효한 Authorization header를 찾을 수 없음");
-        // Authorization 헤더가 없어도 일단 통과시켜보기
+        if (bound != null) {
+          sessionPrincipals.remove(accessor.getSessionId());
+        }
+        count(command, "rejected");
+        log.warn("JWT token 유효성 검증 실패: command = {}", command);
+        // 토큰이 유효하지 않아도 일단 통과시켜보기
       }
     } catch (Exception e) {
       log.error("WebSocket 인증/인가 중 오류 발생: 오류 메세지 = {}", e.getMessage(), e);
@@ -82,4 +153,45 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
     return message;
   }
-}
\ No newline at end of file
+
+  private static String bearerToken(StompHeaderAccessor accessor) {
+    String authToken = accessor.getFirstNativeHeader("Authorization");
+    if (authToken != null && authToken.startsWith("Bearer ")) {
+      return authToken.substring(7);
+    }
+    return null;
+  }
+
+  private Optional<SessionPrincipal> authenticate(String token) {
+    return jwtProvider.verify(token).map(claims -> {
+      CustomUserDetails userDetails = customUserDetailsService.loadUserByClaims(claims);
+      Authentication auth = new UsernamePasswordAuthenticationToken(
+          userDetails, null, userDetails.getAuthorities());
+      return new SessionPrincipal(token, claims.userId(), auth, expiresAt(claims));
+    });
+  }
+
+  private void unbindUser(UUID userId) {
+    sessionPrincipals.values().removeIf(principal -> userId.equals(principal.userId()));
+  }
+
+  private static Instant expiresAt(JwtClaims claims) {
+    return claims.expiresAt() != null ? claims.expiresAt() : Instant.now();
+  }
+
+  private void count(StompCommand command, String result) {
+    Counter.builder("websocket.auth")
+        .description("STOMP 명령별 인증 처리 결과")
+        .tag("command", command.name())
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  /**
+   * 세션에 묶여 있는 인증 정보 수
+   */
+  int boundSessions() {
+    return sessionPrincipals.size();
+  }
+}
@@ -11,6 +11,7 @@ import team03.mopl.domain.content.dto.ContentDto;
 import team03.mopl.domain.dm.dto.DmDto;
 import team03.mopl.domain.notification.dto.NotificationDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomDto;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
 
 @Slf4j
 @Component
@@ -118,6 +119,20 @@ public class CursorCodecUtil {
     return encodeNextCursor(cursor);
   }
 
+  /**
+   * 커서 페이지네이션의 마지막 데이터를 인코딩하여 반환합니다.
+   * 다른 서비스에서 호출됩니다.
+   *
+   * @param lastItem WatchRoomMessageDto 타입의 아이템
+   */
+  public String encodeNextCursor(WatchRoomMessageDto lastItem) {
+    Cursor cursor = new Cursor(
+        lastItem.createdAt().toString(),
+        lastItem.id().toString()
+    );
+    return encodeNextCursor(cursor);
+  }
+
   /**
    * 내부에서 핵심 인코딩 로직을 담당합니다.
    *
@@ -10,6 +10,7 @@ import team03.mopl.domain.user.Role;
 import team03.mopl.domain.user.User;
 import team03.mopl.domain.user.UserRepository;
 import team03.mopl.domain.user.UserResponse;
+import team03.mopl.jwt.AuthenticatedUserCache;
 import team03.mopl.jwt.JwtService;
 import team03.mopl.jwt.JwtSession;
 import team03.mopl.jwt.JwtSessionRepository;
@@ -22,6 +23,7 @@ public class AdminService {
   private final UserRepository userRepository;
   private final JwtService jwtService;
   private final JwtSessionRepository jwtSessionRepository;
+  private final AuthenticatedUserCache authenticatedUserCache;
 
   @Transactional
   public UserResponse changeRole(UUID userId, Role newRole) {
@@ -37,6 +39,7 @@ public class AdminService {
         .build();
 
     userRepository.save(updated);
+    authenticatedUserCache.invalidate(userId);
 
     String refreshToken = jwtSessionRepository.findFirstByUserId(userId)
         .map(JwtSession::getRefreshToken)
@@ -62,6 +65,7 @@ public class AdminService {
         .build();
 
     userRepository.save(updated);
+    authenticatedUserCache.invalidate(userId);
 
     String refreshToken = jwtSessionRepository.findFirstByUserId(userId)
         .map(JwtSession::getRefreshToken)
@@ -87,6 +91,7 @@ public class AdminService {
         .build();
 
     userRepository.save(updated);
+    authenticatedUserCache.invalidate(userId);
 
     log.info("unlockUser - 계정 잠금 해제 완료: userId={}", userId);
     return UserResponse.from(updated);
@@ -17,6 +17,7 @@ import team03.mopl.domain.user.UserRepository;
 import team03.mopl.jwt.JwtProvider;
 import team03.mopl.jwt.JwtService;
 import team03.mopl.jwt.JwtSessionRepository;
+import team03.mopl.jwt.RefreshTokenSingleFlight;
 import team03.mopl.jwt.TokenPair;
 
 @Service
@@ -30,6 +31,7 @@ public class AuthService {
   private final PasswordEncoder passwordEncoder;
   private final EmailService emailService;
   private final JwtSessionRepository jwtSessionRepository;
+  private final RefreshTokenSingleFlight refreshTokenSingleFlight;
 
   @Value("${auth.temp-password-expiration}")
   private long tempPasswordExpirationMinutes;
@@ -63,6 +65,14 @@ public class AuthService {
       throw new TempPasswordExpiredException();
     }
 
+    // 저장된 해시의 cost 가 현재 cost 와 다르면 검증에 성공한 원문으로 다시 해시
+    if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+      user = userRepository.save(user.toBuilder()
+          .password(passwordEncoder.encode(password))
+          .build());
+      log.info("login - 비밀번호 재해시: userId={}", user.getId());
+    }
+
     jwtService.delete(user);
 
     String accessToken = jwtProvider.generateToken(user);
@@ -77,7 +87,9 @@ public class AuthService {
 
   public TokenPair refresh(String refreshToken) {
     log.info("refresh - 리프레시 토큰 요청");
-    return jwtService.reissueTokenPair(refreshToken, refreshTokenExp);
+    // 같은 refresh token 의 동시 요청은 한 번만 회전하고 같은 토큰 쌍을 받음 (트랜잭션 커밋 후 공유)
+    return refreshTokenSingleFlight.rotate(refreshToken,
+        () -> jwtService.reissueTokenPair(refreshToken, refreshTokenExp));
   }
 
   public Optional<String> reissueAccessToken(String refreshToken) {
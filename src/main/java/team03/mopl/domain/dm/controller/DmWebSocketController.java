@@ -6,8 +6,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
+import team03.mopl.cluster.ClusterMessagingTemplate;
 import team03.mopl.domain.dm.dto.DmDto;
 import team03.mopl.domain.dm.dto.DmRequest;
 import team03.mopl.domain.dm.dto.SendDmDto;
@@ -19,7 +19,7 @@ import team03.mopl.domain.dm.service.PresenceTracker;
 @Slf4j
 public class DmWebSocketController {
 
-  private final SimpMessagingTemplate messagingTemplate;
+  private final ClusterMessagingTemplate messagingTemplate;
   private final DmService dmService;
   private final PresenceTracker presenceTracker;
 
@@ -3,7 +3,9 @@ package team03.mopl.domain.follow.repository;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import team03.mopl.domain.follow.entity.Follow;
 
 public interface FollowRepository extends JpaRepository<Follow, UUID> {
@@ -16,6 +18,10 @@ public interface FollowRepository extends JpaRepository<Follow, UUID> {
 
   List<Follow> findAllByFollowingId(UUID followingId);
 
+  // (following_id, follower_id) 인덱스를 타는 keyset 페이지 조회
+  @Query("SELECT f.followerId FROM Follow f WHERE f.followingId = :followingId AND f.followerId > :lastFollowerId ORDER BY f.followerId")
+  List<UUID> findFollowerIdsAfter(UUID followingId, UUID lastFollowerId, Pageable pageable);
+
   void deleteByFollowerId(UUID userId);
 
   void deleteByFollowingId(UUID userId);
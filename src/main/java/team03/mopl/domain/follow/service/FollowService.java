@@ -10,6 +10,7 @@ public interface FollowService {
   void deletedUserUnfollow(UUID userId);
   List<FollowResponse> getFollowing(UUID userId);   // 내가 팔로우한 사람 목록
   List<FollowResponse> getFollowers(UUID userId);   // 나를 팔로우한 사람 목록
+  List<UUID> getFollowerIdsAfter(UUID userId, UUID lastFollowerId, int size);   // 나를 팔로우한 사람 ID (keyset 페이지)
   boolean isFollowing(UUID followerId, UUID followingId);
 }
 
@@ -1,9 +1,13 @@
 package team03.mopl.domain.follow.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import team03.mopl.common.exception.follow.AlreadyFollowingException;
@@ -111,7 +115,7 @@ public class FollowServiceImpl implements FollowService {
 
     List<UUID> list = followRepository.findAllByFollowerId(userId).stream().map(Follow::getFollowingId).toList();
 
-    return list.stream().map(id -> FollowResponse.fromUser(userRepository.findById(id).orElseThrow(UserNotFoundException::new))).toList();
+    return toFollowResponses(list);
   }
 
   //나를 팔로우하는 사람들 목록
@@ -121,7 +125,27 @@ public class FollowServiceImpl implements FollowService {
 
     List<UUID> list = followRepository.findAllByFollowingId(userId).stream().map(Follow::getFollowerId).toList();
 
-    return list.stream().map(id -> FollowResponse.fromUser(userRepository.findById(id).orElseThrow(UserNotFoundException::new))).toList();
+    return toFollowResponses(list);
+  }
+
+  //알림 fan-out 용 팔로워 ID 페이지 조회 (follower_id 기준 keyset)
+  @Override
+  public List<UUID> getFollowerIdsAfter(UUID userId, UUID lastFollowerId, int size) {
+    return followRepository.findFollowerIdsAfter(userId, lastFollowerId, PageRequest.of(0, size));
+  }
+
+  //유저를 한 번에 조회한 뒤 팔로우 순서대로 응답 생성
+  private List<FollowResponse> toFollowResponses(List<UUID> userIds) {
+    Map<UUID, User> users = userRepository.findAllById(userIds).stream()
+        .collect(Collectors.toMap(User::getId, Function.identity()));
+
+    return userIds.stream().map(id -> {
+      User user = users.get(id);
+      if (user == null) {
+        throw new UserNotFoundException();
+      }
+      return FollowResponse.fromUser(user);
+    }).toList();
   }
 
   @Override
@@ -1,14 +1,13 @@
 package team03.mopl.domain.notification;
 
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
-import team03.mopl.domain.follow.dto.FollowResponse;
 import team03.mopl.domain.follow.service.FollowService;
 import team03.mopl.domain.notification.dto.NotificationDto;
 import team03.mopl.domain.notification.entity.Notification;
@@ -17,8 +16,10 @@ import team03.mopl.domain.notification.events.FollowingPostedPlaylistEvent;
 import team03.mopl.domain.notification.events.PlaylistSubscribedEvent;
 import team03.mopl.domain.notification.events.PlaylistUpdatedEvent;
 import team03.mopl.domain.notification.repository.NotificationRepository;
+import team03.mopl.domain.notification.service.NotificationCoalescer;
+import team03.mopl.domain.notification.service.NotificationCoalescer.Key;
+import team03.mopl.domain.notification.service.NotificationFanoutService;
 import team03.mopl.domain.notification.service.NotificationService;
-import team03.mopl.domain.subscription.Subscription;
 import team03.mopl.domain.subscription.SubscriptionRepository;
 import team03.mopl.domain.notification.service.EmitterService;
 
@@ -32,21 +33,27 @@ public class NotificationEventListener {
   private final EmitterService emitterService;
   private final NotificationService notificationService;
   private final FollowService followService;
+  private final NotificationFanoutService notificationFanoutService;
+  private final NotificationCoalescer notificationCoalescer;
 
   @Async
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handlePlaylistUpdated(PlaylistUpdatedEvent event) {
     UUID playlistId = event.playlistId();
-    List<Subscription> subs = subscriptionRepository.findByPlaylistId(playlistId);
-    if (subs.isEmpty()) {
-      log.debug("구독자가 없어 알림 전송 없음: playlistId={}", playlistId);
-      return;
-    }
-
     String content = "플레이리스트가 업데이트되었습니다: " + event.playlistTitle();
-    subs.forEach(s -> notificationService.sendNotification(new NotificationDto(s.getUser().getId(), NotificationType.PLAYLIST_SUBSCRIBED, content, false)));
 
-    log.info("PlaylistUpdatedEvent 처리 완료: playlistId={}, 알림 수={}", playlistId, subs.size());
+    // 같은 플레이리스트의 연속 업데이트는 병합 구간 동안 하나의 알림으로 합침
+    notificationCoalescer.submit(new Key(null, NotificationType.PLAYLIST_SUBSCRIBED, playlistId), content, burst -> {
+      // 구독자 ID 를 페이지 단위로 조회해 일괄 저장/전송
+      int sent = notificationFanoutService.fanOut(NotificationType.PLAYLIST_SUBSCRIBED, playlistId, burst,
+          (lastSubscriberId, size) -> subscriptionRepository.findSubscriberIdsAfter(playlistId, lastSubscriberId, PageRequest.of(0, size)));
+      if (sent == 0) {
+        log.debug("구독자가 없어 알림 전송 없음: playlistId={}", playlistId);
+        return;
+      }
+
+      log.info("PlaylistUpdatedEvent 처리 완료: playlistId={}, 병합 수={}, 알림 수={}", playlistId, burst.count(), sent);
+    });
   }
 
 
@@ -72,23 +79,22 @@ public class NotificationEventListener {
       return;
     }
 
-    //나를 팔로우하고 있는 사람들의 목록
-    List<FollowResponse> followings = followService.getFollowers(creatorId);
-
-    //목록이 없다면 반환
-    if (followings.isEmpty()) {
-      log.debug("구독자가 없어 알림 전송 없음: creatorId={}", event.creatorId());
-      return;
-    }
-
     String content = "팔로우 중인 사용자(" + event.creatorName() + ")가 새로운 플레이리스트를 만들었습니다: " + playlistName;
-    for (FollowResponse f : followings) {
-      UUID followingId = f.id();
-      notificationService.sendNotification(new NotificationDto(followingId, NotificationType.FOLLOWING_POSTED_PLAYLIST, content, false));
-    }
 
-    log.info("onFollowingPostedPlaylist 처리 완료: creatorId={}, playlistId={}, followerCount={}", event.creatorId(), event.playlistId(),
-        followings.size());
+    //같은 사용자의 연속 생성은 병합 구간이 설정되어 있으면 하나의 알림으로 합침
+    notificationCoalescer.submit(new Key(null, NotificationType.FOLLOWING_POSTED_PLAYLIST, creatorId), content, burst -> {
+      //나를 팔로우하고 있는 사람들의 ID 를 페이지 단위로 조회해 일괄 저장/전송
+      int sent = notificationFanoutService.fanOut(NotificationType.FOLLOWING_POSTED_PLAYLIST, creatorId, burst,
+          (lastFollowerId, size) -> followService.getFollowerIdsAfter(creatorId, lastFollowerId, size));
+
+      //목록이 없다면 반환
+      if (sent == 0) {
+        log.debug("구독자가 없어 알림 전송 없음: creatorId={}", event.creatorId());
+        return;
+      }
 
+      log.info("onFollowingPostedPlaylist 처리 완료: creatorId={}, playlistId={}, followerCount={}", event.creatorId(), event.playlistId(),
+          sent);
+    });
   }
 }
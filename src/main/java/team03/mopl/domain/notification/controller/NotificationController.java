@@ -22,6 +22,7 @@ import team03.mopl.api.NotificationApi;
 import team03.mopl.common.dto.CursorPageResponseDto;
 import team03.mopl.domain.notification.dto.NotificationDto;
 import team03.mopl.domain.notification.dto.NotificationPagingDto;
+import team03.mopl.domain.notification.dto.UnreadCountDto;
 import team03.mopl.domain.notification.entity.NotificationType;
 import team03.mopl.domain.notification.service.EmitterService;
 import team03.mopl.domain.notification.service.NotificationService;
@@ -99,7 +100,7 @@ public class NotificationController implements NotificationApi {
   }
 
   /**
-   * 알림 내역 조회
+   * 알림 내역 조회. 조회만으로는 읽음 처리하지 않으며, 전체 읽음은 POST /api/notifications/ 로 요청합니다.
    */
   @GetMapping
   public ResponseEntity<CursorPageResponseDto<NotificationDto>> getNotifications(@Valid @ModelAttribute NotificationPagingDto notificationPagingDto,
@@ -107,13 +108,18 @@ public class NotificationController implements NotificationApi {
     UUID userId = user.getId();
     log.info("알림 내역 조회 요청: userId={}", userId);
     CursorPageResponseDto<NotificationDto> list = notificationService.getNotifications(notificationPagingDto, userId);
-
-    //알림 내역을 조회했다는 건 읽었다는 것
-    notificationService.markAllAsRead(userId);
-    log.info("알림 읽음 처리 완료: userId={}, 알림 수={}", userId, list.size());
+    log.info("알림 내역 조회 완료: userId={}, 알림 수={}", userId, list.size());
     return ResponseEntity.ok(list);
   }
 
+  /**
+   * 읽지 않은 알림 수 조회
+   */
+  @GetMapping("/unread-count")
+  public ResponseEntity<UnreadCountDto> getUnreadCount(@AuthenticationPrincipal CustomUserDetails user) {
+    return ResponseEntity.ok(new UnreadCountDto(notificationService.getUnreadCount(user.getId())));
+  }
+
   @PostMapping("/{notificationId}")
   public ResponseEntity<Void> readNotification(@PathVariable("notificationId") UUID notificationId, @AuthenticationPrincipal CustomUserDetails user) {
     UUID userId = user.getId();
@@ -31,6 +31,14 @@ public class NotificationDto {
   @Schema(description = "읽음 확인", example = "false")
   private final Boolean isRead;
 
+  @Schema(description = "병합된 이벤트 수 (같은 대상의 알림이 병합 구간 안에 여러 번 발생한 경우 1보다 큼)", example = "1")
+  private final Integer count;
+
+  public NotificationDto(UUID id, UUID receiverId, String content, NotificationType notificationType,
+      LocalDateTime createdAt, Boolean isRead) {
+    this(id, receiverId, content, notificationType, createdAt, isRead, 1);
+  }
+
   public NotificationDto(UUID receiverId, NotificationType notificationType, String content, Boolean isRead) {
     this.id = null;
     this.receiverId = receiverId;
@@ -38,16 +46,27 @@ public class NotificationDto {
     this.notificationType = notificationType;
     this.createdAt = null;
     this.isRead = isRead;
+    this.count = 1;
   }
 
   public static NotificationDto from(Notification notification) {
+    return from(notification, notification.isRead());
+  }
+
+  // 목록 조회처럼 유저의 읽음 기준 시각으로 읽음 여부를 판단할 때 사용
+  public static NotificationDto from(Notification notification, LocalDateTime lastReadAt) {
+    return from(notification, notification.isReadAt(lastReadAt));
+  }
+
+  private static NotificationDto from(Notification notification, boolean isRead) {
     return new NotificationDto(
         notification.getId(),
         notification.getReceiverId(),
         notification.getContent(),
         notification.getType(),
         notification.getCreatedAt(),
-        notification.isRead()
+        isRead,
+        notification.getCount()
     );
   }
 }
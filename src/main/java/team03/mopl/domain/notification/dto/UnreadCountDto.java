@@ -0,0 +1,10 @@
+package team03.mopl.domain.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "읽지 않은 알림 수 응답 DTO")
+public record UnreadCountDto(
+    @Schema(description = "읽지 않은 알림 수", example = "3")
+    long unreadCount
+) {
+}
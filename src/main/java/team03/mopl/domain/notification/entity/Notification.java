@@ -37,9 +37,19 @@ public class Notification {
   @Column(name = "content", nullable = false, length = 255)
   private String content;
 
+  // 알림 병합 기준 대상 (ex. 업데이트된 플레이리스트 ID), 병합하지 않는 알림은 null
+  @Column(name = "subject_id")
+  private UUID subjectId;
+
+  // 병합 구간 안에서 합쳐진 이벤트 수
+  @Column(name = "coalesced_count", nullable = false)
+  private int count = 1;
+
+  // 개별로 읽음 처리된 알림 (전체 읽음은 NotificationReadState 의 기준 시각으로 판단)
   @Column(name = "is_read", nullable = false)
   private boolean isRead = false;
 
+  // 병합된 알림은 마지막으로 병합된 시각
   @CreatedDate
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
@@ -49,7 +59,29 @@ public class Notification {
     this.type = type;
     this.content = content;
   }
+
+  // JDBC 로 일괄 저장한 행을 엔티티로 표현할 때 사용 (id, createdAt 을 직접 지정)
+  public Notification(UUID id, UUID receiverId, NotificationType type, String content, LocalDateTime createdAt) {
+    this(id, receiverId, type, null, content, 1, createdAt);
+  }
+
+  public Notification(UUID id, UUID receiverId, NotificationType type, UUID subjectId, String content, int count,
+      LocalDateTime createdAt) {
+    this(receiverId, type, content);
+    this.id = id;
+    this.subjectId = subjectId;
+    this.count = count;
+    this.createdAt = createdAt;
+  }
+
   public void setIsRead() {
     this.isRead = true;
   }
+
+  /**
+   * 개별로 읽었거나, 유저의 읽음 기준 시각 이전에 생성된 알림이면 읽은 알림입니다. (아직 저장 전이면 읽지 않은 알림)
+   */
+  public boolean isReadAt(LocalDateTime lastReadAt) {
+    return isRead || (createdAt != null && !createdAt.isAfter(lastReadAt));
+  }
 }
@@ -0,0 +1,38 @@
+package team03.mopl.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 알림 읽음 기준 시각 (watermark)
+ *
+ * lastReadAt 이전에 생성된 알림은 모두 읽은 것으로 봅니다.
+ * 그 이후의 알림은 개별로 읽음 처리된 경우(Notification.isRead)에만 읽은 것으로 봅니다.
+ */
+@Entity
+@Table(name = "notification_read_states")
+@Getter
+@NoArgsConstructor
+public class NotificationReadState {
+
+  // 한 번도 전체 읽음 처리를 하지 않은 유저의 기준 시각
+  public static final LocalDateTime NEVER = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  @Id
+  @Column(name = "user_id", nullable = false)
+  private UUID userId;
+
+  @Column(name = "last_read_at", nullable = false)
+  private LocalDateTime lastReadAt;
+
+  public NotificationReadState(UUID userId, LocalDateTime lastReadAt) {
+    this.userId = userId;
+    this.lastReadAt = lastReadAt;
+  }
+}
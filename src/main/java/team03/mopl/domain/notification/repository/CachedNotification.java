@@ -0,0 +1,16 @@
+package team03.mopl.domain.notification.repository;
+
+import team03.mopl.domain.notification.entity.Notification;
+
+/**
+ * 재전송 캐시에 보관된 알림
+ *
+ * @param sequence SSE 이벤트 ID로 사용되는 단조 증가 시퀀스
+ * @param notification 알림 데이터
+ * @param cachedAt 캐시에 저장된 시각 (epoch millis, TTL 판단용)
+ */
+public record CachedNotification(
+    long sequence,
+    Notification notification,
+    long cachedAt
+) {}
@@ -1,39 +1,36 @@
 package team03.mopl.domain.notification.repository;
 
-import java.util.Map;
+import java.util.List;
 import java.util.UUID;
 import team03.mopl.domain.notification.entity.Notification;
 
 public interface EmitterCacheRepository {
 
   /**
-   * 클라이언트 재연결 시 전송할 알림(Notification)을 임시로 캐싱합니다.
+   * 클라이언트 재연결 시 전송할 알림(Notification)을 유저별 버퍼에 임시로 캐싱합니다.
    *
-   * @param notificationCacheId 캐시 알림 ID)
+   * @param userId 알림 수신자 UUID
    * @param notification 알림 데이터
+   * @param sequence 발행 시 발급된 이벤트 시퀀스 (SSE 이벤트 ID로 사용, 모든 노드에서 같은 값)
    */
-  void saveNotificationCache(String notificationCacheId, Notification notification);
-
+  void saveNotificationCache(UUID userId, Notification notification, long sequence);
 
   /**
-   * 특정 유저 ID(prefix)로 시작하는 Notification 캐시를 모두 조회합니다.
+   * 특정 유저의 캐시에서 lastSequence 이후에 저장된 알림을 시퀀스 순서대로 조회합니다.
    * 재연결 시, 해당 유저의 수신하지 못한 알림을 재전송하기 위해 사용합니다.
    *
-   * @param notificationId 알림의 UUID
-   * @return Notification Map
-   */
-  Map<String, Notification> findAllNotificationCachesByNotificationIdPrefix(UUID notificationId);
-
-  /**
-   *
-   *
    * @param userId 유저의 UUID
-   * @return Notification Map
+   * @param lastSequence 클라이언트가 마지막으로 수신한 이벤트 시퀀스 (Last-Event-ID)
+   * @return 시퀀스 오름차순 알림 목록
    */
-  Map<String, Notification> findAllNotificationCachesByUserIdPrefix(UUID userId);
+  List<CachedNotification> findAllNotificationCachesAfter(UUID userId, long lastSequence);
+
+  void deleteNotificationCache(UUID userId, UUID notificationId);
 
-  void deleteNotificationCacheById(String notificationCacheId);
+  void deleteAllNotificationCachesByUserId(UUID userId);
 
-  void deleteNotificationCachesByNotificationIdPrefix(UUID notificationId);
-  void deleteAllNotificationCachesByUserIdPrefix(String userId);
+  /**
+   * TTL이 지난 캐시를 정리합니다.
+   */
+  void evictExpiredNotificationCaches();
 }
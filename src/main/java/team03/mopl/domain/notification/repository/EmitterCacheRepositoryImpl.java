@@ -1,93 +1,154 @@
 package team03.mopl.domain.notification.repository;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import lombok.NoArgsConstructor;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 import team03.mopl.domain.notification.entity.Notification;
 
 @Repository
-@NoArgsConstructor
+@Slf4j
 public class EmitterCacheRepositoryImpl implements EmitterCacheRepository {
+
+  /**
+   * 유저별 재전송용 알림 버퍼
+   * key: userId
+   * value: 시퀀스 오름차순 링 버퍼 (유저당 capacityPerUser 개까지)
+   */
+  private final Map<UUID, NotificationRingBuffer> buffers = new ConcurrentHashMap<>();
+
   /**
-   * 알림(Notification)을 임시 저장해두는 캐시
-   * key: notificationCacheId
-   * value: Notification
+   * 전체 캐시의 저장 순서 로그
+   * 가장 오래된 항목부터 꺼내며 TTL 만료와 전역 용량 초과를 처리합니다.
+   * 버퍼에서 이미 밀려난 항목도 남아있을 수 있으므로 실제 보관 수는 항상 로그 길이 이하입니다.
    */
-  private final Map<String, Notification> notificationCache = new ConcurrentHashMap<>();
+  private final Queue<EvictionEntry> evictionLog = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger evictionLogSize = new AtomicInteger();
+
+  private final int capacityPerUser;
+  private final long ttlMillis;
+  private final int maxTotalEntries;
+
+  public EmitterCacheRepositoryImpl(
+      @Value("${mopl.notification.replay.capacity-per-user:100}") int capacityPerUser,
+      @Value("${mopl.notification.replay.ttl-seconds:1800}") long ttlSeconds,
+      @Value("${mopl.notification.replay.max-total-entries:100000}") int maxTotalEntries) {
+    this.capacityPerUser = capacityPerUser;
+    this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    this.maxTotalEntries = maxTotalEntries;
+  }
 
   /**
-   * 클라이언트 재연결 시 재전송할 Notification을 임시 캐시에 저장합니다.
+   * 클라이언트 재연결 시 재전송할 Notification을 유저 버퍼에 저장합니다.
+   * 전역 용량을 넘으면 가장 오래된 캐시부터 제거합니다.
    *
-   * @param notificationCacheId 알림 캐시 ID (eventId)
+   * @param userId 알림 수신자 UUID
    * @param notification 알림 데이터
+   * @param sequence 발행 노드가 발급한 이벤트 시퀀스
    */
   @Override
-  public void saveNotificationCache(String notificationCacheId, Notification notification) {
-    notificationCache.put(notificationCacheId, notification);
+  public void saveNotificationCache(UUID userId, Notification notification, long sequence) {
+    long now = System.currentTimeMillis();
+    CachedNotification cached = new CachedNotification(sequence, notification, now);
+    boolean[] added = new boolean[1];
+    buffers.compute(userId, (key, buffer) -> {
+      NotificationRingBuffer target = buffer != null ? buffer : new NotificationRingBuffer(capacityPerUser);
+      added[0] = target.add(cached);
+      return target.isEmpty() ? null : target;
+    });
+    if (!added[0]) {
+      return;
+    }
+
+    evictionLog.offer(new EvictionEntry(userId, sequence, now));
+    if (evictionLogSize.incrementAndGet() > maxTotalEntries) {
+      evictOldest(Long.MIN_VALUE);
+    }
   }
 
   /**
-   * 특정 notification prefix로 시작하는 Notification 캐시를 모두 조회합니다.
+   * lastSequence 이후 저장된 알림을 순서대로 조회합니다.
    * (재연결 시 누락된 알림을 다시 전송하기 위해 사용)
    *
-   * @param notificationId 알림 UUID
-   * @return notification Map
+   * @param userId 유저 UUID
+   * @param lastSequence 마지막으로 수신한 이벤트 시퀀스
+   * @return 시퀀스 오름차순 알림 목록
    */
   @Override
-  public Map<String, Notification> findAllNotificationCachesByNotificationIdPrefix(UUID notificationId) {
-    return notificationCache.entrySet().stream()
-        .filter(entry -> entry.getKey().startsWith(String.valueOf(notificationId)))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  public List<CachedNotification> findAllNotificationCachesAfter(UUID userId, long lastSequence) {
+    NotificationRingBuffer buffer = buffers.get(userId);
+    if (buffer == null) {
+      return List.of();
+    }
+    return buffer.findAfter(lastSequence, System.currentTimeMillis() - ttlMillis);
   }
 
   /**
+   * 읽음 처리된 알림을 유저 버퍼에서 제거합니다.
    *
    * @param userId 유저 UUID
-   * @return notification Map
+   * @param notificationId 알림 UUID
    */
   @Override
-  public Map<String, Notification> findAllNotificationCachesByUserIdPrefix(UUID userId) {
-    return notificationCache.entrySet().stream()
-        .filter(entry -> entry.getKey().contains(String.valueOf(userId)))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  public void deleteNotificationCache(UUID userId, UUID notificationId) {
+    buffers.computeIfPresent(userId, (key, buffer) -> {
+      buffer.remove(notificationId);
+      return buffer.isEmpty() ? null : buffer;
+    });
   }
+
   /**
-   * 특정 notificationCacheId로 Notification 캐시를 제거합니다.
+   * 유저의 알림캐시를 모두 삭제
    *
-   * @param notificationCacheId 캐시 ID
+   * @param userId 유저 ID
    */
   @Override
-  public void deleteNotificationCacheById(String notificationCacheId) {
-    notificationCache.remove(notificationCacheId);
+  public void deleteAllNotificationCachesByUserId(UUID userId) {
+    buffers.remove(userId);
   }
+
   /**
-   *
-   * 알림캐시 ID를 통해 알림캐시 삭제
-   * 한 알림 당 여러 알림캐시를 보유할 수 있음
-   * @param notificationId 알림 UUID
+   * TTL이 지난 캐시를 주기적으로 정리합니다.
+   * 조회 시에도 만료된 항목은 걸러지므로 이 작업은 메모리 회수 용도입니다.
    */
   @Override
-  public void deleteNotificationCachesByNotificationIdPrefix(UUID notificationId) {
-    notificationCache.forEach((key, notification) -> {
-      if(key.startsWith(String.valueOf(notificationId))){
-        notificationCache.remove(key);
-      }
-    });
+  @Scheduled(fixedDelay = 60 * 1000)
+  public void evictExpiredNotificationCaches() {
+    int before = evictionLogSize.get();
+    evictOldest(System.currentTimeMillis() - ttlMillis);
+    log.debug("알림 캐시 TTL 정리: 정리 전 = {}, 정리 후 = {}", before, evictionLogSize.get());
   }
+
   /**
-   *
-   * 유저 아이디를 포함한 알림캐시들 삭제
-   * @param userId 유저 ID
+   * 저장 순서 로그의 앞에서부터 항목을 꺼내 해당 유저 버퍼에서 제거합니다.
+   * 전역 용량 이하가 되었고, 남은 가장 오래된 항목이 expiredBefore 이후라면 멈춥니다.
    */
-  @Override
-  public void deleteAllNotificationCachesByUserIdPrefix(String userId) {
-    notificationCache.forEach((key, notification) -> {
-      if(key.contains(userId)){
-        notificationCache.remove(key);
+  private void evictOldest(long expiredBefore) {
+    EvictionEntry oldest;
+    while ((oldest = evictionLog.peek()) != null) {
+      boolean overCapacity = evictionLogSize.get() > maxTotalEntries;
+      if (!overCapacity && oldest.cachedAt() >= expiredBefore) {
+        return;
       }
-    });
+      if (!evictionLog.remove(oldest)) {
+        continue; // 다른 스레드가 먼저 꺼냄
+      }
+      evictionLogSize.decrementAndGet();
+      long evictSequence = oldest.sequence();
+      buffers.computeIfPresent(oldest.userId(), (key, buffer) -> {
+        buffer.removeUpTo(evictSequence);
+        return buffer.isEmpty() ? null : buffer;
+      });
+    }
   }
-}
\ No newline at end of file
+
+  private record EvictionEntry(UUID userId, long sequence, long cachedAt) {}
+}
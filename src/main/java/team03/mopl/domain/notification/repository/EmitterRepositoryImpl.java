@@ -1,14 +1,13 @@
 package team03.mopl.domain.notification.repository;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-import team03.mopl.domain.notification.entity.Notification;
 
 @Repository
 @NoArgsConstructor
@@ -16,69 +15,82 @@ import team03.mopl.domain.notification.entity.Notification;
 public class EmitterRepositoryImpl implements EmitterRepository {
 
   /**
-   * 활성 SSE 연결을 저장하는 맵
-   * key: emitterId
-   * value: SseEmitter
+   * 유저별 활성 SSE 연결
+   * key: userId
+   * value: (emitterId -> SseEmitter) - 한 유저의 기기 수만큼만 존재하는 작은 맵
    */
-  private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+  private final Map<UUID, Map<String, SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
 
   /**
-   * 알림(Notification)을 임시 저장해두는 캐시
-   * key: notificationCacheId
-   * value: Notification
+   * emitterId로 소유 유저를 찾기 위한 역색인
+   * key: emitterId
+   * value: userId
    */
-  private final Map<String, Notification> notificationCache = new ConcurrentHashMap<>();
+  private final Map<String, UUID> ownerByEmitterId = new ConcurrentHashMap<>();
 
   /**
-   * emitterId를 기반으로 SseEmitter를 저장합니다.
+   * 유저의 연결 목록에 SseEmitter를 등록합니다.
    *
+   * @param userId 유저 UUID
    * @param emitterId emitter의 고유 ID
    * @param sseEmitter SseEmitter 객체
    * @return 저장된 SseEmitter
    */
   @Override
-  public SseEmitter saveEmitter(String emitterId, SseEmitter sseEmitter) {
-    emitters.put(emitterId, sseEmitter);
+  public SseEmitter saveEmitter(UUID userId, String emitterId, SseEmitter sseEmitter) {
+    // compute 안에서 등록해야 빈 맵 정리(computeIfPresent)와 경합하지 않는다
+    emittersByUser.compute(userId, (key, connections) -> {
+      Map<String, SseEmitter> target = connections != null ? connections : new ConcurrentHashMap<>();
+      target.put(emitterId, sseEmitter);
+      return target;
+    });
+    ownerByEmitterId.put(emitterId, userId);
     return sseEmitter;
   }
 
   /**
-   * 특정 userId prefix로 시작하는 모든 SseEmitter를 조회합니다.
+   * 특정 유저의 모든 SseEmitter를 조회합니다.
    * (한 유저가 여러 기기로 접속한 경우 모두 반환)
    *
    * @param userId 유저 UUID
-   * @return emitter Map
+   * @return 읽기 전용 emitter Map
    */
   @Override
-  public Map<String, SseEmitter> findAllEmittersByUserIdPrefix(String userId) {
-    return emitters.entrySet().stream()
-        .filter(entry -> entry.getKey().startsWith(userId))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  public Map<String, SseEmitter> findAllEmittersByUserId(UUID userId) {
+    Map<String, SseEmitter> connections = emittersByUser.get(userId);
+    return connections == null ? Map.of() : Collections.unmodifiableMap(connections);
   }
 
   /**
    * 특정 emitterId로 SseEmitter를 제거합니다.
+   * 마지막 연결이 제거되면 유저 엔트리도 함께 정리합니다.
    *
    * @param id emitter ID
    */
   @Override
   public void deleteEmitterById(String id) {
-    emitters.remove(id);
+    UUID userId = ownerByEmitterId.remove(id);
+    if (userId == null) {
+      return;
+    }
+    emittersByUser.computeIfPresent(userId, (key, connections) -> {
+      connections.remove(id);
+      return connections.isEmpty() ? null : connections;
+    });
   }
 
   /**
-   * 특정 userId prefix로 시작하는 모든 Emitter를 제거합니다.
+   * 특정 유저의 모든 Emitter를 제거합니다.
    * 유저가 로그아웃하거나 모든 연결이 끊겼을 때 사용
    *
    * @param userId 유저 UUID
    */
   @Override
-  public void deleteAllEmittersByUserIdPrefix(String userId) {
-    emitters.forEach((key, emitter) -> {
-      if (key.startsWith(userId)) {
-        emitters.remove(key);
-      }
-    });
+  public void deleteAllEmittersByUserId(UUID userId) {
+    Map<String, SseEmitter> removed = emittersByUser.remove(userId);
+    if (removed != null) {
+      removed.keySet().forEach(ownerByEmitterId::remove);
+    }
   }
 
-}
\ No newline at end of file
+}
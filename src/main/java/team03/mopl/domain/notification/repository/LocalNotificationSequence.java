@@ -0,0 +1,20 @@
+package team03.mopl.domain.notification.repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 시퀀스 - 재시작 후에도 이전에 발급한 ID보다 커지도록 현재 시각에서 시작
+ */
+@Component
+@ConditionalOnProperty(name = "mopl.cluster.bus.type", havingValue = "memory", matchIfMissing = true)
+public class LocalNotificationSequence implements NotificationSequence {
+
+  private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+
+  @Override
+  public long next() {
+    return sequence.incrementAndGet();
+  }
+}
@@ -0,0 +1,133 @@
+package team03.mopl.domain.notification.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import team03.mopl.domain.notification.entity.Notification;
+import team03.mopl.domain.notification.entity.NotificationType;
+
+/**
+ * 같은 내용의 알림을 여러 수신자에게 한 번에 저장하는 JDBC 저장소
+ *
+ * JPA save 를 수신자마다 호출하는 대신, insertBatchSize 행씩 묶은 multi-row INSERT 로 저장합니다.
+ * 병합 대상(subjectId)이 있으면 병합 구간 안의 기존 알림 행에 먼저 count 를 더하고, 행이 없는 수신자만 INSERT 합니다.
+ */
+@Slf4j
+@Repository
+public class NotificationBulkRepository {
+
+  private static final String INSERT_PREFIX =
+      "INSERT INTO notifications (id, receiver_id, type, subject_id, content, coalesced_count, is_read, created_at) VALUES ";
+  private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final int COLUMN_COUNT = 8;
+  // 같은 대상의 알림 중 병합 구간 안에 생성된 행에 병합
+  // 병합된 알림은 새 알림이므로 생성 시각을 갱신하고 개별 읽음 표시를 지워 다시 읽지 않은 상태로 만든다
+  private static final String MERGE_PREFIX =
+      "UPDATE notifications SET coalesced_count = coalesced_count + ?, content = ?, is_read = false, created_at = ? "
+          + "WHERE type = ? AND subject_id = ? AND created_at >= ? AND receiver_id IN (";
+  private static final String MERGE_SUFFIX = ") RETURNING id, receiver_id, coalesced_count, created_at";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int insertBatchSize;
+
+  public NotificationBulkRepository(
+      JdbcTemplate jdbcTemplate,
+      @Value("${mopl.notification.fanout.insert-batch-size:500}") int insertBatchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.insertBatchSize = insertBatchSize;
+  }
+
+  /**
+   * mergeSince 이후 생성된 같은 (수신자, 타입, 대상) 의 알림이 있으면 count 만큼 더하고 내용과 생성 시각을 갱신하며,
+   * 없는 수신자에게는 count 를 가진 새 알림을 저장합니다. 병합되었거나 새로 저장된 알림을 수신자당 하나씩 반환합니다.
+   * 전체가 하나의 트랜잭션으로 묶이므로 일부만 저장되는 일은 없습니다.
+   *
+   * @param subjectId 병합 기준 대상 ID, null 이면 병합 없이 저장
+   * @param mergeSince 병합 구간 시작 시각, null 이면 병합 없이 저장
+   */
+  @Transactional
+  public List<Notification> saveAll(List<UUID> receiverIds, NotificationType type, UUID subjectId, String content,
+      int count, LocalDateTime mergeSince) {
+    LocalDateTime now = LocalDateTime.now();
+    Map<UUID, Notification> saved = new LinkedHashMap<>(receiverIds.size() * 2);
+    if (subjectId != null && mergeSince != null) {
+      for (int from = 0; from < receiverIds.size(); from += insertBatchSize) {
+        mergeRows(receiverIds.subList(from, Math.min(from + insertBatchSize, receiverIds.size())),
+            type, subjectId, content, count, mergeSince, now, saved);
+      }
+    }
+    int merged = saved.size();
+
+    List<Notification> inserted = new ArrayList<>(receiverIds.size() - merged);
+    for (UUID receiverId : receiverIds) {
+      if (!saved.containsKey(receiverId)) {
+        Notification notification = new Notification(UUID.randomUUID(), receiverId, type, subjectId, content, count, now);
+        inserted.add(notification);
+        saved.put(receiverId, notification);
+      }
+    }
+    for (int from = 0; from < inserted.size(); from += insertBatchSize) {
+      insertRows(inserted.subList(from, Math.min(from + insertBatchSize, inserted.size())));
+    }
+    log.debug("알림 일괄 저장 완료: type={}, 병합 수={}, 저장 수={}", type, merged, inserted.size());
+    return new ArrayList<>(saved.values());
+  }
+
+  private void mergeRows(List<UUID> receiverIds, NotificationType type, UUID subjectId, String content, int count,
+      LocalDateTime mergeSince, LocalDateTime now, Map<UUID, Notification> saved) {
+    StringBuilder sql = new StringBuilder(MERGE_PREFIX.length() + receiverIds.size() * 3 + MERGE_SUFFIX.length());
+    sql.append(MERGE_PREFIX);
+    Object[] args = new Object[6 + receiverIds.size()];
+    args[0] = count;
+    args[1] = content;
+    args[2] = Timestamp.valueOf(now);
+    args[3] = type.name();
+    args[4] = subjectId;
+    args[5] = Timestamp.valueOf(mergeSince);
+    for (int i = 0; i < receiverIds.size(); i++) {
+      sql.append(i == 0 ? "?" : ", ?");
+      args[6 + i] = receiverIds.get(i);
+    }
+    sql.append(MERGE_SUFFIX);
+
+    jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> {
+      UUID receiverId = rs.getObject("receiver_id", UUID.class);
+      // 같은 수신자의 행이 여러 개 병합되었다면 먼저 읽힌 행 하나만 전송 대상으로 사용
+      saved.putIfAbsent(receiverId, new Notification(rs.getObject("id", UUID.class), receiverId, type, subjectId,
+          content, rs.getInt("coalesced_count"), rs.getTimestamp("created_at").toLocalDateTime()));
+    }, args);
+  }
+
+  private void insertRows(List<Notification> rows) {
+    StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows.size() * (ROW_PLACEHOLDER.length() + 2));
+    sql.append(INSERT_PREFIX);
+    Object[] args = new Object[rows.size() * COLUMN_COUNT];
+
+    int i = 0;
+    for (Notification row : rows) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append(ROW_PLACEHOLDER);
+      args[i++] = row.getId();
+      args[i++] = row.getReceiverId();
+      args[i++] = row.getType().name();
+      args[i++] = row.getSubjectId();
+      args[i++] = row.getContent();
+      args[i++] = row.getCount();
+      args[i++] = row.isRead();
+      args[i++] = Timestamp.valueOf(row.getCreatedAt());
+    }
+    jdbcTemplate.update(sql.toString(), args);
+  }
+}
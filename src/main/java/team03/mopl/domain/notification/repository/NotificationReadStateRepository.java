@@ -0,0 +1,29 @@
+package team03.mopl.domain.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import team03.mopl.domain.notification.entity.NotificationReadState;
+
+public interface NotificationReadStateRepository extends JpaRepository<NotificationReadState, UUID> {
+
+  /**
+   * 읽음 기준 시각을 한 행 upsert 로 갱신합니다. 기준 시각은 뒤로 가지 않습니다.
+   *
+   * @return 기준 시각이 앞으로 옮겨졌으면 1, 이미 같거나 더 늦은 시각이라 그대로면 0
+   */
+  @Modifying
+  @Query(value = "INSERT INTO notification_read_states (user_id, last_read_at) VALUES (:userId, :readAt) "
+      + "ON CONFLICT (user_id) DO UPDATE "
+      + "SET last_read_at = EXCLUDED.last_read_at "
+      + "WHERE notification_read_states.last_read_at < EXCLUDED.last_read_at",
+      nativeQuery = true)
+  int upsertLastReadAt(@Param("userId") UUID userId, @Param("readAt") LocalDateTime readAt);
+
+  default LocalDateTime findLastReadAt(UUID userId) {
+    return findById(userId).map(NotificationReadState::getLastReadAt).orElse(NotificationReadState.NEVER);
+  }
+}
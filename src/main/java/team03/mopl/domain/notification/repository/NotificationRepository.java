@@ -1,15 +1,25 @@
 package team03.mopl.domain.notification.repository;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import team03.mopl.domain.notification.entity.Notification;
 
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
 
-  List<Notification> findByReceiverIdAndIsRead(UUID receiverId, boolean read);
+  long countByReceiverId(UUID receiverId);
 
-  void deleteByReceiverIdAndIsRead(UUID receiverId, boolean read);
+  // 읽음 기준 시각 이후에 생성되었고 개별로 읽지도 않은 알림 수
+  @Query("select count(n) from Notification n "
+      + "where n.receiverId = :receiverId and n.isRead = false and n.createdAt > :lastReadAt")
+  long countUnread(@Param("receiverId") UUID receiverId, @Param("lastReadAt") LocalDateTime lastReadAt);
 
-  long countByReceiverId(UUID receiverId);
+  // 읽음 기준 시각 이전에 생성되었거나 개별로 읽은 알림 삭제
+  @Modifying
+  @Query("delete from Notification n "
+      + "where n.receiverId = :receiverId and (n.isRead = true or n.createdAt <= :lastReadAt)")
+  void deleteRead(@Param("receiverId") UUID receiverId, @Param("lastReadAt") LocalDateTime lastReadAt);
 }
@@ -0,0 +1,62 @@
+package team03.mopl.domain.notification.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 오래된 읽은 알림을 보관 테이블로 옮기고, 보관 기간이 지난 행을 지우는 JDBC 저장소
+ *
+ * 엔티티를 읽지 않고 한 번에 batchSize 행씩 처리하는 단일 SQL 문으로 동작합니다.
+ * 대상 행은 FOR UPDATE SKIP LOCKED 로 잡으므로 여러 노드가 동시에 실행해도 같은 행을 나눠 가지지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionRepository {
+
+  // 읽음 여부는 개별 읽음 표시 또는 유저의 읽음 기준 시각으로 판단 (NotificationReadState)
+  private static final String ARCHIVE_READ_BEFORE = """
+      WITH moved AS (
+        DELETE FROM notifications
+        WHERE id IN (
+          SELECT n.id FROM notifications n
+          LEFT JOIN notification_read_states rs ON rs.user_id = n.receiver_id
+          WHERE n.created_at < ? AND (n.is_read OR n.created_at <= rs.last_read_at)
+          LIMIT ?
+          FOR UPDATE OF n SKIP LOCKED)
+        RETURNING id, receiver_id, type, subject_id, content, coalesced_count, created_at)
+      INSERT INTO notifications_archive (id, receiver_id, type, subject_id, content, coalesced_count, created_at, archived_at)
+      SELECT id, receiver_id, type, subject_id, content, coalesced_count, created_at, ? FROM moved
+      """;
+
+  private static final String PURGE_ARCHIVE_BEFORE = """
+      DELETE FROM notifications_archive
+      WHERE id IN (
+        SELECT id FROM notifications_archive
+        WHERE archived_at < ?
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * cutoff 이전에 생성된 읽은 알림을 최대 batchSize 행 보관 테이블로 옮깁니다.
+   *
+   * @return 옮긴 행 수
+   */
+  public int archiveReadBefore(LocalDateTime cutoff, int batchSize) {
+    return jdbcTemplate.update(ARCHIVE_READ_BEFORE, Timestamp.valueOf(cutoff), batchSize, Timestamp.valueOf(LocalDateTime.now()));
+  }
+
+  /**
+   * cutoff 이전에 보관된 알림을 최대 batchSize 행 삭제합니다.
+   *
+   * @return 삭제한 행 수
+   */
+  public int purgeArchiveBefore(LocalDateTime cutoff, int batchSize) {
+    return jdbcTemplate.update(PURGE_ARCHIVE_BEFORE, Timestamp.valueOf(cutoff), batchSize);
+  }
+}
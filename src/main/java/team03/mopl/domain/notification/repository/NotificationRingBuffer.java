@@ -0,0 +1,134 @@
+package team03.mopl.domain.notification.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import team03.mopl.domain.notification.entity.Notification;
+
+/**
+ * 유저 한 명의 재전송용 알림을 시퀀스 오름차순으로 보관하는 고정 크기 링 버퍼
+ * 가득 차면 가장 오래된 알림부터 덮어씁니다.
+ * 개별 삭제(읽음 처리)는 슬롯을 비워두는 방식이라 시퀀스 배열의 정렬이 깨지지 않습니다.
+ */
+class NotificationRingBuffer {
+
+  private final long[] sequences;
+  private final CachedNotification[] entries;
+  private int head; // 가장 오래된 슬롯 위치
+  private int size; // 사용 중인 슬롯 수 (비워진 슬롯 포함)
+  private int live; // 실제로 알림이 들어있는 슬롯 수
+
+  NotificationRingBuffer(int capacity) {
+    this.sequences = new long[capacity];
+    this.entries = new CachedNotification[capacity];
+  }
+
+  /**
+   * 발행 노드가 발급한 시퀀스 위치에 알림을 넣습니다.
+   * 노드마다 발급 순서와 수신 순서가 다를 수 있으므로 늦게 도착한 알림은 정렬 위치에 끼워 넣고,
+   * 이미 있는 시퀀스(중복 수신)나 가득 찬 버퍼의 가장 오래된 알림보다 오래된 알림은 버립니다.
+   *
+   * @return 저장했으면 true
+   */
+  synchronized boolean add(CachedNotification cached) {
+    long sequence = cached.sequence();
+    int position = indexAfter(sequence);
+    if (position > 0 && sequences[physical(position - 1)] == sequence) {
+      return false;
+    }
+    if (size == entries.length) {
+      if (position == 0) {
+        return false;
+      }
+      dropOldest();
+      position--;
+    }
+    for (int i = size; i > position; i--) {
+      sequences[physical(i)] = sequences[physical(i - 1)];
+      entries[physical(i)] = entries[physical(i - 1)];
+    }
+    int slot = physical(position);
+    sequences[slot] = sequence;
+    entries[slot] = cached;
+    size++;
+    live++;
+    return true;
+  }
+
+  /**
+   * lastSequence 이후의 알림을 순서대로 반환합니다. (이진 탐색 후 구간 복사)
+   *
+   * @param lastSequence 클라이언트가 마지막으로 받은 시퀀스
+   * @param expiredBefore 이 시각보다 먼저 저장된 알림은 제외
+   */
+  synchronized List<CachedNotification> findAfter(long lastSequence, long expiredBefore) {
+    int from = indexAfter(lastSequence);
+    List<CachedNotification> result = new ArrayList<>(size - from);
+    for (int i = from; i < size; i++) {
+      CachedNotification cached = entries[physical(i)];
+      if (cached != null && cached.cachedAt() >= expiredBefore) {
+        result.add(cached);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 지정한 시퀀스 이하의 알림을 앞에서부터 제거합니다. (TTL/전역 용량 초과 시 사용)
+   */
+  synchronized void removeUpTo(long sequence) {
+    while (size > 0 && sequences[head] <= sequence) {
+      dropOldest();
+    }
+  }
+
+  /**
+   * 특정 알림의 슬롯을 비웁니다.
+   */
+  synchronized void remove(UUID notificationId) {
+    for (int i = 0; i < size; i++) {
+      int slot = physical(i);
+      CachedNotification cached = entries[slot];
+      if (cached != null && notificationId.equals(cached.notification().getId())) {
+        entries[slot] = null;
+        live--;
+      }
+    }
+    if (live == 0) {
+      head = 0;
+      size = 0;
+    }
+  }
+
+  synchronized boolean isEmpty() {
+    return live == 0;
+  }
+
+  private void dropOldest() {
+    if (entries[head] != null) {
+      entries[head] = null;
+      live--;
+    }
+    head = (head + 1) % entries.length;
+    size--;
+  }
+
+  // sequence 보다 큰 첫 슬롯의 논리 위치
+  private int indexAfter(long sequence) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sequences[physical(mid)] <= sequence) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private int physical(int logicalIndex) {
+    return (head + logicalIndex) % entries.length;
+  }
+}
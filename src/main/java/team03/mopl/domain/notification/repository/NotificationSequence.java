@@ -0,0 +1,16 @@
+package team03.mopl.domain.notification.repository;
+
+/**
+ * SSE 이벤트 ID 로 쓰는 알림 시퀀스 발급기
+ *
+ * 알림을 발행하는 노드에서 한 번만 발급하고 클러스터 메시지에 실어 보내므로,
+ * 모든 노드의 재전송 캐시가 같은 알림을 같은 ID 로 보관합니다.
+ * 클라이언트가 다른 노드로 재연결해도 Last-Event-ID 이후의 알림을 그대로 이어받을 수 있습니다.
+ */
+public interface NotificationSequence {
+
+  /**
+   * @return 이전에 발급한 값보다 큰 시퀀스
+   */
+  long next();
+}
@@ -0,0 +1,36 @@
+package team03.mopl.domain.notification.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드용 시퀀스 - Redis INCR 로 클러스터 전체에서 하나의 증가 수열을 씁니다.
+ * 키가 없으면(최초 기동, Redis 초기화) 현재 시각에서 시작해, 클라이언트가 가진 이전 ID보다 커지도록 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "mopl.cluster.bus.type", havingValue = "redis")
+public class RedisNotificationSequence implements NotificationSequence {
+
+  static final String SEQUENCE_KEY = "mopl:notification:sequence";
+
+  private final StringRedisTemplate redisTemplate;
+  private volatile boolean initialized;
+
+  public RedisNotificationSequence(StringRedisTemplate redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  @Override
+  public long next() {
+    if (!initialized) {
+      redisTemplate.opsForValue().setIfAbsent(SEQUENCE_KEY, String.valueOf(System.currentTimeMillis()));
+      initialized = true;
+    }
+    Long sequence = redisTemplate.opsForValue().increment(SEQUENCE_KEY);
+    if (sequence == null) {
+      throw new IllegalStateException("알림 시퀀스 발급 실패");
+    }
+    return sequence;
+  }
+}
@@ -1,26 +1,35 @@
 package team03.mopl.domain.notification.service;
 
-import jakarta.annotation.PreDestroy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
 import team03.mopl.domain.notification.dto.NotificationDto;
+import team03.mopl.domain.notification.dto.UnreadCountDto;
 import team03.mopl.domain.notification.entity.Notification;
 import team03.mopl.domain.notification.entity.NotificationType;
+import team03.mopl.domain.notification.repository.CachedNotification;
 import team03.mopl.domain.notification.repository.EmitterCacheRepository;
 import team03.mopl.domain.notification.repository.EmitterRepository;
+import team03.mopl.domain.notification.repository.NotificationSequence;
+import team03.mopl.domain.notification.service.SseOutboundDispatcher.OutboundEvent;
 import team03.mopl.jwt.JwtProvider;
 import team03.mopl.jwt.JwtBlacklist;
 
@@ -31,15 +40,27 @@ public class EmitterService {
 
   private final EmitterRepository emitterRepository;
   private final EmitterCacheRepository emitterCacheRepository;
-  private final ScheduledExecutorService heartbeatExecutor = Executors.newScheduledThreadPool(5);
-  private final TaskExecutor notificationExecutor;
+  private final NotificationSequence notificationSequence;
+  private final SseHeartbeatService heartbeatService;
+  private final SseOutboundDispatcher outboundDispatcher;
+  private final ClusterBus clusterBus;
+  private final ObjectMapper objectMapper;
+  private final UnreadNotificationCounter unreadCounter;
   private final ScheduledExecutorService retryScheduler = Executors.newScheduledThreadPool(2);
 
   private final JwtProvider jwtProvider;
   private final JwtBlacklist jwtBlacklist;
 
-  // 각 emitter의 heartbeat 작업을 추적하기 위한 맵
-  private final ConcurrentHashMap<String, ScheduledFuture<?>> heartbeatTasks = new ConcurrentHashMap<>();
+  // 전송에 실패한 emitter 의 연속 실패 횟수 (suspect 상태)
+  // 한 번이라도 전송에 성공하면 정상 상태로 돌아가고, MAX_SUSPECT_FAILURES 에 도달하면 연결을 정리한다
+  private static final int MAX_SUSPECT_FAILURES = 3;
+  private static final String UNREAD_COUNT_EVENT = "unread-count";
+  private static final long SUSPECT_RETRY_DELAY_MILLIS = 200;
+  // 재전송은 송신 큐를 넘치지 않도록 이 개수씩 넣고, 마지막 이벤트가 전송되면 다음 묶음을 넣음
+  private static final int REPLAY_CHUNK_SIZE = 16;
+  private final ConcurrentHashMap<String, Integer> suspectFailures = new ConcurrentHashMap<>();
+  // 재전송 중인 연결에 온 실시간 이벤트, 재전송이 끝나면 순서대로 송신 큐에 넣음
+  private final ConcurrentHashMap<String, List<DeferredEvent>> replayGates = new ConcurrentHashMap<>();
 
   public SseEmitter subscribe(UUID userId, String lastNotificationId) {
 
@@ -55,21 +76,18 @@ public class EmitterService {
 
     // Repository에 저장하기 전에 emitter 설정 완료
     setupEmitterCallbacks(emitterId, emitter, userId);
-    emitterRepository.saveEmitter(emitterId, emitter);
+    // 재전송이 끝날 때까지 이 연결의 실시간 이벤트는 보류 (재전송보다 먼저 도착하지 않도록)
+    replayGates.put(emitterId, new ArrayList<>());
+    emitterRepository.saveEmitter(userId, emitterId, emitter);
 
-    // 미수신 데이터 재전송
+    // 미수신 데이터 재전송 후 connected 전송, 모두 송신 큐(writer 스레드)를 거침
+    List<CachedNotification> lostData = List.of();
     if (hasLostData(lastNotificationId)) {
       log.info("SSE 재연결 - 누락된 데이터 복원 시도: lastNotificationId = {}", lastNotificationId);
-      sendLostData(lastNotificationId, userId, emitter);
-    }
-
-    try {
-      emitter.send(SseEmitter.event()
-          .name("connected")
-          .data("Connection established"));
-    } catch (IOException e) {
-      log.warn("초기 연결 메시지 전송 실패: userId={}", userId);
+      lostData = findLostData(lastNotificationId, userId);
     }
+    replay(emitterId, emitter, lostData, 0);
+    enqueueUnreadCount(emitterId, emitter, unreadCounter.get(userId));
 
     return emitter;
   }
@@ -99,21 +117,23 @@ public class EmitterService {
       handleEmitterError(emitterId, e);
     });
 
-    // Heartbeat 스케줄링 (45초마다 - 토큰 검증 포함)
-    scheduleHeartbeatWithTokenValidation(emitterId, emitter, userId);
+    // Heartbeat 등록 (공유 타이밍 휠에서 45초마다 ping), ping 실패 시 다른 종료와 같은 경로로 정리
+    heartbeatService.register(emitterId, userId, emitter, () -> handleEmitterTermination(emitterId, "heartbeat"));
   }
 
   /**
    * 기존 연결 정리 - 동일 사용자의 이전 연결들을 안전하게 종료
    */
   private void cleanupExistingConnections(UUID userId) {
-    var existingEmitters = emitterRepository.findAllEmittersByUserIdPrefix(userId.toString());
+    var existingEmitters = emitterRepository.findAllEmittersByUserId(userId);
     int cleanedCount = 0;
 
-    for (var entry : existingEmitters.entrySet()) {
-      String emitterId = entry.getKey();
+    // 조회 결과는 레지스트리의 뷰이므로 순회 전에 ID만 복사해둔다
+    for (String emitterId : List.copyOf(existingEmitters.keySet())) {
       try {
         cancelHeartbeatTask(emitterId);
+        replayGates.remove(emitterId);
+        outboundDispatcher.close(emitterId);
         // safelyCloseEmitterWithCheck(emitter); // ← 이거 제거!
         emitterRepository.deleteEmitterById(emitterId);
       } catch (Exception e) {
@@ -180,57 +200,6 @@ public class EmitterService {
     }
   }*/
 
-  /**
-   * 토큰 검증을 포함한 Heartbeat 스케줄링
-   */
-  private void scheduleHeartbeatWithTokenValidation(String emitterId, SseEmitter emitter, UUID userId) {
-    ScheduledFuture<?> heartbeatTask = heartbeatExecutor.scheduleAtFixedRate(() -> {
-      try {
-        // Repository에서 emitter가 아직 존재하는지 확인
-        if (!emitterRepository.findAllEmittersByUserIdPrefix(userId.toString()).containsKey(emitterId)) {
-          log.debug("Emitter가 더 이상 존재하지 않음: emitterId = {}", emitterId);
-          cancelHeartbeatTask(emitterId);
-          return;
-        }
-
-        // 정상적인 heartbeat 전송 (안전하게)
-        sendHeartbeatSafely(emitter, emitterId);
-
-      } catch (Exception e) {
-        log.warn("Heartbeat 전송 실패: emitterId = {}, 에러 = {}", emitterId, e.getMessage());
-        handleEmitterError(emitterId, e);
-      }
-    }, 45, 45, TimeUnit.SECONDS); // 45초마다 실행
-
-    // 작업 추적을 위해 저장
-    heartbeatTasks.put(emitterId, heartbeatTask);
-  }
-
-  /**
-   * 안전한 Heartbeat 전송 - 연결 상태 확인 포함
-   */
-  private void sendHeartbeatSafely(SseEmitter emitter, String emitterId) {
-    try {
-      // 매우 가벼운 heartbeat 전송
-      emitter.send(SseEmitter.event().name("heartbeat").data("ping"));
-
-    } catch (IllegalStateException e) {
-      // Emitter가 이미 완료되었거나 에러 상태
-      log.debug("Heartbeat 실패 - Emitter 이미 종료됨: emitterId = {}", emitterId);
-      throw new RuntimeException("Emitter already completed", e);
-
-    } catch (IOException e) {
-      // 연결이 끊어짐 (Broken pipe 등)
-      log.debug("Heartbeat 실패 - 연결 끊어짐: emitterId = {}, 에러 = {}", emitterId, e.getMessage());
-      throw new RuntimeException("Connection broken", e);
-
-    } catch (Exception e) {
-      // 기타 예외
-      log.warn("Heartbeat 실패 - 기타 오류: emitterId = {}, 에러 = {}", emitterId, e.getMessage());
-      throw new RuntimeException("Heartbeat failed", e);
-    }
-  }
-
   /**
    * 토큰 만료 처리
    */
@@ -253,14 +222,10 @@ public class EmitterService {
   }*/
 
   /**
-   * Heartbeat 작업 취소
+   * Heartbeat 대상에서 제거
    */
   private void cancelHeartbeatTask(String emitterId) {
-    ScheduledFuture<?> task = heartbeatTasks.remove(emitterId);
-    if (task != null && !task.isCancelled()) {
-      task.cancel(true);
-      log.debug("Heartbeat 작업 취소: emitterId = {}", emitterId);
-    }
+    heartbeatService.unregister(emitterId);
   }
 
   void handleEmitterTermination(String emitterId, String source) {
@@ -279,6 +244,9 @@ public class EmitterService {
    * 안전한 Emitter 삭제 - 예외 처리 포함
    */
   private void safeDeleteEmitter(String emitterId) {
+    suspectFailures.remove(emitterId);
+    replayGates.remove(emitterId);
+    outboundDispatcher.close(emitterId);
     try {
       emitterRepository.deleteEmitterById(emitterId);
     } catch (Exception e) {
@@ -286,83 +254,159 @@ public class EmitterService {
     }
   }
 
-  public CompletableFuture<Void> sendNotificationToMember(UUID userId, Notification notification) {
-    return sendNotificationWithRetry(userId, notification, 1);
+  @PostConstruct
+  public void subscribeClusterNotifications() {
+    clusterBus.subscribe(ClusterMessage.Kind.SSE_NOTIFICATION, this::onClusterNotification);
+    clusterBus.subscribe(ClusterMessage.Kind.UNREAD_COUNT, this::onClusterUnreadCount);
   }
 
-  // 유저 ID 와 관련된 모든 emitter에게 알림 보냄 (개선된 버전)
-  public CompletableFuture<Void> sendNotificationWithRetry(UUID userId, Notification notification, int attempt) {
-    return CompletableFuture.runAsync(() -> {
-          log.info("SSE 알림 전송 시도: userId={}, type={}", userId, notification.getType());
-
-          var emitters = emitterRepository.findAllEmittersByUserIdPrefix(String.valueOf(userId));
-          int successCount = 0;
-          int failCount = 0;
-
-          for (var entry : emitters.entrySet()) {
-            String emitterId = entry.getKey();
-            SseEmitter emitter = entry.getValue();
-
-            try {
-              // 연결 상태 확인을 위한 간단한 테스트
-              if (isEmitterAlive(emitter)) {
-                String notificationCacheId = makeNotificationCacheId(emitterId, notification.getId(), userId);
-                NotificationDto notificationDto = NotificationDto.from(notification);
-
-                // 캐시에 일시저장
-                emitterCacheRepository.saveNotificationCache(notificationCacheId, notification);
-
-                emitter.send(SseEmitter.event().id(notificationCacheId).name(notification.getType().getNotificationName()).data(notificationDto));
-
-                successCount++;
-              } else {
-                log.warn("연결이 끊어진 Emitter 발견: emitterId={}", emitterId);
-                safeDeleteEmitter(emitterId);
-                failCount++;
-              }
-            } catch (IOException e) {
-              log.warn("SSE 알림 전송 실패: emitterId={}, 에러={}", emitterId, e.getMessage());
-              safeDeleteEmitter(emitterId);
-              failCount++;
-            }
-          }
+  /**
+   * 유저가 어느 노드에 연결되어 있는지 알 수 없으므로 클러스터 버스로 발행합니다.
+   * 발행한 노드를 포함한 각 노드가 수신 후 자기 연결에만 전달합니다. (deliverLocally)
+   * 이벤트 ID 는 여기서 한 번만 발급해 함께 보내므로, 모든 노드가 같은 ID 로 캐싱하고 전송합니다.
+   */
+  public void sendNotificationToMember(UUID userId, Notification notification) {
+    long eventId = notificationSequence.next();
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(ClusterNotification.from(notification, eventId));
+    } catch (JsonProcessingException e) {
+      log.warn("클러스터 알림 직렬화 실패 - 현재 노드에만 전송: notificationId={}, 에러={}", notification.getId(), e.getMessage());
+      deliverLocally(userId, notification, eventId);
+      return;
+    }
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.SSE_NOTIFICATION, userId.toString(), null, payload));
+  }
 
-          log.info("알림 전송 완료: userId={}, 성공={}, 실패={}", userId, successCount, failCount);
-        }, notificationExecutor).orTimeout(2, TimeUnit.SECONDS) // 타임아웃 설정
-        .exceptionally(ex -> {
-          if (attempt < 3) {
-            log.warn("알림 전송 실패 - 재시도 예정: attempt={}, userId={}, error={}", attempt, userId, ex.getMessage());
+  private void onClusterNotification(ClusterMessage message) {
+    try {
+      ClusterNotification received = objectMapper.readValue(message.payload(), ClusterNotification.class);
+      deliverLocally(UUID.fromString(message.target()), received.toNotification(), received.eventId());
+    } catch (JsonProcessingException e) {
+      log.warn("클러스터 알림 역직렬화 실패: target={}, 에러={}", message.target(), e.getMessage());
+    }
+  }
 
-            retryScheduler.schedule(() -> {
-              sendNotificationWithRetry(userId, notification, attempt + 1);
-            }, 200, TimeUnit.MILLISECONDS);
+  /**
+   * 현재 노드에 연결된 유저의 모든 연결 송신 큐에 알림을 넣습니다.
+   * 실제 전송은 SseOutboundDispatcher 의 writer 스레드가 수행하므로 호출 스레드는 소켓 I/O 를 기다리지 않습니다.
+   */
+  public void deliverLocally(UUID userId, Notification notification, long eventId) {
+    // 연결 여부와 관계없이 재연결 시 재전송할 수 있도록 유저 버퍼에 한 번만 캐싱
+    emitterCacheRepository.saveNotificationCache(userId, notification, eventId);
+
+    // 새 알림은 알림 이벤트 자체가 +1 이므로 카운터만 올리고,
+    // 병합된 알림은 기존 알림이 읽은 상태였는지 알 수 없으므로 다시 세어 읽지 않은 알림 수도 함께 보냄
+    boolean merged = notification.getCount() > 1;
+    if (merged) {
+      unreadCounter.invalidate(userId);
+    } else {
+      unreadCounter.increment(userId);
+    }
 
+    var emitters = emitterRepository.findAllEmittersByUserId(userId);
+    for (var entry : emitters.entrySet()) {
+      enqueue(entry.getKey(), entry.getValue(), notification, eventId);
+    }
+    if (merged && !emitters.isEmpty()) {
+      long unread = unreadCounter.get(userId);
+      emitters.forEach((emitterId, emitter) -> enqueueUnreadCount(emitterId, emitter, unread));
+    }
+    log.debug("SSE 알림 송신 큐 등록: userId={}, type={}, 연결 수={}", userId, notification.getType(), emitters.size());
+  }
+
+  /**
+   * 한 emitter 의 송신 큐에 알림을 넣고, 전송 결과에 따라 연결 상태를 갱신합니다.
+   * 송신 큐가 가득 찼을 때는 같은 알림(병합으로 다시 보내는 행)의 대기 이벤트만 교체하고, 다른 알림은 교체하지 않습니다.
+   * - 성공: suspect 상태 해제
+   * - IOException: suspect 로 표시하고 잠시 후 이 emitter 에만 다시 넣음, 연속 실패가 한도에 도달하면 연결 정리
+   * - 그 외 (이미 완료된 emitter, 송신 큐 초과로 끊긴 연결 등): 즉시 정리
+   */
+  private void enqueue(String emitterId, SseEmitter emitter, Notification notification, long eventId) {
+    if (deferDuringReplay(emitterId, eventId, () -> enqueueNow(emitterId, emitter, notification, eventId))) {
+      return;
+    }
+    enqueueNow(emitterId, emitter, notification, eventId);
+  }
+
+  private void enqueueNow(String emitterId, SseEmitter emitter, Notification notification, long eventId) {
+    outboundDispatcher.enqueue(emitterId, emitter, new OutboundEvent(
+        notification.getId() != null ? "notification:" + notification.getId() : null,
+        () -> SseEmitter.event()
+            .id(String.valueOf(eventId))
+            .name(notification.getType().getNotificationName())
+            .data(NotificationDto.from(notification)),
+        () -> suspectFailures.remove(emitterId),
+        e -> {
+          if (e instanceof IOException ioException) {
+            markSuspect(emitterId, emitter, notification, eventId, ioException);
           } else {
-            log.error("최종 실패: userId={}, 에러={}", userId, ex.getMessage());
+            log.debug("전송 불가 Emitter 정리: emitterId={}, 에러={}", emitterId, e.getMessage());
+            cancelHeartbeatTask(emitterId);
+            safeDeleteEmitter(emitterId);
           }
-          return null;
-        });
+        }
+    ));
   }
 
   /**
-   * Emitter 연결 상태 확인
+   * 읽지 않은 알림 수 이벤트를 송신 큐에 넣습니다. 재전송 대상이 아니므로 이벤트 ID 를 붙이지 않습니다.
+   * 실패 처리는 같은 연결의 알림 전송 결과에 맡깁니다.
    */
-  private boolean isEmitterAlive(SseEmitter emitter) {
-    try {
-      // 빈 코멘트 전송으로 연결 상태 확인 (클라이언트에는 표시되지 않음)
-      emitter.send(SseEmitter.event().comment("connection-check"));
-      return true;
-    } catch (Exception e) {
-      return false;
+  private void enqueueUnreadCount(String emitterId, SseEmitter emitter, long unread) {
+    if (deferDuringReplay(emitterId, -1L, () -> enqueueUnreadCountNow(emitterId, emitter, unread))) {
+      return;
     }
+    enqueueUnreadCountNow(emitterId, emitter, unread);
   }
 
-  private String makeEmitterId(UUID userId) {
-    return userId + "_" + System.currentTimeMillis() + "_" + UUID.randomUUID();
+  private void enqueueUnreadCountNow(String emitterId, SseEmitter emitter, long unread) {
+    outboundDispatcher.enqueue(emitterId, emitter, new OutboundEvent(
+        UNREAD_COUNT_EVENT,
+        () -> SseEmitter.event()
+            .name(UNREAD_COUNT_EVENT)
+            .data(new UnreadCountDto(unread)),
+        () -> {},
+        e -> log.debug("읽지 않은 알림 수 전송 실패: emitterId={}, 에러={}", emitterId, e.getMessage())
+    ));
+  }
+
+  /**
+   * 읽음 처리로 바뀐 읽지 않은 알림 수를 클러스터 버스로 발행합니다.
+   * 각 노드가 수신 후 자기 카운터를 덮어쓰고 자기 연결에 전송합니다.
+   */
+  public void publishUnreadCount(UUID userId, long unread) {
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.UNREAD_COUNT, userId.toString(), null, String.valueOf(unread)));
+  }
+
+  private void onClusterUnreadCount(ClusterMessage message) {
+    UUID userId = UUID.fromString(message.target());
+    long unread = Long.parseLong(message.payload());
+    unreadCounter.set(userId, unread);
+    emitterRepository.findAllEmittersByUserId(userId)
+        .forEach((emitterId, emitter) -> enqueueUnreadCount(emitterId, emitter, unread));
+  }
+
+  private void markSuspect(String emitterId, SseEmitter emitter, Notification notification, long eventId, IOException e) {
+    int failures = suspectFailures.merge(emitterId, 1, Integer::sum);
+    if (failures >= MAX_SUSPECT_FAILURES) {
+      log.warn("SSE 알림 전송 연속 실패 - 연결 정리: emitterId={}, 실패 횟수={}, 에러={}", emitterId, failures, e.getMessage());
+      cancelHeartbeatTask(emitterId);
+      safeDeleteEmitter(emitterId);
+      return;
+    }
+
+    log.debug("SSE 알림 전송 실패 - suspect 상태로 재시도 예정: emitterId={}, 실패 횟수={}", emitterId, failures);
+    retryScheduler.schedule(() -> {
+      // 그 사이 onError/onCompletion 콜백으로 정리되었다면 재전송하지 않음
+      if (suspectFailures.containsKey(emitterId)) {
+        enqueue(emitterId, emitter, notification, eventId);
+      }
+    }, SUSPECT_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
   }
 
-  private String makeNotificationCacheId(String emitterId, UUID notificationId, UUID userId) {
-    return notificationId + "_" + emitterId + "_" + userId;
+  private String makeEmitterId(UUID userId) {
+    return userId + "_" + System.currentTimeMillis() + "_" + UUID.randomUUID();
   }
 
   // 클라이언트가 Last-Event-ID 헤더를 보내왔는지 여부
@@ -370,31 +414,106 @@ public class EmitterService {
     return lastEventId != null && !lastEventId.isEmpty();
   }
 
-  private void sendLostData(String lastEventId, UUID userId, SseEmitter emitter) {
-    // 임시 보관소에 저장된 유저에 대한 알림을 모두 가져옴
-    log.info("누락된 알림 재전송 시작: userId = {}, lastEventId = {}", userId, lastEventId);
+  private List<CachedNotification> findLostData(String lastEventId, UUID userId) {
+    long lastSequence;
+    try {
+      lastSequence = Long.parseLong(lastEventId);
+    } catch (NumberFormatException e) {
+      // 시퀀스 도입 이전 형식의 이벤트 ID는 기준점을 알 수 없으므로 재전송하지 않음
+      log.warn("알 수 없는 Last-Event-ID 형식: userId = {}, lastEventId = {}", userId, lastEventId);
+      return List.of();
+    }
 
-    var notificationCaches = emitterCacheRepository.findAllNotificationCachesByUserIdPrefix(userId);
-    int resendCount = 0;
+    // lastSequence 이후 캐싱된 알림만 시퀀스 순서대로 가져옴 (유저 버퍼 크기로 제한됨)
+    List<CachedNotification> notificationCaches = emitterCacheRepository.findAllNotificationCachesAfter(userId, lastSequence);
+    log.info("누락된 알림 재전송 시작: userId = {}, lastEventId = {}, 재전송 수 = {}", userId, lastEventId,
+        notificationCaches.size());
+    return notificationCaches;
+  }
 
-    for (var entry : notificationCaches.entrySet()) {
-      String cacheKey = entry.getKey();
+  /**
+   * 누락된 알림을 시퀀스 순서대로 REPLAY_CHUNK_SIZE 개씩 송신 큐에 넣습니다.
+   * 묶음의 마지막 알림이 전송되면 다음 묶음을 넣고, 모두 전송되면 connected 를 넣고 보류했던 실시간 이벤트를 풉니다.
+   */
+  private void replay(String emitterId, SseEmitter emitter, List<CachedNotification> lostData, int from) {
+    int to = Math.min(from + REPLAY_CHUNK_SIZE, lostData.size());
+    if (from >= to) {
+      finishReplay(emitterId, emitter, lostData);
+      return;
+    }
+    for (int i = from; i < to; i++) {
+      CachedNotification cached = lostData.get(i);
+      Notification notification = cached.notification();
+      Runnable onSuccess = i == to - 1 ? () -> replay(emitterId, emitter, lostData, to) : () -> {};
+      boolean accepted = outboundDispatcher.enqueue(emitterId, emitter, new OutboundEvent(
+          null,
+          () -> SseEmitter.event()
+              .id(String.valueOf(cached.sequence()))
+              .name(notification.getType().getNotificationName())
+              .data(NotificationDto.from(notification)),
+          onSuccess,
+          e -> {
+            // 이후 알림도 전송 불가 - 클라이언트가 다시 재연결하면 이어서 재전송
+            log.warn("누락된 알림 재전송 실패: sequence = {}, 에러 = {}", cached.sequence(), e.getMessage());
+            handleEmitterTermination(emitterId, "replay");
+          }
+      ));
+      if (!accepted) {
+        return;
+      }
+    }
+  }
 
-      try {
-        String[] split = cacheKey.split("_");
-        String notificationIdStr = split[0]; // notificationId
+  private void finishReplay(String emitterId, SseEmitter emitter, List<CachedNotification> lostData) {
+    outboundDispatcher.enqueue(emitterId, emitter, new OutboundEvent(
+        null,
+        () -> SseEmitter.event()
+            .name("connected")
+            .data("Connection established"),
+        () -> {},
+        e -> log.warn("초기 연결 메시지 전송 실패: emitterId={}", emitterId)
+    ));
+    Set<Long> replayed = new HashSet<>();
+    lostData.forEach(cached -> replayed.add(cached.sequence()));
+    releaseReplayGate(emitterId, replayed);
+    if (!lostData.isEmpty()) {
+      log.info("누락된 알림 재전송 완료: emitterId = {}, 재전송 수 = {}", emitterId, lostData.size());
+    }
+  }
 
-        if (lastEventId.compareTo(notificationIdStr) < 0) {
-          emitter.send(SseEmitter.event().id(cacheKey).data(entry.getValue()));
-          resendCount++;
+  // 재전송 중이면 실시간 이벤트를 보류하고 true 를 반환 (eventId 가 음수면 재전송과 겹칠 수 없는 이벤트)
+  private boolean deferDuringReplay(String emitterId, long eventId, Runnable enqueue) {
+    return replayGates.computeIfPresent(emitterId, (id, pending) -> {
+      pending.add(new DeferredEvent(eventId, enqueue));
+      return pending;
+    }) != null;
+  }
+
+  /**
+   * 보류했던 실시간 이벤트를 들어온 순서대로 송신 큐에 넣고, 보류 목록이 빌 때 게이트를 제거합니다.
+   * 꺼내 넣는 사이 새로 보류된 이벤트는 다음 반복에서 넣으므로 순서가 뒤바뀌지 않습니다.
+   * 이미 재전송한 알림(캐싱 직후 재전송 목록에도 들어간 알림)은 다시 넣지 않습니다.
+   */
+  private void releaseReplayGate(String emitterId, Set<Long> replayed) {
+    while (true) {
+      List<DeferredEvent> batch = new ArrayList<>();
+      replayGates.computeIfPresent(emitterId, (id, pending) -> {
+        if (pending.isEmpty()) {
+          return null;
+        }
+        batch.addAll(pending);
+        pending.clear();
+        return pending;
+      });
+      if (batch.isEmpty()) {
+        return;
+      }
+      for (DeferredEvent deferred : batch) {
+        if (!replayed.contains(deferred.eventId())) {
+          deferred.enqueue().run();
         }
-        //전송 성공하면 캐시 비우는 로직 추가??
-      } catch (Exception e) {
-        log.warn("누락된 알림 재전송 실패: cacheKey = {}, 에러 = {}", cacheKey, e.getMessage());
       }
     }
-
-    log.info("누락된 알림 재전송 완료: userId = {}, 재전송 수 = {}", userId, resendCount);
   }
 
   public void sendInitNotification(SseEmitter emitter) {
@@ -412,7 +531,7 @@ public class EmitterService {
   public void deleteNotificationCaches(List<Notification> notifications) {
     notifications.forEach(notification -> {
       try {
-        emitterCacheRepository.deleteNotificationCachesByNotificationIdPrefix(notification.getId());
+        emitterCacheRepository.deleteNotificationCache(notification.getReceiverId(), notification.getId());
       } catch (Exception e) {
         log.warn("알림 캐시 삭제 실패: notificationId = {}, 에러 = {}", notification.getId(), e.getMessage());
       }
@@ -420,36 +539,36 @@ public class EmitterService {
   }
 
   /**
-   * 서비스 종료 시 heartbeat executor 정리
+   * 유저의 재전송용 캐시를 모두 지웁니다. (전체 읽음 처리)
    */
-  @PreDestroy
-  public void cleanup() {
-    log.info("EmitterService cleanup 시작");
-
-    // 모든 heartbeat 작업 취소
-    heartbeatTasks.values().forEach(task -> {
-      if (task != null && !task.isCancelled()) {
-        task.cancel(true);
-      }
-    });
-    heartbeatTasks.clear();
-
-    // heartbeat executor 종료
-    heartbeatExecutor.shutdown();
+  public void deleteAllNotificationCaches(UUID userId) {
     try {
-      if (!heartbeatExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-        heartbeatExecutor.shutdownNow();
-      }
-    } catch (InterruptedException e) {
-      heartbeatExecutor.shutdownNow();
-      Thread.currentThread().interrupt();
+      emitterCacheRepository.deleteAllNotificationCachesByUserId(userId);
+    } catch (Exception e) {
+      log.warn("알림 캐시 전체 삭제 실패: userId = {}, 에러 = {}", userId, e.getMessage());
     }
-
-    log.info("EmitterService cleanup 완료");
   }
 
   public void deleteById(UUID userId) {
     log.info("사용자 연결 정리 요청: userId = {}", userId);
     cleanupExistingConnections(userId);
   }
+
+  private record DeferredEvent(long eventId, Runnable enqueue) {}
+
+  // 클러스터 버스로 주고받는 알림 본문 (eventId: 발행 노드가 발급한 SSE 이벤트 ID)
+  record ClusterNotification(long eventId, UUID id, UUID receiverId, NotificationType type, UUID subjectId,
+      String content, int count, LocalDateTime createdAt) {
+
+    static ClusterNotification from(Notification notification, long eventId) {
+      return new ClusterNotification(eventId, notification.getId(), notification.getReceiverId(),
+          notification.getType(), notification.getSubjectId(), notification.getContent(), notification.getCount(),
+          notification.getCreatedAt());
+    }
+
+    Notification toNotification() {
+      return new Notification(id, receiverId, type, subjectId, content, count, createdAt);
+    }
+  }
+
 }
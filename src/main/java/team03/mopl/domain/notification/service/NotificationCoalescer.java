@@ -0,0 +1,210 @@
+package team03.mopl.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import team03.mopl.domain.notification.entity.NotificationType;
+
+/**
+ * 같은 대상에 대해 짧은 시간 안에 반복되는 알림 이벤트를 하나로 병합합니다.
+ *
+ * 키(수신자, 타입, 대상)의 첫 이벤트는 바로 내보내고(leading), 타입별 병합 구간 동안 들어온 이벤트는
+ * 개수와 마지막 내용만 모아 두었다가 구간이 끝날 때 한 번에 내보냅니다(trailing).
+ * 내보낸 결과는 NotificationBulkRepository 가 구간 안의 기존 알림 행에 count 를 더하는 방식으로 저장하므로
+ * 노드가 여러 대여도 DB 에는 구간당 알림 한 건만 남습니다.
+ * 스케줄러 스레드는 구간 정리만 하고, 구간이 끝날 때의 flush(fan-out 저장/전송)는 별도 flush 스레드 풀에서 실행합니다.
+ */
+@Service
+@Slf4j
+public class NotificationCoalescer {
+
+  /**
+   * 병합 키
+   *
+   * @param receiverId 수신자 ID, 구독자/팔로워 전체에게 보내는 fan-out 이벤트라면 null
+   * @param type 알림 타입
+   * @param subjectId 병합 기준 대상 ID (ex. 플레이리스트 ID)
+   */
+  public record Key(UUID receiverId, NotificationType type, UUID subjectId) {}
+
+  /**
+   * 한 번에 내보낼 병합 결과
+   *
+   * @param content 구간 안의 마지막 이벤트 내용
+   * @param count 병합된 이벤트 수
+   * @param mergeSince 이 시각 이후 생성된 같은 대상의 알림 행에 병합, 병합하지 않는 타입이면 null
+   */
+  public record Burst(String content, int count, LocalDateTime mergeSince) {}
+
+  private final Map<NotificationType, Duration> windows;
+  private final Map<Key, Window> openWindows = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService flushExecutor;
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public NotificationCoalescer(
+      MeterRegistry meterRegistry,
+      @Value("#{${mopl.notification.coalesce.window-seconds:{PLAYLIST_SUBSCRIBED: 60, PLAYLIST_UPDATED: 60}}}")
+      Map<String, Long> windowSeconds,
+      @Value("${mopl.notification.coalesce.flush-threads:2}") int flushThreads) {
+    this(meterRegistry, toWindows(windowSeconds),
+        Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notification-coalesce-")),
+        Executors.newFixedThreadPool(flushThreads, new CustomizableThreadFactory("notification-flush-")));
+  }
+
+  NotificationCoalescer(
+      MeterRegistry meterRegistry,
+      Map<NotificationType, Duration> windows,
+      ScheduledExecutorService scheduler,
+      ExecutorService flushExecutor) {
+    this.meterRegistry = meterRegistry;
+    this.windows = windows;
+    this.scheduler = scheduler;
+    this.flushExecutor = flushExecutor;
+
+    Gauge.builder("notification.coalesce.windows", openWindows, Map::size)
+        .description("현재 열려 있는 알림 병합 구간 수")
+        .register(meterRegistry);
+  }
+
+  private static Map<NotificationType, Duration> toWindows(Map<String, Long> windowSeconds) {
+    Map<NotificationType, Duration> windows = new EnumMap<>(NotificationType.class);
+    windowSeconds.forEach((type, seconds) -> windows.put(NotificationType.valueOf(type), Duration.ofSeconds(seconds)));
+    return windows;
+  }
+
+  /**
+   * 이벤트를 병합 단계에 넘깁니다.
+   * 구간의 첫 이벤트라면 호출 스레드에서 바로 flush 하고, 아니면 구간이 끝날 때 flush 스레드 풀에서 flush 합니다.
+   */
+  public void submit(Key key, String content, Consumer<Burst> flush) {
+    Duration window = windowOf(key.type());
+    if (window.isZero()) {
+      flush.accept(new Burst(content, 1, null));
+      return;
+    }
+
+    AtomicBoolean opened = new AtomicBoolean(false);
+    openWindows.compute(key, (k, current) -> {
+      if (current == null) {
+        opened.set(true);
+        return new Window(flush);
+      }
+      current.absorb(content);
+      return current;
+    });
+
+    if (!opened.get()) {
+      Counter.builder("notification.coalesced")
+          .description("병합 구간 안에서 합쳐진 알림 이벤트 수")
+          .tag("type", key.type().name())
+          .register(meterRegistry)
+          .increment();
+      return;
+    }
+
+    try {
+      scheduler.schedule(() -> close(key), window.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // 종료 중이면 구간을 열지 않고 바로 내보냄
+      openWindows.remove(key);
+    }
+    flush.accept(new Burst(content, 1, mergeSince(key.type())));
+  }
+
+  private Duration windowOf(NotificationType type) {
+    return windows.getOrDefault(type, Duration.ZERO);
+  }
+
+  private LocalDateTime mergeSince(NotificationType type) {
+    return LocalDateTime.now().minus(windowOf(type));
+  }
+
+  /**
+   * 스케줄러 스레드에서 구간을 닫고, 첫 이벤트 이후 합쳐진 이벤트가 있으면 flush 스레드 풀로 넘깁니다.
+   * flush 스레드 풀이 종료 중이라 받지 못하면 그 자리에서 내보냅니다.
+   */
+  private void close(Key key) {
+    Window window = openWindows.remove(key);
+    if (window == null || window.pending == 0) {
+      return;
+    }
+    try {
+      flushExecutor.execute(() -> flush(key, window));
+    } catch (RejectedExecutionException e) {
+      flush(key, window);
+    }
+  }
+
+  private void flush(Key key, Window window) {
+    try {
+      // 구간을 연 첫 알림 행에 병합 (구간 길이만큼 거슬러 올라가면 경계에서 놓칠 수 있음)
+      window.flush.accept(new Burst(window.latestContent, window.pending, window.openedAt));
+    } catch (Exception e) {
+      log.error("병합된 알림 flush 실패: key={}, 병합 수={}", key, window.pending, e);
+    }
+  }
+
+  @PreDestroy
+  public void cleanup() {
+    log.info("NotificationCoalescer cleanup 시작 - 열린 구간 수: {}", openWindows.size());
+    scheduler.shutdownNow();
+    // 남은 구간은 종료 전에 바로 내보냄
+    openWindows.keySet().forEach(key -> {
+      Window window = openWindows.remove(key);
+      if (window != null && window.pending > 0) {
+        flush(key, window);
+      }
+    });
+    // 이미 넘긴 flush 는 끝날 때까지 기다림
+    flushExecutor.shutdown();
+    try {
+      if (!flushExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+        log.warn("NotificationCoalescer flush 스레드 풀이 제시간에 종료되지 않음");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.info("NotificationCoalescer cleanup 완료");
+  }
+
+  /**
+   * 열린 병합 구간의 상태. openWindows.compute 안에서만 변경됩니다.
+   */
+  private static class Window {
+
+    private final Consumer<Burst> flush;
+    private final LocalDateTime openedAt = LocalDateTime.now();
+    private String latestContent;
+    private int pending;
+
+    private Window(Consumer<Burst> flush) {
+      this.flush = flush;
+    }
+
+    private void absorb(String content) {
+      latestContent = content;
+      pending++;
+    }
+  }
+}
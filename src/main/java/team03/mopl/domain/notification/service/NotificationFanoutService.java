@@ -0,0 +1,101 @@
+package team03.mopl.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import team03.mopl.domain.notification.entity.Notification;
+import team03.mopl.domain.notification.entity.NotificationType;
+import team03.mopl.domain.notification.repository.NotificationBulkRepository;
+import team03.mopl.domain.notification.service.NotificationCoalescer.Burst;
+
+/**
+ * 팔로워, 플레이리스트 구독자처럼 수신자가 많은 알림을 보내는 fan-out 파이프라인
+ *
+ * 1. 수신자 ID 를 keyset 방식으로 pageSize 씩 조회
+ * 2. 한 페이지를 multi-row INSERT 로 일괄 저장, 병합 구간 안의 기존 알림이 있으면 병합 (NotificationBulkRepository)
+ * 3. 저장된 알림을 유저별로 SSE 송신 큐에 넘김 (EmitterService)
+ */
+@Service
+@Slf4j
+public class NotificationFanoutService {
+
+  // UUID 정렬상 가장 작은 값 - 첫 페이지의 keyset 기준점
+  static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+  /**
+   * 마지막으로 받은 수신자 ID 이후의 수신자 ID 를 ID 오름차순으로 최대 size 개 반환합니다.
+   */
+  @FunctionalInterface
+  public interface RecipientPager {
+    List<UUID> nextPage(UUID lastRecipientId, int size);
+  }
+
+  private final NotificationBulkRepository notificationBulkRepository;
+  private final EmitterService emitterService;
+  private final MeterRegistry meterRegistry;
+  private final int pageSize;
+
+  public NotificationFanoutService(
+      NotificationBulkRepository notificationBulkRepository,
+      EmitterService emitterService,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.notification.fanout.page-size:1000}") int pageSize) {
+    this.notificationBulkRepository = notificationBulkRepository;
+    this.emitterService = emitterService;
+    this.meterRegistry = meterRegistry;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * 페이저가 돌려주는 모든 수신자에게 같은 내용의 알림을 저장하고 전송합니다.
+   *
+   * @param subjectId 병합 기준 대상 ID
+   * @param burst NotificationCoalescer 가 내보낸 병합 결과 (내용, 병합된 이벤트 수, 병합 구간 시작 시각)
+   * @return 알림을 받은 수신자 수
+   */
+  public int fanOut(NotificationType type, UUID subjectId, Burst burst, RecipientPager pager) {
+    long startedAt = System.nanoTime();
+    int total = 0;
+
+    UUID cursor = FIRST_CURSOR;
+    while (true) {
+      List<UUID> recipientIds = pager.nextPage(cursor, pageSize);
+      if (recipientIds.isEmpty()) {
+        break;
+      }
+
+      List<Notification> saved = notificationBulkRepository.saveAll(
+          recipientIds, type, subjectId, burst.content(), burst.count(), burst.mergeSince());
+      // 페이지 안의 수신자는 서로 다르므로 알림 하나가 곧 유저 한 명의 전송 묶음
+      saved.forEach(notification -> emitterService.sendNotificationToMember(notification.getReceiverId(), notification));
+      total += saved.size();
+
+      if (recipientIds.size() < pageSize) {
+        break;
+      }
+      cursor = recipientIds.get(recipientIds.size() - 1);
+    }
+
+    long elapsedNanos = System.nanoTime() - startedAt;
+    Timer.builder("notification.fanout.duration")
+        .description("fan-out 한 번에 걸린 시간")
+        .tag("type", type.name())
+        .register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    Counter.builder("notification.fanout.recipients")
+        .description("fan-out 으로 알림을 받은 수신자 수 (rate 가 곧 처리량)")
+        .tag("type", type.name())
+        .register(meterRegistry)
+        .increment(total);
+
+    log.info("알림 fan-out 완료: type={}, 병합 수={}, 수신자 수={}, 소요={}ms",
+        type, burst.count(), total, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    return total;
+  }
+}
@@ -0,0 +1,84 @@
+package team03.mopl.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team03.mopl.domain.notification.repository.NotificationRetentionRepository;
+
+/**
+ * 알림 보관/삭제 배치
+ *
+ * 1. archive-after-days 가 지난 읽은 알림을 notifications_archive 로 이동
+ * 2. archive-keep-days 가 지난 보관 알림을 삭제
+ *
+ * 두 단계 모두 batch-size 행씩 반복하므로 긴 트랜잭션이나 큰 잠금을 만들지 않습니다.
+ */
+@Component
+@Slf4j
+public class NotificationRetentionJob {
+
+  private final NotificationRetentionRepository retentionRepository;
+  private final MeterRegistry meterRegistry;
+  private final int archiveAfterDays;
+  private final int archiveKeepDays;
+  private final int batchSize;
+
+  public NotificationRetentionJob(
+      NotificationRetentionRepository retentionRepository,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.notification.retention.archive-after-days:30}") int archiveAfterDays,
+      @Value("${mopl.notification.retention.archive-keep-days:180}") int archiveKeepDays,
+      @Value("${mopl.notification.retention.batch-size:10000}") int batchSize) {
+    this.retentionRepository = retentionRepository;
+    this.meterRegistry = meterRegistry;
+    this.archiveAfterDays = archiveAfterDays;
+    this.archiveKeepDays = archiveKeepDays;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(cron = "${mopl.notification.retention.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+  public void run() {
+    LocalDateTime now = LocalDateTime.now();
+    try {
+      log.info("알림 보관 배치 시작");
+      long archived = repeat("archive", () -> retentionRepository.archiveReadBefore(now.minusDays(archiveAfterDays), batchSize));
+      long purged = repeat("purge", () -> retentionRepository.purgeArchiveBefore(now.minusDays(archiveKeepDays), batchSize));
+      log.info("알림 보관 배치 완료: 보관 이동={}, 보관 삭제={}", archived, purged);
+    } catch (Exception e) {
+      log.error("알림 보관 배치 실행 중 오류 발생", e);
+    }
+  }
+
+  /**
+   * 처리된 행이 batchSize 보다 적을 때까지 같은 단계를 반복합니다.
+   *
+   * @return 처리한 전체 행 수
+   */
+  private long repeat(String step, IntSupplier batch) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    Counter rows = Counter.builder("notification.retention.rows")
+        .description("알림 보관 배치가 처리한 행 수")
+        .tag("step", step)
+        .register(meterRegistry);
+
+    long total = 0;
+    int affected;
+    do {
+      affected = batch.getAsInt();
+      total += affected;
+      rows.increment(affected);
+    } while (affected >= batchSize);
+
+    sample.stop(Timer.builder("notification.retention.duration")
+        .description("알림 보관 배치 단계별 소요 시간")
+        .tag("step", step)
+        .register(meterRegistry));
+    return total;
+  }
+}
@@ -1,6 +1,7 @@
 package team03.mopl.domain.notification.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
@@ -8,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import team03.mopl.common.dto.Cursor;
 import team03.mopl.common.dto.CursorPageResponseDto;
 import team03.mopl.common.exception.notification.NotificationNotFoundException;
@@ -17,6 +20,7 @@ import team03.mopl.domain.dm.dto.DmDto;
 import team03.mopl.domain.notification.dto.NotificationDto;
 import team03.mopl.domain.notification.dto.NotificationPagingDto;
 import team03.mopl.domain.notification.entity.Notification;
+import team03.mopl.domain.notification.repository.NotificationReadStateRepository;
 import team03.mopl.domain.notification.repository.NotificationRepository;
 import team03.mopl.domain.notification.repository.NotificationRepositoryCustom;
 
@@ -26,7 +30,9 @@ import team03.mopl.domain.notification.repository.NotificationRepositoryCustom;
 public class NotificationServiceImpl implements NotificationService{
   private final NotificationRepository notificationRepository;
   private final NotificationRepositoryCustom notificationRepositoryCustom;
+  private final NotificationReadStateRepository readStateRepository;
   private final EmitterService emitterService;
+  private final UnreadNotificationCounter unreadCounter;
   private final CursorCodecUtil cursorCodecUtil;
   @Override
   @Transactional
@@ -61,8 +67,9 @@ public class NotificationServiceImpl implements NotificationService{
     List<Notification> list = notificationRepositoryCustom.findByCursor(receiverId, size+1, mainCursorValue, subCursorValue);
     boolean hasNext = list.size() > size;
 
-    //21개
-    List<NotificationDto> dtoList = list.stream().map(NotificationDto::from).toList();
+    //21개, 읽음 여부는 읽음 기준 시각으로 판단
+    LocalDateTime lastReadAt = readStateRepository.findLastReadAt(receiverId);
+    List<NotificationDto> dtoList = list.stream().map(notification -> NotificationDto.from(notification, lastReadAt)).toList();
 
     String nextCursor = null;
     if (hasNext) {
@@ -80,30 +87,49 @@ public class NotificationServiceImpl implements NotificationService{
         .hasNext(hasNext).build();
   }
 
+  /**
+   * 읽음 기준 시각을 현재로 옮기는 한 행 upsert 로 전체 읽음 처리합니다. 알림 행은 건드리지 않습니다.
+   * 기준 시각이 옮겨지지 않았으면(0 행) 캐시 정리와 읽지 않은 수 발행을 건너뜁니다.
+   * 캐시 정리와 발행은 커밋 후에 해서, 롤백되었는데 다른 노드에 0 이 전파되는 일이 없게 합니다.
+   */
   @Override
+  @Transactional
   public void markAllAsRead(UUID receiverId) {
     log.info("markAllAsRead - 알림 읽음 처리 시작: receiverId={}", receiverId);
+    if (readStateRepository.upsertLastReadAt(receiverId, LocalDateTime.now()) == 0) {
+      log.info("markAllAsRead - 읽음 기준 시각 변동 없음: receiverId={}", receiverId);
+      return;
+    }
+    afterCommit(() -> {
+      //모두 읽었으므로 재전송용 캐시를 통째로 비움
+      emitterService.deleteAllNotificationCaches(receiverId);
+      emitterService.publishUnreadCount(receiverId, 0);
+    });
+    log.info("markAllAsRead - 알림 읽음 처리 완료: receiverId={}", receiverId);
+  }
 
-    List<Notification> unread = notificationRepository
-        .findByReceiverIdAndIsRead(receiverId, false);
-
-    unread.forEach(Notification::setIsRead);
-    notificationRepository.saveAll(unread);
-    //읽었다고 판단한 알림들은 재전송용 캐시에서 삭제
-    emitterService.deleteNotificationCaches(unread);
-    log.info("markAllAsRead - 알림 읽음 처리 완료: receiverId={}, 읽은 알림 수={}", receiverId, unread.size());
+  @Override
+  public long getUnreadCount(UUID receiverId) {
+    return unreadCounter.get(receiverId);
   }
 
+  /**
+   * 읽음 기준 시각 이후의 알림만 개별 읽음 표시(예외 집합)를 남깁니다.
+   * 읽지 않은 수 차감과 발행은 커밋 후에 해서 롤백된 읽음 처리가 카운터에 남지 않게 합니다.
+   */
   @Override
   @Transactional
   public void readNotification(UUID receiverId, UUID notificationId) {
-    log.info("markAllAsRead - 알림 읽음 처리 시작: receiverId={}, notificationId={}", receiverId, notificationId);
+    log.info("readNotification - 알림 읽음 처리 시작: receiverId={}, notificationId={}", receiverId, notificationId);
     Notification notification = notificationRepository.findById(notificationId).orElseThrow(NotificationNotFoundException::new);
-    if (notification.isRead()) return;
+    if (notification.isReadAt(readStateRepository.findLastReadAt(receiverId))) return;
     notification.setIsRead();
-    //읽었다고 판단한 알림들은 재전송용 캐시에서 삭제
-    emitterService.deleteNotificationCaches(List.of(notification));
-    log.info("markAllAsRead - 알림 읽음 처리 완료: receiverId={}, 읽은 알림 수={}", receiverId, 1);
+    afterCommit(() -> {
+      //읽었다고 판단한 알림들은 재전송용 캐시에서 삭제
+      emitterService.deleteNotificationCaches(List.of(notification));
+      emitterService.publishUnreadCount(receiverId, unreadCounter.decrement(receiverId));
+    });
+    log.info("readNotification - 알림 읽음 처리 완료: receiverId={}, 읽은 알림 수={}", receiverId, 1);
   }
 
   @Override
@@ -120,7 +146,20 @@ public class NotificationServiceImpl implements NotificationService{
   public void deleteNotificationByUserId(UUID authenticatedUserId) {
     log.info("deleteNotification - 알림 삭제 시도: userId={}", authenticatedUserId);
     //읽지 않은 알림 빼고 삭제
-    notificationRepository.deleteByReceiverIdAndIsRead(authenticatedUserId, true);
+    notificationRepository.deleteRead(authenticatedUserId, readStateRepository.findLastReadAt(authenticatedUserId));
     log.info("deleteNotification - 알림 삭제 완료: userId={}", authenticatedUserId);
   }
+
+  private static void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
 }
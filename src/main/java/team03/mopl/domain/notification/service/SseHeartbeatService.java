@@ -0,0 +1,205 @@
+package team03.mopl.domain.notification.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import team03.mopl.domain.notification.repository.EmitterRepository;
+import team03.mopl.domain.notification.service.SseOutboundDispatcher.OutboundEvent;
+
+/**
+ * 모든 SSE 연결의 heartbeat를 하나의 해시드 타이밍 휠로 관리합니다.
+ *
+ * 휠은 heartbeat 주기를 tick 단위로 나눈 버킷들로 구성되며, 연결은 등록 시점에 따라 한 버킷에 배치됩니다.
+ * 한 tick마다 커서가 가리키는 버킷만 처리하므로 각 연결은 휠이 한 바퀴 돌 때마다 한 번씩 ping을 받습니다.
+ * 버킷 안의 연결은 batchSize 단위로 나눠 ping 전용 스레드에서 연결별 송신 큐(SseOutboundDispatcher)에 넣기만 합니다.
+ * 실제 전송은 알림과 같은 writer 스레드가 하므로 한 연결에 두 스레드가 동시에 쓰지 않고, 느린 소켓이 ping 스레드를 붙잡지 않습니다.
+ * 전송에 실패한 연결은 등록 시 받은 종료 콜백으로 알림 연결과 같은 경로에서 정리합니다.
+ */
+@Service
+@Slf4j
+public class SseHeartbeatService {
+
+  // 같은 연결의 대기 중인 heartbeat 는 하나만 남기면 되므로 COALESCE 키로 사용
+  private static final String HEARTBEAT_EVENT = "heartbeat";
+
+  private final EmitterRepository emitterRepository;
+  private final SseOutboundDispatcher outboundDispatcher;
+
+  private final long tickMillis;
+  private final int batchSize;
+
+  // 버킷 i: (emitterId -> heartbeat 대상)
+  private final List<Map<String, HeartbeatTarget>> wheel;
+  // 등록 해제를 O(1)로 하기 위한 emitterId -> 버킷 번호
+  private final Map<String, Integer> bucketByEmitterId = new ConcurrentHashMap<>();
+  // 다음 tick에 처리할 버킷 (ticker 스레드만 갱신)
+  private volatile int cursor = 0;
+  private long nextTickAt;
+
+  private final ScheduledExecutorService ticker =
+      Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("sse-heartbeat-tick-"));
+  private final ExecutorService pingExecutor;
+
+  private final Timer tickLag;
+  private final DistributionSummary batchSizeSummary;
+
+  public SseHeartbeatService(
+      EmitterRepository emitterRepository,
+      SseOutboundDispatcher outboundDispatcher,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.notification.heartbeat.interval-seconds:45}") long intervalSeconds,
+      @Value("${mopl.notification.heartbeat.tick-millis:1000}") long tickMillis,
+      @Value("${mopl.notification.heartbeat.batch-size:500}") int batchSize,
+      @Value("${mopl.notification.heartbeat.ping-threads:2}") int pingThreads) {
+    this.emitterRepository = emitterRepository;
+    this.outboundDispatcher = outboundDispatcher;
+    this.tickMillis = tickMillis;
+    this.batchSize = batchSize;
+
+    int wheelSize = (int) Math.max(1, TimeUnit.SECONDS.toMillis(intervalSeconds) / tickMillis);
+    this.wheel = new ArrayList<>(wheelSize);
+    for (int i = 0; i < wheelSize; i++) {
+      wheel.add(new ConcurrentHashMap<>());
+    }
+    this.pingExecutor = Executors.newFixedThreadPool(pingThreads, new CustomizableThreadFactory("sse-heartbeat-ping-"));
+
+    this.tickLag = Timer.builder("sse.heartbeat.tick.lag")
+        .description("heartbeat tick 이 예정 시각보다 늦게 실행된 시간")
+        .register(meterRegistry);
+    this.batchSizeSummary = DistributionSummary.builder("sse.heartbeat.batch.size")
+        .description("한 번에 ping 을 보낸 연결 수")
+        .register(meterRegistry);
+    Gauge.builder("sse.heartbeat.connections", bucketByEmitterId, Map::size)
+        .description("heartbeat 대상 연결 수")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    nextTickAt = System.currentTimeMillis() + tickMillis;
+    ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 연결을 휠에 등록합니다.
+   * 방금 처리된 버킷에 넣어, 휠이 한 바퀴 돈 뒤(약 heartbeat 주기 후) 첫 ping 을 보냅니다.
+   *
+   * @param onDead ping 전송에 실패했을 때 연결을 정리하는 콜백
+   */
+  public void register(String emitterId, UUID userId, SseEmitter emitter, Runnable onDead) {
+    int bucket = Math.floorMod(cursor - 1, wheel.size());
+    wheel.get(bucket).put(emitterId, new HeartbeatTarget(emitterId, userId, emitter, onDead));
+    bucketByEmitterId.put(emitterId, bucket);
+  }
+
+  /**
+   * 연결을 휠에서 제거합니다.
+   */
+  public void unregister(String emitterId) {
+    Integer bucket = bucketByEmitterId.remove(emitterId);
+    if (bucket != null) {
+      wheel.get(bucket).remove(emitterId);
+      log.debug("Heartbeat 대상 제거: emitterId = {}", emitterId);
+    }
+  }
+
+  /**
+   * 커서가 가리키는 버킷의 연결들에 ping 을 배치로 전송합니다.
+   */
+  void tick() {
+    try {
+      long now = System.currentTimeMillis();
+      tickLag.record(Math.max(0, now - nextTickAt), TimeUnit.MILLISECONDS);
+      nextTickAt = now + tickMillis;
+
+      int current = cursor;
+      cursor = (current + 1) % wheel.size();
+
+      Map<String, HeartbeatTarget> bucket = wheel.get(current);
+      if (bucket.isEmpty()) {
+        return;
+      }
+
+      List<HeartbeatTarget> targets = new ArrayList<>(bucket.values());
+      for (int from = 0; from < targets.size(); from += batchSize) {
+        List<HeartbeatTarget> batch = targets.subList(from, Math.min(from + batchSize, targets.size()));
+        batchSizeSummary.record(batch.size());
+        pingExecutor.execute(() -> pingBatch(batch));
+      }
+    } catch (Exception e) {
+      // 예외가 전파되면 scheduleAtFixedRate 가 중단되므로 여기서 삼킨다
+      log.warn("Heartbeat tick 처리 실패: 에러 = {}", e.getMessage());
+    }
+  }
+
+  private void pingBatch(List<HeartbeatTarget> batch) {
+    for (HeartbeatTarget target : batch) {
+      // Repository에서 emitter가 아직 존재하는지 확인
+      if (!emitterRepository.findAllEmittersByUserId(target.userId()).containsKey(target.emitterId())) {
+        log.debug("Emitter가 더 이상 존재하지 않음: emitterId = {}", target.emitterId());
+        unregister(target.emitterId());
+        continue;
+      }
+      outboundDispatcher.enqueue(target.emitterId(), target.emitter(), new OutboundEvent(
+          HEARTBEAT_EVENT,
+          () -> SseEmitter.event().name(HEARTBEAT_EVENT).data("ping"),
+          () -> {},
+          e -> handleDead(target, e)
+      ));
+    }
+  }
+
+  /**
+   * 끊어진 연결은 휠에서 빼고, 송신 큐/suspect 상태/repository 정리는 등록한 쪽의 종료 콜백에 맡깁니다.
+   */
+  private void handleDead(HeartbeatTarget target, Exception e) {
+    log.debug("Heartbeat 실패 - 연결 정리: emitterId = {}, 에러 = {}", target.emitterId(), e.getMessage());
+    unregister(target.emitterId());
+    try {
+      target.onDead().run();
+    } catch (Exception cleanupError) {
+      log.warn("Heartbeat 실패 연결 정리 중 오류: emitterId = {}, 에러 = {}", target.emitterId(), cleanupError.getMessage());
+    }
+  }
+
+  /**
+   * 서비스 종료 시 heartbeat executor 정리
+   */
+  @PreDestroy
+  public void cleanup() {
+    log.info("SseHeartbeatService cleanup 시작");
+    wheel.forEach(Map::clear);
+    bucketByEmitterId.clear();
+
+    ticker.shutdownNow();
+    pingExecutor.shutdown();
+    try {
+      if (!pingExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+        pingExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      pingExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    log.info("SseHeartbeatService cleanup 완료");
+  }
+
+  private record HeartbeatTarget(String emitterId, UUID userId, SseEmitter emitter, Runnable onDead) {}
+}
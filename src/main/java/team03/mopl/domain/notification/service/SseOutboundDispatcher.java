@@ -0,0 +1,287 @@
+package team03.mopl.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 연결마다 크기가 제한된 송신 큐를 두고, 소수의 writer 스레드가 큐를 비우며 실제 전송을 수행합니다.
+ *
+ * 알림을 발생시킨 요청 스레드는 큐에 넣기만 하므로 느린 클라이언트의 소켓 블로킹에 영향을 받지 않습니다.
+ * 큐가 가득 차면 설정된 정책(OverflowPolicy)에 따라 이벤트를 버리거나 합치거나 연결을 끊습니다.
+ */
+@Service
+@Slf4j
+public class SseOutboundDispatcher {
+
+  public enum OverflowPolicy {
+    DROP_OLDEST, // 가장 오래된 이벤트를 버리고 새 이벤트를 넣음
+    COALESCE,    // 같은 키의 대기 이벤트를 새 이벤트로 교체, 키가 없거나 같은 키가 없으면 DROP_OLDEST
+    DISCONNECT   // 연결을 끊음 (클라이언트는 Last-Event-ID 로 재연결해 재전송 받음)
+  }
+
+  /**
+   * 송신 큐에 넣을 이벤트
+   *
+   * @param coalesceKey COALESCE 정책에서 새 이벤트가 대신할 수 있는 대기 이벤트의 키 (ex. 읽지 않은 알림 수, 같은 알림 ID),
+   *                    교체하면 안 되는 이벤트는 null
+   * @param payload 전송할 때마다 새로 만드는 SSE 이벤트
+   * @param onSuccess 전송 성공 시 콜백
+   * @param onFailure 전송 실패 또는 연결 끊김 시 콜백
+   */
+  public record OutboundEvent(
+      String coalesceKey,
+      Supplier<SseEmitter.SseEventBuilder> payload,
+      Runnable onSuccess,
+      Consumer<Exception> onFailure
+  ) {}
+
+  private final int capacity;
+  private final int drainBatchSize;
+  private final OverflowPolicy overflowPolicy;
+
+  private final Map<String, ConnectionQueue> queues = new ConcurrentHashMap<>();
+  private final AtomicInteger totalDepth = new AtomicInteger();
+  private final ExecutorService writerPool;
+
+  private final MeterRegistry meterRegistry;
+  private final DistributionSummary connectionDepth;
+
+  @Autowired
+  public SseOutboundDispatcher(
+      MeterRegistry meterRegistry,
+      @Value("${mopl.notification.outbound.capacity:64}") int capacity,
+      @Value("${mopl.notification.outbound.drain-batch-size:16}") int drainBatchSize,
+      @Value("${mopl.notification.outbound.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+      @Value("${mopl.notification.outbound.writer-threads:4}") int writerThreads) {
+    this(meterRegistry, capacity, drainBatchSize, overflowPolicy,
+        Executors.newFixedThreadPool(writerThreads, new CustomizableThreadFactory("sse-writer-")));
+  }
+
+  SseOutboundDispatcher(
+      MeterRegistry meterRegistry,
+      int capacity,
+      int drainBatchSize,
+      OverflowPolicy overflowPolicy,
+      ExecutorService writerPool) {
+    this.meterRegistry = meterRegistry;
+    this.capacity = capacity;
+    this.drainBatchSize = drainBatchSize;
+    this.overflowPolicy = overflowPolicy;
+    this.writerPool = writerPool;
+
+    Gauge.builder("sse.outbound.queue.depth", totalDepth, AtomicInteger::get)
+        .description("전체 SSE 송신 큐에 대기 중인 이벤트 수")
+        .register(meterRegistry);
+    Gauge.builder("sse.outbound.connections", queues, Map::size)
+        .description("송신 큐를 가진 SSE 연결 수")
+        .register(meterRegistry);
+    this.connectionDepth = DistributionSummary.builder("sse.outbound.queue.connection.depth")
+        .description("이벤트를 넣은 직후 연결별 송신 큐 길이")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 연결의 송신 큐에 이벤트를 넣고, 필요하면 writer 에 drain 을 요청합니다.
+   *
+   * @return 큐에 들어갔으면 true, DISCONNECT 정책으로 연결이 끊겼으면 false
+   */
+  public boolean enqueue(String emitterId, SseEmitter emitter, OutboundEvent event) {
+    ConnectionQueue queue = queues.computeIfAbsent(emitterId, id -> new ConnectionQueue(id, emitter));
+    if (!queue.offer(event)) {
+      disconnect(queue, event);
+      return false;
+    }
+    scheduleDrain(queue);
+    return true;
+  }
+
+  /**
+   * 연결의 송신 큐를 제거합니다. 대기 중인 이벤트는 버려집니다.
+   */
+  public void close(String emitterId) {
+    ConnectionQueue queue = queues.remove(emitterId);
+    if (queue != null) {
+      queue.clear();
+    }
+  }
+
+  private void disconnect(ConnectionQueue queue, OutboundEvent event) {
+    log.warn("SSE 송신 큐 초과 - 느린 연결 종료: emitterId = {}", queue.emitterId);
+    close(queue.emitterId);
+    try {
+      queue.emitter.complete();
+    } catch (Exception e) {
+      log.debug("느린 연결 종료 중 예외 (무시): emitterId = {}, 에러 = {}", queue.emitterId, e.getMessage());
+    }
+    event.onFailure().accept(new IllegalStateException("SSE outbound queue overflow"));
+  }
+
+  private void scheduleDrain(ConnectionQueue queue) {
+    if (!queue.draining.compareAndSet(false, true)) {
+      return; // 이미 writer 가 비우는 중
+    }
+    try {
+      writerPool.execute(() -> drain(queue));
+    } catch (RejectedExecutionException e) {
+      queue.draining.set(false);
+      log.debug("SSE writer 종료 중 - drain 생략: emitterId = {}", queue.emitterId);
+    }
+  }
+
+  /**
+   * 한 번에 drainBatchSize 개까지만 전송하고 나머지는 다시 스케줄해, 한 연결이 writer 를 독점하지 않게 합니다.
+   */
+  private void drain(ConnectionQueue queue) {
+    try {
+      for (int i = 0; i < drainBatchSize; i++) {
+        OutboundEvent event = queue.poll();
+        if (event == null) {
+          break;
+        }
+        write(queue, event);
+      }
+    } finally {
+      queue.draining.set(false);
+      if (!queue.isEmpty() && queues.get(queue.emitterId) == queue) {
+        scheduleDrain(queue);
+      }
+    }
+  }
+
+  private void write(ConnectionQueue queue, OutboundEvent event) {
+    try {
+      queue.emitter.send(event.payload().get());
+    } catch (Exception e) {
+      event.onFailure().accept(e);
+      return;
+    }
+    event.onSuccess().run();
+  }
+
+  private void shed(String reason) {
+    Counter.builder("sse.outbound.shed")
+        .description("송신 큐 초과로 버려지거나 합쳐진 이벤트 수")
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  @PreDestroy
+  public void cleanup() {
+    log.info("SseOutboundDispatcher cleanup 시작");
+    writerPool.shutdown();
+    try {
+      if (!writerPool.awaitTermination(5, TimeUnit.SECONDS)) {
+        writerPool.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      writerPool.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    queues.keySet().forEach(this::close);
+    log.info("SseOutboundDispatcher cleanup 완료");
+  }
+
+  private class ConnectionQueue {
+
+    private final String emitterId;
+    private final SseEmitter emitter;
+    private final ArrayDeque<OutboundEvent> events = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    private ConnectionQueue(String emitterId, SseEmitter emitter) {
+      this.emitterId = emitterId;
+      this.emitter = emitter;
+    }
+
+    /**
+     * @return 큐에 들어갔으면 true, DISCONNECT 정책으로 거절되었으면 false
+     */
+    synchronized boolean offer(OutboundEvent event) {
+      if (events.size() < capacity) {
+        events.addLast(event);
+        totalDepth.incrementAndGet();
+        connectionDepth.record(events.size());
+        return true;
+      }
+
+      switch (overflowPolicy) {
+        case COALESCE -> {
+          if (replaceSameKind(event)) {
+            shed("coalesce");
+            return true;
+          }
+          dropOldestAndAdd(event);
+          return true;
+        }
+        case DISCONNECT -> {
+          shed("disconnect");
+          return false;
+        }
+        default -> {
+          dropOldestAndAdd(event);
+          return true;
+        }
+      }
+    }
+
+    private boolean replaceSameKind(OutboundEvent event) {
+      if (event.coalesceKey() == null) {
+        return false;
+      }
+      Iterator<OutboundEvent> iterator = events.descendingIterator();
+      while (iterator.hasNext()) {
+        if (event.coalesceKey().equals(iterator.next().coalesceKey())) {
+          iterator.remove();
+          events.addLast(event);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void dropOldestAndAdd(OutboundEvent event) {
+      events.pollFirst();
+      events.addLast(event);
+      shed("drop_oldest");
+    }
+
+    synchronized OutboundEvent poll() {
+      OutboundEvent event = events.pollFirst();
+      if (event != null) {
+        totalDepth.decrementAndGet();
+      }
+      return event;
+    }
+
+    synchronized boolean isEmpty() {
+      return events.isEmpty();
+    }
+
+    synchronized void clear() {
+      totalDepth.addAndGet(-events.size());
+      events.clear();
+    }
+  }
+}
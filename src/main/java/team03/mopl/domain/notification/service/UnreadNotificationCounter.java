@@ -0,0 +1,101 @@
+package team03.mopl.domain.notification.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import team03.mopl.domain.notification.repository.NotificationReadStateRepository;
+import team03.mopl.domain.notification.repository.NotificationRepository;
+
+/**
+ * 유저별 읽지 않은 알림 수를 메모리에 보관합니다.
+ *
+ * 처음 조회할 때 읽음 기준 시각으로 DB 에서 한 번 세고, 이후에는 새 알림 전달과 읽음 처리로 값을 갱신합니다.
+ * 값을 정확히 알 수 없는 변경(병합된 알림 등)은 항목을 지워 다음 조회에서 다시 세게 합니다.
+ * 보관 유저 수가 maxUsers 에 도달하면 새 유저는 보관하지 않고 매번 DB 에서 셉니다.
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+  private final NotificationRepository notificationRepository;
+  private final NotificationReadStateRepository readStateRepository;
+  private final int maxUsers;
+  private final Map<UUID, AtomicLong> counts = new ConcurrentHashMap<>();
+
+  public UnreadNotificationCounter(
+      NotificationRepository notificationRepository,
+      NotificationReadStateRepository readStateRepository,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.notification.unread.max-users:100000}") int maxUsers) {
+    this.notificationRepository = notificationRepository;
+    this.readStateRepository = readStateRepository;
+    this.maxUsers = maxUsers;
+
+    Gauge.builder("notification.unread.cached.users", counts, Map::size)
+        .description("읽지 않은 알림 수를 메모리에 보관 중인 유저 수")
+        .register(meterRegistry);
+  }
+
+  public long get(UUID userId) {
+    AtomicLong count = counts.get(userId);
+    if (count != null) {
+      return count.get();
+    }
+    long loaded = load(userId);
+    if (counts.size() < maxUsers) {
+      // 세는 사이 다른 스레드가 먼저 넣었다면 그 값을 유지
+      return counts.computeIfAbsent(userId, id -> new AtomicLong(loaded)).get();
+    }
+    return loaded;
+  }
+
+  /**
+   * 새 알림이 하나 늘었을 때 호출합니다. 보관 중이 아닌 유저는 다음 조회 때 DB 에서 셉니다.
+   */
+  public void increment(UUID userId) {
+    AtomicLong count = counts.get(userId);
+    if (count != null) {
+      count.incrementAndGet();
+    }
+  }
+
+  /**
+   * 알림 하나를 읽었을 때 호출하고 갱신된 값을 반환합니다.
+   * 보관 중이 아니라면 DB 에서 세므로, 읽음 표시가 커밋된 뒤에 호출해야 합니다.
+   */
+  public long decrement(UUID userId) {
+    AtomicLong count = counts.get(userId);
+    if (count != null) {
+      return count.updateAndGet(value -> Math.max(0, value - 1));
+    }
+    return get(userId);
+  }
+
+  /**
+   * 다른 노드나 전체 읽음 처리로 정확한 값을 알게 되었을 때 덮어씁니다.
+   */
+  public void set(UUID userId, long unread) {
+    AtomicLong count = counts.get(userId);
+    if (count != null) {
+      count.set(unread);
+    } else if (counts.size() < maxUsers) {
+      counts.put(userId, new AtomicLong(unread));
+    }
+  }
+
+  public void invalidate(UUID userId) {
+    counts.remove(userId);
+  }
+
+  private long load(UUID userId) {
+    long unread = notificationRepository.countUnread(userId, readStateRepository.findLastReadAt(userId));
+    log.debug("읽지 않은 알림 수 조회: userId={}, 개수={}", userId, unread);
+    return unread;
+  }
+}
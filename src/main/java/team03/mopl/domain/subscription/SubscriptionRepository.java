@@ -2,6 +2,7 @@ package team03.mopl.domain.subscription;
 
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import team03.mopl.domain.playlist.entity.Playlist;
@@ -12,6 +13,10 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, UUID
 
   List<Subscription> findByPlaylistId(UUID playlistId);
 
+  // UNIQUE (playlist_id, subscriber_id) 인덱스를 타는 keyset 페이지 조회
+  @Query("SELECT s.user.id FROM Subscription s WHERE s.playlist.id = :playlistId AND s.user.id > :lastSubscriberId ORDER BY s.user.id")
+  List<UUID> findSubscriberIdsAfter(UUID playlistId, UUID lastSubscriberId, Pageable pageable);
+
   List<Subscription> findByUserId(UUID userId);
 
   @Query("SELECT s.playlist FROM Subscription s WHERE s.user.id = :userId ORDER BY s.createdAt DESC")
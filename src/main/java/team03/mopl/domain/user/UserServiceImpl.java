@@ -15,6 +15,10 @@ import team03.mopl.common.exception.auth.InvalidPasswordException;
 import team03.mopl.common.exception.user.DuplicatedEmailException;
 import team03.mopl.common.exception.user.UserNotFoundException;
 import team03.mopl.domain.follow.service.FollowService;
+import team03.mopl.jwt.AuthenticatedUserCache;
+import team03.mopl.jwt.JwtService;
+import team03.mopl.jwt.JwtSession;
+import team03.mopl.jwt.JwtSessionRepository;
 import team03.mopl.storage.ProfileImageStorage;
 
 @Service
@@ -26,6 +30,9 @@ public class UserServiceImpl implements UserService {
   private final PasswordEncoder passwordEncoder;
   private final FollowService followService;
   private final ProfileImageStorage profileImageStorage;
+  private final AuthenticatedUserCache authenticatedUserCache;
+  private final JwtService jwtService;
+  private final JwtSessionRepository jwtSessionRepository;
 
   @PostConstruct
   public void logStorageType() {
@@ -102,6 +109,7 @@ public class UserServiceImpl implements UserService {
     }
 
     user.update(request.newName(), encodedPassword, newImageUrl);
+    authenticatedUserCache.invalidate(userId);
 
     log.info("update - 유저 수정 완료: userId={}, name={}", user.getId(), user.getName());
     return UserResponse.from(user);
@@ -113,8 +121,14 @@ public class UserServiceImpl implements UserService {
     // User 삭제 시 Follow 관계도 같이 삭제
     followService.deletedUserUnfollow(userId);
 
+    // 권한 변경/계정 잠금과 같이 세션을 지우고 남은 access token 은 블랙리스트에 올림
+    jwtSessionRepository.findFirstByUserId(userId)
+        .map(JwtSession::getRefreshToken)
+        .ifPresent(refreshToken -> jwtService.invalidateSessionByRefreshToken(refreshToken, true));
+
     userRepository.deleteById(userId);
-    log.info("delete - 유저 삭제 완료: userId={}", userId);
+    authenticatedUserCache.invalidate(userId);
+    log.info("delete - 유저 삭제 및 세션 무효화 완료: userId={}", userId);
   }
 
   @Override
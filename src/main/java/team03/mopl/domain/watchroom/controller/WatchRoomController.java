@@ -1,11 +1,13 @@
 package team03.mopl.domain.watchroom.controller;
 
 
+import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,7 +20,11 @@ import team03.mopl.common.dto.CursorPageResponseDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomCreateRequest;
 import team03.mopl.domain.watchroom.dto.WatchRoomDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomSearchDto;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessagePagingDto;
+import team03.mopl.domain.watchroom.service.WatchRoomMessageService;
 import team03.mopl.domain.watchroom.service.WatchRoomService;
+import team03.mopl.jwt.CustomUserDetails;
 
 @RestController
 @RequestMapping("/api/rooms")
@@ -26,6 +32,7 @@ import team03.mopl.domain.watchroom.service.WatchRoomService;
 public class WatchRoomController implements WatchRoomApi {
 
   private final WatchRoomService watchRoomService;
+  private final WatchRoomMessageService watchRoomMessageService;
 
   @Override
   @GetMapping
@@ -45,4 +52,13 @@ public class WatchRoomController implements WatchRoomApi {
   public ResponseEntity<WatchRoomDto> createWatchRoom(@RequestBody WatchRoomCreateRequest request) {
     return ResponseEntity.status(HttpStatus.CREATED).body(watchRoomService.create(request));
   }
+
+  @Override
+  @GetMapping("/{roomId}/messages")
+  public ResponseEntity<CursorPageResponseDto<WatchRoomMessageDto>> getMessages(
+      @PathVariable("roomId") UUID roomId,
+      @ParameterObject @Valid @ModelAttribute WatchRoomMessagePagingDto request,
+      @AuthenticationPrincipal CustomUserDetails user) {
+    return ResponseEntity.ok(watchRoomMessageService.getMessages(roomId, user.getUsername(), request));
+  }
 }
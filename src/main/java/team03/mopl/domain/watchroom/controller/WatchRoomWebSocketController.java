@@ -5,75 +5,89 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
+import team03.mopl.cluster.ClusterMessagingTemplate;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageCreateRequest;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
 import team03.mopl.domain.watchroom.dto.participant.ParticipantsInfoDto;
 import team03.mopl.domain.watchroom.dto.video.VideoControlRequest;
 import team03.mopl.domain.watchroom.dto.video.VideoSyncDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomInfoDto;
+import team03.mopl.domain.watchroom.service.WatchRoomEventDispatcher;
 import team03.mopl.domain.watchroom.service.WatchRoomMessageService;
 import team03.mopl.domain.watchroom.service.WatchRoomService;
 
+/**
+ * 시청방 STOMP 핸들러
+ *
+ * 요청 검증만 inbound 채널 스레드에서 하고, 실제 처리는 WatchRoomEventDispatcher 의 방별 메일박스에서 순서대로 실행합니다.
+ */
 @Controller
 @RequiredArgsConstructor
 public class WatchRoomWebSocketController {
 
   private final WatchRoomService watchRoomService;
   private final WatchRoomMessageService watchRoomMessageService;
-  private final SimpMessagingTemplate messageTemplate;
+  private final ClusterMessagingTemplate messageTemplate;
+  private final WatchRoomEventDispatcher dispatcher;
 
   //채팅 메세지 보내기
   @MessageMapping("/rooms/{roomId}/send")
-  @SendTo("/topic/rooms/{roomId}/chat")
-  public WatchRoomMessageDto sendMessage(@DestinationVariable UUID roomId,
+  public void sendMessage(@DestinationVariable UUID roomId,
       WatchRoomMessageCreateRequest request, Principal principal) {
     if (!request.chatRoomId().equals(roomId)) {
       //본문의 WatchRoom id와 url의 id가 같은지 한번 더 검증함
       throw new IllegalArgumentException("Room ID가 일치하지 않습니다.");
     }
-    return watchRoomMessageService.create(request, principal.getName());
+    String username = principal.getName();
+    dispatcher.dispatch(roomId, "chat", () -> {
+      WatchRoomMessageDto watchRoomMessageDto = watchRoomMessageService.create(request, username);
+      messageTemplate.convertAndSend("/topic/rooms/" + roomId + "/chat", watchRoomMessageDto);
+    });
   }
 
   // 새 유저 참가 요청
   @MessageMapping("/rooms/{roomId}/join")
   public void joinRoom(@DestinationVariable UUID roomId, Principal principal) {
+    String username = principal.getName();
+    dispatcher.dispatch(roomId, "join", () -> {
+      //신규 유저에게는 채팅방 정보 전체 전송
+      WatchRoomInfoDto watchRoomInfoDto = watchRoomService.joinWatchRoomAndGetInfo(roomId, username);
+      messageTemplate.convertAndSendToUser(username, "/queue/sync", watchRoomInfoDto);
+      //기존 유저에게는 커밋 후 participant-joined 이벤트로 새 참여자만 전송됨
+    });
+  }
 
-    //신규 유저에게는 채팅방 정보 전체 전송
-    WatchRoomInfoDto watchRoomInfoDto = watchRoomService.joinWatchRoomAndGetInfo(roomId,
-        principal.getName());
-    messageTemplate.convertAndSendToUser(principal.getName(), "/queue/sync", watchRoomInfoDto);
-
-    //기존 유저에게는 참여자 목록만 브로드캐스트
-    ParticipantsInfoDto participantsInfoDto = watchRoomService.getParticipants(roomId);
-    messageTemplate.convertAndSend("/topic/rooms/" + roomId + "/participants", participantsInfoDto);
-
+  // 참여자 목록 다시 요청 (참여자 이벤트 버전이 건너뛴 경우)
+  @MessageMapping("/rooms/{roomId}/participants")
+  public void participants(@DestinationVariable UUID roomId, Principal principal) {
+    String username = principal.getName();
+    dispatcher.dispatch(roomId, "participants", () -> {
+      ParticipantsInfoDto participantsInfoDto = watchRoomService.getParticipants(roomId);
+      messageTemplate.convertAndSendToUser(username, "/queue/participants", participantsInfoDto);
+    });
   }
 
   //방장 비디오 제어
   @MessageMapping("/rooms/{roomId}/video-control")
-  @SendTo("/topic/rooms/{roomId}/video")
-  public VideoSyncDto videoControl(@DestinationVariable UUID roomId, VideoControlRequest request,
+  public void videoControl(@DestinationVariable UUID roomId, VideoControlRequest request,
       Principal principal) {
-
-    VideoSyncDto videoSyncDto = watchRoomService.updateVideoStatus(roomId, request,
-        principal.getName());
-
-    return videoSyncDto;
+    String username = principal.getName();
+    dispatcher.dispatch(roomId, "video", () -> {
+      VideoSyncDto videoSyncDto = watchRoomService.updateVideoStatus(roomId, request, username);
+      messageTemplate.convertAndSend("/topic/rooms/" + roomId + "/video", videoSyncDto);
+    });
   }
 
   //나가기 요청
   @MessageMapping("/rooms/{roomId}/leave")
-  @SendTo("/topic/rooms/{roomId}/participants")
-  public ParticipantsInfoDto leaveWatchRoom(@DestinationVariable UUID roomId,
+  public void leaveWatchRoom(@DestinationVariable UUID roomId,
       Principal principal) {
-
-    watchRoomService.leave(roomId, principal.getName());
-
-    return watchRoomService.getParticipants(roomId);
-
+    String username = principal.getName();
+    dispatcher.dispatch(roomId, "leave", () -> {
+      //남은 유저에게는 커밋 후 participant-left 이벤트로 나간 참여자만 전송됨
+      watchRoomService.leave(roomId, username);
+    });
   }
 
 }
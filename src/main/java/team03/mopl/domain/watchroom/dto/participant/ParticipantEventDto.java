@@ -0,0 +1,18 @@
+package team03.mopl.domain.watchroom.dto.participant;
+
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * 참여자 한 명의 입장/퇴장 이벤트
+ *
+ * 클라이언트는 입장 시 받은 ParticipantsInfoDto.version 다음 버전부터 순서대로 반영하고,
+ * 버전이 건너뛰면 /app/rooms/{roomId}/participants 로 참여자 목록을 다시 요청합니다.
+ */
+@Builder
+public record ParticipantEventDto(
+    ParticipantDto participant,
+    UUID ownerId,
+    long version
+) {
+}
@@ -7,7 +7,9 @@ import lombok.Builder;
 public record ParticipantsInfoDto(
 
     List<ParticipantDto> participantDtoList,
-    int participantCount
+    int participantCount,
+    // 이 목록에 반영된 마지막 참여자 변경 이벤트 버전
+    long version
 
 ) {
 
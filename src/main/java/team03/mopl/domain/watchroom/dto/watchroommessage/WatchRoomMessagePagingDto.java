@@ -0,0 +1,27 @@
+package team03.mopl.domain.watchroom.dto.watchroommessage;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "시청방 채팅 기록 페이지네이션 요청 DTO")
+public class WatchRoomMessagePagingDto {
+
+  public static final int MAX_SIZE = 100;
+
+  @Schema(description = "커서 (Base64 인코딩 문자열), 없으면 가장 최근 메세지부터", example = "YWJjZGVmZzEyMw==")
+  @Pattern(regexp = "^[A-Za-z0-9-_]+={0,2}$", message = "cursor는 Base64 형식 문자열이여야 합니다.")
+  private String cursor;
+
+  @Schema(description = "한 번에 조회할 메세지 개수 (최대 100)", example = "50")
+  @Min(value = 1, message = "size는 1 이상이어야 합니다.")
+  @Max(value = MAX_SIZE, message = "size는 100 이하여야 합니다.")
+  private int size = 50;
+}
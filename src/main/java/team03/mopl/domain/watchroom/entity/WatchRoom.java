@@ -10,7 +10,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -18,6 +17,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import team03.mopl.domain.content.Content;
@@ -55,37 +55,31 @@ public class WatchRoom {
   @JoinColumn(name = "content_id", nullable = false)
   private Content content;
 
-  @Column(name = "play_time")
+  // 재생 상태는 WatchRoomStateEngine 이 메모리에서 관리하고 WatchRoomRepository.updatePlayback 으로만 저장
+  // (방장 변경 등 엔티티 변경 감지로 조회 시점의 오래된 값을 덮어쓰지 않음)
+  @Column(name = "play_time", updatable = false)
   @Builder.Default
   private Double playTime = 0.0;
 
-  @Column(name = "is_playing")
+  @Column(name = "is_playing", updatable = false)
   @Builder.Default
   private Boolean isPlaying = false;
 
-  @Column(name = "video_state_updated_at")
+  @Column(name = "video_state_updated_at", updatable = false)
   @Builder.Default
   private LocalDateTime videoStateUpdatedAt = LocalDateTime.now();
 
-  //재생
-  public void play() {
-    this.isPlaying = true;
-    this.videoStateUpdatedAt = LocalDateTime.now();
-  }
-
-  //일시정지
-  public void pause(double playTime) {
-    this.playTime = playTime;
-    this.isPlaying = false;
-    this.videoStateUpdatedAt = LocalDateTime.now();
-  }
-
-  // 특정 시간대로 이동
-  public void seekTo(double newTime) {
-    this.playTime = newTime;
-    this.videoStateUpdatedAt = LocalDateTime.now();
-  }
+  // 참여/퇴장 시 WatchRoomRepository.adjustParticipantCount 로만 갱신 (엔티티 변경 감지로 덮어쓰지 않음)
+  @Column(name = "participant_count", nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Long participantCount = 0L;
 
+  // 참여/퇴장마다 1씩 증가, 참여자 변경 이벤트의 순서 번호로 사용
+  @Column(name = "participant_version", nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Long participantVersion = 0L;
 
   //방장 변경
   public void changeOwner(User newOwner) {
@@ -0,0 +1,57 @@
+package team03.mopl.domain.watchroom.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+
+/**
+ * 채팅 메세지를 여러 행씩 묶어 저장하는 JDBC 저장소
+ *
+ * 메세지마다 JPA save 를 호출하는 대신 WatchRoomMessageWriter 가 모은 메세지를 multi-row INSERT 한 번으로 저장합니다.
+ * 저장 전에 삭제된 방의 메세지는 INSERT 대상에서 빠집니다.
+ */
+@Repository
+public class WatchRoomMessageBulkRepository {
+
+  private static final String INSERT_PREFIX =
+      "INSERT INTO watch_room_messages (id, room_id, sender_id, content, created_at) "
+          + "SELECT v.id, v.room_id, v.sender_id, v.content, v.created_at FROM (VALUES ";
+  // 파라미터만 있는 VALUES 는 타입을 추론하지 못하므로 생성 시각은 명시적으로 변환
+  private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, CAST(? AS TIMESTAMP))";
+  private static final String INSERT_SUFFIX = ") AS v (id, room_id, sender_id, content, created_at) "
+      + "WHERE EXISTS (SELECT 1 FROM watch_rooms w WHERE w.id = v.room_id)";
+  private static final int COLUMN_COUNT = 5;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public WatchRoomMessageBulkRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * @return 저장된 행 수, 방이 삭제되어 빠진 메세지만큼 messages 크기보다 작음
+   */
+  public int insertAll(List<WatchRoomMessageDto> messages) {
+    StringBuilder sql = new StringBuilder(
+        INSERT_PREFIX.length() + messages.size() * (ROW_PLACEHOLDER.length() + 2) + INSERT_SUFFIX.length());
+    sql.append(INSERT_PREFIX);
+    Object[] args = new Object[messages.size() * COLUMN_COUNT];
+
+    int i = 0;
+    for (WatchRoomMessageDto message : messages) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append(ROW_PLACEHOLDER);
+      args[i++] = message.id();
+      args[i++] = message.chatRoomId();
+      args[i++] = message.senderId();
+      args[i++] = message.content();
+      args[i++] = Timestamp.valueOf(message.createdAt());
+    }
+    sql.append(INSERT_SUFFIX);
+    return jdbcTemplate.update(sql.toString(), args);
+  }
+}
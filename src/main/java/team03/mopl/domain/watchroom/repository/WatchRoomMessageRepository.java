@@ -1,14 +1,14 @@
 package team03.mopl.domain.watchroom.repository;
 
-import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import team03.mopl.domain.watchroom.entity.WatchRoomMessage;
 import team03.mopl.domain.watchroom.entity.WatchRoom;
 
-public interface WatchRoomMessageRepository extends JpaRepository<WatchRoomMessage, UUID> {
+public interface WatchRoomMessageRepository extends JpaRepository<WatchRoomMessage, UUID>,
+    WatchRoomMessageRepositoryCustom {
 
-  List<WatchRoomMessage> findAllByWatchRoom(WatchRoom watchRoom);
+  long countByWatchRoomId(UUID watchRoomId);
 
   void deleteAllByWatchRoom(WatchRoom watchRoom);
 }
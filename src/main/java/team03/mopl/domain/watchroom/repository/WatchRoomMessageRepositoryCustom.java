@@ -0,0 +1,16 @@
+package team03.mopl.domain.watchroom.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+
+public interface WatchRoomMessageRepositoryCustom {
+
+  /**
+   * 방의 채팅 메세지를 최신순(created_at, id 내림차순)으로 조회합니다.
+   * cursorCreatedAt 이나 cursorId 가 null 이면 가장 최근 메세지부터 조회합니다.
+   */
+  List<WatchRoomMessageDto> findPageByWatchRoomId(UUID watchRoomId, LocalDateTime cursorCreatedAt,
+      UUID cursorId, int limit);
+}
@@ -0,0 +1,53 @@
+package team03.mopl.domain.watchroom.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import team03.mopl.domain.user.QUser;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+import team03.mopl.domain.watchroom.entity.QWatchRoomMessage;
+
+@Repository
+@RequiredArgsConstructor
+public class WatchRoomMessageRepositoryImpl implements WatchRoomMessageRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+  private final QWatchRoomMessage qWatchRoomMessage = QWatchRoomMessage.watchRoomMessage;
+  private final QUser qSender = new QUser("sender");
+
+  // (room_id, created_at DESC, id DESC) 인덱스를 따라 limit 개만 읽고, 보낸 사람은 같은 쿼리에서 이름만 가져옴
+  @Override
+  public List<WatchRoomMessageDto> findPageByWatchRoomId(UUID watchRoomId, LocalDateTime cursorCreatedAt,
+      UUID cursorId, int limit) {
+    BooleanBuilder whereClause = new BooleanBuilder(qWatchRoomMessage.watchRoom.id.eq(watchRoomId));
+
+    if (cursorCreatedAt != null && cursorId != null) {
+      whereClause.and(
+          //커서 시각보다 이전
+          qWatchRoomMessage.createdAt.lt(cursorCreatedAt)
+              //커서 시각과 같지만 아이디가 작은 것
+              .or(qWatchRoomMessage.createdAt.eq(cursorCreatedAt).and(qWatchRoomMessage.id.lt(cursorId)))
+      );
+    }
+
+    return queryFactory
+        .select(Projections.constructor(WatchRoomMessageDto.class,
+            qWatchRoomMessage.id,
+            qSender.id,
+            qSender.name,
+            qWatchRoomMessage.watchRoom.id,
+            qWatchRoomMessage.content,
+            qWatchRoomMessage.createdAt))
+        .from(qWatchRoomMessage)
+        .join(qWatchRoomMessage.sender, qSender)
+        .where(whereClause)
+        .orderBy(qWatchRoomMessage.createdAt.desc(), qWatchRoomMessage.id.desc())
+        .limit(limit)
+        .fetch();
+  }
+}
@@ -3,6 +3,7 @@ package team03.mopl.domain.watchroom.repository;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import team03.mopl.domain.watchroom.entity.WatchRoom;
 import team03.mopl.domain.watchroom.entity.WatchRoomParticipant;
@@ -18,4 +19,8 @@ public interface WatchRoomParticipantRepository extends JpaRepository<WatchRoomP
   Optional<WatchRoomParticipant> findFirstByWatchRoom(WatchRoom watchRoom);
 
   List<WatchRoomParticipant> findByWatchRoom(WatchRoom watchRoom);
+
+  // 참여자 명단 캐시를 채울 때 유저와 함께 한 번에 읽음
+  @EntityGraph(attributePaths = "user")
+  List<WatchRoomParticipant> findWithUserByWatchRoomId(UUID watchRoomId);
 }
@@ -16,7 +16,6 @@ import team03.mopl.common.dto.Cursor;
 import team03.mopl.domain.watchroom.dto.WatchRoomContentWithParticipantCountDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomSearchInternalDto;
 import team03.mopl.domain.watchroom.entity.QWatchRoom;
-import team03.mopl.domain.watchroom.entity.QWatchRoomParticipant;
 import team03.mopl.domain.content.QContent;
 
 @Slf4j
@@ -27,7 +26,6 @@ public class WatchRoomParticipantRepositoryImpl implements WatchRoomParticipantR
   private final JPAQueryFactory queryFactory;
   private final QWatchRoom qWatchRoom = QWatchRoom.watchRoom;
   private final QContent qContent = QContent.content;
-  private final QWatchRoomParticipant qWatchRoomParticipant = QWatchRoomParticipant.watchRoomParticipant;
 
   @Override
   public Long countWatchRoomContentWithHeadcountDto(String searchKeyword) {
@@ -36,9 +34,8 @@ public class WatchRoomParticipantRepositoryImpl implements WatchRoomParticipantR
     applySearchKeywordCondition(whereClause, searchKeyword);
 
     return queryFactory
-        .select(qWatchRoom.id.countDistinct())
+        .select(qWatchRoom.count())
         .from(qWatchRoom)
-        .leftJoin(qWatchRoomParticipant).on(qWatchRoomParticipant.watchRoom.eq(qWatchRoom))
         .join(qWatchRoom.content, qContent)
         .where(whereClause)
         .fetchOne();
@@ -49,7 +46,6 @@ public class WatchRoomParticipantRepositoryImpl implements WatchRoomParticipantR
       WatchRoomSearchInternalDto request) {
 
     BooleanBuilder whereClause = new BooleanBuilder();
-    BooleanBuilder havingClause = new BooleanBuilder();
 
     // 검색어 조건
     applySearchKeywordCondition(whereClause, request.getSearchKeyword());
@@ -60,7 +56,7 @@ public class WatchRoomParticipantRepositoryImpl implements WatchRoomParticipantR
       applyCursorCondition(whereClause, request.getCursor(),
           request.getDirection(), request.getSortBy());
     } else {
-      applyParticipantCountCursor(havingClause, request.getCursor(),
+      applyParticipantCountCursor(whereClause, request.getCursor(),
           request.getDirection());
     }
 
@@ -72,14 +68,11 @@ public class WatchRoomParticipantRepositoryImpl implements WatchRoomParticipantR
         .select(Projections.constructor(WatchRoomContentWithParticipantCountDto.class,
             qWatchRoom,
             qWatchRoom.content,
-            qWatchRoomParticipant.countDistinct()))
+            qWatchRoom.participantCount))
         .from(qWatchRoom)
-        .leftJoin(qWatchRoomParticipant).on(qWatchRoomParticipant.watchRoom.eq(qWatchRoom))
         .join(qWatchRoom.content, qContent).fetchJoin()
         .join(qWatchRoom.owner).fetchJoin()
         .where(whereClause)
-        .groupBy(qWatchRoom.id, qContent.id, qWatchRoom.owner.id)
-        .having(havingClause)
         .orderBy(orderSpecifier)
         .limit(request.getSize() + 1)
         .fetch();
@@ -124,13 +117,13 @@ public class WatchRoomParticipantRepositoryImpl implements WatchRoomParticipantR
         applyTitleCursor(whereClause, cursor.lastValue(), UUID.fromString(cursor.lastId()), isDesc);
         break;
       default: //시청자 수
-        //별도로 having으로 처리
+        //applyParticipantCountCursor 에서 처리
         break;
     }
   }
 
-  // 참여자수 커서 적용
-  private void applyParticipantCountCursor(BooleanBuilder havingClause,
+  // 참여자수 커서 적용 (participant_count, id 인덱스 사용)
+  private void applyParticipantCountCursor(BooleanBuilder whereClause,
       Cursor cursor, String direction) {
 
     if (cursor == null || cursor.lastId() == null || cursor.lastValue() == null) {
@@ -142,16 +135,16 @@ public class WatchRoomParticipantRepositoryImpl implements WatchRoomParticipantR
     boolean isDesc = direction.equalsIgnoreCase("desc");
 
     if (isDesc) {
-      havingClause.and(
-          qWatchRoomParticipant.countDistinct().lt(cursorParticipantCount)
-              .or(qWatchRoomParticipant.countDistinct().eq(cursorParticipantCount)
+      whereClause.and(
+          qWatchRoom.participantCount.lt(cursorParticipantCount)
+              .or(qWatchRoom.participantCount.eq(cursorParticipantCount)
                   .and(qWatchRoom.id.lt(lastId)))
       );
       return;
     }
-    havingClause.and(
-        qWatchRoomParticipant.countDistinct().gt(cursorParticipantCount)
-            .or(qWatchRoomParticipant.countDistinct().eq(cursorParticipantCount)
+    whereClause.and(
+        qWatchRoom.participantCount.gt(cursorParticipantCount)
+            .or(qWatchRoom.participantCount.eq(cursorParticipantCount)
                 .and(qWatchRoom.id.gt(lastId)))
     );
   }
@@ -199,8 +192,7 @@ public class WatchRoomParticipantRepositoryImpl implements WatchRoomParticipantR
     OrderSpecifier<?> primarySort = switch (lowerSortBy) {
       case "createdat" -> isDesc ? qWatchRoom.createdAt.desc() : qWatchRoom.createdAt.asc();
       case "title" -> isDesc ? qWatchRoom.titleNormalized.desc() : qWatchRoom.titleNormalized.asc();
-      default -> isDesc ? qWatchRoomParticipant.countDistinct().desc()
-          : qWatchRoomParticipant.countDistinct().asc();
+      default -> isDesc ? qWatchRoom.participantCount.desc() : qWatchRoom.participantCount.asc();
     };
 
     OrderSpecifier<?> secondarySort = isDesc ? qWatchRoom.id.desc() : qWatchRoom.id.asc();
@@ -217,12 +209,10 @@ public class WatchRoomParticipantRepositoryImpl implements WatchRoomParticipantR
         .select(Projections.constructor(WatchRoomContentWithParticipantCountDto.class,
             qWatchRoom,
             qWatchRoom.content,
-            qWatchRoomParticipant.countDistinct()))
+            qWatchRoom.participantCount))
         .from(qWatchRoom)
-        .leftJoin(qWatchRoomParticipant).on(qWatchRoomParticipant.watchRoom.eq(qWatchRoom))
         .join(qWatchRoom.content, qContent).fetchJoin()
         .where(qWatchRoom.id.eq(watchRoomId))
-        .groupBy(qWatchRoom.id, qContent.id)
         .fetchOne();
 
     return Optional.ofNullable(result);
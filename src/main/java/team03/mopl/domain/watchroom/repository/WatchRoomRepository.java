@@ -1,9 +1,57 @@
 package team03.mopl.domain.watchroom.repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import team03.mopl.domain.watchroom.entity.WatchRoom;
 
 public interface WatchRoomRepository extends JpaRepository<WatchRoom, UUID> {
 
+  // 재생 상태 엔진이 방장 정보와 함께 한 번에 읽음 (트랜잭션 밖에서 호출)
+  @EntityGraph(attributePaths = "owner")
+  Optional<WatchRoom> findWithOwnerById(UUID id);
+
+  // 시청방 목록 인덱스를 다시 만들 때 방장, 콘텐츠와 함께 나눠 읽음
+  @EntityGraph(attributePaths = {"owner", "content"})
+  Slice<WatchRoom> findAllBy(Pageable pageable);
+
+  /**
+   * 재생 상태 컬럼만 갱신합니다. (WatchRoomStateEngine 의 지연 쓰기)
+   *
+   * @return 갱신된 행 수, 방이 이미 삭제되었으면 0
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE WatchRoom w SET w.playTime = :playTime, w.isPlaying = :isPlaying, "
+      + "w.videoStateUpdatedAt = :videoStateUpdatedAt WHERE w.id = :id")
+  int updatePlayback(@Param("id") UUID id, @Param("playTime") double playTime,
+      @Param("isPlaying") boolean isPlaying, @Param("videoStateUpdatedAt") LocalDateTime videoStateUpdatedAt);
+
+  /**
+   * 참여자 수를 delta 만큼 원자적으로 더하고 참여자 버전을 1 올립니다. 참여자 행 추가/삭제와 같은 트랜잭션에서 호출합니다.
+   * 갱신한 행은 커밋할 때까지 잠기므로 같은 방의 참여/퇴장은 커밋 순서대로 버전을 받습니다.
+   *
+   * @return 갱신된 행 수, 방이 이미 삭제되었으면 0
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE watch_rooms SET participant_count = participant_count + :delta, "
+      + "participant_version = participant_version + 1 WHERE id = :id", nativeQuery = true)
+  int adjustParticipantCount(@Param("id") UUID id, @Param("delta") long delta);
+
+  // adjustParticipantCount 이후 같은 트랜잭션에서 호출하면 방금 받은 버전을 반환
+  @Query("SELECT w.participantVersion FROM WatchRoom w WHERE w.id = :id")
+  long findParticipantVersion(@Param("id") UUID id);
+
+  // 참여자 명단 캐시가 최신인지 확인할 때 사용, 방이 삭제되었으면 empty
+  @Query("SELECT w.participantVersion FROM WatchRoom w WHERE w.id = :id")
+  Optional<Long> findParticipantVersionIfExists(@Param("id") UUID id);
 }
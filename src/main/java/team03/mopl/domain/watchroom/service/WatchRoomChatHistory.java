@@ -0,0 +1,359 @@
+package team03.mopl.domain.watchroom.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessagePagingDto;
+import team03.mopl.domain.watchroom.repository.WatchRoomMessageRepository;
+
+/**
+ * 시청방별 최근 채팅 기록
+ *
+ * 기록을 조회한 적 있는 방마다 최근 recentSize 개(최소 한 페이지 + 1 개)의 메세지를 링 버퍼에 보관합니다.
+ * 버퍼는 처음 조회할 때 DB 의 최근 메세지와 WatchRoomMessageWriter 에 저장 대기 중인 메세지로 채우고, 이후에는
+ * 클러스터 버스로 전달되는 /topic/rooms/{roomId}/chat 메세지를 받아 갱신합니다.
+ * 다른 노드에서 아직 저장하지 않은 메세지나 버스에서 유실된 메세지는 채울 때 빠질 수 있으므로,
+ * reseedSeconds 가 지난 버퍼는 다음 조회 때 DB 를 다시 읽어 id 기준으로 합칩니다.
+ * 입장한 유저의 첫 페이지처럼 버퍼 안에서 끝나는 조회는 DB 를 읽지 않고, 버퍼보다 오래된 기록만
+ * (room_id, created_at, id) 인덱스로 조회한 뒤 버퍼와 저장 대기 메세지를 합쳐 반환합니다.
+ *
+ * totalElements 는 버퍼를 채울 때 센 메세지 수에 이후 받은 메세지 수를 더한 근사값입니다.
+ * 오래 조회되지 않은 방의 버퍼는 주기적으로 내립니다.
+ */
+@Slf4j
+@Component
+public class WatchRoomChatHistory {
+
+  private static final String TOPIC_PREFIX = "/topic/rooms/";
+  private static final String CHAT_SUFFIX = "/chat";
+
+  // DB 정렬 (created_at, id) 와 같은 순서, PostgreSQL 의 uuid 비교는 부호 없는 바이트 비교
+  static final Comparator<WatchRoomMessageDto> OLDEST_FIRST = Comparator
+      .comparing(WatchRoomMessageDto::createdAt)
+      .thenComparing(WatchRoomMessageDto::id, WatchRoomChatHistory::compareIds);
+
+  /**
+   * @param messages 최신순 메세지
+   * @param totalElements 방의 전체 메세지 수 (근사값)
+   */
+  record Page(List<WatchRoomMessageDto> messages, long totalElements) {}
+
+  private final Map<UUID, RecentMessages> rooms = new ConcurrentHashMap<>();
+  private final WatchRoomMessageRepository watchRoomMessageRepository;
+  private final WatchRoomMessageWriter watchRoomMessageWriter;
+  private final ObjectMapper objectMapper;
+  private final int recentSize;
+  private final long idleNanos;
+  private final long reseedNanos;
+  private final Counter memoryReads;
+  private final Counter databaseReads;
+
+  @Autowired
+  public WatchRoomChatHistory(
+      WatchRoomMessageRepository watchRoomMessageRepository,
+      WatchRoomMessageWriter watchRoomMessageWriter,
+      ClusterBus clusterBus,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.watchroom.chat.recent-size:101}") int recentSize,
+      @Value("${mopl.watchroom.chat.recent-idle-seconds:600}") long idleSeconds,
+      @Value("${mopl.watchroom.chat.recent-reseed-seconds:30}") long reseedSeconds) {
+    // 한 페이지(size + 다음 페이지 확인용 1 개)가 버퍼 안에서 끝나도록 최소 크기를 보장
+    this(watchRoomMessageRepository, watchRoomMessageWriter, clusterBus, objectMapper, meterRegistry,
+        Math.max(recentSize, WatchRoomMessagePagingDto.MAX_SIZE + 1), Duration.ofSeconds(idleSeconds),
+        Duration.ofSeconds(reseedSeconds));
+  }
+
+  WatchRoomChatHistory(
+      WatchRoomMessageRepository watchRoomMessageRepository,
+      WatchRoomMessageWriter watchRoomMessageWriter,
+      ClusterBus clusterBus,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      int recentSize,
+      Duration idle,
+      Duration reseed) {
+    this.watchRoomMessageRepository = watchRoomMessageRepository;
+    this.watchRoomMessageWriter = watchRoomMessageWriter;
+    this.objectMapper = objectMapper;
+    this.recentSize = recentSize;
+    this.idleNanos = idle.toNanos();
+    this.reseedNanos = reseed.toNanos();
+    this.memoryReads = Counter.builder("watchroom.chat.history.reads")
+        .description("채팅 기록 페이지 조회 수")
+        .tag("source", "memory")
+        .register(meterRegistry);
+    this.databaseReads = Counter.builder("watchroom.chat.history.reads")
+        .description("채팅 기록 페이지 조회 수")
+        .tag("source", "database")
+        .register(meterRegistry);
+
+    Gauge.builder("watchroom.chat.history.rooms", rooms, Map::size)
+        .description("최근 채팅 기록을 메모리에 보관 중인 시청방 수")
+        .register(meterRegistry);
+
+    clusterBus.subscribe(ClusterMessage.Kind.STOMP, this::onStompMessage);
+  }
+
+  static int compareIds(UUID a, UUID b) {
+    int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+    return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+  }
+
+  /**
+   * cursor 보다 오래된 메세지를 최신순으로 최대 limit 개 반환합니다.
+   * 버퍼에 limit 개가 있거나 버퍼가 방의 모든 메세지를 담고 있으면 DB 를 읽지 않고,
+   * DB 를 읽으면 아직 저장되지 않은 버퍼와 저장 대기 메세지를 id 기준으로 합칩니다.
+   *
+   * @param cursorCreatedAt null 이면 가장 최근 메세지부터
+   * @param cursorId null 이면 가장 최근 메세지부터
+   */
+  Page findBefore(UUID roomId, LocalDateTime cursorCreatedAt, UUID cursorId, int limit) {
+    if (cursorCreatedAt == null || cursorId == null) {
+      cursorCreatedAt = null;
+      cursorId = null;
+    }
+    RecentMessages recent = rooms.computeIfAbsent(roomId, id -> new RecentMessages(recentSize));
+    if (recent.claimSeed(System.nanoTime(), reseedNanos)) {
+      seed(roomId, recent);
+    }
+
+    Optional<List<WatchRoomMessageDto>> fromMemory = recent.before(cursorCreatedAt, cursorId, limit);
+    if (fromMemory.isPresent()) {
+      memoryReads.increment();
+      return new Page(fromMemory.get(), recent.total());
+    }
+    databaseReads.increment();
+    Map<UUID, WatchRoomMessageDto> merged = new LinkedHashMap<>();
+    watchRoomMessageRepository.findPageByWatchRoomId(roomId, cursorCreatedAt, cursorId, limit)
+        .forEach(row -> merged.put(row.id(), row));
+    recent.newestBefore(cursorCreatedAt, cursorId, limit)
+        .forEach(message -> merged.putIfAbsent(message.id(), message));
+    for (WatchRoomMessageDto message : watchRoomMessageWriter.pending(roomId)) {
+      if (cursorCreatedAt == null || isBefore(message, cursorCreatedAt, cursorId)) {
+        merged.putIfAbsent(message.id(), message);
+      }
+    }
+    List<WatchRoomMessageDto> messages = new ArrayList<>(merged.values());
+    messages.sort(OLDEST_FIRST.reversed());
+    return new Page(messages.subList(0, Math.min(limit, messages.size())), recent.total());
+  }
+
+  private static boolean isBefore(WatchRoomMessageDto message, LocalDateTime cursorCreatedAt, UUID cursorId) {
+    int result = message.createdAt().compareTo(cursorCreatedAt);
+    return result < 0 || (result == 0 && compareIds(message.id(), cursorId) < 0);
+  }
+
+  // 버퍼를 먼저 등록해 두었으므로, 아래 조회 이후에 전송된 메세지는 onStompMessage 로 들어옴
+  private void seed(UUID roomId, RecentMessages recent) {
+    List<WatchRoomMessageDto> pending = watchRoomMessageWriter.pending(roomId);
+    List<WatchRoomMessageDto> rows = watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null,
+        recentSize);
+    long count = rows.size() < recentSize ? rows.size() : watchRoomMessageRepository.countByWatchRoomId(roomId);
+    recent.seed(rows, pending, count);
+    log.debug("최근 채팅 기록 로드: roomId = {}, DB 메세지 수 = {}, 저장 대기 메세지 수 = {}",
+        roomId, rows.size(), pending.size());
+  }
+
+  private void onStompMessage(ClusterMessage message) {
+    String destination = message.destination();
+    if (destination == null || !destination.startsWith(TOPIC_PREFIX) || !destination.endsWith(CHAT_SUFFIX)) {
+      return;
+    }
+    WatchRoomMessageDto chat;
+    try {
+      chat = objectMapper.readValue(message.payload(), WatchRoomMessageDto.class);
+    } catch (JsonProcessingException e) {
+      log.warn("채팅 메세지 역직렬화 실패: destination = {}", destination, e);
+      return;
+    }
+    RecentMessages recent = rooms.get(chat.chatRoomId());
+    if (recent != null) {
+      recent.add(chat);
+    }
+  }
+
+  /**
+   * 오래 조회되지 않은 방의 버퍼를 메모리에서 내립니다.
+   */
+  @Scheduled(fixedDelayString = "${mopl.watchroom.chat.recent-sweep-millis:60000}")
+  public void evictIdle() {
+    long now = System.nanoTime();
+    rooms.values().removeIf(recent -> now - recent.touchedAtNanos > idleNanos);
+  }
+
+  int size() {
+    return rooms.size();
+  }
+
+  /**
+   * 한 방의 최근 메세지를 오래된 순으로 담는 고정 크기 링 버퍼. 항상 이 객체로 동기화한 뒤 읽고 씁니다.
+   */
+  private static class RecentMessages {
+
+    private final WatchRoomMessageDto[] entries;
+    private int head;
+    private int size;
+    private boolean seeded;
+    private long seededAtNanos;
+    // 방의 모든 메세지를 담고 있어 버퍼보다 오래된 메세지가 없음
+    private boolean holdsAll;
+    private long total;
+    private volatile long touchedAtNanos = System.nanoTime();
+
+    private RecentMessages(int capacity) {
+      this.entries = new WatchRoomMessageDto[capacity];
+    }
+
+    /**
+     * 처음이거나 마지막으로 채운 지 reseedNanos 가 지났으면 true.
+     * 다시 채우는 동안 다른 조회는 기존 내용으로 응답하도록 시각을 먼저 갱신합니다.
+     */
+    private synchronized boolean claimSeed(long now, long reseedNanos) {
+      if (!seeded) {
+        return true;
+      }
+      if (now - seededAtNanos < reseedNanos) {
+        return false;
+      }
+      seededAtNanos = now;
+      return true;
+    }
+
+    private synchronized long total() {
+      return total;
+    }
+
+    private WatchRoomMessageDto get(int index) {
+      return entries[(head + index) % entries.length];
+    }
+
+    /**
+     * DB 의 최근 메세지, 저장 대기 메세지, 지금 버퍼의 메세지를 id 기준으로 합쳐 다시 채웁니다.
+     *
+     * @param rows DB 의 최신 메세지 최대 capacity 개 (최신순)
+     * @param pending 저장 대기 중인 메세지
+     * @param count DB 의 메세지 수
+     */
+    private synchronized void seed(List<WatchRoomMessageDto> rows, List<WatchRoomMessageDto> pending, long count) {
+      Map<UUID, WatchRoomMessageDto> merged = new LinkedHashMap<>();
+      rows.forEach(row -> merged.put(row.id(), row));
+      Set<UUID> saved = new HashSet<>(merged.keySet());
+      pending.forEach(message -> merged.putIfAbsent(message.id(), message));
+      for (int i = 0; i < size; i++) {
+        merged.putIfAbsent(get(i).id(), get(i));
+      }
+
+      // DB 의 가장 최근 메세지보다 새로운 메세지만 아직 세지 않은 메세지
+      WatchRoomMessageDto newestSaved = rows.isEmpty() ? null : rows.get(0);
+      long unsaved = merged.values().stream()
+          .filter(message -> !saved.contains(message.id()))
+          .filter(message -> newestSaved == null || OLDEST_FIRST.compare(message, newestSaved) > 0)
+          .count();
+
+      List<WatchRoomMessageDto> sorted = new ArrayList<>(merged.values());
+      sorted.sort(OLDEST_FIRST);
+      holdsAll = rows.size() < entries.length;
+      fill(sorted);
+      total = count + unsaved;
+      seeded = true;
+      seededAtNanos = System.nanoTime();
+    }
+
+    private synchronized void add(WatchRoomMessageDto message) {
+      if (size > 0 && OLDEST_FIRST.compare(message, get(size - 1)) <= 0) {
+        addOutOfOrder(message);
+        return;
+      }
+      if (size == entries.length) {
+        head = (head + 1) % entries.length;
+        size--;
+        holdsAll = false;
+      }
+      entries[(head + size) % entries.length] = message;
+      size++;
+      total++;
+    }
+
+    // 다른 노드의 메세지가 늦게 도착한 드문 경우, 중복이 아니면 정렬 위치에 끼워 넣음
+    private void addOutOfOrder(WatchRoomMessageDto message) {
+      List<WatchRoomMessageDto> sorted = new ArrayList<>(size + 1);
+      for (int i = 0; i < size; i++) {
+        if (get(i).id().equals(message.id())) {
+          return;
+        }
+        sorted.add(get(i));
+      }
+      if (size == entries.length && !holdsAll && OLDEST_FIRST.compare(message, get(0)) < 0) {
+        // 버퍼보다 오래된 메세지는 DB 조회로 제공
+        total++;
+        return;
+      }
+      sorted.add(message);
+      sorted.sort(OLDEST_FIRST);
+      fill(sorted);
+      total++;
+    }
+
+    // 오래된 순으로 정렬된 메세지 중 최근 capacity 개로 버퍼를 채움
+    private void fill(List<WatchRoomMessageDto> sorted) {
+      int from = Math.max(0, sorted.size() - entries.length);
+      if (from > 0) {
+        holdsAll = false;
+      }
+      head = 0;
+      size = 0;
+      for (int i = from; i < sorted.size(); i++) {
+        entries[size++] = sorted.get(i);
+      }
+    }
+
+    /**
+     * @return 버퍼만으로 응답할 수 있으면 cursor 보다 오래된 메세지 최대 limit 개 (최신순), 아니면 empty
+     */
+    private synchronized Optional<List<WatchRoomMessageDto>> before(LocalDateTime cursorCreatedAt, UUID cursorId,
+        int limit) {
+      touchedAtNanos = System.nanoTime();
+      List<WatchRoomMessageDto> result = newestBefore(cursorCreatedAt, cursorId, limit);
+      if (result.size() < limit && !holdsAll) {
+        return Optional.empty();
+      }
+      return Optional.of(result);
+    }
+
+    // 버퍼에서 cursor 보다 오래된 메세지 최대 limit 개 (최신순)
+    private synchronized List<WatchRoomMessageDto> newestBefore(LocalDateTime cursorCreatedAt, UUID cursorId,
+        int limit) {
+      List<WatchRoomMessageDto> result = new ArrayList<>(Math.min(limit, size));
+      for (int i = size - 1; i >= 0 && result.size() < limit; i--) {
+        WatchRoomMessageDto message = get(i);
+        if (cursorCreatedAt == null || isBefore(message, cursorCreatedAt, cursorId)) {
+          result.add(message);
+        }
+      }
+      return result;
+    }
+  }
+}
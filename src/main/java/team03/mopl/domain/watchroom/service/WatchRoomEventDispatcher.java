@@ -0,0 +1,219 @@
+package team03.mopl.domain.watchroom.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시청방 STOMP 이벤트를 방 단위로 직렬화해 처리하는 디스패처
+ *
+ * 활성 방마다 메일박스를 하나 두고, 한 방의 이벤트는 들어온 순서대로 한 번에 하나씩만 실행합니다.
+ * 서로 다른 방의 메일박스는 공유 스레드 풀에서 병렬로 처리되며, 한 방이 스레드를 오래 잡지 않도록
+ * BATCH_SIZE 개를 처리할 때마다 메일박스를 풀에 다시 넣습니다. 비어 있는 메일박스는 바로 지웁니다.
+ * 이벤트는 호출 스레드와 다른 스레드에서 실행되므로 작업 중 발생한 예외는 호출자에게 전달되지 않고 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class WatchRoomEventDispatcher {
+
+  private static final int BATCH_SIZE = 32;
+
+  private final Map<UUID, Mailbox> mailboxes = new ConcurrentHashMap<>();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final Executor executor;
+  private final MeterRegistry meterRegistry;
+  private final int maxDepth;
+  private final long slowNanos;
+  private final DistributionSummary depth;
+  private final Counter rejected;
+
+  @Autowired
+  public WatchRoomEventDispatcher(
+      MeterRegistry meterRegistry,
+      @Value("${mopl.watchroom.dispatch.threads:0}") int threads,
+      @Value("${mopl.watchroom.dispatch.max-depth:1000}") int maxDepth,
+      @Value("${mopl.watchroom.dispatch.slow-millis:500}") long slowMillis) {
+    this(meterRegistry, maxDepth, slowMillis,
+        Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+            new CustomizableThreadFactory("watchroom-dispatch-")));
+  }
+
+  WatchRoomEventDispatcher(
+      MeterRegistry meterRegistry,
+      int maxDepth,
+      long slowMillis,
+      Executor executor) {
+    this.meterRegistry = meterRegistry;
+    this.maxDepth = maxDepth;
+    this.slowNanos = Duration.ofMillis(slowMillis).toNanos();
+    this.executor = executor;
+    this.depth = DistributionSummary.builder("watchroom.dispatch.mailbox.depth")
+        .description("이벤트를 넣을 때 해당 방 메일박스에 쌓여 있던 이벤트 수")
+        .register(meterRegistry);
+    this.rejected = Counter.builder("watchroom.dispatch.rejected")
+        .description("메일박스가 가득 차서 거절한 시청방 이벤트 수")
+        .register(meterRegistry);
+
+    Gauge.builder("watchroom.dispatch.mailboxes", mailboxes, Map::size)
+        .description("처리할 이벤트가 남아 있는 시청방 메일박스 수")
+        .register(meterRegistry);
+    Gauge.builder("watchroom.dispatch.queued", queued, AtomicInteger::get)
+        .description("모든 메일박스에 쌓여 있는 시청방 이벤트 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 방의 메일박스에 이벤트를 넣습니다. 같은 방의 이벤트는 넣은 순서대로 하나씩 실행됩니다.
+   *
+   * @param event 메트릭/로그용 이벤트 이름 (ex. join, leave, video, chat)
+   * @throws IllegalStateException 방의 메일박스에 maxDepth 개 이상 쌓여 있는 경우
+   */
+  public void dispatch(UUID roomId, String event, Runnable task) {
+    Envelope envelope = new Envelope(event, task, System.nanoTime());
+    AtomicBoolean accepted = new AtomicBoolean(false);
+    AtomicBoolean start = new AtomicBoolean(false);
+
+    // 메일박스 생성/삭제와 이벤트 추가는 compute 안에서만 하므로, 비었다고 판단해 지운 메일박스에 이벤트가 남지 않음
+    Mailbox mailbox = mailboxes.compute(roomId, (id, current) -> {
+      Mailbox target = current != null ? current : new Mailbox(id);
+      int size = target.size.get();
+      if (size >= maxDepth) {
+        return current;
+      }
+      depth.record(size);
+      target.queue.add(envelope);
+      target.size.incrementAndGet();
+      accepted.set(true);
+      if (current == null) {
+        start.set(true);
+      }
+      return target;
+    });
+
+    if (!accepted.get()) {
+      rejected.increment();
+      throw new IllegalStateException("시청방 이벤트가 너무 많이 쌓여 있습니다. roomId=" + roomId);
+    }
+    queued.incrementAndGet();
+    if (start.get()) {
+      schedule(mailbox);
+    }
+  }
+
+  private void schedule(Mailbox mailbox) {
+    try {
+      executor.execute(() -> drain(mailbox));
+    } catch (RejectedExecutionException e) {
+      // 종료 중이면 남은 이벤트를 버림
+      mailboxes.remove(mailbox.roomId, mailbox);
+      queued.addAndGet(-mailbox.size.getAndSet(0));
+      log.warn("시청방 이벤트 처리 중단 (종료 중): roomId={}", mailbox.roomId);
+    }
+  }
+
+  /**
+   * 메일박스의 이벤트를 최대 BATCH_SIZE 개 처리합니다. 한 메일박스에 대해 동시에 하나만 실행됩니다.
+   */
+  private void drain(Mailbox mailbox) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      Envelope envelope = mailbox.queue.poll();
+      if (envelope == null) {
+        break;
+      }
+      mailbox.size.decrementAndGet();
+      queued.decrementAndGet();
+      run(mailbox.roomId, envelope);
+    }
+
+    AtomicBoolean remaining = new AtomicBoolean(false);
+    mailboxes.compute(mailbox.roomId, (id, current) -> {
+      if (mailbox.queue.isEmpty()) {
+        return null;
+      }
+      remaining.set(true);
+      return current;
+    });
+    if (remaining.get()) {
+      schedule(mailbox);
+    }
+  }
+
+  private void run(UUID roomId, Envelope envelope) {
+    long startedAt = System.nanoTime();
+    Timer.builder("watchroom.dispatch.wait")
+        .description("시청방 이벤트가 메일박스에서 기다린 시간")
+        .tag("event", envelope.event)
+        .register(meterRegistry)
+        .record(startedAt - envelope.enqueuedAt, TimeUnit.NANOSECONDS);
+    try {
+      envelope.task.run();
+    } catch (Exception e) {
+      log.warn("시청방 이벤트 처리 실패: roomId={}, event={}", roomId, envelope.event, e);
+    } finally {
+      long elapsed = System.nanoTime() - startedAt;
+      Timer.builder("watchroom.dispatch.latency")
+          .description("시청방 이벤트 처리 시간")
+          .tag("event", envelope.event)
+          .register(meterRegistry)
+          .record(elapsed, TimeUnit.NANOSECONDS);
+      // 방 ID 는 태그로 쓰지 않고, 느린 이벤트만 방 ID 와 함께 로그로 남김
+      if (elapsed > slowNanos) {
+        log.warn("시청방 이벤트 처리 지연: roomId={}, event={}, 처리 시간={}ms",
+            roomId, envelope.event, TimeUnit.NANOSECONDS.toMillis(elapsed));
+      }
+    }
+  }
+
+  int mailboxCount() {
+    return mailboxes.size();
+  }
+
+  @PreDestroy
+  public void cleanup() throws InterruptedException {
+    log.info("WatchRoomEventDispatcher cleanup 시작 - 남은 이벤트 수: {}", queued.get());
+    if (executor instanceof ExecutorService executorService) {
+      executorService.shutdown();
+      if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+        executorService.shutdownNow();
+      }
+    }
+    log.info("WatchRoomEventDispatcher cleanup 완료");
+  }
+
+  private record Envelope(String event, Runnable task, long enqueuedAt) {}
+
+  /**
+   * 한 방의 메일박스. 이벤트 추가와 삭제 판단은 mailboxes.compute 안에서, 꺼내기는 drain 하나에서만 합니다.
+   */
+  private static class Mailbox {
+
+    private final UUID roomId;
+    private final Queue<Envelope> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private Mailbox(UUID roomId) {
+      this.roomId = roomId;
+    }
+  }
+}
@@ -0,0 +1,387 @@
+package team03.mopl.domain.watchroom.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.common.dto.Cursor;
+import team03.mopl.domain.watchroom.dto.WatchRoomDto;
+import team03.mopl.domain.watchroom.dto.WatchRoomSearchInternalDto;
+import team03.mopl.domain.watchroom.entity.WatchRoom;
+import team03.mopl.domain.watchroom.repository.WatchRoomRepository;
+
+/**
+ * 시청방 목록 조회(/api/rooms)를 DB 없이 처리하기 위한 메모리 정렬 인덱스
+ *
+ * 활성 방을 (참여자 수, id), (생성일, id), (정규화된 제목, id) 순서의 skip list 에 보관하고,
+ * WatchRoomParticipantRepositoryImpl 과 같은 정렬/커서/검색어 조건으로 페이지를 잘라 반환합니다.
+ * 방 생성, 참여, 퇴장, 삭제가 커밋되면 클러스터 버스로 방 ID 를 알리고, 각 노드는 그 방 하나만 DB 에서 다시 읽어 반영합니다.
+ * 버스 리스너 스레드는 다른 메시지(알림, 채팅, 토큰 폐기)도 순서대로 처리하므로 방을 dirty 로 표시만 하고,
+ * DB 조회는 별도 reload 스레드에서 합니다. 조회 전에 같은 방 메시지가 여러 번 오면 한 번만 다시 읽습니다.
+ * 시작 시 DB 에서 전체를 읽어 만들며, 다 만들기 전(isReady 가 false)에는 호출자가 DB 로 조회합니다.
+ * 같은 방의 다시 읽기가 겹치면 참여자 버전이 더 낮은 결과는 버리고,
+ * 버스 메시지 유실로 어긋난 방(남은 삭제 방, 반영 안 된 참여자 수)은 주기적인 전체 대조로 맞춥니다.
+ */
+@Slf4j
+@Component
+public class WatchRoomListingIndex {
+
+  /**
+   * 인덱스에 보관하는 방 하나
+   *
+   * @param room 목록 응답에 그대로 쓰는 DTO
+   * @param titleKey 정규화된 제목의 정렬 키 (DB 의 ko_KR 콜레이션에 맞춤)
+   * @param titleLower 검색용 소문자 정규화 제목
+   * @param contentTitleLower 검색용 소문자 정규화 콘텐츠 제목
+   * @param ownerNameLower 검색용 소문자 방장 이름
+   * @param participantVersion 읽은 시점의 참여자 버전 (늦게 끝난 이전 조회가 최신 값을 덮어쓰지 않도록 비교)
+   */
+  record Entry(WatchRoomDto room, CollationKey titleKey, String titleLower, String contentTitleLower,
+               String ownerNameLower, long participantVersion) {
+
+    private UUID id() {
+      return room.id();
+    }
+  }
+
+  // DB 의 uuid 정렬(부호 없는 바이트 순서)과 같게 비교
+  private static final Comparator<UUID> UUID_ORDER = (a, b) -> {
+    int compared = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+    return compared != 0 ? compared
+        : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+  };
+
+  private static final Comparator<Entry> BY_PARTICIPANT_COUNT =
+      Comparator.<Entry, Long>comparing(entry -> entry.room().headCount())
+          .thenComparing(Entry::id, UUID_ORDER);
+  private static final Comparator<Entry> BY_CREATED_AT =
+      Comparator.<Entry, LocalDateTime>comparing(entry -> entry.room().createdAt())
+          .thenComparing(Entry::id, UUID_ORDER);
+  private static final Comparator<Entry> BY_TITLE =
+      Comparator.comparing(Entry::titleKey).thenComparing(Entry::id, UUID_ORDER);
+
+  private final Collator collator = Collator.getInstance(Locale.KOREAN);
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+  private final NavigableSet<Entry> byParticipantCount = new ConcurrentSkipListSet<>(BY_PARTICIPANT_COUNT);
+  private final NavigableSet<Entry> byCreatedAt = new ConcurrentSkipListSet<>(BY_CREATED_AT);
+  private final NavigableSet<Entry> byTitle = new ConcurrentSkipListSet<>(BY_TITLE);
+  // 다시 만드는 중에 이벤트로 갱신된 방, 다시 만들기가 읽어 둔 오래된 값으로 덮어쓰지 않음
+  private final Set<UUID> refreshedDuringRebuild = ConcurrentHashMap.newKeySet();
+  // 다시 읽기가 예약되었지만 아직 시작하지 않은 방
+  private final Set<UUID> dirtyRooms = ConcurrentHashMap.newKeySet();
+  private final Executor reloadExecutor;
+  private final WatchRoomRepository watchRoomRepository;
+  private final ClusterBus clusterBus;
+  private final int rebuildBatchSize;
+  private final Counter refreshFailures;
+  private volatile boolean rebuilding;
+  private volatile boolean ready;
+
+  @Autowired
+  public WatchRoomListingIndex(
+      WatchRoomRepository watchRoomRepository,
+      ClusterBus clusterBus,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.watchroom.listing.rebuild-batch-size:500}") int rebuildBatchSize,
+      @Value("${mopl.watchroom.listing.reload-threads:2}") int reloadThreads) {
+    this(watchRoomRepository, clusterBus, meterRegistry, rebuildBatchSize,
+        Executors.newFixedThreadPool(reloadThreads, new CustomizableThreadFactory("watchroom-listing-reload-")));
+  }
+
+  WatchRoomListingIndex(
+      WatchRoomRepository watchRoomRepository,
+      ClusterBus clusterBus,
+      MeterRegistry meterRegistry,
+      int rebuildBatchSize,
+      Executor reloadExecutor) {
+    this.reloadExecutor = reloadExecutor;
+    this.watchRoomRepository = watchRoomRepository;
+    this.clusterBus = clusterBus;
+    this.rebuildBatchSize = rebuildBatchSize;
+    this.refreshFailures = Counter.builder("watchroom.listing.refresh.failed")
+        .description("시청방 목록 인덱스에 반영하지 못한 방 변경 수")
+        .register(meterRegistry);
+
+    Gauge.builder("watchroom.listing.rooms", entries, Map::size)
+        .description("시청방 목록 인덱스에 보관 중인 방 수")
+        .register(meterRegistry);
+    Gauge.builder("watchroom.listing.reload.pending", dirtyRooms, Set::size)
+        .description("다시 읽기를 기다리는 시청방 수")
+        .register(meterRegistry);
+
+    clusterBus.subscribe(ClusterMessage.Kind.WATCH_ROOM_LISTING, this::onClusterMessage);
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 정렬 기준과 커서 다음의 방을 최대 size + 1 개 반환합니다. (다음 페이지 여부 확인용 한 개 포함)
+   */
+  public List<WatchRoomDto> find(WatchRoomSearchInternalDto request) {
+    boolean isDesc = request.getDirection() == null || request.getDirection().equalsIgnoreCase("desc");
+    String sortBy = request.getSortBy() == null ? "participantcount" : request.getSortBy().toLowerCase();
+
+    NavigableSet<Entry> ordered = switch (sortBy) {
+      case "createdat" -> byCreatedAt;
+      case "title" -> byTitle;
+      default -> byParticipantCount;
+    };
+    if (isDesc) {
+      ordered = ordered.descendingSet();
+    }
+    Entry after = cursorProbe(request.getCursor(), sortBy);
+    if (after != null) {
+      ordered = ordered.tailSet(after, false);
+    }
+
+    Predicate<Entry> matches = keywordFilter(request.getSearchKeyword());
+    List<WatchRoomDto> result = new ArrayList<>(request.getSize() + 1);
+    for (Entry entry : ordered) {
+      if (matches.test(entry)) {
+        result.add(entry.room());
+        if (result.size() > request.getSize()) {
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 검색어에 맞는 전체 방 수
+   */
+  public long count(String searchKeyword) {
+    if (searchKeyword == null || searchKeyword.trim().isEmpty()) {
+      return entries.size();
+    }
+    Predicate<Entry> matches = keywordFilter(searchKeyword);
+    return entries.values().stream().filter(matches).count();
+  }
+
+  // 커서 값으로 비교용 항목을 만듦 (정렬 기준 필드와 id 만 채움)
+  private Entry cursorProbe(Cursor cursor, String sortBy) {
+    if (cursor == null || cursor.lastId() == null || cursor.lastValue() == null) {
+      return null;
+    }
+    UUID lastId = UUID.fromString(cursor.lastId());
+    return switch (sortBy) {
+      case "createdat" -> new Entry(probeRoom(lastId, LocalDateTime.parse(cursor.lastValue()), null), null,
+          null, null, null, 0L);
+      case "title" -> new Entry(probeRoom(lastId, null, null), collator.getCollationKey(cursor.lastValue()),
+          null, null, null, 0L);
+      default -> new Entry(probeRoom(lastId, null, Long.parseLong(cursor.lastValue())), null, null, null, null, 0L);
+    };
+  }
+
+  private static WatchRoomDto probeRoom(UUID id, LocalDateTime createdAt, Long headCount) {
+    return new WatchRoomDto(id, null, null, null, null, createdAt, headCount);
+  }
+
+  // WatchRoomParticipantRepositoryImpl.applySearchKeywordCondition 과 같은 조건
+  private static Predicate<Entry> keywordFilter(String searchKeyword) {
+    if (searchKeyword == null || searchKeyword.trim().isEmpty()) {
+      return entry -> true;
+    }
+    return entry -> entry.titleLower().contains(searchKeyword)
+        || entry.contentTitleLower().contains(searchKeyword)
+        || entry.ownerNameLower().contains(searchKeyword);
+  }
+
+  /**
+   * 방 생성, 참여, 퇴장, 삭제 후 호출합니다.
+   * 트랜잭션 안이면 커밋 후에 모든 노드에 알려, 각 노드가 그 방을 DB 에서 다시 읽게 합니다.
+   */
+  public void refresh(UUID roomId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publishRefresh(roomId);
+        }
+      });
+      return;
+    }
+    publishRefresh(roomId);
+  }
+
+  private void publishRefresh(UUID roomId) {
+    try {
+      clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.WATCH_ROOM_LISTING, roomId.toString(), null, null));
+    } catch (Exception e) {
+      // 적어도 이 노드의 인덱스는 맞춰 둠
+      log.warn("시청방 목록 변경 전파 실패: roomId = {}, 에러 = {}", roomId, e.getMessage());
+      markDirty(roomId);
+    }
+  }
+
+  private void onClusterMessage(ClusterMessage message) {
+    markDirty(UUID.fromString(message.target()));
+  }
+
+  /**
+   * 방을 dirty 로 표시하고, 이미 예약되어 있지 않으면 reload 스레드에 다시 읽기를 맡깁니다.
+   * 다시 읽기를 시작할 때 표시를 지우므로, 조회 중에 온 변경은 다음 다시 읽기로 반영됩니다.
+   */
+  private void markDirty(UUID roomId) {
+    if (!dirtyRooms.add(roomId)) {
+      return;
+    }
+    try {
+      reloadExecutor.execute(() -> {
+        dirtyRooms.remove(roomId);
+        reload(roomId);
+      });
+    } catch (RejectedExecutionException e) {
+      // 종료 중이면 반영하지 않음 (다음 기동 시 전체를 다시 만듦)
+      dirtyRooms.remove(roomId);
+      log.debug("시청방 목록 reload 스레드 종료 중 - 갱신 생략: roomId = {}", roomId);
+    }
+  }
+
+  private void reload(UUID roomId) {
+    if (rebuilding) {
+      refreshedDuringRebuild.add(roomId);
+    }
+    try {
+      Entry entry = watchRoomRepository.findWithOwnerById(roomId).map(this::toEntry).orElse(null);
+      entries.compute(roomId, (id, current) -> replaceIfNotOlder(current, entry));
+    } catch (Exception e) {
+      refreshFailures.increment();
+      log.error("시청방 목록 인덱스 갱신 실패: roomId = {}", roomId, e);
+    }
+  }
+
+  /**
+   * DB 의 모든 방을 읽어 인덱스를 다시 만듭니다. 그 사이 이벤트로 갱신된 방은 건드리지 않습니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void rebuild() {
+    log.info("시청방 목록 인덱스 생성 시작");
+    refreshedDuringRebuild.clear();
+    rebuilding = true;
+    try {
+      Set<UUID> seen = new HashSet<>();
+      Slice<WatchRoom> slice = watchRoomRepository.findAllBy(
+          PageRequest.of(0, rebuildBatchSize, Sort.by("id")));
+      while (true) {
+        for (WatchRoom watchRoom : slice) {
+          seen.add(watchRoom.getId());
+          Entry entry = toEntry(watchRoom);
+          entries.compute(watchRoom.getId(),
+              (id, current) -> refreshedDuringRebuild.contains(id) ? current : replaceIfNotOlder(current, entry));
+        }
+        if (!slice.hasNext()) {
+          break;
+        }
+        slice = watchRoomRepository.findAllBy(slice.nextPageable());
+      }
+      // DB 에 없는 방은 제거
+      entries.keySet().stream()
+          .filter(id -> !seen.contains(id))
+          .toList()
+          .forEach(id -> entries.compute(id,
+              (key, current) -> refreshedDuringRebuild.contains(key) ? current : replace(current, null)));
+      ready = true;
+      log.info("시청방 목록 인덱스 생성 완료: 방 수 = {}", entries.size());
+    } catch (Exception e) {
+      log.error("시청방 목록 인덱스 생성 실패, DB 로 목록을 조회합니다.", e);
+    } finally {
+      rebuilding = false;
+    }
+  }
+
+  /**
+   * 버스 메시지 유실(구독 재연결, 전파 실패)로 놓친 변경을 맞추기 위해 주기적으로 DB 와 전체를 대조합니다.
+   * 시작 시 만들지 못했다면 여기서 다시 시도합니다.
+   */
+  @Scheduled(initialDelayString = "${mopl.watchroom.listing.reconcile-millis:300000}",
+      fixedDelayString = "${mopl.watchroom.listing.reconcile-millis:300000}")
+  public void reconcile() {
+    rebuild();
+  }
+
+  // 참여자 버전이 더 낮은 값(먼저 읽었지만 늦게 끝난 조회)으로는 바꾸지 않음, 삭제는 항상 반영
+  private Entry replaceIfNotOlder(Entry current, Entry next) {
+    if (current != null && next != null && next.participantVersion() < current.participantVersion()) {
+      return current;
+    }
+    return replace(current, next);
+  }
+
+  // entries.compute 안에서만 호출해 같은 방의 정렬 인덱스 갱신이 겹치지 않게 함
+  private Entry replace(Entry current, Entry next) {
+    if (current != null) {
+      byParticipantCount.remove(current);
+      byCreatedAt.remove(current);
+      byTitle.remove(current);
+    }
+    if (next != null) {
+      byParticipantCount.add(next);
+      byCreatedAt.add(next);
+      byTitle.add(next);
+    }
+    return next;
+  }
+
+  private Entry toEntry(WatchRoom watchRoom) {
+    WatchRoomDto room = WatchRoomDto.fromWatchRoomWithHeadcount(watchRoom, watchRoom.getParticipantCount());
+    return new Entry(
+        room,
+        collator.getCollationKey(watchRoom.getTitleNormalized()),
+        lower(watchRoom.getTitleNormalized()),
+        lower(watchRoom.getContent().getTitleNormalized()),
+        lower(watchRoom.getOwner().getName()),
+        watchRoom.getParticipantVersion());
+  }
+
+  private static String lower(String value) {
+    return value == null ? "" : value.toLowerCase();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (reloadExecutor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+}
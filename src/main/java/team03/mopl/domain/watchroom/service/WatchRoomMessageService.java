@@ -1,16 +1,18 @@
 package team03.mopl.domain.watchroom.service;
 
 
-import java.util.List;
 import java.util.UUID;
+import team03.mopl.common.dto.CursorPageResponseDto;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageCreateRequest;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessagePagingDto;
 
 public interface WatchRoomMessageService {
 
   //메세지 생성
   WatchRoomMessageDto create(WatchRoomMessageCreateRequest request, String userEmail);
 
-  //메세지 조회
-  List<WatchRoomMessageDto> getAllByRoomId(UUID chatRoomId, UUID userId);
+  //메세지 조회 (최신순 커서 페이지네이션)
+  CursorPageResponseDto<WatchRoomMessageDto> getMessages(UUID chatRoomId, String userEmail,
+      WatchRoomMessagePagingDto pagingDto);
 }
@@ -1,85 +1,113 @@
 package team03.mopl.domain.watchroom.service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import team03.mopl.common.exception.user.UserNotFoundException;
+import team03.mopl.common.dto.Cursor;
+import team03.mopl.common.dto.CursorPageResponseDto;
+import team03.mopl.common.exception.watchroom.WatchRoomRoomNotFoundException;
+import team03.mopl.common.util.CursorCodecUtil;
+import team03.mopl.domain.watchroom.dto.participant.ParticipantDto;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageCreateRequest;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
-import team03.mopl.domain.watchroom.entity.WatchRoom;
-import team03.mopl.domain.watchroom.entity.WatchRoomMessage;
-import team03.mopl.common.exception.watchroom.WatchRoomRoomNotFoundException;
-import team03.mopl.domain.watchroom.repository.WatchRoomMessageRepository;
-import team03.mopl.domain.watchroom.repository.WatchRoomParticipantRepository;
-import team03.mopl.domain.watchroom.repository.WatchRoomRepository;
-import team03.mopl.domain.user.User;
-import team03.mopl.domain.user.UserRepository;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessagePagingDto;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WatchRoomMessageServiceImpl implements WatchRoomMessageService {
 
-  private final WatchRoomMessageRepository watchRoomMessageRepository;
-  private final WatchRoomRepository watchRoomRepository;
-  private final WatchRoomParticipantRepository watchRoomParticipantRepository;
-  private final UserRepository userRepository;
+  // watch_room_messages.content 컬럼 길이
+  private static final int MAX_CONTENT_LENGTH = 255;
 
+  private final WatchRoomParticipantRoster watchRoomParticipantRoster;
+  private final WatchRoomMessageWriter watchRoomMessageWriter;
+  private final WatchRoomChatHistory watchRoomChatHistory;
+  private final CursorCodecUtil cursorCodecUtil;
+
+  /**
+   * 참여 여부는 메모리의 참여자 명단으로 확인하고, 저장은 WatchRoomMessageWriter 에 넘긴 뒤 바로 반환합니다.
+   * 반환된 메세지는 아직 DB 에 저장되지 않았을 수 있습니다. (저장 보장 범위는 WatchRoomMessageWriter 참고)
+   */
   @Override
   public WatchRoomMessageDto create(WatchRoomMessageCreateRequest request, String userEmail) {
     //todo - refactor(파라미터명 변경)
-    log.info("create - 실시간 시청방 메세지 생성 시작: watchRoomId = {}, userEmail = {}",
+    log.debug("create - 실시간 시청방 메세지 생성 시작: watchRoomId = {}, userEmail = {}",
         request.chatRoomId(), userEmail);
 
-    User sender = userRepository.findByEmail(userEmail)
-        .orElseThrow(UserNotFoundException::new);
-    WatchRoom watchRoom = watchRoomRepository.findById(request.chatRoomId())
-        .orElseThrow(WatchRoomRoomNotFoundException::new);
-
-    if (!watchRoomParticipantRepository.existsWatchRoomParticipantByWatchRoomAndUser(watchRoom,
-        sender)) {
-      log.warn("해당 실시간 시청방에 참여하지 않은 사용자");
-      throw new WatchRoomRoomNotFoundException();
+    // 저장 전에 전송되므로 DB 에 들어가지 못할 메세지는 여기서 거절
+    if (request.content() == null || request.content().length() > MAX_CONTENT_LENGTH) {
+      throw new IllegalArgumentException("메세지는 " + MAX_CONTENT_LENGTH + "자 이하여야 합니다.");
     }
 
-    WatchRoomMessage watchRoomMessage = WatchRoomMessage.builder()
-        .sender(sender)
-        .watchRoom(watchRoom)
-        .content(request.content())
-        .build();
+    ParticipantDto sender = watchRoomParticipantRoster.member(request.chatRoomId(), userEmail)
+        .orElseThrow(() -> {
+          log.warn("해당 실시간 시청방에 참여하지 않은 사용자");
+          return new WatchRoomRoomNotFoundException();
+        });
 
-    WatchRoomMessage saved = watchRoomMessageRepository.save(watchRoomMessage);
+    WatchRoomMessageDto watchRoomMessageDto = new WatchRoomMessageDto(UUID.randomUUID(), sender.id(),
+        sender.username(), request.chatRoomId(), request.content(),
+        // DB(timestamp) 에 저장되는 정밀도로 맞춰 메모리 기록과 커서 비교 결과가 DB 와 같게 함
+        LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    watchRoomMessageWriter.append(watchRoomMessageDto);
 
-    log.info("create - 실시간 시청방 메세지 생성 완료: watchRoomMessageId = {}, watchRoomId = {} ,senderId = {}",
-        saved.getId(), saved.getWatchRoom().getId(), saved.getSender().getId());
+    log.debug("create - 실시간 시청방 메세지 생성 완료: watchRoomMessageId = {}, watchRoomId = {} ,senderId = {}",
+        watchRoomMessageDto.id(), watchRoomMessageDto.chatRoomId(), watchRoomMessageDto.senderId());
 
-    return WatchRoomMessageDto.from(saved);
+    return watchRoomMessageDto;
   }
 
+  /**
+   * 채팅 기록을 최신순으로 조회합니다. 최근 메세지는 WatchRoomChatHistory 의 메모리 버퍼에서,
+   * 그보다 오래된 메세지는 (room_id, created_at, id) 인덱스로 한 페이지씩 조회합니다.
+   */
   @Override
-  public List<WatchRoomMessageDto> getAllByRoomId(UUID watchRoomId, UUID userId) {
-    log.info("getAllByRoomId - 실시간 시청방 메세지 전체 조회 시작: watchRoomId = {}, userId = {}",
-        watchRoomId, userId);
-
-    //todo - userId를 이후에 context에서 가져올 수 있게되면 userId 파라미터 제거하여 리팩토링
+  public CursorPageResponseDto<WatchRoomMessageDto> getMessages(UUID watchRoomId, String userEmail,
+      WatchRoomMessagePagingDto pagingDto) {
+    log.info("getMessages - 실시간 시청방 메세지 조회 시작: watchRoomId = {}, userEmail = {}, cursor = {}",
+        watchRoomId, userEmail, pagingDto.getCursor());
 
-    User sender = userRepository.findById(userId)
-        .orElseThrow(UserNotFoundException::new);
-    WatchRoom watchRoom = watchRoomRepository.findById(watchRoomId)
-        .orElseThrow(WatchRoomRoomNotFoundException::new);
-
-    if (!watchRoomParticipantRepository.existsWatchRoomParticipantByWatchRoomAndUser(watchRoom,
-        sender)) {
+    if (watchRoomParticipantRoster.member(watchRoomId, userEmail).isEmpty()) {
+      log.warn("해당 실시간 시청방에 참여하지 않은 사용자");
       throw new WatchRoomRoomNotFoundException();
     }
 
-    List<WatchRoomMessage> watchRoomMessages = watchRoomMessageRepository.findAllByWatchRoom(
-        watchRoom);
+    LocalDateTime cursorCreatedAt = null;
+    UUID cursorId = null;
+    String cursor = pagingDto.getCursor();
+    if (cursor != null && !cursor.isEmpty()) {
+      Cursor decodeCursor = cursorCodecUtil.decodeCursor(cursor);
+      if (decodeCursor.lastValue() != null && decodeCursor.lastId() != null) {
+        cursorCreatedAt = LocalDateTime.parse(decodeCursor.lastValue());
+        cursorId = UUID.fromString(decodeCursor.lastId());
+      }
+    }
+
+    int size = pagingDto.getSize();
+    WatchRoomChatHistory.Page page = watchRoomChatHistory.findBefore(watchRoomId, cursorCreatedAt, cursorId,
+        size + 1);
+    List<WatchRoomMessageDto> messages = page.messages();
+    boolean hasNext = messages.size() > size;
 
-    log.info("getAllByRoomId - 실시간 시청방 메세지 전체 조회 완료 : watchRoomId = {}, 총 메세지 수 = {}",
-        watchRoomId, watchRoomMessages.size());
-    return watchRoomMessages.stream().map(WatchRoomMessageDto::from).toList();
+    String nextCursor = null;
+    if (hasNext) {
+      messages = messages.subList(0, size);
+      nextCursor = cursorCodecUtil.encodeNextCursor(messages.get(size - 1));
+    }
+
+    log.info("getMessages - 실시간 시청방 메세지 조회 완료 : watchRoomId = {}, 메세지 수 = {}, hasNext = {}",
+        watchRoomId, messages.size(), hasNext);
+    return CursorPageResponseDto.<WatchRoomMessageDto>builder()
+        .data(messages)
+        .nextCursor(nextCursor)
+        .size(messages.size())
+        .totalElements(page.totalElements())
+        .hasNext(hasNext)
+        .build();
   }
 }
@@ -0,0 +1,215 @@
+package team03.mopl.domain.watchroom.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+import team03.mopl.domain.watchroom.repository.WatchRoomMessageBulkRepository;
+
+/**
+ * 채팅 메세지를 모아서 저장하는 지연 쓰기 큐
+ *
+ * 메세지는 크기가 capacity 인 큐에 넣고 바로 반환하며, 전용 스레드가 flushMillis 마다 또는 batchSize 개가 쌓이면
+ * batchSize 개씩 multi-row INSERT 로 watch_room_messages 에 저장합니다.
+ *
+ * 저장 보장은 최대 한 번(at-most-once)입니다. 메세지는 저장 전에 방에 전송되므로, 프로세스가 비정상 종료되면
+ * 큐에 남아 있던 메세지(평소 flushMillis 동안 쌓인 양, 최대 capacity 개)는 전송은 되었지만 저장되지 않습니다.
+ * 정상 종료 시에는 남은 메세지를 모두 저장합니다. 묶음 저장이 실패하면 한 건씩 다시 시도하고, 그래도 실패한 메세지와
+ * 저장 전에 방이 삭제된 메세지는 버리고 메트릭으로 남깁니다. 큐가 가득 차면 새 메세지를 거절하므로
+ * 전송된 메세지가 큐에 들어가지 못하는 일은 없습니다.
+ */
+@Slf4j
+@Component
+public class WatchRoomMessageWriter {
+
+  private record Pending(WatchRoomMessageDto message, long enqueuedAtNanos) {}
+
+  private final BlockingQueue<Pending> queue;
+  private final WatchRoomMessageBulkRepository watchRoomMessageBulkRepository;
+  private final ScheduledExecutorService scheduler;
+  private final int batchSize;
+  private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+  // 큐에서 꺼내 저장 중인 묶음, 저장 중에도 pending 으로 조회할 수 있게 큐에서 지우기 전에 지정
+  private volatile List<Pending> inFlight = List.of();
+  private final DistributionSummary batchSizes;
+  private final Timer lag;
+  private final Counter rejected;
+  private final Counter droppedRoomDeleted;
+  private final Counter droppedFailed;
+
+  @Autowired
+  public WatchRoomMessageWriter(
+      WatchRoomMessageBulkRepository watchRoomMessageBulkRepository,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.watchroom.chat.queue-capacity:10000}") int capacity,
+      @Value("${mopl.watchroom.chat.flush-millis:200}") long flushMillis,
+      @Value("${mopl.watchroom.chat.batch-size:500}") int batchSize) {
+    this(watchRoomMessageBulkRepository, meterRegistry, capacity, flushMillis, batchSize,
+        Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("watchroom-chat-")));
+  }
+
+  WatchRoomMessageWriter(
+      WatchRoomMessageBulkRepository watchRoomMessageBulkRepository,
+      MeterRegistry meterRegistry,
+      int capacity,
+      long flushMillis,
+      int batchSize,
+      ScheduledExecutorService scheduler) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.watchRoomMessageBulkRepository = watchRoomMessageBulkRepository;
+    this.scheduler = scheduler;
+    this.batchSize = batchSize;
+    this.batchSizes = DistributionSummary.builder("watchroom.chat.flush.batch")
+        .description("한 번에 저장한 채팅 메세지 수")
+        .register(meterRegistry);
+    this.lag = Timer.builder("watchroom.chat.flush.lag")
+        .description("묶음에서 가장 오래 기다린 채팅 메세지가 큐에 들어간 뒤 저장되기까지 걸린 시간")
+        .register(meterRegistry);
+    this.rejected = Counter.builder("watchroom.chat.rejected")
+        .description("저장 큐가 가득 차서 거절한 채팅 메세지 수")
+        .register(meterRegistry);
+    this.droppedRoomDeleted = Counter.builder("watchroom.chat.dropped")
+        .description("전송되었지만 저장하지 못한 채팅 메세지 수")
+        .tag("reason", "room_deleted")
+        .register(meterRegistry);
+    this.droppedFailed = Counter.builder("watchroom.chat.dropped")
+        .description("전송되었지만 저장하지 못한 채팅 메세지 수")
+        .tag("reason", "error")
+        .register(meterRegistry);
+
+    Gauge.builder("watchroom.chat.queued", queue, BlockingQueue::size)
+        .description("저장을 기다리는 채팅 메세지 수")
+        .register(meterRegistry);
+
+    scheduler.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 메세지를 저장 큐에 넣습니다. batchSize 개 이상 쌓이면 다음 주기를 기다리지 않고 저장합니다.
+   *
+   * @throws IllegalStateException 큐가 가득 찬 경우
+   */
+  public void append(WatchRoomMessageDto message) {
+    if (!queue.offer(new Pending(message, System.nanoTime()))) {
+      rejected.increment();
+      throw new IllegalStateException("저장을 기다리는 채팅 메세지가 너무 많습니다. roomId=" + message.chatRoomId());
+    }
+    if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+      try {
+        scheduler.execute(this::flush);
+      } catch (RejectedExecutionException e) {
+        // 종료 중이면 cleanup 에서 저장
+        flushRequested.set(false);
+      }
+    }
+  }
+
+  /**
+   * 아직 저장되지 않은 방의 메세지를 큐에 들어간 순서대로 반환합니다.
+   * DB 조회보다 먼저 호출하면, 그 사이에 저장된 메세지는 두 결과 중 적어도 한 곳에 포함됩니다.
+   */
+  public List<WatchRoomMessageDto> pending(UUID roomId) {
+    // 큐를 먼저 읽어야 그 사이 저장 묶음으로 옮겨진 메세지를 inFlight 에서 찾을 수 있음
+    List<WatchRoomMessageDto> queued = new ArrayList<>();
+    for (Pending pending : queue) {
+      if (pending.message().chatRoomId().equals(roomId)) {
+        queued.add(pending.message());
+      }
+    }
+    List<WatchRoomMessageDto> result = new ArrayList<>();
+    for (Pending pending : inFlight) {
+      if (pending.message().chatRoomId().equals(roomId) && !queued.contains(pending.message())) {
+        result.add(pending.message());
+      }
+    }
+    result.addAll(queued);
+    return result;
+  }
+
+  /**
+   * 큐에 쌓인 메세지를 batchSize 개씩 모두 저장합니다. 저장 스레드와 cleanup 에서만 호출합니다.
+   */
+  synchronized void flush() {
+    flushRequested.set(false);
+    while (true) {
+      List<Pending> batch = new ArrayList<>(batchSize);
+      for (Pending pending : queue) {
+        if (batch.size() == batchSize) {
+          break;
+        }
+        batch.add(pending);
+      }
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      // 꺼내는 곳은 여기뿐이므로 큐의 앞쪽 batch.size() 개가 batch 와 같음
+      inFlight = batch;
+      for (int i = 0; i < batch.size(); i++) {
+        queue.poll();
+      }
+      write(batch);
+      inFlight = List.of();
+
+      if (batch.size() < batchSize) {
+        return;
+      }
+    }
+  }
+
+  private void write(List<Pending> batch) {
+    List<WatchRoomMessageDto> messages = batch.stream().map(Pending::message).toList();
+    try {
+      int inserted = watchRoomMessageBulkRepository.insertAll(messages);
+      droppedRoomDeleted.increment(messages.size() - inserted);
+    } catch (Exception e) {
+      log.warn("채팅 메세지 묶음 저장 실패, 한 건씩 다시 저장: 메세지 수 = {}, 에러 = {}", messages.size(), e.getMessage());
+      messages.forEach(this::writeOne);
+    }
+    batchSizes.record(batch.size());
+    lag.record(System.nanoTime() - batch.get(0).enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private void writeOne(WatchRoomMessageDto message) {
+    try {
+      droppedRoomDeleted.increment(1 - watchRoomMessageBulkRepository.insertAll(List.of(message)));
+    } catch (Exception e) {
+      droppedFailed.increment();
+      log.warn("채팅 메세지 저장 실패, 버림: watchRoomMessageId = {}, watchRoomId = {}, 에러 = {}",
+          message.id(), message.chatRoomId(), e.getMessage());
+    }
+  }
+
+  int size() {
+    return queue.size();
+  }
+
+  @PreDestroy
+  public void cleanup() throws InterruptedException {
+    log.info("WatchRoomMessageWriter cleanup 시작 - 저장 대기 중인 메세지 수: {}", queue.size());
+    scheduler.shutdown();
+    if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+      scheduler.shutdownNow();
+    }
+    flush();
+    log.info("WatchRoomMessageWriter cleanup 완료");
+  }
+}
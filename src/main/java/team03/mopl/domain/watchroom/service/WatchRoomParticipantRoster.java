@@ -0,0 +1,338 @@
+package team03.mopl.domain.watchroom.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.cluster.ClusterMessagingTemplate;
+import team03.mopl.common.exception.watchroom.WatchRoomRoomNotFoundException;
+import team03.mopl.domain.user.User;
+import team03.mopl.domain.watchroom.dto.participant.ParticipantDto;
+import team03.mopl.domain.watchroom.dto.participant.ParticipantEventDto;
+import team03.mopl.domain.watchroom.dto.participant.ParticipantsInfoDto;
+import team03.mopl.domain.watchroom.entity.WatchRoom;
+import team03.mopl.domain.watchroom.repository.WatchRoomParticipantRepository;
+import team03.mopl.domain.watchroom.repository.WatchRoomRepository;
+
+/**
+ * 시청방별 참여자 명단 캐시와 참여자 변경 이벤트 전송
+ *
+ * 명단은 처음 조회할 때 참여자와 유저를 한 번에 읽어 채우고, 이후에는 watch_rooms.participant_version 순서의
+ * 입장/퇴장 변경만 반영합니다. 변경은 커밋 후 /topic/rooms/{roomId}/participant-joined, participant-left 로
+ * 참여자 한 명씩 전송하고, 클러스터 버스로 다른 노드의 명단에도 반영합니다.
+ * 버전이 건너뛴 변경을 받으면 그 방의 명단을 지워 다음 조회 때 DB 에서 다시 읽습니다.
+ * 버스 메시지가 유실되면 다음 변경이 올 때까지 명단이 어긋나므로, 조회할 때 verifyMillis 마다 한 번씩
+ * DB 의 participant_version 과 비교해 뒤처졌으면 다시 읽고, 오래 조회되지 않은 명단은 주기적으로 내립니다.
+ */
+@Slf4j
+@Component
+public class WatchRoomParticipantRoster {
+
+  /**
+   * 노드 간에 주고받는 명단 변경. joined 와 leftUserId 가 모두 null 이면 방 삭제
+   */
+  record Change(UUID roomId, ParticipantDto joined, String joinedEmail, UUID leftUserId, UUID ownerId,
+      long version) {}
+
+  private final Map<UUID, Roster> rosters = new ConcurrentHashMap<>();
+  private final WatchRoomRepository watchRoomRepository;
+  private final WatchRoomParticipantRepository watchRoomParticipantRepository;
+  private final ClusterBus clusterBus;
+  private final ClusterMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
+  private final long verifyNanos;
+  private final long idleNanos;
+  private final Counter resyncs;
+
+  public WatchRoomParticipantRoster(
+      WatchRoomRepository watchRoomRepository,
+      WatchRoomParticipantRepository watchRoomParticipantRepository,
+      ClusterBus clusterBus,
+      ClusterMessagingTemplate messagingTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.watchroom.participants.verify-millis:1000}") long verifyMillis,
+      @Value("${mopl.watchroom.participants.idle-seconds:600}") long idleSeconds) {
+    this.watchRoomRepository = watchRoomRepository;
+    this.watchRoomParticipantRepository = watchRoomParticipantRepository;
+    this.clusterBus = clusterBus;
+    this.messagingTemplate = messagingTemplate;
+    this.objectMapper = objectMapper;
+    this.verifyNanos = Duration.ofMillis(verifyMillis).toNanos();
+    this.idleNanos = Duration.ofSeconds(idleSeconds).toNanos();
+    this.resyncs = Counter.builder("watchroom.participants.resync")
+        .description("변경 버전이 건너뛰었거나 DB 보다 뒤처져 다시 읽게 된 참여자 명단 수")
+        .register(meterRegistry);
+
+    Gauge.builder("watchroom.participants.rosters", rosters, Map::size)
+        .description("참여자 명단을 메모리에 보관 중인 시청방 수")
+        .register(meterRegistry);
+
+    clusterBus.subscribe(ClusterMessage.Kind.WATCH_ROOM_PARTICIPANTS, this::onClusterMessage);
+  }
+
+  public static ParticipantDto participantOf(User user, UUID ownerId) {
+    return new ParticipantDto(user.getId(), user.getName(), user.getProfileImage(), user.getId().equals(ownerId));
+  }
+
+  /**
+   * 방의 전체 참여자 목록. 처음 입장한 유저와 목록을 다시 요청한 유저에게만 보냅니다.
+   */
+  public ParticipantsInfoDto snapshot(UUID roomId) {
+    return roster(roomId).snapshot();
+  }
+
+  /**
+   * 이메일로 방의 참여자를 찾습니다. 채팅처럼 자주 들어오는 요청의 참여 여부 확인에 사용합니다.
+   *
+   * @return 참여 중이 아니면 empty
+   * @throws WatchRoomRoomNotFoundException 방이 없는 경우
+   */
+  public Optional<ParticipantDto> member(UUID roomId, String email) {
+    return roster(roomId).member(email);
+  }
+
+  private Roster roster(UUID roomId) {
+    long now = System.nanoTime();
+    Roster roster = rosters.get(roomId);
+    if (roster != null && roster.claimVerify(now, verifyNanos) && isBehind(roomId, roster)) {
+      rosters.remove(roomId, roster);
+      roster = null;
+    }
+    if (roster == null) {
+      Roster loaded = load(roomId);
+      roster = rosters.putIfAbsent(roomId, loaded);
+      if (roster == null) {
+        roster = loaded;
+      }
+    }
+    roster.touchedAtNanos = now;
+    return roster;
+  }
+
+  // 놓친 변경이 있거나 방이 삭제되었으면 true, 이 노드에만 먼저 반영된(커밋 전) 변경은 뒤처진 것으로 보지 않음
+  private boolean isBehind(UUID roomId, Roster roster) {
+    Optional<Long> stored = watchRoomRepository.findParticipantVersionIfExists(roomId);
+    long cached = roster.version();
+    if (stored.isPresent() && stored.get() <= cached) {
+      return false;
+    }
+    resyncs.increment();
+    log.debug("참여자 명단이 DB 보다 뒤처짐, 다시 읽음: roomId = {}, 보관 버전 = {}, DB 버전 = {}",
+        roomId, cached, stored.orElse(null));
+    return true;
+  }
+
+  private Roster load(UUID roomId) {
+    WatchRoom watchRoom = watchRoomRepository.findWithOwnerById(roomId)
+        .orElseThrow(WatchRoomRoomNotFoundException::new);
+    long version = watchRoomRepository.findParticipantVersion(roomId);
+    Roster roster = new Roster(watchRoom.getOwner().getId(), version);
+    watchRoomParticipantRepository.findWithUserByWatchRoomId(roomId)
+        .forEach(participant -> roster.put(participantOf(participant.getUser(), null),
+            participant.getUser().getEmail()));
+    log.debug("참여자 명단 로드: roomId = {}, 참여자 수 = {}, version = {}", roomId, roster.participants.size(), version);
+    return roster;
+  }
+
+  /**
+   * 참여자 행 추가와 같은 트랜잭션에서 호출합니다.
+   *
+   * @param version adjustParticipantCount 로 받은 참여자 버전
+   */
+  public void joined(UUID roomId, User user, UUID ownerId, long version) {
+    ParticipantDto participant = participantOf(user, ownerId);
+    record(new Change(roomId, participant, user.getEmail(), null, ownerId, version), "/participant-joined",
+        new ParticipantEventDto(participant, ownerId, version));
+  }
+
+  /**
+   * 참여자 행 삭제와 같은 트랜잭션에서 호출합니다. 방장이 바뀌었다면 ownerId 는 새 방장입니다.
+   */
+  public void left(UUID roomId, User user, UUID ownerId, long version) {
+    record(new Change(roomId, null, null, user.getId(), ownerId, version), "/participant-left",
+        new ParticipantEventDto(participantOf(user, ownerId), ownerId, version));
+  }
+
+  /**
+   * 방 삭제와 같은 트랜잭션에서 호출합니다. 커밋 후 모든 노드에서 명단을 지웁니다.
+   */
+  public void removed(UUID roomId) {
+    afterCommit(roomId, () -> publish(new Change(roomId, null, null, null, null, 0)));
+  }
+
+  // 이 노드의 명단에는 바로 반영해 같은 트랜잭션의 snapshot 에 포함되게 하고, 롤백되면 명단을 지움
+  private void record(Change change, String destinationSuffix, ParticipantEventDto event) {
+    apply(change);
+    afterCommit(change.roomId(), () -> {
+      publish(change);
+      messagingTemplate.convertAndSend("/topic/rooms/" + change.roomId() + destinationSuffix, event);
+    });
+  }
+
+  private void afterCommit(UUID roomId, Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          task.run();
+        } else {
+          rosters.remove(roomId);
+        }
+      }
+    });
+  }
+
+  private void publish(Change change) {
+    try {
+      clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.WATCH_ROOM_PARTICIPANTS,
+          change.roomId().toString(), null, objectMapper.writeValueAsString(change)));
+    } catch (Exception e) {
+      // 다른 노드는 다음 변경에서 버전이 건너뛴 것을 보고 다시 읽음
+      log.warn("참여자 명단 변경 전파 실패: roomId = {}, 에러 = {}", change.roomId(), e.getMessage());
+    }
+  }
+
+  private void onClusterMessage(ClusterMessage message) {
+    Change change;
+    try {
+      change = objectMapper.readValue(message.payload(), Change.class);
+    } catch (JsonProcessingException e) {
+      log.warn("참여자 명단 변경 역직렬화 실패: roomId = {}", message.target(), e);
+      rosters.remove(UUID.fromString(message.target()));
+      return;
+    }
+    if (change.joined() == null && change.leftUserId() == null) {
+      rosters.remove(change.roomId());
+      return;
+    }
+    apply(change);
+  }
+
+  private void apply(Change change) {
+    rosters.computeIfPresent(change.roomId(), (id, roster) -> {
+      if (roster.apply(change)) {
+        return roster;
+      }
+      resyncs.increment();
+      log.debug("참여자 명단 버전 불일치, 다시 읽음: roomId = {}, 보관 버전 = {}, 변경 버전 = {}",
+          id, roster.version, change.version());
+      return null;
+    });
+  }
+
+  /**
+   * 오래 조회되지 않은 방의 명단을 메모리에서 내립니다.
+   */
+  @Scheduled(fixedDelayString = "${mopl.watchroom.participants.sweep-millis:60000}")
+  public void evictIdle() {
+    long now = System.nanoTime();
+    rosters.values().removeIf(roster -> now - roster.touchedAtNanos > idleNanos);
+  }
+
+  int size() {
+    return rosters.size();
+  }
+
+  /**
+   * 한 방의 참여자 명단. 항상 이 객체로 동기화한 뒤 읽고 씁니다.
+   * 방장 여부는 저장하지 않고 목록을 만들 때 ownerId 로 채웁니다.
+   */
+  private static class Roster {
+
+    private final Map<UUID, ParticipantDto> participants = new LinkedHashMap<>();
+    private final Map<String, UUID> emails = new HashMap<>();
+    private UUID ownerId;
+    private long version;
+    private long verifiedAtNanos = System.nanoTime();
+    private volatile long touchedAtNanos = System.nanoTime();
+
+    private Roster(UUID ownerId, long version) {
+      this.ownerId = ownerId;
+      this.version = version;
+    }
+
+    private synchronized long version() {
+      return version;
+    }
+
+    // 마지막 확인 후 verifyNanos 가 지났으면 true, 동시에 조회한 다른 요청은 확인하지 않도록 시각을 먼저 갱신
+    private synchronized boolean claimVerify(long now, long verifyNanos) {
+      if (now - verifiedAtNanos < verifyNanos) {
+        return false;
+      }
+      verifiedAtNanos = now;
+      return true;
+    }
+
+    /**
+     * @return 반영했거나 이미 반영된 변경이면 true, 버전이 건너뛰었으면 false
+     */
+    private synchronized boolean apply(Change change) {
+      if (change.version() <= version) {
+        return true;
+      }
+      if (change.version() != version + 1) {
+        return false;
+      }
+      if (change.joined() != null) {
+        put(change.joined(), change.joinedEmail());
+      } else {
+        participants.remove(change.leftUserId());
+        emails.values().remove(change.leftUserId());
+      }
+      ownerId = change.ownerId();
+      version = change.version();
+      return true;
+    }
+
+    private synchronized void put(ParticipantDto participant, String email) {
+      participants.put(participant.id(), participant);
+      if (email != null) {
+        emails.put(email, participant.id());
+      }
+    }
+
+    private synchronized Optional<ParticipantDto> member(String email) {
+      UUID userId = emails.get(email);
+      return userId == null ? Optional.empty() : Optional.of(withOwner(participants.get(userId)));
+    }
+
+    private ParticipantDto withOwner(ParticipantDto participant) {
+      return new ParticipantDto(participant.id(), participant.username(), participant.profile(),
+          participant.id().equals(ownerId));
+    }
+
+    private synchronized ParticipantsInfoDto snapshot() {
+      List<ParticipantDto> participantList = participants.values().stream()
+          .map(this::withOwner)
+          .toList();
+      return ParticipantsInfoDto.builder()
+          .participantDtoList(participantList)
+          .participantCount(participantList.size())
+          .version(version)
+          .build();
+    }
+  }
+}
@@ -1,10 +1,10 @@
 package team03.mopl.domain.watchroom.service;
 
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +14,6 @@ import team03.mopl.common.dto.Cursor;
 import team03.mopl.common.dto.CursorPageResponseDto;
 import team03.mopl.common.exception.content.ContentNotFoundException;
 import team03.mopl.common.exception.user.UserNotFoundException;
-import team03.mopl.common.exception.watchroom.UnsupportedVideoControlActionException;
-import team03.mopl.common.exception.watchroom.VideoControlPermissionDeniedException;
 import team03.mopl.common.util.CursorCodecUtil;
 import team03.mopl.common.util.NormalizerUtil;
 import team03.mopl.domain.content.dto.ContentDto;
@@ -23,7 +21,6 @@ import team03.mopl.domain.watchroom.dto.WatchRoomContentWithParticipantCountDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomCreateRequest;
 import team03.mopl.domain.watchroom.dto.WatchRoomDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomSearchInternalDto;
-import team03.mopl.domain.watchroom.dto.participant.ParticipantDto;
 import team03.mopl.domain.watchroom.dto.participant.ParticipantsInfoDto;
 import team03.mopl.domain.watchroom.dto.video.VideoControlRequest;
 import team03.mopl.domain.watchroom.dto.video.VideoSyncDto;
@@ -35,6 +32,7 @@ import team03.mopl.common.exception.watchroom.WatchRoomRoomNotFoundException;
 import team03.mopl.domain.watchroom.repository.WatchRoomMessageRepository;
 import team03.mopl.domain.watchroom.repository.WatchRoomParticipantRepository;
 import team03.mopl.domain.watchroom.repository.WatchRoomRepository;
+import team03.mopl.domain.watchroom.service.WatchRoomStateEngine.PlaybackState;
 import team03.mopl.domain.content.Content;
 import team03.mopl.domain.content.repository.ContentRepository;
 import team03.mopl.domain.user.User;
@@ -51,6 +49,9 @@ public class WatchRoomServiceImpl implements WatchRoomService {
   private final WatchRoomRepository watchRoomRepository;
   private final WatchRoomMessageRepository watchRoomMessageRepository;
   private final CursorCodecUtil codecUtil;
+  private final WatchRoomStateEngine watchRoomStateEngine;
+  private final WatchRoomListingIndex watchRoomListingIndex;
+  private final WatchRoomParticipantRoster watchRoomParticipantRoster;
 
   @Override
   @Transactional
@@ -69,6 +70,7 @@ public class WatchRoomServiceImpl implements WatchRoomService {
         .titleNormalized(NormalizerUtil.normalize(request.title()))
         .owner(owner)
         .content(content)
+        .participantCount(1L)
         .build();
 
     watchRoom = watchRoomRepository.save(watchRoom);
@@ -79,6 +81,7 @@ public class WatchRoomServiceImpl implements WatchRoomService {
         .build();
 
     watchRoomParticipantRepository.save(watchRoomParticipant);
+    watchRoomListingIndex.refresh(watchRoom.getId());
 
     log.info("create - 실시간 시청방 생성 완료: watchRoomId = {}, ownerId = {}, contentId = {}, title = {}",
         watchRoom.getId(), watchRoom.getOwner().getId(), watchRoom.getContent().getId(),
@@ -100,10 +103,15 @@ public class WatchRoomServiceImpl implements WatchRoomService {
     WatchRoomSearchInternalDto watchRoomSearchInternalDto =
         WatchRoomSearchInternalDto.fromRequestWithCursor(request, cursor);
 
+    // 목록 인덱스가 준비되어 있으면 DB 를 거치지 않고 조회
+    boolean fromIndex = watchRoomListingIndex.isReady();
+
     // 결과
-    List<WatchRoomDto> result = new ArrayList<>(watchRoomParticipantRepository
-        .getAllWatchRoomContentWithHeadcountDtoPaginated(watchRoomSearchInternalDto)
-        .stream().map(WatchRoomDto::from).toList());
+    List<WatchRoomDto> result = new ArrayList<>(fromIndex
+        ? watchRoomListingIndex.find(watchRoomSearchInternalDto)
+        : watchRoomParticipantRepository
+            .getAllWatchRoomContentWithHeadcountDtoPaginated(watchRoomSearchInternalDto)
+            .stream().map(WatchRoomDto::from).toList());
 
     // 다음 페이지 있는지 검사
     boolean hasNext = result.size() > watchRoomSearchInternalDto.getSize();
@@ -117,10 +125,12 @@ public class WatchRoomServiceImpl implements WatchRoomService {
     WatchRoomDto nextCursor = result.isEmpty() ? null : result.get(result.size() - 1);
 
     //총 개수
-    long totalElements = watchRoomParticipantRepository
-        .countWatchRoomContentWithHeadcountDto(request.getSearchKeyword());
+    long totalElements = fromIndex
+        ? watchRoomListingIndex.count(request.getSearchKeyword())
+        : watchRoomParticipantRepository.countWatchRoomContentWithHeadcountDto(request.getSearchKeyword());
 
-    log.info("getAll - 실시간 시청방 페이지네이션 조회 완료: 전체 검색 결과 수 = {}", totalElements);
+    log.info("getAll - 실시간 시청방 페이지네이션 조회 완료: 전체 검색 결과 수 = {}, 인덱스 사용 = {}",
+        totalElements, fromIndex);
     return CursorPageResponseDto.<WatchRoomDto>builder()
         .data(result)
         .nextCursor(nextCursor == null ? null : codecUtil.encodeNextCursor(nextCursor,
@@ -168,6 +178,10 @@ public class WatchRoomServiceImpl implements WatchRoomService {
         .build();
 
     WatchRoomParticipant saved = watchRoomParticipantRepository.save(watchRoomParticipant);
+    watchRoomRepository.adjustParticipantCount(watchRoomId, 1);
+    long participantVersion = watchRoomRepository.findParticipantVersion(watchRoomId);
+    watchRoomListingIndex.refresh(watchRoomId);
+    watchRoomParticipantRoster.joined(watchRoomId, user, watchRoom.getOwner().getId(), participantVersion);
 
     log.info("joinWatchRoomAndGetInfo - 실시간 시청방 참여 완료: watchRoomId = {}, userId = {},"
         + " watchRoomParticipantId = {}", watchRoomId, user.getId(), saved.getId());
@@ -175,53 +189,35 @@ public class WatchRoomServiceImpl implements WatchRoomService {
     return getWatchRoomInfoDtoWithNewUser(watchRoom, user);
   }
 
+  /**
+   * 재생 상태 엔진의 메모리 상태에 반영하고 바로 반환합니다. watch_rooms 에는 엔진이 지연 쓰기로 반영합니다.
+   */
   @Override
-  @Transactional
   public VideoSyncDto updateVideoStatus(UUID roomId, VideoControlRequest request, String username) {
-    log.info("updateVideoStatus - 비디오 상태 업데이트 시작: roomId = {}, username = {}, "
+    log.debug("updateVideoStatus - 비디오 상태 업데이트 시작: roomId = {}, username = {}, "
             + "videoControlAction = {}, playTime = {}", roomId, username, request.videoControlAction(),
         request.currentTime());
 
-    WatchRoom watchRoom = watchRoomRepository.findById(roomId)
-        .orElseThrow(WatchRoomRoomNotFoundException::new);
-
-    User user = userRepository.findByEmail(username).orElseThrow(UserNotFoundException::new);
-
-    //방장이 아니라면 제어 권한 없음
-    if (!watchRoom.getOwner().getId().equals(user.getId())) {
-      log.warn("방장이 아닌 사람이 제어 시도");
-      throw new VideoControlPermissionDeniedException();
-    }
-
-    switch (request.videoControlAction()) {
-      case PLAY -> watchRoom.play();
-      case PAUSE -> watchRoom.pause(request.currentTime());
-      case SEEK -> watchRoom.seekTo(request.currentTime());
-      default -> throw new UnsupportedVideoControlActionException();
-    }
-
-    WatchRoom savedWatchRoom = watchRoomRepository.save(watchRoom);
+    PlaybackState state = watchRoomStateEngine.control(roomId, request.videoControlAction(),
+        request.currentTime(), username);
 
-    log.info("updateVideoStatus - 비디오 상태 업데이트 완료: roomId = {}, username = {}, isPlaying = {},"
-            + "playTime = {}", savedWatchRoom.getId(), savedWatchRoom.getOwner().getId(),
-        savedWatchRoom.getIsPlaying(), savedWatchRoom.getPlayTime());
+    log.debug("updateVideoStatus - 비디오 상태 업데이트 완료: roomId = {}, ownerId = {}, isPlaying = {},"
+        + "playTime = {}", roomId, state.ownerId(), state.isPlaying(), state.playTime());
 
     return VideoSyncDto.builder()
         .videoControlAction(request.videoControlAction())
-        .currentTime(savedWatchRoom.getPlayTime())
-        .isPlaying(savedWatchRoom.getIsPlaying())
+        .currentTime(state.playTime())
+        .isPlaying(state.isPlaying())
+        .timestamp(System.currentTimeMillis())
         .build();
   }
 
   @Override
-  @Transactional
+  @Transactional(readOnly = true)
   public ParticipantsInfoDto getParticipants(UUID watchRoomId) {
     log.info("getParticipants - 참여자 정보 조회 시작: watchRoomId = {}", watchRoomId);
 
-    WatchRoom watchRoom = watchRoomRepository.findById(watchRoomId)
-        .orElseThrow(WatchRoomRoomNotFoundException::new);
-
-    ParticipantsInfoDto participantsInfoDto = getParticipantsInfoDto(watchRoom);
+    ParticipantsInfoDto participantsInfoDto = watchRoomParticipantRoster.snapshot(watchRoomId);
     log.info("getParticipants - 참여자 정보 조회 완료: watchRoomId = {}, participantCount = {}",
         watchRoomId, participantsInfoDto.participantCount());
     return participantsInfoDto;
@@ -246,19 +242,31 @@ public class WatchRoomServiceImpl implements WatchRoomService {
     WatchRoom watchRoom = watchRoomRepository.findById(roomId)
         .orElseThrow(WatchRoomRoomNotFoundException::new);
 
-    watchRoomParticipantRepository.findByUserAndWatchRoom(user, watchRoom)
-        .ifPresent(watchRoomParticipantRepository::delete);
+    Optional<WatchRoomParticipant> leaving = watchRoomParticipantRepository.findByUserAndWatchRoom(user,
+        watchRoom);
+    leaving.ifPresent(participant -> {
+      watchRoomParticipantRepository.delete(participant);
+      watchRoomRepository.adjustParticipantCount(roomId, -1);
+      watchRoomListingIndex.refresh(roomId);
+    });
+    long participantVersion = leaving.isPresent() ? watchRoomRepository.findParticipantVersion(roomId) : 0;
 
     watchRoomParticipantRepository.findFirstByWatchRoom(watchRoom).ifPresentOrElse(
         // 남아있는 사람이 있다면 참여자 중 한명에게 방장 넘김
         watchRoomParticipant -> {
           User newOwner = watchRoomParticipant.getUser();
           watchRoom.changeOwner(newOwner);
+          watchRoomStateEngine.invalidate(roomId);
+          if (leaving.isPresent()) {
+            watchRoomParticipantRoster.left(roomId, user, newOwner.getId(), participantVersion);
+          }
         },
         // 남아있는 사람이 아무도 없으면 시청방 삭제
         () -> {
           watchRoomMessageRepository.deleteAllByWatchRoom(watchRoom);
           watchRoomRepository.delete(watchRoom);
+          watchRoomStateEngine.invalidate(roomId);
+          watchRoomParticipantRoster.removed(roomId);
         }
     );
   }
@@ -267,39 +275,46 @@ public class WatchRoomServiceImpl implements WatchRoomService {
     log.debug("getWatchRoomInfoDtoWithNewUser - 시청방 정보 조회 및 새 참여자: watchRoomId = {}",
         watchRoom.getId());
 
-    if (!watchRoom.getIsPlaying()) {
+    // 재생 상태는 메모리에 있는 최신 상태를 우선 사용 (DB 는 지연 쓰기라 늦을 수 있음)
+    PlaybackState state = playbackStateOf(watchRoom);
+    if (!state.isPlaying()) {
       return WatchRoomInfoDto.builder()
           .id(watchRoom.getId())
           .newUserId(user.getId())
-          .playTime(watchRoom.getPlayTime())
-          .isPlaying(watchRoom.getIsPlaying())
+          .playTime(state.playTime())
+          .isPlaying(false)
           .content(ContentDto.from(watchRoom.getContent()))
           .participantsInfoDto(getParticipantsInfoDto(watchRoom))
           .build();
     }
 
-    Double nowPlayTime =
-        (double) Duration.between(watchRoom.getVideoStateUpdatedAt(), LocalDateTime.now())
-            .toSeconds() + watchRoom.getPlayTime() + 1.3;
+    Double nowPlayTime = state.currentPlayTime(LocalDateTime.now()) + 1.3;
 
     return WatchRoomInfoDto.builder()
         .id(watchRoom.getId())
         .newUserId(user.getId())
         .playTime(nowPlayTime)
-        .isPlaying(watchRoom.getIsPlaying())
+        .isPlaying(true)
         .content(ContentDto.from(watchRoom.getContent()))
         .participantsInfoDto(getParticipantsInfoDto(watchRoom))
         .build();
   }
 
+  private PlaybackState playbackStateOf(WatchRoom watchRoom) {
+    return watchRoomStateEngine.find(watchRoom.getId())
+        .orElseGet(() -> new PlaybackState(watchRoom.getOwner().getId(), watchRoom.getOwner().getEmail(),
+            watchRoom.getPlayTime(), watchRoom.getIsPlaying(), watchRoom.getVideoStateUpdatedAt()));
+  }
+
   //시청방 정보 + 참여자 정보 조회
   private WatchRoomInfoDto getWatchRoomInfoDto(WatchRoom watchRoom) {
     log.debug("getWatchRoomInfoDto - 시청방 정보 조회: watchRoomId = {}", watchRoom.getId());
+    PlaybackState state = playbackStateOf(watchRoom);
     WatchRoomInfoDto watchRoomInfoDto = WatchRoomInfoDto.builder()
         .id(watchRoom.getId())
         .content(ContentDto.from(watchRoom.getContent()))
-        .playTime(watchRoom.getPlayTime())
-        .isPlaying(watchRoom.getIsPlaying())
+        .playTime(state.playTime())
+        .isPlaying(state.isPlaying())
         .participantsInfoDto(getParticipantsInfoDto(watchRoom))
         .build();
 
@@ -311,25 +326,13 @@ public class WatchRoomServiceImpl implements WatchRoomService {
     return watchRoomInfoDto;
   }
 
-  // 참여자 목록 조회
-// todo - 리팩토링
+  // 참여자 목록 조회 (참여자 명단 캐시)
   private ParticipantsInfoDto getParticipantsInfoDto(WatchRoom watchRoom) {
     log.debug("getParticipantsInfoDto - 참여자 목록 조회: watchRoomId = {}", watchRoom.getId());
-    List<WatchRoomParticipant> participants = watchRoomParticipantRepository.findByWatchRoom(
-        watchRoom);
+    ParticipantsInfoDto participantsInfoDto = watchRoomParticipantRoster.snapshot(watchRoom.getId());
 
-    List<ParticipantDto> participantList = participants.stream()
-        .map(participant -> new ParticipantDto(
-            participant.getUser().getId(),
-            participant.getUser().getName(),
-            participant.getUser().getProfileImage(),
-            participant.getUser().getId().equals(watchRoom.getOwner().getId()))).toList();
-
-    log.debug("getParticipantsInfoDto - 참여자 목록 조회 결과: watchRoomId = {}, participantCount = {} ",
-        watchRoom.getId(), participants.size());
-    return ParticipantsInfoDto.builder()
-        .participantDtoList(participantList)
-        .participantCount(participantList.size())
-        .build();
+    log.debug("getParticipantsInfoDto - 참여자 목록 조회 결과: watchRoomId = {}, participantCount = {}, version = {}",
+        watchRoom.getId(), participantsInfoDto.participantCount(), participantsInfoDto.version());
+    return participantsInfoDto;
   }
 }
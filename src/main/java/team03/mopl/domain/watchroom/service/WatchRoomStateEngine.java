@@ -0,0 +1,337 @@
+package team03.mopl.domain.watchroom.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.common.exception.watchroom.UnsupportedVideoControlActionException;
+import team03.mopl.common.exception.watchroom.VideoControlPermissionDeniedException;
+import team03.mopl.common.exception.watchroom.WatchRoomRoomNotFoundException;
+import team03.mopl.domain.watchroom.entity.VideoControlAction;
+import team03.mopl.domain.watchroom.entity.WatchRoom;
+import team03.mopl.domain.watchroom.repository.WatchRoomRepository;
+
+/**
+ * 활성 시청방의 재생 상태(방장, playTime, isPlaying, videoStateUpdatedAt)를 메모리에 보관하는 엔진
+ *
+ * 비디오 제어 이벤트는 DB 조회/저장 없이 메모리 상태에 바로 반영하고, watch_rooms 에는 debounceMillis 뒤에 마지막 상태만 씁니다.
+ * 처음 접근한 방은 DB 에서 한 번 읽어 오고, 변경 없이 idleSeconds 가 지나면 메모리에서 내립니다.
+ * 다른 노드의 재생 상태 변경은 클러스터 버스로 받아 반영하며, 방장 변경/방 삭제 시 invalidate 로 모든 노드의 상태를 지웁니다.
+ */
+@Slf4j
+@Component
+public class WatchRoomStateEngine {
+
+  /**
+   * 한 시점의 재생 상태
+   *
+   * @param ownerId 방장 ID
+   * @param ownerEmail 방장 이메일 (STOMP principal name)
+   * @param playTime videoStateUpdatedAt 시점의 재생 위치(초)
+   * @param isPlaying 재생 중 여부
+   * @param videoStateUpdatedAt 마지막 제어 시각
+   */
+  public record PlaybackState(UUID ownerId, String ownerEmail, double playTime, boolean isPlaying,
+                              LocalDateTime videoStateUpdatedAt) {
+
+    /**
+     * 재생 중이면 마지막 제어 이후 흐른 시간(초 단위)을 더한 현재 재생 위치
+     */
+    public double currentPlayTime(LocalDateTime now) {
+      if (!isPlaying) {
+        return playTime;
+      }
+      return Duration.between(videoStateUpdatedAt, now).toSeconds() + playTime;
+    }
+  }
+
+  private static final ZoneId ZONE = ZoneId.systemDefault();
+
+  private final Map<UUID, RoomState> rooms = new ConcurrentHashMap<>();
+  private final WatchRoomRepository watchRoomRepository;
+  private final ClusterBus clusterBus;
+  private final ScheduledExecutorService scheduler;
+  private final long debounceMillis;
+  private final long idleNanos;
+  private final Counter flushes;
+  private final Counter flushFailures;
+  private final Counter controls;
+
+  @Autowired
+  public WatchRoomStateEngine(
+      WatchRoomRepository watchRoomRepository,
+      ClusterBus clusterBus,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.watchroom.state.debounce-millis:1000}") long debounceMillis,
+      @Value("${mopl.watchroom.state.idle-seconds:600}") long idleSeconds) {
+    this(watchRoomRepository, clusterBus, meterRegistry, debounceMillis, idleSeconds,
+        Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("watchroom-state-")));
+  }
+
+  WatchRoomStateEngine(
+      WatchRoomRepository watchRoomRepository,
+      ClusterBus clusterBus,
+      MeterRegistry meterRegistry,
+      long debounceMillis,
+      long idleSeconds,
+      ScheduledExecutorService scheduler) {
+    this.watchRoomRepository = watchRoomRepository;
+    this.clusterBus = clusterBus;
+    this.scheduler = scheduler;
+    this.debounceMillis = debounceMillis;
+    this.idleNanos = Duration.ofSeconds(idleSeconds).toNanos();
+    this.flushes = Counter.builder("watchroom.state.flush")
+        .description("watch_rooms 에 쓴 재생 상태 수")
+        .register(meterRegistry);
+    this.flushFailures = Counter.builder("watchroom.state.flush.failed")
+        .description("watch_rooms 에 쓰지 못한 재생 상태 수")
+        .register(meterRegistry);
+    this.controls = Counter.builder("watchroom.state.control")
+        .description("메모리에 반영한 비디오 제어 이벤트 수")
+        .register(meterRegistry);
+
+    Gauge.builder("watchroom.state.rooms", rooms, Map::size)
+        .description("재생 상태를 메모리에 보관 중인 시청방 수")
+        .register(meterRegistry);
+
+    clusterBus.subscribe(ClusterMessage.Kind.WATCH_ROOM_STATE, this::onClusterMessage);
+  }
+
+  /**
+   * 메모리에 있는 방의 재생 상태, 아직 불러오지 않은 방이면 empty
+   */
+  public Optional<PlaybackState> find(UUID roomId) {
+    RoomState room = rooms.get(roomId);
+    return room == null ? Optional.empty() : Optional.of(room.snapshot());
+  }
+
+  /**
+   * 방장의 비디오 제어를 메모리 상태에 반영하고, 반영된 상태를 반환합니다.
+   *
+   * @param currentTime 방장 플레이어의 재생 위치, 없으면 서버가 계산한 현재 위치
+   */
+  public PlaybackState control(UUID roomId, VideoControlAction action, Double currentTime, String username) {
+    RoomState room = load(roomId);
+    PlaybackState applied;
+    boolean scheduleFlush;
+    synchronized (room) {
+      if (!room.ownerEmail.equals(username)) {
+        log.warn("방장이 아닌 사람이 제어 시도: roomId = {}", roomId);
+        throw new VideoControlPermissionDeniedException();
+      }
+      LocalDateTime now = LocalDateTime.now();
+      double position = currentTime != null ? currentTime : room.snapshot().currentPlayTime(now);
+      switch (action) {
+        case PLAY -> room.isPlaying = true;
+        case PAUSE -> {
+          room.playTime = position;
+          room.isPlaying = false;
+        }
+        case SEEK -> room.playTime = position;
+        default -> throw new UnsupportedVideoControlActionException();
+      }
+      room.videoStateUpdatedAt = now;
+      room.touchedAtNanos = System.nanoTime();
+      scheduleFlush = !room.dirty;
+      room.dirty = true;
+      applied = room.snapshot();
+    }
+    controls.increment();
+
+    if (scheduleFlush) {
+      scheduleFlush(roomId, room);
+    }
+    publishPlayback(roomId, applied);
+    return applied;
+  }
+
+  /**
+   * 방장 변경, 방 삭제처럼 DB 의 방 정보가 바뀌었을 때 호출합니다.
+   * 트랜잭션 안이면 커밋 후에 남은 재생 상태를 쓰고 모든 노드에서 지워, 다음 접근 때 DB 에서 다시 읽게 합니다.
+   */
+  public void invalidate(UUID roomId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publishInvalidation(roomId);
+        }
+      });
+      return;
+    }
+    publishInvalidation(roomId);
+  }
+
+  private void publishInvalidation(UUID roomId) {
+    evict(roomId);
+    try {
+      clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.WATCH_ROOM_STATE, roomId.toString(), null, null));
+    } catch (Exception e) {
+      log.warn("시청방 상태 무효화 전파 실패: roomId = {}, 에러 = {}", roomId, e.getMessage());
+    }
+  }
+
+  private void evict(UUID roomId) {
+    RoomState room = rooms.remove(roomId);
+    if (room != null) {
+      flush(roomId, room);
+    }
+  }
+
+  private RoomState load(UUID roomId) {
+    RoomState room = rooms.get(roomId);
+    if (room != null) {
+      return room;
+    }
+    WatchRoom watchRoom = watchRoomRepository.findWithOwnerById(roomId)
+        .orElseThrow(WatchRoomRoomNotFoundException::new);
+    // 불러오는 사이 다른 스레드가 먼저 넣었다면 그 상태를 사용
+    return rooms.computeIfAbsent(roomId, id -> new RoomState(watchRoom));
+  }
+
+  // 그 사이 방이 메모리에서 내려가도 변경이 남도록 상태 객체를 직접 넘김
+  private void scheduleFlush(UUID roomId, RoomState room) {
+    try {
+      scheduler.schedule(() -> flush(roomId, room), debounceMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // 종료 중이면 바로 씀
+      flush(roomId, room);
+    }
+  }
+
+  private void flush(UUID roomId, RoomState room) {
+    PlaybackState state;
+    synchronized (room) {
+      if (!room.dirty) {
+        return;
+      }
+      room.dirty = false;
+      state = room.snapshot();
+    }
+    try {
+      watchRoomRepository.updatePlayback(roomId, state.playTime(), state.isPlaying(), state.videoStateUpdatedAt());
+      flushes.increment();
+    } catch (Exception e) {
+      flushFailures.increment();
+      log.error("시청방 재생 상태 저장 실패: roomId = {}", roomId, e);
+      boolean reschedule;
+      synchronized (room) {
+        reschedule = !room.dirty;
+        room.dirty = true;
+      }
+      if (reschedule) {
+        scheduleFlush(roomId, room);
+      }
+    }
+  }
+
+  private void publishPlayback(UUID roomId, PlaybackState state) {
+    long updatedAtMillis = state.videoStateUpdatedAt().atZone(ZONE).toInstant().toEpochMilli();
+    try {
+      clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.WATCH_ROOM_STATE, roomId.toString(), null,
+          state.playTime() + ":" + state.isPlaying() + ":" + updatedAtMillis));
+    } catch (Exception e) {
+      // 다른 노드는 다음 무효화나 idle 만료 후 DB 에서 다시 읽음
+      log.warn("시청방 재생 상태 전파 실패: roomId = {}, 에러 = {}", roomId, e.getMessage());
+    }
+  }
+
+  private void onClusterMessage(ClusterMessage message) {
+    UUID roomId = UUID.fromString(message.target());
+    if (message.payload() == null) {
+      evict(roomId);
+      return;
+    }
+    RoomState room = rooms.get(roomId);
+    if (room == null) {
+      return;
+    }
+    String[] parts = message.payload().split(":");
+    LocalDateTime updatedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[2])), ZONE);
+    synchronized (room) {
+      // 자기 노드에서 발행한 메시지나 더 오래된 변경은 무시
+      if (!updatedAt.isAfter(room.videoStateUpdatedAt)) {
+        return;
+      }
+      room.playTime = Double.parseDouble(parts[0]);
+      room.isPlaying = Boolean.parseBoolean(parts[1]);
+      room.videoStateUpdatedAt = updatedAt;
+      room.touchedAtNanos = System.nanoTime();
+    }
+  }
+
+  /**
+   * 변경 없이 오래 지난 방을 메모리에서 내립니다. 쓰지 않은 상태가 있으면 먼저 씁니다.
+   */
+  @Scheduled(fixedDelayString = "${mopl.watchroom.state.sweep-millis:60000}")
+  public void evictIdle() {
+    long now = System.nanoTime();
+    rooms.forEach((roomId, room) -> {
+      if (now - room.touchedAtNanos > idleNanos) {
+        evict(roomId);
+      }
+    });
+  }
+
+  @PreDestroy
+  public void cleanup() {
+    log.info("WatchRoomStateEngine cleanup 시작 - 보관 중인 방 수: {}", rooms.size());
+    scheduler.shutdownNow();
+    rooms.forEach(this::flush);
+    log.info("WatchRoomStateEngine cleanup 완료");
+  }
+
+  int size() {
+    return rooms.size();
+  }
+
+  /**
+   * 방 하나의 재생 상태. 항상 이 객체로 동기화한 뒤 읽고 씁니다.
+   */
+  private static class RoomState {
+
+    private final UUID ownerId;
+    private final String ownerEmail;
+    private double playTime;
+    private boolean isPlaying;
+    private LocalDateTime videoStateUpdatedAt;
+    private boolean dirty;
+    private long touchedAtNanos = System.nanoTime();
+
+    private RoomState(WatchRoom watchRoom) {
+      this.ownerId = watchRoom.getOwner().getId();
+      this.ownerEmail = watchRoom.getOwner().getEmail();
+      this.playTime = watchRoom.getPlayTime() != null ? watchRoom.getPlayTime() : 0.0;
+      this.isPlaying = Boolean.TRUE.equals(watchRoom.getIsPlaying());
+      this.videoStateUpdatedAt = watchRoom.getVideoStateUpdatedAt() != null
+          ? watchRoom.getVideoStateUpdatedAt()
+          : LocalDateTime.now();
+    }
+
+    private synchronized PlaybackState snapshot() {
+      return new PlaybackState(ownerId, ownerEmail, playTime, isPlaying, videoStateUpdatedAt);
+    }
+  }
+}
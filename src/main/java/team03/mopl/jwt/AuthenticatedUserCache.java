@@ -0,0 +1,104 @@
+package team03.mopl.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.domain.user.User;
+
+/**
+ * 인증된 요청의 principal 이 토큰 클레임에 없는 유저 정보(이름, 프로필 이미지, 잠금 여부 등)를 필요로 할 때 쓰는 캐시
+ *
+ * 항목은 ttl 이 지나면 다시 조회하고, 권한 변경/잠금/정보 수정 시 invalidate 로 즉시 지웁니다.
+ * invalidate 는 클러스터 버스로 모든 노드에 전파되며, 트랜잭션 안에서 호출하면 커밋 후에 지워서
+ * 커밋 전 값이 다시 캐시되지 않게 합니다.
+ * 보관 유저 수가 maxSize 에 도달하면 만료된 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않고 매번 조회합니다.
+ */
+@Slf4j
+@Component
+public class AuthenticatedUserCache {
+
+  private record Entry(User user, long expiresAtNanos) {}
+
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+  private final ClusterBus clusterBus;
+  private final long ttlNanos;
+  private final int maxSize;
+  private final Counter hits;
+  private final Counter misses;
+
+  public AuthenticatedUserCache(
+      ClusterBus clusterBus,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.auth.user-cache.ttl-seconds:300}") long ttlSeconds,
+      @Value("${mopl.auth.user-cache.max-size:10000}") int maxSize) {
+    this.clusterBus = clusterBus;
+    this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+    this.maxSize = maxSize;
+    this.hits = Counter.builder("auth.user.cache").tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder("auth.user.cache").tag("result", "miss").register(meterRegistry);
+
+    Gauge.builder("auth.user.cache.size", entries, Map::size)
+        .description("principal 유저 캐시에 보관 중인 유저 수")
+        .register(meterRegistry);
+
+    // 다른 노드에서 변경된 유저도 지움 (발행한 노드 자신에게도 전달됨)
+    clusterBus.subscribe(ClusterMessage.Kind.USER_INVALIDATED, message -> entries.remove(UUID.fromString(message.target())));
+  }
+
+  public User get(UUID userId, Function<UUID, User> loader) {
+    long now = System.nanoTime();
+    Entry entry = entries.get(userId);
+    if (entry != null && entry.expiresAtNanos() - now > 0) {
+      hits.increment();
+      return entry.user();
+    }
+
+    misses.increment();
+    User user = loader.apply(userId);
+    if (entries.size() >= maxSize) {
+      entries.values().removeIf(e -> e.expiresAtNanos() - now <= 0);
+    }
+    if (entries.size() < maxSize) {
+      entries.put(userId, new Entry(user, now + ttlNanos));
+    }
+    return user;
+  }
+
+  /**
+   * 유저 정보가 바뀌었을 때 호출합니다. 모든 노드의 캐시에서 지워집니다.
+   */
+  public void invalidate(UUID userId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publishInvalidation(userId);
+        }
+      });
+      return;
+    }
+    publishInvalidation(userId);
+  }
+
+  private void publishInvalidation(UUID userId) {
+    entries.remove(userId);
+    try {
+      clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.USER_INVALIDATED, userId.toString(), null, null));
+    } catch (Exception e) {
+      // 다른 노드는 ttl 이 지나면 다시 조회함
+      log.warn("유저 캐시 무효화 전파 실패: userId={}, 에러={}", userId, e.getMessage());
+    }
+  }
+}
@@ -5,16 +5,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import org.springframework.beans.factory.annotation.Value;
+import java.util.function.Supplier;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
+import team03.mopl.domain.user.Role;
 import team03.mopl.domain.user.User;
 
 public class CustomUserDetails implements UserDetails, OAuth2User {
 
+  private final UUID id;
+  private final String email;
+  private final Role role;
   private User user;
+  // 클레임으로 만든 principal 은 User 가 필요할 때 불러옴
+  private final Supplier<User> userLoader;
   private Map<String, Object> attributes;
 
   public CustomUserDetails(User user) {
@@ -22,21 +28,40 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
   }
 
   public CustomUserDetails(User user, Map<String, Object> attributes) {
+    this.id = user.getId();
+    this.email = user.getEmail();
+    this.role = user.getRole();
     this.user = user;
+    this.userLoader = null;
     this.attributes = attributes;
   }
 
+  /**
+   * 검증된 토큰 클레임으로 principal 을 만듭니다. ID, 이메일, 권한은 클레임 값을 쓰고
+   * 나머지 유저 정보는 getUser() 를 처음 호출할 때 userLoader 로 불러옵니다.
+   */
+  public CustomUserDetails(JwtClaims claims, Supplier<User> userLoader) {
+    this.id = claims.userId();
+    this.email = claims.email();
+    this.role = claims.role();
+    this.userLoader = userLoader;
+    this.attributes = Map.of();
+  }
+
   public User getUser() {
+    if (user == null) {
+      user = userLoader.get();
+    }
     return user;
   }
 
   public UUID getId() {
-    return user.getId();
+    return id;
   }
 
   @Override
   public String getPassword() {
-    return user.getPassword();
+    return getUser().getPassword();
   }
 
   @Override
@@ -46,12 +71,12 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+    return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
   }
 
   @Override
   public String getUsername() {
-    return user.getEmail();
+    return email;
   }
 
   @Override
@@ -60,16 +85,16 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
     if (!(o instanceof CustomUserDetails that)) {
       return false;
     }
-    return Objects.equals(getUser(), that.getUser().getId());
+    return Objects.equals(id, that.id);
   }
 
   @Override
   public int hashCode() {
-    return user.getId().hashCode();
+    return id.hashCode();
   }
 
   @Override
   public String getName() {
-    return user.getId().toString();
+    return id.toString();
   }
 }
@@ -2,6 +2,7 @@ package team03.mopl.jwt;
 
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,6 +15,11 @@ import team03.mopl.domain.user.UserRepository;
 public class CustomUserDetailsService implements UserDetailsService {
 
   private final UserRepository userRepository;
+  private final AuthenticatedUserCache authenticatedUserCache;
+
+  // claims: 토큰 클레임으로 principal 생성 (요청마다 DB 조회 없음), database: 요청마다 유저 조회
+  @Value("${mopl.auth.principal-source:claims}")
+  private String principalSource = "claims";
 
   public CustomUserDetails loadUserById(UUID userId){
     User user = userRepository.findById(userId).orElseThrow(
@@ -21,6 +27,18 @@ public class CustomUserDetailsService implements UserDetailsService {
     return new CustomUserDetails(user);
   }
 
+  /**
+   * 검증된 토큰의 principal 을 만듭니다.
+   * claims 모드에서는 클레임만으로 만들고, 클레임에 없는 유저 정보는 필요할 때 캐시를 거쳐 조회합니다.
+   */
+  public CustomUserDetails loadUserByClaims(JwtClaims claims) {
+    if (!"claims".equals(principalSource) || claims.email() == null || claims.role() == null) {
+      return loadUserById(claims.userId());
+    }
+    return new CustomUserDetails(claims,
+        () -> authenticatedUserCache.get(claims.userId(), id -> loadUserById(id).getUser()));
+  }
+
   @Override
   public UserDetails loadUserByUsername(String email){
     User user = userRepository.findByEmail(email)
@@ -1,44 +1,65 @@
 package team03.mopl.jwt;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.server.PathContainer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import org.springframework.web.filter.OncePerRequestFilter;
-
-@RequiredArgsConstructor
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Authorization 헤더의 JWT 로 인증 정보를 설정하는 필터
+ *
+ * bypassPaths(헬스 체크, 프로메테우스 등 인증이 필요 없는 경로)와 Authorization 헤더가 없는 요청은 토큰 처리 없이 바로 통과합니다.
+ * 경로 패턴은 생성 시 한 번만 컴파일하며, 필터 자체 처리 시간은 security.jwt.filter{route, outcome} 타이머로 집계합니다.
+ * route 태그는 일치한 우회 패턴이고, 그 외 요청은 "other" 로 묶어 태그 수가 늘지 않게 합니다.
+ */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtProvider jwtProvider;
   private final CustomUserDetailsService userDetailsService;
-  private final JwtBlacklist jwtBlacklist;
+  private final List<PathPattern> bypassPatterns;
+  private final MeterRegistry meterRegistry;
 
   private static final String AUTHORIZATION_HEADER = "Authorization";
   private static final String BEARER_PREFIX = "Bearer ";
-
+  private static final String OTHER_ROUTE = "other";
+
+  public JwtAuthenticationFilter(JwtProvider jwtProvider, CustomUserDetailsService userDetailsService,
+      List<String> bypassPaths, MeterRegistry meterRegistry) {
+    this.jwtProvider = jwtProvider;
+    this.userDetailsService = userDetailsService;
+    this.meterRegistry = meterRegistry;
+    this.bypassPatterns = bypassPaths.stream()
+        .map(String::trim)
+        .filter(path -> !path.isEmpty())
+        .map(PathPatternParser.defaultInstance::parse)
+        .toList();
+  }
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
       FilterChain filterChain) throws ServletException, IOException {
+    long start = System.nanoTime();
 
     String token=extractToken(request);
 
-    if (token != null && jwtProvider.validateToken(token)) {
-      if(jwtBlacklist.blacklisted(token)) {
-        filterChain.doFilter(request, response);
-        return;
-      }
-
-
-      UUID userId = jwtProvider.extractUserId(token);
-      UserDetails userDetails = userDetailsService.loadUserById(userId);
+    // 블랙리스트 확인과 서명 검증은 verify 한 번으로 끝냄
+    Optional<JwtClaims> claims = token != null ? jwtProvider.verify(token) : Optional.empty();
+    if (claims.isPresent()) {
+      UserDetails userDetails = userDetailsService.loadUserByClaims(claims.get());
 
       UsernamePasswordAuthenticationToken authentication =
           new UsernamePasswordAuthenticationToken(
@@ -47,6 +68,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
       SecurityContextHolder.getContext().setAuthentication(authentication);
     }
+    record(OTHER_ROUTE, claims.isPresent() ? "authenticated" : "rejected", start);
 
     filterChain.doFilter(request, response);
   }
@@ -61,7 +83,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   @Override
   protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-    String uri = request.getRequestURI();
-    return uri.startsWith("/profile/");
+    long start = System.nanoTime();
+    PathContainer path = PathContainer.parsePath(request.getRequestURI());
+    for (PathPattern pattern : bypassPatterns) {
+      if (pattern.matches(path)) {
+        record(pattern.getPatternString(), "bypassed", start);
+        return true;
+      }
+    }
+    // 토큰이 없으면 인증 정보를 만들 일이 없으므로 바로 통과
+    if (request.getHeader(AUTHORIZATION_HEADER) == null) {
+      record(OTHER_ROUTE, "no_token", start);
+      return true;
+    }
+    return false;
+  }
+
+  private void record(String route, String outcome, long startNanos) {
+    Timer.builder("security.jwt.filter")
+        .description("JWT 인증 필터 자체 처리 시간 (이후 필터 체인 제외)")
+        .tag("route", route)
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
   }
 }
@@ -0,0 +1,187 @@
+package team03.mopl.jwt;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트 토큰을 메모리에 보관하는 인덱스 (MemoryJwtBlacklist, RedisJwtBlacklist 의 로컬 캐시에서 공용)
+ *
+ * - 토큰 원문 대신 TokenDigest 를 절대 만료 시각(epoch millis)과 함께 보관합니다.
+ * - 만료는 tick 단위 버킷으로 나눈 타이밍 휠로 처리하므로, expire 는 지난 버킷만 확인합니다.
+ *   휠 한 바퀴보다 먼 만료 시각은 해당 버킷에 남겨 두었다가 다음 바퀴에 다시 확인합니다.
+ * - 조회 앞단의 Bloom filter 는 토큰 문자를 직접 해시하므로,
+ *   대부분인 "블랙리스트 아님" 조회는 객체를 만들지 않고 끝납니다.
+ *   Bloom filter 에서 지울 수는 없으므로 만료된 항목이 생기면 남은 항목으로 다시 만듭니다.
+ */
+public class JwtBlacklistIndex {
+
+  /**
+   * @param deadline 만료 시각 (epoch millis)
+   * @param hash1 Bloom filter 첫 번째 해시 (다시 만들 때 토큰 없이 사용)
+   * @param hash2 Bloom filter 두 번째 해시
+   */
+  public record Entry(long deadline, long hash1, long hash2) {}
+
+  private static final int HASH_FUNCTIONS = 7;
+
+  private final Map<TokenDigest, Entry> entries = new ConcurrentHashMap<>();
+  private final Set<TokenDigest>[] wheel;
+  private final long tickMillis;
+  private final int bloomBits;
+  private volatile BloomFilter bloom;
+  // 다음에 확인할 tick (epoch millis / tickMillis)
+  private long cursor;
+
+  @SuppressWarnings("unchecked")
+  public JwtBlacklistIndex(long tickMillis, int wheelSize, int expectedEntries) {
+    this.tickMillis = tickMillis;
+    this.wheel = new Set[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = ConcurrentHashMap.newKeySet();
+    }
+    // 오탐률 약 1% 기준 (항목당 약 10bit)
+    this.bloomBits = Math.max(1024, expectedEntries * 10);
+    this.bloom = new BloomFilter(bloomBits);
+    this.cursor = System.currentTimeMillis() / tickMillis;
+  }
+
+  public void add(String token, long deadline) {
+    add(TokenDigest.of(token), new Entry(deadline, hash1(token), hash2(token)));
+  }
+
+  /**
+   * 다른 노드/Redis 에서 받은 항목을 추가합니다. 이미 있으면 더 늦은 만료 시각을 유지합니다.
+   */
+  public synchronized void add(TokenDigest digest, Entry entry) {
+    Entry merged = entries.merge(digest, entry, (old, added) -> old.deadline() >= added.deadline() ? old : added);
+    if (merged == entry) {
+      wheel[slot(entry.deadline())].add(digest);
+      bloom.put(entry.hash1(), entry.hash2());
+    }
+  }
+
+  public boolean contains(String token, long now) {
+    long hash1 = hash1(token);
+    long hash2 = hash2(token);
+    if (!bloom.mightContain(hash1, hash2)) {
+      return false;
+    }
+    Entry entry = entries.get(TokenDigest.of(token));
+    return entry != null && entry.deadline() > now;
+  }
+
+  /**
+   * 지난 tick 의 버킷에서 만료된 항목을 지우고, 지운 항목이 있으면 Bloom filter 를 다시 만듭니다.
+   *
+   * @return 지운 항목 수
+   */
+  public synchronized int expire(long now) {
+    long target = now / tickMillis;
+    // 휠 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 확인
+    long from = Math.max(cursor, target - wheel.length + 1);
+    int removed = 0;
+    for (long tick = from; tick <= target; tick++) {
+      Set<TokenDigest> bucket = wheel[(int) Math.floorMod(tick, (long) wheel.length)];
+      for (TokenDigest digest : bucket) {
+        Entry entry = entries.get(digest);
+        if (entry == null || entry.deadline() <= now) {
+          bucket.remove(digest);
+          if (entry != null && entries.remove(digest, entry)) {
+            removed++;
+          }
+        } else if (slot(entry.deadline()) != Math.floorMod(tick, (long) wheel.length)) {
+          // 더 늦은 만료 시각으로 갱신된 항목은 새 버킷에 이미 들어가 있음
+          bucket.remove(digest);
+        }
+      }
+    }
+    cursor = target + 1;
+    if (removed > 0) {
+      rebuildBloom();
+    }
+    return removed;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private void rebuildBloom() {
+    BloomFilter rebuilt = new BloomFilter(bloomBits);
+    entries.values().forEach(entry -> rebuilt.put(entry.hash1(), entry.hash2()));
+    bloom = rebuilt;
+  }
+
+  private int slot(long deadline) {
+    return (int) Math.floorMod(deadline / tickMillis, (long) wheel.length);
+  }
+
+  // 토큰 문자에서 바로 계산하는 64bit 해시 두 개 (FNV-1a, 31 곱셈 해시를 각각 섞음)
+  static long hash1(String token) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < token.length(); i++) {
+      hash ^= token.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  static long hash2(String token) {
+    long hash = 17;
+    for (int i = 0; i < token.length(); i++) {
+      hash = hash * 31 + token.charAt(i);
+    }
+    return mix(hash ^ 0x9e3779b97f4a7c15L);
+  }
+
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  /**
+   * 해시 두 개로 HASH_FUNCTIONS 개의 비트 위치를 만드는 Bloom filter (Kirsch-Mitzenmacher)
+   */
+  private static class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bits;
+
+    private BloomFilter(int bits) {
+      this.words = new AtomicLongArray((bits + 63) / 64);
+      this.bits = words.length() * 64;
+    }
+
+    private void put(long hash1, long hash2) {
+      for (int i = 0; i < HASH_FUNCTIONS; i++) {
+        int bit = index(hash1, hash2, i);
+        long mask = 1L << bit;
+        int word = bit >>> 6;
+        long current;
+        do {
+          current = words.get(word);
+        } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+      }
+    }
+
+    private boolean mightContain(long hash1, long hash2) {
+      for (int i = 0; i < HASH_FUNCTIONS; i++) {
+        int bit = index(hash1, hash2, i);
+        if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private int index(long hash1, long hash2, int i) {
+      return (int) Math.floorMod(hash1 + i * hash2, (long) bits);
+    }
+  }
+}
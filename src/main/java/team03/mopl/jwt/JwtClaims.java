@@ -0,0 +1,23 @@
+package team03.mopl.jwt;
+
+import java.time.Instant;
+import java.util.UUID;
+import team03.mopl.domain.user.Role;
+
+/**
+ * 서명 검증을 마친 JWT 의 클레임 (불변)
+ *
+ * JwtProvider.verify 가 토큰을 한 번만 파싱해 만들며, 이후 필요한 값은 다시 파싱하지 않고 여기서 꺼내 씁니다.
+ *
+ * @param userId 토큰 subject (유저 ID)
+ * @param email 이메일
+ * @param role 발급 시점의 권한
+ * @param type access / refresh
+ * @param expiresAt 만료 시각
+ */
+public record JwtClaims(UUID userId, String email, Role role, String type, Instant expiresAt) {
+
+  public long remainingMillis() {
+    return expiresAt.toEpochMilli() - System.currentTimeMillis();
+  }
+}
@@ -3,18 +3,21 @@ package team03.mopl.jwt;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
-
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import team03.mopl.domain.user.Role;
 import team03.mopl.domain.user.User;
 
 @Component
@@ -32,6 +35,18 @@ public class JwtProvider {
   @Value("${jwt.refresh-token-expiration}")
   private long refreshTokenExpiration;
 
+  // 서명 키와 파서는 시크릿이 바뀌지 않으므로 시작 시 한 번만 생성 (둘 다 thread-safe)
+  private SecretKey signingKey;
+  private JwtParser jwtParser;
+
+  @PostConstruct
+  void init() {
+    signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    jwtParser = Jwts.parser()
+        .verifyWith(signingKey)
+        .build();
+  }
+
   public String generateToken(User user) {
     Date now = new Date();
     Date expiration = new Date(now.getTime() + accessTokenExpiration);
@@ -63,60 +78,62 @@ public class JwtProvider {
   }
 
 
-  public boolean validateToken(String token) {
-    if (jwtBlacklist.blacklisted(token)){
-      return false;
+  /**
+   * 블랙리스트 확인과 서명/만료 검증을 한 번에 수행하고 클레임을 반환합니다.
+   * 요청당 한 번만 호출하고, 이후 필요한 값은 반환된 JwtClaims 에서 꺼내 씁니다.
+   *
+   * @return 유효한 토큰이면 클레임, 블랙리스트/만료/위조 토큰이면 empty
+   */
+  public Optional<JwtClaims> verify(String token) {
+    if (jwtBlacklist.blacklisted(token)) {
+      return Optional.empty();
     }
-    try{
-      Jwts.parser()
-          .verifyWith(getSigningKey())
-          .build()
-          .parseClaimsJws(token);
-      return true;
-    }catch (ExpiredJwtException e){
-      log.warn("토큰이 만료되었습니다. : {}" , e.getMessage());
-      return false;
-    }catch (JwtException e){
-      log.warn("유효하지 않는 토큰입니다. : {}" , e.getMessage());
-      return false;
+    try {
+      return Optional.of(toJwtClaims(jwtParser.parseSignedClaims(token).getPayload()));
+    } catch (ExpiredJwtException e) {
+      log.warn("토큰이 만료되었습니다. : {}", e.getMessage());
+      return Optional.empty();
+    } catch (JwtException | IllegalArgumentException e) {
+      log.warn("유효하지 않는 토큰입니다. : {}", e.getMessage());
+      return Optional.empty();
     }
   }
 
+  public boolean validateToken(String token) {
+    return verify(token).isPresent();
+  }
+
   public String extractEmail(String token) {
-    return Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(token)
+    return jwtParser.parseSignedClaims(token)
         .getPayload()
-        .get("email",String.class);
+        .get("email", String.class);
   }
 
   public UUID extractUserId(String token) {
-    return UUID.fromString(Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(token)
+    return UUID.fromString(jwtParser.parseSignedClaims(token)
         .getPayload()
         .getSubject());
   }
 
   private SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    return signingKey;
+  }
+
+  private static JwtClaims toJwtClaims(Claims claims) {
+    String role = claims.get("role", String.class);
+    return new JwtClaims(
+        UUID.fromString(claims.getSubject()),
+        claims.get("email", String.class),
+        role != null ? Role.valueOf(role) : null,
+        claims.get("type", String.class),
+        claims.getExpiration().toInstant());
   }
 
   public long getRemainingTime(String oldAccessToken) {
     try{
-      Claims claims = Jwts.parser()
-          .verifyWith(getSigningKey())
-          .build()
-          .parseSignedClaims(oldAccessToken)
-          .getPayload();
-
-      Date expiration = claims.getExpiration();
-      return expiration.getTime() - System.currentTimeMillis();
+      return toJwtClaims(jwtParser.parseSignedClaims(oldAccessToken).getPayload()).remainingMillis();
     }catch (ExpiredJwtException e){
-      Date expiration = e.getClaims().getExpiration();
-      return expiration.getTime() - System.currentTimeMillis(); //음수도 가능
+      return toJwtClaims(e.getClaims()).remainingMillis(); //음수도 가능
     }catch (JwtException e){
       log.warn("getRemainingTime - 유효하지 않은 토큰: {}",e.getMessage());
       return -1;
@@ -4,10 +4,12 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import team03.mopl.domain.user.User;
+import team03.mopl.jwt.JwtSessionCache.ActiveSession;
 
 @RequiredArgsConstructor
 @Service
@@ -16,26 +18,23 @@ public class JwtServiceImpl implements JwtService {
   private final JwtSessionRepository jwtSessionRepository;
   private final JwtProvider jwtProvider;
   private final JwtBlacklist jwtBlacklist;
+  private final JwtSessionCache jwtSessionCache;
 
   @Override
   @Transactional
   public void save(User user, String accessToken, String refreshToken,
       long refreshTokenExpirationMillis) {
-    jwtSessionRepository.findByUser(user).ifPresent(jwtSessionRepository::delete);
-
+    // 기존 세션 조회/삭제 없이 user_id 기준 upsert 한 번으로 교체
     LocalDateTime now = LocalDateTime.now();
-    LocalDateTime expiresAt = now.plusNanos(refreshTokenExpirationMillis * 1_000_000);
-
-    JwtSession session = JwtSession.builder()
-        .user(user)
-        .accessToken(accessToken)
-        .refreshToken(refreshToken)
-        .createdAt(now)
-        .expiresAt(expiresAt)
-        .isActive(true)
-        .build();
+    LocalDateTime expiresAt = expiresAt(now, refreshTokenExpirationMillis);
+    String refreshTokenHash = TokenDigest.hexOf(refreshToken);
+    jwtSessionRepository.upsertByUserId(UUID.randomUUID(), user.getId(), accessToken, refreshToken,
+        TokenDigest.hexOf(accessToken), refreshTokenHash, now, expiresAt);
+    jwtSessionCache.put(refreshTokenHash, new ActiveSession(user, accessToken, expiresAt));
+  }
 
-    jwtSessionRepository.save(session);
+  private static LocalDateTime expiresAt(LocalDateTime now, long refreshTokenExpirationMillis) {
+    return now.plusNanos(refreshTokenExpirationMillis * 1_000_000);
   }
 
   @Override
@@ -47,39 +46,68 @@ public class JwtServiceImpl implements JwtService {
       if (remainingTime > 0){
         jwtBlacklist.addBlacklist(oldAccessToken, remainingTime);
       }
+      jwtSessionCache.evict(oldSession.getRefreshTokenHash());
       jwtSessionRepository.delete(oldSession);
     });
   }
 
   @Override
   public Optional<String> getAccessTokenByRefreshToken(String refreshToken) {
-    return jwtSessionRepository.findByRefreshToken(refreshToken)
+    return findActiveSession(TokenDigest.hexOf(refreshToken))
+        .map(session -> jwtProvider.generateToken(session.user()));
+  }
+
+  /**
+   * 활성 세션을 캐시에서 먼저 찾고, 없으면 refresh token digest 인덱스로 조회해 캐시에 넣습니다.
+   */
+  private Optional<ActiveSession> findActiveSession(String refreshTokenHash) {
+    Optional<ActiveSession> cached = jwtSessionCache.get(refreshTokenHash);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    Optional<ActiveSession> loaded = jwtSessionRepository.findByRefreshTokenHash(refreshTokenHash)
         .filter(JwtSession::isActive)
-        .filter(session -> session.getExpiresAt().isAfter(LocalDateTime.now()))
-        .map(session -> jwtProvider.generateToken(session.getUser()));
+        .map(ActiveSession::of)
+        .filter(session -> session.isValid(LocalDateTime.now()));
+    loaded.ifPresent(session -> jwtSessionCache.put(refreshTokenHash, session));
+    return loaded;
   }
 
+  /**
+   * refresh token 을 회전합니다. 동시 요청 병합은 호출하는 쪽(RefreshTokenSingleFlight)에서 처리합니다.
+   */
   @Override
   @Transactional
   public TokenPair reissueTokenPair(String refreshToken, long refreshTokenExpiration) {
-    return jwtSessionRepository.findByRefreshToken(refreshToken)
-        .filter(JwtSession::isActive)
-        .filter(session -> session.getExpiresAt().isAfter(LocalDateTime.now()))
-        .map(session -> {
-          User user = session.getUser();
-          jwtSessionRepository.delete(session);
+    String refreshTokenHash = TokenDigest.hexOf(refreshToken);
+    ActiveSession session = findActiveSession(refreshTokenHash)
+        .orElseThrow(() -> new IllegalStateException("Refresh token 만료"));
 
-          String newAccessToken = jwtProvider.generateToken(user);
-          String newRefreshToken = jwtProvider.generateRefreshToken(user);
+    User user = session.user();
+    String newAccessToken = jwtProvider.generateToken(user);
+    String newRefreshToken = jwtProvider.generateRefreshToken(user);
 
-          this.save(user, newAccessToken, newRefreshToken, refreshTokenExpiration);
-          return new TokenPair(newAccessToken, newRefreshToken);
-        }).orElseThrow(() -> new RuntimeException("Refresh token 만료"));
+    // 회전 결과와 관계없이 이전 refresh token 은 다시 쓰이지 않으므로 먼저 캐시에서 제거 (다른 노드 전파는 커밋 후)
+    jwtSessionCache.evict(refreshTokenHash);
+
+    // 저장된 refresh token 이 그대로일 때만 교체 (다른 노드가 먼저 회전했거나 로그아웃으로 세션이 지워졌으면 0건)
+    LocalDateTime expiresAt = expiresAt(LocalDateTime.now(), refreshTokenExpiration);
+    String newRefreshTokenHash = TokenDigest.hexOf(newRefreshToken);
+    int rotated = jwtSessionRepository.rotateByUserId(user.getId(), newAccessToken, newRefreshToken,
+        TokenDigest.hexOf(newAccessToken), newRefreshTokenHash, expiresAt, refreshTokenHash);
+    if (rotated == 0) {
+      throw new IllegalStateException("Refresh token 만료");
+    }
+    jwtSessionCache.put(newRefreshTokenHash, new ActiveSession(user, newAccessToken, expiresAt));
+    return new TokenPair(newAccessToken, newRefreshToken);
   }
 
   @Override
+  @Transactional
   public void invalidateSessionByRefreshToken(String refreshToken, boolean useBlacklist) {
-    jwtSessionRepository.findByRefreshToken(refreshToken).ifPresent(session -> {
+    String refreshTokenHash = TokenDigest.hexOf(refreshToken);
+    jwtSessionCache.evict(refreshTokenHash);
+    jwtSessionRepository.findByRefreshTokenHash(refreshTokenHash).ifPresent(session -> {
       if (useBlacklist) {
         String accessToken=session.getAccessToken();
         long remainingTime = jwtProvider.getRemainingTime(accessToken);
@@ -8,6 +8,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -42,6 +44,13 @@ public class JwtSession {
   @Column(name = "refresh_token", nullable = false, length = 512)
   private String refreshToken;
 
+  // 조회용 digest (TokenDigest hex), 원문 컬럼은 블랙리스트 등록에 필요하므로 유지
+  @Column(name = "access_token_hash", nullable = false, length = 32, columnDefinition = "CHAR(32)")
+  private String accessTokenHash;
+
+  @Column(name = "refresh_token_hash", nullable = false, length = 32, columnDefinition = "CHAR(32)")
+  private String refreshTokenHash;
+
   @CreatedDate
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
@@ -51,4 +60,11 @@ public class JwtSession {
 
   @Column(name = "is_active", nullable = false)
   private boolean isActive;
+
+  @PrePersist
+  @PreUpdate
+  private void computeTokenHashes() {
+    this.accessTokenHash = TokenDigest.hexOf(accessToken);
+    this.refreshTokenHash = TokenDigest.hexOf(refreshToken);
+  }
 }
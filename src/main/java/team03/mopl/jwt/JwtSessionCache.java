@@ -0,0 +1,137 @@
+package team03.mopl.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.domain.user.User;
+
+/**
+ * 활성 refresh token 세션을 refresh token digest 로 찾는 노드 로컬 캐시
+ *
+ * 액세스 토큰 재발급(/api/auth/me)과 refresh 회전이 jwt_sessions 를 조회하지 않도록 세션 스냅샷을 ttl 동안 보관합니다.
+ * 스냅샷의 User 는 토큰 발급에 필요한 ID, 이메일, 권한만 복사한 영속성 컨텍스트 밖의 객체입니다.
+ * 로그아웃/세션 무효화/회전 시 evict 로 지우며, 클러스터 버스로 모든 노드에 전파됩니다.
+ * 트랜잭션 안에서 evict 하면 이 노드에서는 바로 지우고, 커밋 후에 한 번 더 지우면서 다른 노드에 전파해
+ * 커밋 전 세션 행이 다시 캐시되지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class JwtSessionCache {
+
+  /**
+   * @param user 세션 유저
+   * @param accessToken 세션에 저장된 액세스 토큰
+   * @param expiresAt refresh token 만료 시각
+   */
+  public record ActiveSession(User user, String accessToken, LocalDateTime expiresAt) {
+
+    public static ActiveSession of(JwtSession session) {
+      return new ActiveSession(session.getUser(), session.getAccessToken(), session.getExpiresAt());
+    }
+
+    public boolean isValid(LocalDateTime now) {
+      return expiresAt.isAfter(now);
+    }
+
+    // 지연 로딩 프록시를 보관하지 않도록 토큰 발급에 필요한 값만 복사
+    private ActiveSession snapshot() {
+      User copied = User.builder()
+          .id(user.getId())
+          .email(user.getEmail())
+          .role(user.getRole())
+          .build();
+      return new ActiveSession(copied, accessToken, expiresAt);
+    }
+  }
+
+  private record Entry(ActiveSession session, long expiresAtNanos) {}
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final ClusterBus clusterBus;
+  private final long ttlNanos;
+  private final int maxSize;
+  private final Counter hits;
+  private final Counter misses;
+
+  public JwtSessionCache(
+      ClusterBus clusterBus,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.jwt.session-cache.ttl-seconds:60}") long ttlSeconds,
+      @Value("${mopl.jwt.session-cache.max-size:10000}") int maxSize) {
+    this.clusterBus = clusterBus;
+    this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+    this.maxSize = maxSize;
+    this.hits = Counter.builder("jwt.session.cache").tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder("jwt.session.cache").tag("result", "miss").register(meterRegistry);
+
+    Gauge.builder("jwt.session.cache.size", entries, Map::size)
+        .description("캐시된 활성 refresh token 세션 수")
+        .register(meterRegistry);
+
+    clusterBus.subscribe(ClusterMessage.Kind.SESSION_INVALIDATED, message -> entries.remove(message.target()));
+  }
+
+  public Optional<ActiveSession> get(String refreshTokenHash) {
+    Entry entry = entries.get(refreshTokenHash);
+    if (entry != null && entry.expiresAtNanos() - System.nanoTime() > 0
+        && entry.session().isValid(LocalDateTime.now())) {
+      hits.increment();
+      return Optional.of(entry.session());
+    }
+    if (entry != null) {
+      entries.remove(refreshTokenHash, entry);
+    }
+    misses.increment();
+    return Optional.empty();
+  }
+
+  public void put(String refreshTokenHash, ActiveSession session) {
+    long now = System.nanoTime();
+    if (entries.size() >= maxSize) {
+      entries.values().removeIf(e -> e.expiresAtNanos() - now <= 0);
+    }
+    if (entries.size() < maxSize) {
+      entries.put(refreshTokenHash, new Entry(session.snapshot(), now + ttlNanos));
+    }
+  }
+
+  /**
+   * 세션이 무효화되거나 회전되었을 때 호출합니다. 모든 노드의 캐시에서 지워집니다.
+   */
+  public void evict(String refreshTokenHash) {
+    // 커밋 전이라도 이 노드에서는 바로 지워서 같은 토큰의 후속 요청이 캐시를 타지 않게 함
+    entries.remove(refreshTokenHash);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publishInvalidation(refreshTokenHash);
+        }
+      });
+      return;
+    }
+    publishInvalidation(refreshTokenHash);
+  }
+
+  private void publishInvalidation(String refreshTokenHash) {
+    entries.remove(refreshTokenHash);
+    try {
+      clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.SESSION_INVALIDATED, refreshTokenHash, null, null));
+    } catch (Exception e) {
+      // 다른 노드는 ttl 이 지나면 다시 조회함
+      log.warn("세션 캐시 무효화 전파 실패: 에러={}", e.getMessage());
+    }
+  }
+}
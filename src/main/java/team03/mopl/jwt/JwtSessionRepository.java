@@ -1,21 +1,74 @@
 package team03.mopl.jwt;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import team03.mopl.domain.user.User;
 
 public interface JwtSessionRepository extends JpaRepository<JwtSession, UUID> {
 
   void deleteByUser(User user);
 
-  boolean existsByAccessToken(String token);
+  boolean existsByAccessTokenHash(String accessTokenHash);
 
-  Optional<JwtSession> findByRefreshToken(String refreshToken);
+  Optional<JwtSession> findByRefreshTokenHash(String refreshTokenHash);
 
-  void deleteByRefreshToken(String refreshToken);
+  void deleteByRefreshTokenHash(String refreshTokenHash);
+
+  // 토큰 원문은 digest 로 바꿔 unique 인덱스(CHAR(32))로 조회
+  default boolean existsByAccessToken(String token) {
+    return existsByAccessTokenHash(TokenDigest.hexOf(token));
+  }
+
+  default Optional<JwtSession> findByRefreshToken(String refreshToken) {
+    return findByRefreshTokenHash(TokenDigest.hexOf(refreshToken));
+  }
+
+  default void deleteByRefreshToken(String refreshToken) {
+    deleteByRefreshTokenHash(TokenDigest.hexOf(refreshToken));
+  }
 
   Optional<JwtSession> findFirstByUserId(UUID userId);
 
   Optional<JwtSession> findByUser(User user);
+
+  /**
+   * 로그인 시 유저의 세션을 한 행 upsert 로 생성하거나 교체합니다. (user_id unique)
+   * refresh token 회전에는 사용하지 않습니다. 세션이 삭제된 뒤에도 INSERT 로 새 세션을 만들기 때문입니다.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO jwt_sessions (id, user_id, access_token, refresh_token, access_token_hash, "
+      + "refresh_token_hash, created_at, expires_at, is_active) "
+      + "VALUES (:id, :userId, :accessToken, :refreshToken, :accessTokenHash, :refreshTokenHash, "
+      + ":createdAt, :expiresAt, true) "
+      + "ON CONFLICT (user_id) DO UPDATE "
+      + "SET access_token = EXCLUDED.access_token, refresh_token = EXCLUDED.refresh_token, "
+      + "access_token_hash = EXCLUDED.access_token_hash, refresh_token_hash = EXCLUDED.refresh_token_hash, "
+      + "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at, is_active = true",
+      nativeQuery = true)
+  int upsertByUserId(@Param("id") UUID id, @Param("userId") UUID userId,
+      @Param("accessToken") String accessToken, @Param("refreshToken") String refreshToken,
+      @Param("accessTokenHash") String accessTokenHash, @Param("refreshTokenHash") String refreshTokenHash,
+      @Param("createdAt") LocalDateTime createdAt, @Param("expiresAt") LocalDateTime expiresAt);
+
+  /**
+   * 저장된 refresh token digest 가 expectedRefreshTokenHash 일 때만 세션의 토큰을 교체합니다.
+   * 다른 요청이 먼저 회전했거나, 로그아웃 등으로 세션이 이미 삭제되었으면 아무 행도 바꾸지 않습니다.
+   *
+   * @return 반영된 행 수, 0 이면 회전할 세션이 없음
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE JwtSession s SET s.accessToken = :accessToken, s.refreshToken = :refreshToken, "
+      + "s.accessTokenHash = :accessTokenHash, s.refreshTokenHash = :refreshTokenHash, "
+      + "s.expiresAt = :expiresAt, s.isActive = true "
+      + "WHERE s.user.id = :userId AND s.refreshTokenHash = :expectedRefreshTokenHash")
+  int rotateByUserId(@Param("userId") UUID userId,
+      @Param("accessToken") String accessToken, @Param("refreshToken") String refreshToken,
+      @Param("accessTokenHash") String accessTokenHash, @Param("refreshTokenHash") String refreshTokenHash,
+      @Param("expiresAt") LocalDateTime expiresAt,
+      @Param("expectedRefreshTokenHash") String expectedRefreshTokenHash);
 }
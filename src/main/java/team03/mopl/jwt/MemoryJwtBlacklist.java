@@ -1,30 +1,60 @@
 package team03.mopl.jwt;
 
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
+/**
+ * 단일 노드용 블랙리스트 - 토큰 digest 와 절대 만료 시각을 JwtBlacklistIndex 에 보관합니다.
+ */
 @Service
+@ConditionalOnProperty(name = "mopl.jwt.blacklist.type", havingValue = "memory", matchIfMissing = true)
 public class MemoryJwtBlacklist implements JwtBlacklist {
 
-  private final Map<String ,Long> blacklist = new ConcurrentHashMap<>();
+  private final JwtBlacklistIndex index;
 
+  public MemoryJwtBlacklist() {
+    this(new JwtBlacklistIndex(60_000L, 64, 100_000));
+  }
+
+  @Autowired
+  public MemoryJwtBlacklist(
+      MeterRegistry meterRegistry,
+      @Value("${mopl.jwt.blacklist.tick-millis:60000}") long tickMillis,
+      @Value("${mopl.jwt.blacklist.wheel-size:64}") int wheelSize,
+      @Value("${mopl.jwt.blacklist.expected-entries:100000}") int expectedEntries) {
+    this(new JwtBlacklistIndex(tickMillis, wheelSize, expectedEntries));
+    Gauge.builder("jwt.blacklist.size", index, JwtBlacklistIndex::size)
+        .description("블랙리스트에 보관 중인 토큰 수")
+        .register(meterRegistry);
+  }
+
+  MemoryJwtBlacklist(JwtBlacklistIndex index) {
+    this.index = index;
+  }
+
+  /**
+   * @param expirationMs 토큰의 남은 유효 시간 (ms) - 지금부터 이 시간이 지나면 자동으로 지워짐
+   */
   @Override
   public void addBlacklist(String token, long expirationMs) {
-    blacklist.put(token, expirationMs);
+    if (expirationMs <= 0) {
+      return; // 이미 만료된 토큰은 검증에서 걸러짐
+    }
+    index.add(token, System.currentTimeMillis() + expirationMs);
   }
 
-  @Scheduled(fixedRate = 60 * 60 * 1000)
+  @Scheduled(fixedRateString = "${mopl.jwt.blacklist.tick-millis:60000}")
   public void cleanExpiredTokens() {
-    long now = Instant.now().toEpochMilli();
-    blacklist.entrySet().removeIf(entry ->  entry.getValue() < now);
+    index.expire(System.currentTimeMillis());
   }
 
   @Override
   public boolean blacklisted(String token) {
-    return blacklist.containsKey(token);
+    return index.contains(token, System.currentTimeMillis());
   }
 }
@@ -1,27 +1,171 @@
 package team03.mopl.jwt;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
 
-//@Service
-@RequiredArgsConstructor
+/**
+ * 여러 노드용 블랙리스트 - Redis 를 원본으로 두고, 조회는 노드마다 가진 JwtBlacklistIndex(near-cache)로 처리합니다.
+ *
+ * - 추가: Redis 에 digest 키를 TTL 과 함께 저장하고, 클러스터 버스로 모든 노드의 로컬 인덱스에 바로 반영합니다.
+ * - 조회: Redis 를 호출하지 않고 로컬 인덱스만 확인합니다.
+ * - 시작 시에는 Redis 의 키를 모두 읽고, tick 마다 추가 기록(ZSET, 점수=추가 시각)에서 직전 tick 이후 항목만 읽어
+ *   버스 메시지를 놓친 노드도 tick 안에 따라잡습니다. 키 전체를 SCAN 하는 비용은 기동 시에만 듭니다.
+ *
+ * Redis 값은 "만료시각:해시1:해시2" 형식으로, 토큰 원문 없이 로컬 인덱스(Bloom filter 포함)를 복원하는 데 씁니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "mopl.jwt.blacklist.type", havingValue = "redis")
 public class RedisJwtBlacklist implements JwtBlacklist {
 
-  private final RedisTemplate<String, String> redisTemplate;
-
   private static final String BLACKLIST_PREFIX = "blacklist:";
+  private static final String BLACKLIST_LOG_KEY = "mopl:jwt:blacklist-log";
+
+  private final StringRedisTemplate redisTemplate;
+  private final ClusterBus clusterBus;
+  private final JwtBlacklistIndex index;
+  private final long tickMillis;
+  private final long retentionMillis;
+
+  // 마지막으로 추가 기록을 읽은 시각. 0 이면 보관 중인 기록을 모두 읽음
+  private volatile long lastSyncedMillis;
+
+  public RedisJwtBlacklist(
+      StringRedisTemplate redisTemplate,
+      ClusterBus clusterBus,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.jwt.blacklist.tick-millis:60000}") long tickMillis,
+      @Value("${mopl.jwt.blacklist.wheel-size:64}") int wheelSize,
+      @Value("${mopl.jwt.blacklist.expected-entries:100000}") int expectedEntries,
+      @Value("${jwt.access-token-expiration}") long retentionMillis) {
+    this.redisTemplate = redisTemplate;
+    this.clusterBus = clusterBus;
+    this.tickMillis = tickMillis;
+    this.retentionMillis = retentionMillis;
+    this.index = new JwtBlacklistIndex(tickMillis, wheelSize, expectedEntries);
+
+    clusterBus.subscribe(ClusterMessage.Kind.JWT_REVOKED, message -> addLocally(message.payload()));
+    Gauge.builder("jwt.blacklist.size", index, JwtBlacklistIndex::size)
+        .description("블랙리스트에 보관 중인 토큰 수 (로컬 캐시)")
+        .register(meterRegistry);
+  }
 
   @Override
   public void addBlacklist(String token, long accessTokenExpiration) {
+    if (accessTokenExpiration <= 0) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    long deadline = now + accessTokenExpiration;
+    TokenDigest digest = TokenDigest.of(token);
+    String value = deadline + ":" + JwtBlacklistIndex.hash1(token) + ":" + JwtBlacklistIndex.hash2(token);
+
+    index.add(token, deadline);
     redisTemplate.opsForValue()
-        .set(BLACKLIST_PREFIX + token, "logout", accessTokenExpiration, TimeUnit.MILLISECONDS);
+        .set(BLACKLIST_PREFIX + digest.toHex(), value, accessTokenExpiration, TimeUnit.MILLISECONDS);
+    redisTemplate.opsForZSet().add(BLACKLIST_LOG_KEY, digest.toHex() + ":" + value, now);
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.JWT_REVOKED, null, null, digest.toHex() + ":" + value));
   }
 
   @Override
   public boolean blacklisted(String token) {
-    String key = "blacklist:" + token;
-    return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    return index.contains(token, System.currentTimeMillis());
+  }
+
+  @PostConstruct
+  void warmUp() {
+    long startedAt = System.currentTimeMillis();
+    try {
+      int loaded = reload();
+      lastSyncedMillis = startedAt;
+      log.info("JWT 블랙리스트 로컬 캐시 적재 완료: {}건", loaded);
+    } catch (Exception e) {
+      log.warn("JWT 블랙리스트 로컬 캐시 적재 실패 - 다음 tick 에 추가 기록 전체로 다시 시도: {}", e.getMessage());
+    }
+  }
+
+  @Scheduled(fixedRateString = "${mopl.jwt.blacklist.tick-millis:60000}")
+  public void tick() {
+    index.expire(System.currentTimeMillis());
+    try {
+      syncRecent();
+    } catch (Exception e) {
+      log.warn("JWT 블랙리스트 동기화 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Redis 의 블랙리스트 키를 모두 읽어 로컬 인덱스에 반영합니다. (이미 있는 항목은 그대로 유지)
+   */
+  int reload() {
+    List<String> keys = new ArrayList<>();
+    ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      cursor.forEachRemaining(keys::add);
+    }
+    if (keys.isEmpty()) {
+      return 0;
+    }
+    List<String> values = redisTemplate.opsForValue().multiGet(keys);
+    int loaded = 0;
+    for (int i = 0; i < keys.size(); i++) {
+      String value = values != null ? values.get(i) : null;
+      if (value != null && addLocally(keys.get(i).substring(BLACKLIST_PREFIX.length()) + ":" + value)) {
+        loaded++;
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * 추가 기록에서 직전 동기화 이후 항목만 읽어 로컬 인덱스에 반영하고, 보관 기간이 지난 기록은 지웁니다.
+   * 노드 간 시계 차이를 감안해 한 tick 만큼 겹쳐 읽으며, 이미 있는 항목을 다시 넣어도 결과는 같습니다.
+   */
+  int syncRecent() {
+    long now = System.currentTimeMillis();
+    long since = lastSyncedMillis > 0 ? lastSyncedMillis - tickMillis : 0;
+    Set<String> members = redisTemplate.opsForZSet().rangeByScore(BLACKLIST_LOG_KEY, since, Double.POSITIVE_INFINITY);
+    int loaded = 0;
+    if (members != null) {
+      for (String member : members) {
+        if (addLocally(member)) {
+          loaded++;
+        }
+      }
+    }
+    lastSyncedMillis = now;
+    redisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_LOG_KEY, 0, now - retentionMillis);
+    return loaded;
+  }
+
+  // "digest:만료시각:해시1:해시2" 형식이 아니면(이전 형식의 키 등) 무시
+  private boolean addLocally(String payload) {
+    String[] parts = payload.split(":");
+    if (parts.length != 4) {
+      return false;
+    }
+    try {
+      index.add(TokenDigest.fromHex(parts[0]),
+          new JwtBlacklistIndex.Entry(Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3])));
+      return true;
+    } catch (IllegalArgumentException e) {
+      log.debug("알 수 없는 블랙리스트 항목 무시: {}", payload);
+      return false;
+    }
   }
 }
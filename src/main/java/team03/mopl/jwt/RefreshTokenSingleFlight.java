@@ -0,0 +1,96 @@
+package team03.mopl.jwt;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 refresh token 으로 동시에 들어온 재발급 요청을 한 번의 회전으로 합칩니다.
+ *
+ * 액세스 토큰 만료 직후 브라우저가 여러 요청을 동시에 보내면 모두 같은 refresh token 으로 재발급을 시도합니다.
+ * 처음 도착한 요청만 회전을 수행하고, 나머지는 그 결과(같은 새 토큰 쌍)를 기다려 받습니다.
+ * 회전이 끝난 뒤에도 graceMillis 동안은 이전 refresh token 으로 들어온 요청에 같은 결과를 돌려줍니다.
+ * 회전이 실패하면 결과를 남기지 않으므로 다음 요청은 다시 시도합니다.
+ *
+ * 노드 로컬 조정이므로, 다른 노드에서 동시에 들어온 요청은 세션 upsert 의 refresh token 비교로 한쪽만 성공합니다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenSingleFlight {
+
+  private record Flight(CompletableFuture<TokenPair> result, long createdAtNanos) {}
+
+  private final Map<TokenDigest, Flight> flights = new ConcurrentHashMap<>();
+  private final long graceNanos;
+  private final long waitMillis;
+
+  public RefreshTokenSingleFlight(
+      @Value("${mopl.jwt.refresh.grace-millis:10000}") long graceMillis,
+      @Value("${mopl.jwt.refresh.wait-millis:5000}") long waitMillis) {
+    this.graceNanos = TimeUnit.MILLISECONDS.toNanos(graceMillis);
+    this.waitMillis = waitMillis;
+  }
+
+  public TokenPair rotate(String refreshToken, Supplier<TokenPair> rotation) {
+    TokenDigest key = TokenDigest.of(refreshToken);
+    long now = System.nanoTime();
+
+    Flight created = new Flight(new CompletableFuture<>(), now);
+    Flight flight = flights.compute(key, (k, current) ->
+        current == null || expired(current, now) ? created : current);
+
+    if (flight != created) {
+      log.debug("refresh token 재발급 합류");
+      return await(flight.result());
+    }
+
+    try {
+      TokenPair pair = rotation.get();
+      created.result().complete(pair);
+      return pair;
+    } catch (RuntimeException e) {
+      flights.remove(key, created);
+      created.result().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private TokenPair await(CompletableFuture<TokenPair> result) {
+    try {
+      return result.get(waitMillis, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("refresh token 재발급 실패", e.getCause());
+    } catch (TimeoutException e) {
+      throw new IllegalStateException("refresh token 재발급 대기 시간 초과");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("refresh token 재발급 대기 중 인터럽트");
+    }
+  }
+
+  // 회전이 끝났고 grace 기간이 지난 결과만 만료로 봄 (진행 중인 회전은 유지)
+  private boolean expired(Flight flight, long now) {
+    return flight.result().isDone() && now - flight.createdAtNanos() > graceNanos;
+  }
+
+  @Scheduled(fixedDelayString = "${mopl.jwt.refresh.grace-millis:10000}")
+  public void evictExpired() {
+    long now = System.nanoTime();
+    flights.values().removeIf(flight -> expired(flight, now));
+  }
+
+  int size() {
+    return flights.size();
+  }
+}
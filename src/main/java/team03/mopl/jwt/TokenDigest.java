@@ -0,0 +1,42 @@
+package team03.mopl.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 문자열 대신 보관하는 고정 크기(128bit) 식별자 - SHA-256 해시의 앞 16바이트
+ *
+ * 토큰 원문(수백 바이트)을 보관하지 않으므로 메모리/Redis 에 남아도 토큰으로 재사용할 수 없습니다.
+ */
+public record TokenDigest(long high, long low) {
+
+  public static TokenDigest of(String token) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      ByteBuffer buffer = ByteBuffer.wrap(hash);
+      return new TokenDigest(buffer.getLong(), buffer.getLong());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * jwt_sessions 의 *_token_hash 컬럼에 저장하는 32자 hex 값
+   */
+  public static String hexOf(String token) {
+    return of(token).toHex();
+  }
+
+  public static TokenDigest fromHex(String hex) {
+    byte[] bytes = HexFormat.of().parseHex(hex);
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new TokenDigest(buffer.getLong(), buffer.getLong());
+  }
+
+  public String toHex() {
+    return HexFormat.of().toHexDigits(high) + HexFormat.of().toHexDigits(low);
+  }
+}
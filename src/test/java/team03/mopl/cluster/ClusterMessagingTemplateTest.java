@@ -0,0 +1,65 @@
+package team03.mopl.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterMessagingTemplateTest {
+
+  @Mock
+  private SimpMessagingTemplate simpMessagingTemplate;
+
+  private ClusterMessagingTemplate clusterMessagingTemplate;
+
+  @BeforeEach
+  void setUp() {
+    clusterMessagingTemplate = new ClusterMessagingTemplate(simpMessagingTemplate, new InMemoryClusterBus(), new ObjectMapper());
+    clusterMessagingTemplate.subscribe();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Message<byte[]> sentTo(String destination) {
+    ArgumentCaptor<Message<?>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+    verify(simpMessagingTemplate).send(eq(destination), messageCaptor.capture());
+    return (Message<byte[]>) messageCaptor.getValue();
+  }
+
+  @Test
+  @DisplayName("방 브로드캐스트는 한 번 직렬화한 JSON 을 로컬 broker 의 토픽으로 전달한다")
+  void convertAndSend_deliversJsonToTopic() {
+    // when
+    clusterMessagingTemplate.convertAndSend("/topic/dm/room-1", Map.of("content", "hello"));
+
+    // then
+    Message<byte[]> message = sentTo("/topic/dm/room-1");
+    assertThat(new String(message.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"content\":\"hello\"}");
+    assertThat(message.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+  }
+
+  @Test
+  @DisplayName("유저 대상 전송은 /user/{user} 목적지로 변환해 전달한다")
+  void convertAndSendToUser_deliversToUserDestination() {
+    // when
+    clusterMessagingTemplate.convertAndSendToUser("test@mopl.com", "/queue/sync", Map.of("roomId", "1"));
+
+    // then
+    Message<byte[]> message = sentTo("/user/test@mopl.com/queue/sync");
+    assertThat(new String(message.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"roomId\":\"1\"}");
+  }
+}
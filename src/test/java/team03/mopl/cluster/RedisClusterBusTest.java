@@ -0,0 +1,162 @@
+package team03.mopl.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import redis.embedded.RedisServer;
+import team03.mopl.common.config.RedisConfig;
+
+/**
+ * 내장 Redis 위에서 노드 두 개(버스 두 개)를 띄워 노드 간 전달을 검증
+ */
+class RedisClusterBusTest {
+
+  private static RedisServer redisServer;
+  private static int port;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private LettuceConnectionFactory connectionFactory;
+  private RedisMessageListenerContainer containerA;
+  private RedisMessageListenerContainer containerB;
+  private RedisClusterBus nodeA;
+  private RedisClusterBus nodeB;
+  private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    redisServer = new RedisServer(port);
+    redisServer.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory = new LettuceConnectionFactory("localhost", port);
+    connectionFactory.afterPropertiesSet();
+    StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+
+    containerA = newContainer();
+    containerB = newContainer();
+    nodeA = new RedisClusterBus(redisTemplate, containerA, objectMapper);
+    nodeB = new RedisClusterBus(redisTemplate, containerB, objectMapper);
+    containerA.start();
+    containerB.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    containerA.destroy();
+    containerB.destroy();
+    executors.forEach(ThreadPoolTaskExecutor::shutdown);
+    connectionFactory.destroy();
+  }
+
+  private RedisMessageListenerContainer newContainer() {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    ThreadPoolTaskExecutor executor = new RedisConfig().clusterBusListenerExecutor(16);
+    executor.initialize();
+    executors.add(executor);
+    container.setTaskExecutor(executor);
+    container.afterPropertiesSet();
+    return container;
+  }
+
+  @Test
+  @DisplayName("한 노드에서 발행한 유저 대상 메시지를 발행 노드와 다른 노드 모두 받는다")
+  void publish_deliversToAllNodes() throws InterruptedException {
+    // given
+    BlockingQueue<ClusterMessage> receivedByA = new LinkedBlockingQueue<>();
+    BlockingQueue<ClusterMessage> receivedByB = new LinkedBlockingQueue<>();
+    nodeA.subscribe(ClusterMessage.Kind.SSE_NOTIFICATION, receivedByA::add);
+    nodeB.subscribe(ClusterMessage.Kind.SSE_NOTIFICATION, receivedByB::add);
+    ClusterMessage message = new ClusterMessage(ClusterMessage.Kind.SSE_NOTIFICATION, "user-1", null, "{\"content\":\"hi\"}");
+
+    // when
+    nodeA.publish(message);
+
+    // then
+    assertThat(receivedByA.poll(5, TimeUnit.SECONDS)).isEqualTo(message);
+    assertThat(receivedByB.poll(5, TimeUnit.SECONDS)).isEqualTo(message);
+  }
+
+  @Test
+  @DisplayName("방 브로드캐스트는 room 채널로 발행되고 종류가 다른 구독자에게는 전달되지 않는다")
+  void publish_routesByKind() throws InterruptedException {
+    // given
+    BlockingQueue<ClusterMessage> stompMessages = new LinkedBlockingQueue<>();
+    BlockingQueue<ClusterMessage> sseMessages = new LinkedBlockingQueue<>();
+    nodeB.subscribe(ClusterMessage.Kind.STOMP, stompMessages::add);
+    nodeB.subscribe(ClusterMessage.Kind.SSE_NOTIFICATION, sseMessages::add);
+    ClusterMessage message = new ClusterMessage(ClusterMessage.Kind.STOMP, null, "/topic/rooms/1/chat", "{}");
+
+    // when
+    nodeA.publish(message);
+
+    // then
+    assertThat(message.route()).isEqualTo(ClusterMessage.Route.ROOM);
+    assertThat(RedisClusterBus.channel(message.route())).isEqualTo("mopl:cluster:room");
+    assertThat(stompMessages.poll(5, TimeUnit.SECONDS)).isEqualTo(message);
+    assertThat(sseMessages.poll(200, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  @Test
+  @DisplayName("수신 큐보다 많이 발행해도 발행한 순서대로 모두 처리한다")
+  void publish_preservesOrder() throws InterruptedException {
+    // given
+    BlockingQueue<ClusterMessage> received = new LinkedBlockingQueue<>();
+    nodeB.subscribe(ClusterMessage.Kind.WATCH_ROOM_STATE, received::add);
+    List<String> sent = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      sent.add(String.valueOf(i));
+    }
+
+    // when
+    sent.forEach(payload -> nodeA.publish(
+        new ClusterMessage(ClusterMessage.Kind.WATCH_ROOM_STATE, "room-1", null, payload)));
+
+    // then
+    List<String> payloads = new ArrayList<>();
+    for (int i = 0; i < sent.size(); i++) {
+      ClusterMessage message = received.poll(5, TimeUnit.SECONDS);
+      assertThat(message).isNotNull();
+      payloads.add(message.payload());
+    }
+    assertThat(payloads).isEqualTo(sent);
+  }
+
+  @Test
+  @DisplayName("채널은 target 유무가 아니라 메시지 종류로 정한다")
+  void route_byKind() {
+    assertThat(new ClusterMessage(ClusterMessage.Kind.WATCH_ROOM_STATE, "room-1", null, null).route())
+        .isEqualTo(ClusterMessage.Route.ROOM);
+    assertThat(new ClusterMessage(ClusterMessage.Kind.JWT_REVOKED, null, null, "digest:1").route())
+        .isEqualTo(ClusterMessage.Route.USER);
+    assertThat(new ClusterMessage(ClusterMessage.Kind.STOMP_USER, "user-1", "/queue/sync", "{}").route())
+        .isEqualTo(ClusterMessage.Route.USER);
+  }
+}
@@ -0,0 +1,122 @@
+package team03.mopl.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import team03.mopl.common.exception.auth.PasswordHashingBusyException;
+
+class IsolatedPasswordEncoderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private IsolatedPasswordEncoder encoder;
+
+  // release 전까지 해시 스레드를 붙잡아 두는 encoder
+  private final PasswordEncoder blockingDelegate = new PasswordEncoder() {
+    @Override
+    public String encode(CharSequence rawPassword) {
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "encoded";
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return true;
+    }
+  };
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    if (encoder != null) {
+      encoder.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("전용 스레드 풀에서 BCrypt 로 해시하고 검증한다")
+  void encodeAndMatches() {
+    // given
+    encoder = new IsolatedPasswordEncoder(4, 1, 4, 5_000, meterRegistry);
+
+    // when
+    String encoded = encoder.encode("password");
+
+    // then
+    assertThat(encoded).startsWith("$2a$04$");
+    assertThat(encoder.matches("password", encoded)).isTrue();
+    assertThat(encoder.matches("wrong", encoded)).isFalse();
+    assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("저장된 해시의 cost 가 현재 cost 보다 낮을 때만 재해시 대상이다")
+  void upgradeEncoding_whenStrengthLower() {
+    // given
+    encoder = new IsolatedPasswordEncoder(5, 1, 4, 5_000, meterRegistry);
+
+    // then
+    assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+    assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw"))).isFalse();
+    assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("pw"))).isFalse();
+    assertThat(encoder.upgradeEncoding(null)).isFalse();
+  }
+
+  @Test
+  @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 바로 거절한다")
+  void encode_rejectsWhenSaturated() throws Exception {
+    // given: 스레드 1개가 붙잡혀 있고 대기열 1칸도 차 있음
+    encoder = new IsolatedPasswordEncoder(blockingDelegate, 4, 1, 1, 5_000, meterRegistry);
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+    waitUntilQueued(1);
+
+    // when & then
+    assertThatThrownBy(() -> encoder.encode("third")).isInstanceOf(PasswordHashingBusyException.class);
+    assertThat(meterRegistry.get("auth.password.rejected").tag("reason", "queue_full").counter().count())
+        .isEqualTo(1.0);
+
+    release.countDown();
+    assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+  }
+
+  @Test
+  @DisplayName("대기 시간 안에 해시가 끝나지 않으면 거절한다")
+  void encode_rejectsAfterWaitTimeout() {
+    // given
+    encoder = new IsolatedPasswordEncoder(blockingDelegate, 4, 1, 1, 50, meterRegistry);
+
+    // when & then
+    assertThatThrownBy(() -> encoder.encode("slow")).isInstanceOf(PasswordHashingBusyException.class);
+    assertThat(meterRegistry.get("auth.password.rejected").tag("reason", "timeout").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("목표 시간이 0 이면 최소 cost, 충분히 크면 최대 cost 를 고른다")
+  void calibrateStrength() {
+    assertThat(IsolatedPasswordEncoder.calibrateStrength(0, 4, 6)).isEqualTo(4);
+    assertThat(IsolatedPasswordEncoder.calibrateStrength(60_000, 4, 6)).isEqualTo(6);
+  }
+
+  private void waitUntilQueued(double expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get("auth.password.queue").gauge().value() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package team03.mopl.common.config;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import team03.mopl.domain.oauth2.CustomOAuth2UserService;
+import team03.mopl.domain.oauth2.OAuth2FailureHandler;
+import team03.mopl.domain.oauth2.OAuth2SuccessHandler;
+import team03.mopl.domain.user.Role;
+import team03.mopl.domain.user.User;
+import team03.mopl.jwt.CustomUserDetails;
+import team03.mopl.jwt.CustomUserDetailsService;
+import team03.mopl.jwt.JwtClaims;
+import team03.mopl.jwt.JwtProvider;
+
+@WebMvcTest(controllers = SecurityConfigTest.ActuatorStubController.class)
+@Import({SecurityConfig.class, SecurityConfigTest.ActuatorStubController.class})
+@DisplayName("보안 설정 테스트")
+class SecurityConfigTest {
+
+  // 슬라이스 테스트에는 actuator 엔드포인트가 없으므로 같은 경로의 컨트롤러로 대신함
+  @RestController
+  static class ActuatorStubController {
+
+    @GetMapping("/actuator/info")
+    String info() {
+      return "info";
+    }
+
+    @GetMapping("/actuator/health/liveness")
+    String liveness() {
+      return "UP";
+    }
+  }
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private JwtProvider jwtProvider;
+
+  @MockitoBean
+  private CustomUserDetailsService customUserDetailsService;
+
+  @MockitoBean
+  private CustomOAuth2UserService customOAuth2UserService;
+
+  @MockitoBean
+  private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+  @MockitoBean
+  private OAuth2FailureHandler oAuth2FailureHandler;
+
+  private void givenToken(String token, Role role) {
+    UUID userId = UUID.randomUUID();
+    JwtClaims claims = new JwtClaims(userId, role.name().toLowerCase() + "@test.com", role, "access",
+        Instant.now().plusSeconds(60));
+    given(jwtProvider.verify(token)).willReturn(Optional.of(claims));
+    given(customUserDetailsService.loadUserByClaims(claims)).willReturn(new CustomUserDetails(User.builder()
+        .id(userId)
+        .email(claims.email())
+        .role(role)
+        .build()));
+  }
+
+  @Test
+  @DisplayName("관리자 토큰으로 /actuator/info 에 접근할 수 있다")
+  void actuatorInfo_admin() throws Exception {
+    givenToken("admin-token", Role.ADMIN);
+
+    mockMvc.perform(get("/actuator/info").header("Authorization", "Bearer admin-token"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("일반 유저 토큰으로는 /actuator/info 에 접근할 수 없다")
+  void actuatorInfo_user() throws Exception {
+    givenToken("user-token", Role.USER);
+
+    mockMvc.perform(get("/actuator/info").header("Authorization", "Bearer user-token"))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @DisplayName("토큰 없이는 /actuator/info 에 접근할 수 없다")
+  void actuatorInfo_anonymous() throws Exception {
+    mockMvc.perform(get("/actuator/info"))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @DisplayName("헬스 체크 그룹은 토큰 없이 접근할 수 있다")
+  void actuatorHealthGroup_permitAll() throws Exception {
+    mockMvc.perform(get("/actuator/health/liveness"))
+        .andExpect(status().isOk());
+  }
+}
@@ -2,8 +2,13 @@ package team03.mopl.common.interceptor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,10 +22,14 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.core.Authentication;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.cluster.InMemoryClusterBus;
 import team03.mopl.domain.user.Role;
 import team03.mopl.domain.user.User;
 import team03.mopl.jwt.CustomUserDetails;
 import team03.mopl.jwt.CustomUserDetailsService;
+import team03.mopl.jwt.JwtBlacklist;
+import team03.mopl.jwt.JwtClaims;
 import team03.mopl.jwt.JwtProvider;
 
 public class WebSocketAuthInterceptorTest {
@@ -31,13 +40,43 @@ public class WebSocketAuthInterceptorTest {
   @Mock
   private CustomUserDetailsService userDetailsService;
 
+  @Mock
+  private JwtBlacklist jwtBlacklist;
+
   @InjectMocks
   private WebSocketAuthInterceptor interceptor;
 
+  private SimpleMeterRegistry meterRegistry;
+
+  private InMemoryClusterBus clusterBus;
+
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
-    interceptor = new WebSocketAuthInterceptor(jwtProvider, userDetailsService);
+    meterRegistry = new SimpleMeterRegistry();
+    clusterBus = new InMemoryClusterBus();
+    interceptor = new WebSocketAuthInterceptor(jwtProvider, userDetailsService, meterRegistry, jwtBlacklist, clusterBus);
+  }
+
+  private JwtClaims claimsOf(UUID userId) {
+    return claimsOf(userId, Instant.now().plusSeconds(60));
+  }
+
+  private JwtClaims claimsOf(UUID userId, Instant expiresAt) {
+    return new JwtClaims(userId, "test@test.com", Role.USER, "access", expiresAt);
+  }
+
+  private CustomUserDetails userDetailsOf(UUID userId) {
+    return new CustomUserDetails(User.builder()
+        .id(userId)
+        .name("test")
+        .email("test@test.com")
+        .role(Role.USER)
+        .build());
+  }
+
+  private double authCount(StompCommand command, String result) {
+    return meterRegistry.get("websocket.auth").tag("command", command.name()).tag("result", result).counter().count();
   }
 
   // STOMP 메시지를 생성하기 위한 메서드
@@ -69,9 +108,9 @@ public class WebSocketAuthInterceptorTest {
 
     CustomUserDetails userDetails = new CustomUserDetails(user);
 
-    when(jwtProvider.validateToken(token)).thenReturn(true);
-    when(jwtProvider.extractUserId(token)).thenReturn(userId);
-    when(userDetailsService.loadUserById(userId)).thenReturn(userDetails);
+    JwtClaims claims = claimsOf(userId);
+    when(jwtProvider.verify(token)).thenReturn(Optional.of(claims));
+    when(userDetailsService.loadUserByClaims(claims)).thenReturn(userDetails);
 
     Message<byte[]> message = createMessageWithHeader(StompCommand.CONNECT, "Bearer " + token);
 
@@ -92,7 +131,7 @@ public class WebSocketAuthInterceptorTest {
     // given
     String token = "invalid-token";
 
-    when(jwtProvider.validateToken(token)).thenReturn(false);
+    when(jwtProvider.verify(token)).thenReturn(Optional.empty());
 
     Message<byte[]> message = createMessageWithHeader(StompCommand.CONNECT, "Bearer " + token);
 
@@ -134,9 +173,9 @@ public class WebSocketAuthInterceptorTest {
 
     CustomUserDetails userDetails = new CustomUserDetails(user);
 
-    when(jwtProvider.validateToken(token)).thenReturn(true);
-    when(jwtProvider.extractUserId(token)).thenReturn(userId);
-    when(userDetailsService.loadUserById(userId)).thenReturn(userDetails);
+    JwtClaims claims = claimsOf(userId);
+    when(jwtProvider.verify(token)).thenReturn(Optional.of(claims));
+    when(userDetailsService.loadUserByClaims(claims)).thenReturn(userDetails);
 
     Message<byte[]> message = createMessageWithHeader(StompCommand.SUBSCRIBE, "Bearer " + token);
 
@@ -166,4 +205,120 @@ public class WebSocketAuthInterceptorTest {
     StompHeaderAccessor accessor = StompHeaderAccessor.wrap(result);
     assertNull(accessor.getUser());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("CONNECT 에서 인증한 정보를 세션에 묶어 두고 SUBSCRIBE 에서는 재검증 없이 재사용")
+  void testSubscribeReusesSessionPrincipal() {
+    // given
+    String token = "valid-token";
+    UUID userId = UUID.randomUUID();
+    JwtClaims claims = claimsOf(userId);
+    when(jwtProvider.verify(token)).thenReturn(Optional.of(claims));
+    when(userDetailsService.loadUserByClaims(claims)).thenReturn(userDetailsOf(userId));
+    interceptor.preSend(createMessageWithHeader(StompCommand.CONNECT, "Bearer " + token), mock(MessageChannel.class));
+
+    // when
+    Message<?> withoutHeader = interceptor.preSend(
+        createMessageWithHeader(StompCommand.SUBSCRIBE, null), mock(MessageChannel.class));
+    Message<?> sameToken = interceptor.preSend(
+        createMessageWithHeader(StompCommand.SUBSCRIBE, "Bearer " + token), mock(MessageChannel.class));
+
+    // then
+    assertEquals("test@test.com", StompHeaderAccessor.wrap(withoutHeader).getUser().getName());
+    assertEquals("test@test.com", StompHeaderAccessor.wrap(sameToken).getUser().getName());
+    verify(jwtProvider, times(1)).verify(token);
+    verify(userDetailsService, times(1)).loadUserByClaims(claims);
+    assertEquals(1.0, authCount(StompCommand.CONNECT, "verified"));
+    assertEquals(2.0, authCount(StompCommand.SUBSCRIBE, "cached"));
+  }
+
+  @Test
+  @DisplayName("세션에 묶인 토큰이 만료되면 SUBSCRIBE 에서 다시 검증")
+  void testSubscribeRevalidatesAfterExpiry() {
+    // given
+    String token = "expiring-token";
+    UUID userId = UUID.randomUUID();
+    JwtClaims expired = claimsOf(userId, Instant.now().minusSeconds(1));
+    when(jwtProvider.verify(token)).thenReturn(Optional.of(expired), Optional.empty());
+    when(userDetailsService.loadUserByClaims(expired)).thenReturn(userDetailsOf(userId));
+    interceptor.preSend(createMessageWithHeader(StompCommand.CONNECT, "Bearer " + token), mock(MessageChannel.class));
+
+    // when
+    Message<?> result = interceptor.preSend(
+        createMessageWithHeader(StompCommand.SUBSCRIBE, "Bearer " + token), mock(MessageChannel.class));
+
+    // then
+    assertNull(StompHeaderAccessor.wrap(result).getUser());
+    verify(jwtProvider, times(2)).verify(token);
+    assertEquals(1.0, authCount(StompCommand.SUBSCRIBE, "rejected"));
+    assertEquals(0, interceptor.boundSessions());
+  }
+
+  @Test
+  @DisplayName("DISCONNECT 하면 세션에 묶인 인증 정보를 지움")
+  void testDisconnectClearsSessionPrincipal() {
+    // given
+    String token = "valid-token";
+    UUID userId = UUID.randomUUID();
+    JwtClaims claims = claimsOf(userId);
+    when(jwtProvider.verify(token)).thenReturn(Optional.of(claims));
+    when(userDetailsService.loadUserByClaims(claims)).thenReturn(userDetailsOf(userId));
+    interceptor.preSend(createMessageWithHeader(StompCommand.CONNECT, "Bearer " + token), mock(MessageChannel.class));
+
+    // when
+    interceptor.preSend(createMessageWithHeader(StompCommand.DISCONNECT, null), mock(MessageChannel.class));
+    Message<?> result = interceptor.preSend(
+        createMessageWithHeader(StompCommand.SUBSCRIBE, null), mock(MessageChannel.class));
+
+    // then
+    assertEquals(0, interceptor.boundSessions());
+    assertNull(StompHeaderAccessor.wrap(result).getUser());
+  }
+
+  @Test
+  @DisplayName("세션에 묶인 토큰이 블랙리스트에 오르면 만료 전이라도 재사용하지 않음")
+  void testSubscribeRejectsBlacklistedSessionToken() {
+    // given
+    String token = "valid-token";
+    UUID userId = UUID.randomUUID();
+    JwtClaims claims = claimsOf(userId);
+    when(jwtProvider.verify(token)).thenReturn(Optional.of(claims));
+    when(userDetailsService.loadUserByClaims(claims)).thenReturn(userDetailsOf(userId));
+    interceptor.preSend(createMessageWithHeader(StompCommand.CONNECT, "Bearer " + token), mock(MessageChannel.class));
+    when(jwtBlacklist.blacklisted(token)).thenReturn(true);
+
+    // when
+    Message<?> result = interceptor.preSend(
+        createMessageWithHeader(StompCommand.SUBSCRIBE, null), mock(MessageChannel.class));
+
+    // then
+    assertNull(StompHeaderAccessor.wrap(result).getUser());
+    assertEquals(1.0, authCount(StompCommand.SUBSCRIBE, "rejected"));
+    assertEquals(0, interceptor.boundSessions());
+  }
+
+  @Test
+  @DisplayName("USER_INVALIDATED 를 받으면 해당 유저의 세션 인증 정보를 지우고 다음 프레임에서 다시 검증")
+  void testUserInvalidatedClearsSessionPrincipal() {
+    // given
+    String token = "valid-token";
+    UUID userId = UUID.randomUUID();
+    JwtClaims claims = claimsOf(userId);
+    when(jwtProvider.verify(token)).thenReturn(Optional.of(claims));
+    when(userDetailsService.loadUserByClaims(claims)).thenReturn(userDetailsOf(userId));
+    interceptor.preSend(createMessageWithHeader(StompCommand.CONNECT, "Bearer " + token), mock(MessageChannel.class));
+
+    // when
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.USER_INVALIDATED, UUID.randomUUID().toString(), null, null));
+    int boundAfterOtherUser = interceptor.boundSessions();
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.USER_INVALIDATED, userId.toString(), null, null));
+    int boundAfterOwner = interceptor.boundSessions();
+    interceptor.preSend(createMessageWithHeader(StompCommand.SUBSCRIBE, "Bearer " + token), mock(MessageChannel.class));
+
+    // then
+    assertEquals(1, boundAfterOtherUser);
+    assertEquals(0, boundAfterOwner);
+    verify(jwtProvider, times(2)).verify(token);
+    assertEquals(1.0, authCount(StompCommand.SUBSCRIBE, "verified"));
+  }
+}
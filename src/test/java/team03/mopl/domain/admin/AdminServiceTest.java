@@ -21,6 +21,7 @@ import team03.mopl.domain.user.Role;
 import team03.mopl.domain.user.User;
 import team03.mopl.domain.user.UserRepository;
 import team03.mopl.domain.user.UserResponse;
+import team03.mopl.jwt.AuthenticatedUserCache;
 import team03.mopl.jwt.JwtService;
 import team03.mopl.jwt.JwtSession;
 import team03.mopl.jwt.JwtSessionRepository;
@@ -41,6 +42,9 @@ class AdminServiceTest {
   @Mock
   private JwtSessionRepository jwtSessionRepository;
 
+  @Mock
+  private AuthenticatedUserCache authenticatedUserCache;
+
   private UUID userId;
   private User user;
 
@@ -69,6 +73,7 @@ class AdminServiceTest {
     assertThat(response.role()).isEqualTo("ADMIN");
     verify(jwtService).invalidateSessionByRefreshToken("refresh", true);
     verify(userRepository).save(any(User.class));
+    verify(authenticatedUserCache).invalidate(userId);
   }
 
   @Test
@@ -84,6 +89,7 @@ class AdminServiceTest {
     assertThat(response.isLocked()).isTrue();
     verify(jwtService).invalidateSessionByRefreshToken("refresh", true);
     verify(userRepository).save(any(User.class));
+    verify(authenticatedUserCache).invalidate(userId);
   }
 
   @Test
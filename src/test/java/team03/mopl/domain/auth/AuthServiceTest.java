@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -28,6 +29,7 @@ import team03.mopl.domain.user.UserRepository;
 import team03.mopl.jwt.JwtProvider;
 import team03.mopl.jwt.JwtService;
 import team03.mopl.jwt.JwtSessionRepository;
+import team03.mopl.jwt.RefreshTokenSingleFlight;
 import team03.mopl.jwt.TokenPair;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +56,9 @@ class AuthServiceTest {
   @Mock
   private PasswordEncoder passwordEncoder;
 
+  @Spy
+  private RefreshTokenSingleFlight refreshTokenSingleFlight = new RefreshTokenSingleFlight(10_000L, 5_000L);
+
   User user;
 
   @BeforeEach
@@ -87,6 +92,23 @@ class AuthServiceTest {
     verify(jwtService).save(user,"access","refresh",3600000L);
   }
 
+  @Test
+  void loginRehashesWhenStrengthChanged() {
+    User rehashed = user.toBuilder().password("rehashed").build();
+    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+    when(passwordEncoder.matches("password", "password")).thenReturn(true);
+    when(passwordEncoder.upgradeEncoding("password")).thenReturn(true);
+    when(passwordEncoder.encode("password")).thenReturn("rehashed");
+    when(userRepository.save(argThat(saved -> "rehashed".equals(saved.getPassword())))).thenReturn(rehashed);
+    when(jwtProvider.generateToken(rehashed)).thenReturn("access");
+    when(jwtProvider.generateRefreshToken(rehashed)).thenReturn("refresh");
+
+    LoginResult result = authService.login("test@email.com", "password");
+
+    assertThat(result.accessToken()).isEqualTo("access");
+    verify(jwtService).save(rehashed, "access", "refresh", 3600000L);
+  }
+
   @Test
   void loginLockedUser() {
     User lockedUser = user.toBuilder().isLocked(true).build();
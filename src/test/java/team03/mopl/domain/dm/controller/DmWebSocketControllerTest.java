@@ -13,8 +13,8 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
+import team03.mopl.cluster.ClusterMessagingTemplate;
 import team03.mopl.domain.dm.dto.DmDto;
 import team03.mopl.domain.dm.dto.DmRequest;
 import team03.mopl.domain.dm.entity.Dm;
@@ -27,14 +27,14 @@ import team03.mopl.domain.user.UserRepository;
 class DmWebSocketControllerTest {
 
   private DmService dmService;
-  private SimpMessagingTemplate simpMessagingTemplate;
+  private ClusterMessagingTemplate simpMessagingTemplate;
   private PresenceTracker presenceTracker;
   private DmWebSocketController controller;
 
   @BeforeEach
   void setUp() {
     dmService = mock(DmService.class);
-    simpMessagingTemplate = mock(SimpMessagingTemplate.class);
+    simpMessagingTemplate = mock(ClusterMessagingTemplate.class);
     presenceTracker = mock(PresenceTracker.class);
     controller = new DmWebSocketController(simpMessagingTemplate, dmService, presenceTracker);
   }
@@ -134,8 +134,8 @@ class FollowServiceImplTest {
             new Follow(followerId, user1.getId()),
             new Follow(followerId, user2.getId())
         ));
-    given(userRepository.findById(user1.getId())).willReturn(Optional.of(user1));
-    given(userRepository.findById(user2.getId())).willReturn(Optional.of(user2));
+    // 팔로우 순서와 다르게 반환되어도 팔로우 순서대로 응답한다
+    given(userRepository.findAllById(List.of(user1.getId(), user2.getId()))).willReturn(List.of(user2, user1));
 
     // when
     var result = followService.getFollowing(followerId);
@@ -162,17 +162,14 @@ class FollowServiceImplTest {
         new Follow(target2, followingId)
     ));
 
-    given(userRepository.findById(target1)).willReturn(Optional.of(
+    given(userRepository.findAllById(List.of(target1, target2))).willReturn(List.of(
         User.builder()
             .id(target1)
             .email(email1)
             .name("user1")
             .password("pw")
             .role(Role.USER)
-            .build()
-    ));
-
-    given(userRepository.findById(target2)).willReturn(Optional.of(
+            .build(),
         User.builder()
             .id(target2)
             .email(email2)
@@ -2,10 +2,13 @@ package team03.mopl.domain.notification;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,8 +17,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
-import team03.mopl.domain.follow.dto.FollowResponse;
 import team03.mopl.domain.follow.service.FollowService;
 import team03.mopl.domain.notification.dto.NotificationDto;
 import team03.mopl.domain.notification.entity.NotificationType;
@@ -24,10 +27,13 @@ import team03.mopl.domain.notification.events.PlaylistSubscribedEvent;
 import team03.mopl.domain.notification.events.PlaylistUpdatedEvent;
 import team03.mopl.domain.notification.repository.NotificationRepository;
 import team03.mopl.domain.notification.service.EmitterService;
+import team03.mopl.domain.notification.service.NotificationCoalescer;
+import team03.mopl.domain.notification.service.NotificationCoalescer.Burst;
+import team03.mopl.domain.notification.service.NotificationCoalescer.Key;
+import team03.mopl.domain.notification.service.NotificationFanoutService;
+import team03.mopl.domain.notification.service.NotificationFanoutService.RecipientPager;
 import team03.mopl.domain.notification.service.NotificationService;
-import team03.mopl.domain.subscription.Subscription;
 import team03.mopl.domain.subscription.SubscriptionRepository;
-import team03.mopl.domain.user.User;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationEventListenerTest {
@@ -37,43 +43,45 @@ class NotificationEventListenerTest {
   @Mock EmitterService emitterService;
   @Mock NotificationService notificationService;
   @Mock FollowService followService;
+  @Mock NotificationFanoutService notificationFanoutService;
+  @Mock NotificationCoalescer notificationCoalescer;
 
   @InjectMocks NotificationEventListener listener;
 
-  @DisplayName("플레이리스트 업데이트 시 구독자에게 알림 전송")
+  // 병합 구간 없이 첫 이벤트처럼 바로 내보낸다
+  private void givenCoalescerFlushesImmediately() {
+    doAnswer(invocation -> {
+      Consumer<Burst> flush = invocation.getArgument(2);
+      flush.accept(new Burst(invocation.getArgument(1), 1, null));
+      return null;
+    }).when(notificationCoalescer).submit(any(), any(), any());
+  }
+
+  @DisplayName("플레이리스트 업데이트 시 구독자 ID 를 keyset 페이지로 조회해 fan-out 한다")
   @Test
-  void handlePlaylistUpdated_withSubscribers_shouldSendNotifications() {
+  void handlePlaylistUpdated_withSubscribers_shouldFanOut() {
     // given
     UUID playlistId = UUID.randomUUID();
     UUID ownerId = UUID.randomUUID();
-    UUID userId1 = UUID.randomUUID();
-    UUID userId2 = UUID.randomUUID();
+    UUID lastSubscriberId = UUID.randomUUID();
+    List<UUID> subscriberIds = List.of(UUID.randomUUID(), UUID.randomUUID());
 
     PlaylistUpdatedEvent event = new PlaylistUpdatedEvent(playlistId, ownerId, "업데이트된 플리제목");
-
-    // Mock user and subscription
-    User user1 = mock(User.class);
-    User user2 = mock(User.class);
-    when(user1.getId()).thenReturn(userId1);
-    when(user2.getId()).thenReturn(userId2);
-
-    Subscription sub1 = mock(Subscription.class);
-    Subscription sub2 = mock(Subscription.class);
-    when(sub1.getUser()).thenReturn(user1);
-    when(sub2.getUser()).thenReturn(user2);
-
-    List<Subscription> subs = List.of(sub1, sub2);
-    when(subscriptionRepository.findByPlaylistId(playlistId)).thenReturn(subs);
+    givenCoalescerFlushesImmediately();
+    when(subscriptionRepository.findSubscriberIdsAfter(playlistId, lastSubscriberId, PageRequest.of(0, 100))).thenReturn(subscriberIds);
+    when(notificationFanoutService.fanOut(eq(NotificationType.PLAYLIST_SUBSCRIBED), eq(playlistId), any(), any()))
+        .thenReturn(2);
 
     // when
     listener.handlePlaylistUpdated(event);
 
-    // then
-    verify(notificationService, times(2)).sendNotification(argThat(dto ->
-        dto.getNotificationType() == NotificationType.PLAYLIST_SUBSCRIBED &&
-            dto.getContent().contains("업데이트되었습니다") &&
-            (dto.getReceiverId().equals(userId1) || dto.getReceiverId().equals(userId2))
-    ));
+    // then: 플레이리스트 단위로 병합되고, 넘겨준 페이저가 구독자 keyset 조회로 이어지는지 확인
+    verify(notificationCoalescer).submit(eq(new Key(null, NotificationType.PLAYLIST_SUBSCRIBED, playlistId)),
+        contains("업데이트되었습니다"), any());
+    ArgumentCaptor<RecipientPager> pagerCaptor = ArgumentCaptor.forClass(RecipientPager.class);
+    verify(notificationFanoutService).fanOut(eq(NotificationType.PLAYLIST_SUBSCRIBED), eq(playlistId), any(), pagerCaptor.capture());
+    assertThat(pagerCaptor.getValue().nextPage(lastSubscriberId, 100)).isEqualTo(subscriberIds);
+    verifyNoInteractions(notificationService);
   }
 
   @DisplayName("플레이리스트가 구독되면 플레이리스트 소유자에게 알림을 보낸다")
@@ -103,7 +111,7 @@ class NotificationEventListenerTest {
     verifyNoMoreInteractions(notificationService);
   }
 
-  @DisplayName("공개 플리 생성 시 팔로워 전원에게 알림 전송")
+  @DisplayName("공개 플리 생성 시 팔로워 전원에게 fan-out 한다")
   @Test
   void onFollowingPostedPlaylist_public_playlist_sends_notifications() {
     // given
@@ -114,28 +122,26 @@ class NotificationEventListenerTest {
     FollowingPostedPlaylistEvent event =
         new FollowingPostedPlaylistEvent(creatorId, creatorName, playlistId, playlistName, true);
 
-    FollowResponse follower1 = new FollowResponse(UUID.randomUUID(), "user1", "img1", null, null);
-    FollowResponse follower2 = new FollowResponse(UUID.randomUUID(), "user2", "img2", null, null);
-    when(followService.getFollowers(creatorId)).thenReturn(List.of(follower1, follower2));
+    UUID lastFollowerId = UUID.randomUUID();
+    List<UUID> followerIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+    givenCoalescerFlushesImmediately();
+    when(followService.getFollowerIdsAfter(creatorId, lastFollowerId, 100)).thenReturn(followerIds);
+    when(notificationFanoutService.fanOut(eq(NotificationType.FOLLOWING_POSTED_PLAYLIST), eq(creatorId), any(), any())).thenReturn(2);
 
     // when
     listener.onFollowingPostedPlaylist(event);
 
     // then
-    ArgumentCaptor<NotificationDto> captor = ArgumentCaptor.forClass(NotificationDto.class);
-    //---------------------------------follower1, follower2
-    verify(notificationService, times(2)).sendNotification(captor.capture());
-
-    List<NotificationDto> dtos = captor.getAllValues();
-    assertThat(dtos).hasSize(2);
-    assertThat(dtos).extracting(NotificationDto::getReceiverId).containsExactlyInAnyOrder(follower1.id(), follower2.id());
-    assertThat(dtos).allSatisfy(dto -> {
-      assertThat(dto.getNotificationType()).isEqualTo(NotificationType.FOLLOWING_POSTED_PLAYLIST);
-      assertThat(dto.getContent()).contains(playlistName);
-      assertThat(dto.getContent()).contains(creatorName);
-    });
-
-    verifyNoMoreInteractions(notificationService);
+    ArgumentCaptor<Burst> burstCaptor = ArgumentCaptor.forClass(Burst.class);
+    ArgumentCaptor<RecipientPager> pagerCaptor = ArgumentCaptor.forClass(RecipientPager.class);
+    verify(notificationFanoutService).fanOut(eq(NotificationType.FOLLOWING_POSTED_PLAYLIST), eq(creatorId), burstCaptor.capture(),
+        pagerCaptor.capture());
+    assertThat(burstCaptor.getValue().content()).contains(playlistName);
+    assertThat(burstCaptor.getValue().content()).contains(creatorName);
+    assertThat(pagerCaptor.getValue().nextPage(lastFollowerId, 100)).isEqualTo(followerIds);
+
+    // 수신자마다 개별 sendNotification 을 호출하지 않는다
+    verifyNoInteractions(notificationService);
   }
 
   @DisplayName("비공개 플리면 아무에게도 안 보낸다")
@@ -152,6 +158,8 @@ class NotificationEventListenerTest {
 
     // then
     verifyNoInteractions(notificationService);
+    verifyNoInteractions(notificationFanoutService);
+    verifyNoInteractions(notificationCoalescer);
     verifyNoInteractions(followService); // 비공개면 팔로워 조회 자체를 안 함
   }
 
@@ -164,13 +172,14 @@ class NotificationEventListenerTest {
     FollowingPostedPlaylistEvent event =
         new FollowingPostedPlaylistEvent(creatorId, creatorName, UUID.randomUUID(), "empty world", true);
 
-    when(followService.getFollowers(creatorId)).thenReturn(List.of());
+    givenCoalescerFlushesImmediately();
+    when(notificationFanoutService.fanOut(eq(NotificationType.FOLLOWING_POSTED_PLAYLIST), eq(creatorId), any(), any())).thenReturn(0);
 
     // when
     listener.onFollowingPostedPlaylist(event);
 
     // then
-    verify(followService).getFollowers(creatorId);
+    verify(notificationFanoutService).fanOut(eq(NotificationType.FOLLOWING_POSTED_PLAYLIST), eq(creatorId), any(), any());
     verifyNoInteractions(notificationService);
   }
 }
@@ -10,6 +10,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
@@ -224,7 +225,8 @@ class NotificationControllerTest {
         .andExpect(jsonPath("$.data[0].notificationType").value("DM_RECEIVED"))
         .andExpect(jsonPath("$.data[0].createdAt").exists()).andExpect(jsonPath("$.data[0].receiverId").value(dto.getReceiverId().toString()));
 
-    verify(notificationService).markAllAsRead(user.getId());
+    // 조회만으로는 읽음 처리하지 않음
+    verify(notificationService, never()).markAllAsRead(any());
   }
 
   @Test
@@ -283,6 +285,23 @@ class NotificationControllerTest {
     return Base64.getUrlEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
   }
 
+  @Test
+  @DisplayName("읽지 않은 알림 수 조회 - 성공")
+  @WithMockUser
+  void getUnreadCount_Success() throws Exception {
+    // given
+    User user = User.builder().id(UUID.randomUUID()).email("testuser@example.com").password("password").role(Role.USER).build();
+    CustomUserDetails customUserDetails = new CustomUserDetails(user);
+    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(customUserDetails, customUserDetails.getPassword(),
+        customUserDetails.getAuthorities());
+    when(notificationService.getUnreadCount(user.getId())).thenReturn(3L);
+
+    // when & then
+    mockMvc.perform(get("/api/notifications/unread-count").with(authentication(authToken)).accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.unreadCount").value(3));
+  }
+
   @Test
   @DisplayName("알림 읽음 처리 - 성공")
   @WithMockUser
@@ -1,16 +1,18 @@
 package team03.mopl.domain.notification.repository;
 
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 import team03.mopl.domain.notification.entity.Notification;
 import team03.mopl.domain.notification.entity.NotificationType;
 
 class EmitterCacheRepositoryImplTest {
 
-  private EmitterCacheRepository cacheRepository = new EmitterCacheRepositoryImpl();
+  private EmitterCacheRepository cacheRepository = new EmitterCacheRepositoryImpl(100, 1800, 100_000);
   private UUID userId;
 
   @BeforeEach
@@ -18,57 +20,143 @@ class EmitterCacheRepositoryImplTest {
     userId = UUID.randomUUID();
   }
 
-  private String makeEmitterId(UUID userId) {
-    return userId + "_" + System.currentTimeMillis() + "_" + UUID.randomUUID();
+  private Notification makeNotification(String content) {
+    Notification notification = new Notification(userId, NotificationType.FOLLOWED, content);
+    ReflectionTestUtils.setField(notification, "id", UUID.randomUUID());
+    return notification;
   }
 
-  private String makeNotificationCacheId(String emitterId, UUID notificationId, UUID userId) {
-    return notificationId + "_" + emitterId + "_" + userId;
+  @Test
+  @DisplayName("Last-Event-ID 이후의 알림만 시퀀스 순서대로 조회한다")
+  public void findAllNotificationCachesAfter() {
+    //given
+    long first = 101L;
+    long second = 102L;
+    long third = 103L;
+    cacheRepository.saveNotificationCache(userId, makeNotification("1"), first);
+    cacheRepository.saveNotificationCache(userId, makeNotification("2"), second);
+    cacheRepository.saveNotificationCache(userId, makeNotification("3"), third);
+
+    //when
+    List<CachedNotification> result = cacheRepository.findAllNotificationCachesAfter(userId, first);
+
+    //then
+    Assertions.assertEquals(List.of(second, third), result.stream().map(CachedNotification::sequence).toList());
+    Assertions.assertEquals(0, cacheRepository.findAllNotificationCachesAfter(userId, third).size());
+    Assertions.assertEquals(0, cacheRepository.findAllNotificationCachesAfter(UUID.randomUUID(), 0L).size());
   }
 
   @Test
-  @DisplayName("NotificationCache 삭제 By Id")
-  public void deleteNotificationCacheById() throws InterruptedException {
+  @DisplayName("NotificationCache 삭제 By 알림ID")
+  public void deleteNotificationCache() {
     //given
-    UUID notificationId = UUID.randomUUID();
-    String notificationCacheId1 = makeNotificationCacheId(makeEmitterId(notificationId), UUID.randomUUID(), userId);
-    System.out.println("notificationCacheId1 = " + notificationCacheId1);
-    Notification notification1 = new Notification(userId, NotificationType.FOLLOWED, "팔로우 했습니다.");
-    cacheRepository.saveNotificationCache(notificationCacheId1, notification1);
-
-    Thread.sleep(100);
-    String notificationCacheId2 = makeNotificationCacheId(makeEmitterId(notificationId), UUID.randomUUID(), userId);
-    System.out.println("notificationCacheId2 = " + notificationCacheId2);
-    Notification notification2 = new Notification(userId, NotificationType.DM_RECEIVED, "DM이 도착했습니다..");
-    cacheRepository.saveNotificationCache(notificationCacheId2, notification2);
+    Notification notification1 = makeNotification("팔로우 했습니다.");
+    Notification notification2 = makeNotification("DM이 도착했습니다.");
+    cacheRepository.saveNotificationCache(userId, notification1, 1L);
+    cacheRepository.saveNotificationCache(userId, notification2, 2L);
 
     //when
-    cacheRepository.deleteNotificationCacheById(notificationCacheId1);
+    cacheRepository.deleteNotificationCache(userId, notification1.getId());
 
     //then
-    //Assertions.assertEquals(1, cacheRepository.findAllNotificationCachesByNotificationIdPrefix(notificationId).size());
-    Assertions.assertEquals(1, cacheRepository.findAllNotificationCachesByUserIdPrefix(userId).size());
+    List<CachedNotification> result = cacheRepository.findAllNotificationCachesAfter(userId, 0L);
+    Assertions.assertEquals(1, result.size());
+    Assertions.assertEquals(notification2, result.get(0).notification());
   }
+
   @Test
-  @DisplayName("NotificationCache 삭제 By 알림ID")
-  public void deleteNotificationCachesByNotificationIdPrefix() throws InterruptedException {
+  @DisplayName("유저 버퍼가 가득 차면 가장 오래된 알림부터 밀려난다")
+  public void saveNotificationCache_overwritesOldestWhenFull() {
+    //given
+    EmitterCacheRepository smallRepository = new EmitterCacheRepositoryImpl(2, 1800, 100_000);
+    smallRepository.saveNotificationCache(userId, makeNotification("1"), 1L);
+    smallRepository.saveNotificationCache(userId, makeNotification("2"), 2L);
+    smallRepository.saveNotificationCache(userId, makeNotification("3"), 3L);
+
+    //when
+    List<CachedNotification> result = smallRepository.findAllNotificationCachesAfter(userId, 0L);
+
+    //then
+    Assertions.assertEquals(List.of(2L, 3L), result.stream().map(CachedNotification::sequence).toList());
+  }
+
+  @Test
+  @DisplayName("늦게 도착한 알림은 발급된 시퀀스 위치에 넣고, 같은 시퀀스는 한 번만 저장한다")
+  public void saveNotificationCache_keepsSequenceOrder() {
+    //given
+    cacheRepository.saveNotificationCache(userId, makeNotification("1"), 1L);
+    cacheRepository.saveNotificationCache(userId, makeNotification("3"), 3L);
+
+    //when: 다른 노드가 먼저 발급한 알림이 늦게 도착하고, 같은 알림이 한 번 더 도착
+    cacheRepository.saveNotificationCache(userId, makeNotification("2"), 2L);
+    cacheRepository.saveNotificationCache(userId, makeNotification("3"), 3L);
+
+    //then
+    Assertions.assertEquals(List.of(1L, 2L, 3L), cacheRepository.findAllNotificationCachesAfter(userId, 0L).stream()
+        .map(CachedNotification::sequence).toList());
+    Assertions.assertEquals(List.of(3L), cacheRepository.findAllNotificationCachesAfter(userId, 2L).stream()
+        .map(CachedNotification::sequence).toList());
+  }
+
+  @Test
+  @DisplayName("가득 찬 버퍼에는 가장 오래된 알림보다 오래된 알림을 넣지 않는다")
+  public void saveNotificationCache_dropsOlderThanFullBuffer() {
+    //given
+    EmitterCacheRepository smallRepository = new EmitterCacheRepositoryImpl(2, 1800, 100_000);
+    smallRepository.saveNotificationCache(userId, makeNotification("2"), 2L);
+    smallRepository.saveNotificationCache(userId, makeNotification("3"), 3L);
+
+    //when
+    smallRepository.saveNotificationCache(userId, makeNotification("1"), 1L);
+
+    //then
+    Assertions.assertEquals(List.of(2L, 3L), smallRepository.findAllNotificationCachesAfter(userId, 0L).stream()
+        .map(CachedNotification::sequence).toList());
+  }
+
+  @Test
+  @DisplayName("전역 용량을 넘으면 다른 유저의 캐시라도 가장 오래된 것부터 제거한다")
+  public void saveNotificationCache_enforcesGlobalCap() {
+    //given
+    EmitterCacheRepository cappedRepository = new EmitterCacheRepositoryImpl(100, 1800, 2);
+    UUID otherUserId = UUID.randomUUID();
+    cappedRepository.saveNotificationCache(otherUserId, makeNotification("1"), 1L);
+    cappedRepository.saveNotificationCache(userId, makeNotification("2"), 2L);
+
+    //when
+    cappedRepository.saveNotificationCache(userId, makeNotification("3"), 3L);
+
+    //then
+    Assertions.assertEquals(0, cappedRepository.findAllNotificationCachesAfter(otherUserId, 0L).size());
+    Assertions.assertEquals(2, cappedRepository.findAllNotificationCachesAfter(userId, 0L).size());
+  }
+
+  @Test
+  @DisplayName("TTL이 지난 캐시는 조회되지 않고 정리 작업에서 제거된다")
+  public void evictExpiredNotificationCaches() throws InterruptedException {
+    //given
+    EmitterCacheRepository expiringRepository = new EmitterCacheRepositoryImpl(100, 0, 100_000);
+    expiringRepository.saveNotificationCache(userId, makeNotification("1"), 1L);
+    Thread.sleep(10);
+
+    //when
+    expiringRepository.evictExpiredNotificationCaches();
+
+    //then
+    Assertions.assertEquals(0, expiringRepository.findAllNotificationCachesAfter(userId, 0L).size());
+  }
+
+  @Test
+  @DisplayName("유저의 알림 캐시를 모두 삭제한다")
+  public void deleteAllNotificationCachesByUserId() {
     //given
-    UUID notificationId = UUID.randomUUID();
-    String notificationCacheId1 = makeNotificationCacheId(makeEmitterId(notificationId), notificationId, userId);
-    System.out.println("notificationCacheId1 = " + notificationCacheId1);
-    Notification notification1 = new Notification(userId, NotificationType.FOLLOWED, "팔로우 했습니다.");
-    cacheRepository.saveNotificationCache(notificationCacheId1, notification1);
-
-    Thread.sleep(100);
-    String notificationCacheId2 = makeNotificationCacheId(makeEmitterId(notificationId), notificationId, userId);
-    System.out.println("notificationCacheId2 = " + notificationCacheId2);
-    Notification notification2 = new Notification(userId, NotificationType.DM_RECEIVED, "DM이 도착했습니다..");
-    cacheRepository.saveNotificationCache(notificationCacheId2, notification2);
+    cacheRepository.saveNotificationCache(userId, makeNotification("1"), 1L);
+    cacheRepository.saveNotificationCache(userId, makeNotification("2"), 2L);
 
     //when
-    cacheRepository.deleteNotificationCachesByNotificationIdPrefix(notificationId);
+    cacheRepository.deleteAllNotificationCachesByUserId(userId);
 
     //then
-    Assertions.assertEquals(0, cacheRepository.findAllNotificationCachesByUserIdPrefix(userId).size());
+    Assertions.assertEquals(0, cacheRepository.findAllNotificationCachesAfter(userId, 0L).size());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package team03.mopl.domain.notification.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 알림 전송/heartbeat 마다 수행되는 "유저의 Emitter 조회" 비용 비교
+ * - prefixScan: 기존 방식 (전체 emitter 맵을 순회하며 startsWith 비교)
+ * - indexedLookup: 유저별 레지스트리 조회
+ *
+ * 실행: ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(0)
+public class EmitterRepositoryBenchmark {
+
+  private static final int CONNECTIONS_PER_USER = 2;
+
+  @Param({"50000"})
+  private int connections;
+
+  private final Map<String, SseEmitter> flatEmitters = new ConcurrentHashMap<>();
+  private final EmitterRepository emitterRepository = new EmitterRepositoryImpl();
+  private final List<UUID> userIds = new ArrayList<>();
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < connections / CONNECTIONS_PER_USER; i++) {
+      UUID userId = UUID.randomUUID();
+      userIds.add(userId);
+      for (int j = 0; j < CONNECTIONS_PER_USER; j++) {
+        String emitterId = userId + "_" + System.currentTimeMillis() + "_" + UUID.randomUUID();
+        SseEmitter emitter = new SseEmitter();
+        flatEmitters.put(emitterId, emitter);
+        emitterRepository.saveEmitter(userId, emitterId, emitter);
+      }
+    }
+  }
+
+  private UUID randomUser() {
+    return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+  }
+
+  @Benchmark
+  public Map<String, SseEmitter> prefixScan() {
+    String prefix = randomUser().toString();
+    return flatEmitters.entrySet().stream()
+        .filter(entry -> entry.getKey().startsWith(prefix))
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
+  @Benchmark
+  public Map<String, SseEmitter> indexedLookup() {
+    return emitterRepository.findAllEmittersByUserId(randomUser());
+  }
+
+  @Test
+  @Tag("benchmark")
+  void run() throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(EmitterRepositoryBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
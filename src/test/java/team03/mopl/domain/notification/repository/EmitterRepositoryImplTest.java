@@ -1,5 +1,6 @@
 package team03.mopl.domain.notification.repository;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
@@ -13,7 +14,7 @@ import team03.mopl.domain.notification.entity.NotificationType;
 class EmitterRepositoryImplTest {
 
   private EmitterRepository emitterRepository = new EmitterRepositoryImpl();
-  private EmitterCacheRepository cacheRepository = new EmitterCacheRepositoryImpl();
+  private EmitterCacheRepository cacheRepository = new EmitterCacheRepositoryImpl(100, 1800, 100_000);
   private Long DEFAULT_TIMEOUT = 60L * 1000L * 60L;
   private UUID userId;
 
@@ -26,27 +27,20 @@ class EmitterRepositoryImplTest {
     return userId + "_" + System.currentTimeMillis() + "_" + UUID.randomUUID();
   }
 
-  private String makeNotificationCacheId(String emitterId, UUID notificationId, UUID userId) {
-    return notificationId + "_" + emitterId + "_" + userId;
-  }
-
   @Test
   @DisplayName("새로운 Emitter를 추가한다.")
   void save() {
     SseEmitter sseEmitter = new SseEmitter(DEFAULT_TIMEOUT);
     String emitterId = makeEmitterId(userId);
 
-    Assertions.assertDoesNotThrow(() -> emitterRepository.saveEmitter(emitterId, sseEmitter));
+    Assertions.assertDoesNotThrow(() -> emitterRepository.saveEmitter(userId, emitterId, sseEmitter));
   }
 
   @Test
   @DisplayName("수신한 알림를 캐시에 저장한다.")
   void saveNotificationCache() {
-    String emitterId = makeEmitterId(userId);
     Notification notification = new Notification(userId, NotificationType.FOLLOWED, "알림 전송");
-    //추가 고민 필요
-    String notificationCacheId = makeNotificationCacheId(emitterId, UUID.randomUUID(), userId);
-    Assertions.assertDoesNotThrow(() -> cacheRepository.saveNotificationCache(notificationCacheId, notification));
+    Assertions.assertDoesNotThrow(() -> cacheRepository.saveNotificationCache(userId, notification, 1L));
   }
 
   @Test
@@ -54,44 +48,59 @@ class EmitterRepositoryImplTest {
   void findAllEmitterStartWithByMemberId() throws InterruptedException {
     //given
     String emitterId1 = userId + "_" + System.currentTimeMillis();
-    emitterRepository.saveEmitter(emitterId1, new SseEmitter(DEFAULT_TIMEOUT));
+    emitterRepository.saveEmitter(userId, emitterId1, new SseEmitter(DEFAULT_TIMEOUT));
 
     Thread.sleep(100);
     String emitterId2 = userId + "_" + System.currentTimeMillis();
-    emitterRepository.saveEmitter(emitterId2, new SseEmitter(DEFAULT_TIMEOUT));
+    emitterRepository.saveEmitter(userId, emitterId2, new SseEmitter(DEFAULT_TIMEOUT));
 
     Thread.sleep(100);
     String emitterId3 = userId + "_" + System.currentTimeMillis();
-    emitterRepository.saveEmitter(emitterId3, new SseEmitter(DEFAULT_TIMEOUT));
+    emitterRepository.saveEmitter(userId, emitterId3, new SseEmitter(DEFAULT_TIMEOUT));
 
 
     //when
-    Map<String, SseEmitter> ActualResult = emitterRepository.findAllEmittersByUserIdPrefix(String.valueOf(userId));
+    Map<String, SseEmitter> ActualResult = emitterRepository.findAllEmittersByUserId(userId);
 
     //then
     Assertions.assertEquals(3, ActualResult.size());
   }
 
+  @Test
+  @DisplayName("다른 회원의 Emitter는 조회되지 않고, 한 연결을 지워도 나머지 연결은 유지된다")
+  void findAllEmittersByUserId_isolatedPerUser() {
+    //given
+    UUID otherUserId = UUID.randomUUID();
+    String emitterId1 = makeEmitterId(userId);
+    String emitterId2 = makeEmitterId(userId);
+    emitterRepository.saveEmitter(userId, emitterId1, new SseEmitter(DEFAULT_TIMEOUT));
+    emitterRepository.saveEmitter(userId, emitterId2, new SseEmitter(DEFAULT_TIMEOUT));
+    emitterRepository.saveEmitter(otherUserId, makeEmitterId(otherUserId), new SseEmitter(DEFAULT_TIMEOUT));
+
+    //when
+    emitterRepository.deleteEmitterById(emitterId1);
+
+    //then
+    Map<String, SseEmitter> actualResult = emitterRepository.findAllEmittersByUserId(userId);
+    Assertions.assertEquals(1, actualResult.size());
+    Assertions.assertTrue(actualResult.containsKey(emitterId2));
+    Assertions.assertEquals(1, emitterRepository.findAllEmittersByUserId(otherUserId).size());
+  }
+
   @Test
   @DisplayName("어떤 회원에게 수신된 이벤트를 캐시에서 모두 찾는다.")
-  void findAllEventCacheStartWithByMemberId() throws InterruptedException {
-    UUID notificationId = UUID.randomUUID();
-    String notificationCacheId1 = makeNotificationCacheId(makeEmitterId(notificationId), UUID.randomUUID(), userId);
+  void findAllEventCacheStartWithByMemberId() {
     Notification notification1 = new Notification(userId, NotificationType.FOLLOWED, "팔로우 했습니다.");
-    cacheRepository.saveNotificationCache(notificationCacheId1, notification1);
+    cacheRepository.saveNotificationCache(userId, notification1, 1L);
 
-    Thread.sleep(100);
-    String notificationCacheId2 = makeNotificationCacheId(makeEmitterId(notificationId), UUID.randomUUID(), userId);
     Notification notification2 = new Notification(userId, NotificationType.DM_RECEIVED, "DM이 도착했습니다..");
-    cacheRepository.saveNotificationCache(notificationCacheId2, notification2);
+    cacheRepository.saveNotificationCache(userId, notification2, 2L);
 
-    Thread.sleep(100);
-    String notificationCacheId3 = makeNotificationCacheId(makeEmitterId(notificationId), UUID.randomUUID(), userId);
     Notification notification3 = new Notification(userId, NotificationType.UNFOLLOWED, "언팔로우 했습니다.");
-    cacheRepository.saveNotificationCache(notificationCacheId3, notification3);
+    cacheRepository.saveNotificationCache(userId, notification3, 3L);
 
     //when
-    Map<String, Notification> ActualResult = cacheRepository.findAllNotificationCachesByUserIdPrefix(userId);
+    List<CachedNotification> ActualResult = cacheRepository.findAllNotificationCachesAfter(userId, 0L);
 
     //then
     Assertions.assertEquals(3, ActualResult.size());
@@ -105,11 +114,11 @@ class EmitterRepositoryImplTest {
     SseEmitter sseEmitter = new SseEmitter(DEFAULT_TIMEOUT);
 
     //when
-    emitterRepository.saveEmitter(emitterId, sseEmitter);
+    emitterRepository.saveEmitter(userId, emitterId, sseEmitter);
     emitterRepository.deleteEmitterById(emitterId);
 
     //then
-    Assertions.assertEquals(0, emitterRepository.findAllEmittersByUserIdPrefix(emitterId).size());
+    Assertions.assertEquals(0, emitterRepository.findAllEmittersByUserId(userId).size());
   }
 
   @Test
@@ -117,37 +126,33 @@ class EmitterRepositoryImplTest {
   public void deleteAllEmitterStartWithId() throws Exception {
     //given
     String emitterId1 = userId + "_" + System.currentTimeMillis();
-    emitterRepository.saveEmitter(emitterId1, new SseEmitter(DEFAULT_TIMEOUT));
+    emitterRepository.saveEmitter(userId, emitterId1, new SseEmitter(DEFAULT_TIMEOUT));
 
     Thread.sleep(100);
     String emitterId2 = userId + "_" + System.currentTimeMillis();
-    emitterRepository.saveEmitter(emitterId2, new SseEmitter(DEFAULT_TIMEOUT));
+    emitterRepository.saveEmitter(userId, emitterId2, new SseEmitter(DEFAULT_TIMEOUT));
 
     //when
-    emitterRepository.deleteAllEmittersByUserIdPrefix(String.valueOf(userId));
+    emitterRepository.deleteAllEmittersByUserId(userId);
 
     //then
-    Assertions.assertEquals(0, emitterRepository.findAllEmittersByUserIdPrefix(String.valueOf(userId)).size());
+    Assertions.assertEquals(0, emitterRepository.findAllEmittersByUserId(userId).size());
   }
 
   @Test
   @DisplayName("이벤트 캐시를 삭제하면 해당 멤버의 캐시가 모두 비워진다.")
   public void deleteAllNotificationCacheStartWithId() throws Exception {
     //given
-    UUID notificationId = UUID.randomUUID();
-    String notificationCacheId1 = makeNotificationCacheId(makeEmitterId(notificationId), UUID.randomUUID(), userId);
     Notification notification1 = new Notification(userId, NotificationType.FOLLOWED, "팔로우 했습니다.");
-    cacheRepository.saveNotificationCache(notificationCacheId1, notification1);
+    cacheRepository.saveNotificationCache(userId, notification1, 1L);
 
-    Thread.sleep(100);
-    String notificationCacheId2 = makeNotificationCacheId(makeEmitterId(notificationId), UUID.randomUUID(), userId);
     Notification notification2 = new Notification(userId, NotificationType.DM_RECEIVED, "DM이 도착했습니다..");
-    cacheRepository.saveNotificationCache(notificationCacheId2, notification2);
+    cacheRepository.saveNotificationCache(userId, notification2, 2L);
 
     //when
-    cacheRepository.deleteAllNotificationCachesByUserIdPrefix(String.valueOf(userId));
+    cacheRepository.deleteAllNotificationCachesByUserId(userId);
 
     //then
-    Assertions.assertEquals(0, cacheRepository.findAllNotificationCachesByNotificationIdPrefix(notificationId).size());
+    Assertions.assertEquals(0, cacheRepository.findAllNotificationCachesAfter(userId, 0L).size());
   }
 }
\ No newline at end of file
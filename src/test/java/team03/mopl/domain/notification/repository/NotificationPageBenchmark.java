@@ -0,0 +1,186 @@
+package team03.mopl.domain.notification.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 대량(5천만 건) 알림 테이블에서 알림 목록 페이지 조회 비용 비교
+ * - index=none: 기존 스키마 (receiver_id 인덱스 없이 조회 후 정렬)
+ * - index=keyset: (receiver_id, created_at desc, id desc) 인덱스
+ *
+ * 데이터는 init/benchmark/notifications-seed.sql 로 미리 적재하고, 접속 정보를 넘겨 실행합니다.
+ * 실행: ./gradlew benchmark -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/mopl -Dbenchmark.jdbc.user=... -Dbenchmark.jdbc.password=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(0)
+public class NotificationPageBenchmark {
+
+  private static final String URL = System.getProperty("benchmark.jdbc.url");
+  private static final String USER = System.getProperty("benchmark.jdbc.user", "postgres");
+  private static final String PASSWORD = System.getProperty("benchmark.jdbc.password", "");
+  private static final int USERS = Integer.getInteger("benchmark.notification.users", 100_000);
+  private static final int PAGE_SIZE = 20;
+
+  // NotificationRepositoryCustom.findByCursor 와 같은 조건/정렬
+  private static final String FIRST_PAGE = """
+      SELECT id, created_at FROM notifications
+      WHERE receiver_id = ?
+      ORDER BY created_at DESC, id DESC
+      LIMIT ?
+      """;
+  private static final String CURSOR_PAGE = """
+      SELECT id, created_at FROM notifications
+      WHERE receiver_id = ? AND (created_at < ? OR (created_at = ? AND id < ?))
+      ORDER BY created_at DESC, id DESC
+      LIMIT ?
+      """;
+  private static final String COUNT = "SELECT count(*) FROM notifications WHERE receiver_id = ?";
+
+  @Param({"none", "keyset"})
+  private String index;
+
+  private Connection connection;
+  private PreparedStatement firstPage;
+  private PreparedStatement cursorPage;
+  private PreparedStatement count;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(URL, USER, PASSWORD);
+    try (Statement statement = connection.createStatement()) {
+      if ("keyset".equals(index)) {
+        statement.execute("CREATE INDEX IF NOT EXISTS idx_notifications_receiver_created "
+            + "ON notifications (receiver_id, created_at DESC, id DESC)");
+      } else {
+        statement.execute("DROP INDEX IF EXISTS idx_notifications_receiver_created");
+      }
+      statement.execute("ANALYZE notifications");
+    }
+    firstPage = connection.prepareStatement(FIRST_PAGE);
+    cursorPage = connection.prepareStatement(CURSOR_PAGE);
+    count = connection.prepareStatement(COUNT);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    // 다음 실행과 운영 스키마가 같도록 인덱스를 되돌림
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE INDEX IF NOT EXISTS idx_notifications_receiver_created "
+          + "ON notifications (receiver_id, created_at DESC, id DESC)");
+    }
+    connection.close();
+  }
+
+  // notifications-seed.sql 의 유저 ID 규칙 (md5('bench-user-' || n))
+  private static UUID randomUser() {
+    String seed = "bench-user-" + ThreadLocalRandom.current().nextInt(USERS);
+    try {
+      byte[] digest = MessageDigest.getInstance("MD5").digest(seed.getBytes(StandardCharsets.UTF_8));
+      long msb = 0;
+      long lsb = 0;
+      for (int i = 0; i < 8; i++) {
+        msb = (msb << 8) | (digest[i] & 0xff);
+        lsb = (lsb << 8) | (digest[i + 8] & 0xff);
+      }
+      return new UUID(msb, lsb);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Benchmark
+  public UUID firstPage() throws SQLException {
+    firstPage.setObject(1, randomUser());
+    firstPage.setInt(2, PAGE_SIZE);
+    UUID last = null;
+    try (ResultSet rs = firstPage.executeQuery()) {
+      while (rs.next()) {
+        last = rs.getObject(1, UUID.class);
+      }
+    }
+    return last;
+  }
+
+  @Benchmark
+  public UUID cursorPage() throws SQLException {
+    UUID userId = randomUser();
+    firstPage.setObject(1, userId);
+    firstPage.setInt(2, PAGE_SIZE);
+    UUID cursorId = null;
+    Timestamp cursorAt = null;
+    try (ResultSet rs = firstPage.executeQuery()) {
+      while (rs.next()) {
+        cursorId = rs.getObject(1, UUID.class);
+        cursorAt = rs.getTimestamp(2);
+      }
+    }
+    if (cursorId == null) {
+      return null;
+    }
+
+    cursorPage.setObject(1, userId);
+    cursorPage.setTimestamp(2, cursorAt);
+    cursorPage.setTimestamp(3, cursorAt);
+    cursorPage.setObject(4, cursorId);
+    cursorPage.setInt(5, PAGE_SIZE);
+    UUID last = null;
+    try (ResultSet rs = cursorPage.executeQuery()) {
+      while (rs.next()) {
+        last = rs.getObject(1, UUID.class);
+      }
+    }
+    return last;
+  }
+
+  @Benchmark
+  public long countByReceiver() throws SQLException {
+    count.setObject(1, randomUser());
+    try (ResultSet rs = count.executeQuery()) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+
+  @Test
+  @Tag("benchmark")
+  void run() throws RunnerException {
+    Assumptions.assumeTrue(URL != null, "benchmark.jdbc.url 이 없으면 건너뜀");
+    new Runner(new OptionsBuilder()
+        .include(NotificationPageBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
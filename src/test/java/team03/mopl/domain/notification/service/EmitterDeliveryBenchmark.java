@@ -0,0 +1,154 @@
+package team03.mopl.domain.notification.service;
+
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import team03.mopl.cluster.InMemoryClusterBus;
+import team03.mopl.domain.notification.entity.Notification;
+import team03.mopl.domain.notification.entity.NotificationType;
+import team03.mopl.domain.notification.repository.EmitterCacheRepositoryImpl;
+import team03.mopl.domain.notification.repository.EmitterRepository;
+import team03.mopl.domain.notification.repository.EmitterRepositoryImpl;
+import team03.mopl.domain.notification.repository.LocalNotificationSequence;
+import team03.mopl.domain.notification.service.SseOutboundDispatcher.OverflowPolicy;
+
+/**
+ * 알림 1건 전달 시 emitter 에 기록되는 프레임 수 비교
+ * - probeThenSend: 기존 방식 (connection-check 코멘트 전송 후 실제 알림 전송)
+ * - sendOnly: 전송 결과로 연결 상태를 판단하는 EmitterService 의 노드 로컬 경로 (송신 큐 -> writer 스레드)
+ *
+ * 결과의 frames / delivered 보조 카운터 비율이 "알림당 프레임 수" 입니다.
+ * 실행: ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(0)
+public class EmitterDeliveryBenchmark {
+
+  private static final int CONNECTIONS_PER_USER = 2;
+
+  private final UUID userId = UUID.randomUUID();
+  private final CountingEmitter[] emitters = new CountingEmitter[CONNECTIONS_PER_USER];
+  private SseOutboundDispatcher outboundDispatcher;
+  private EmitterService emitterService;
+  private final LocalNotificationSequence notificationSequence = new LocalNotificationSequence();
+  private Notification notification;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class FrameCounters {
+    public long frames;
+    public long delivered;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      frames = 0;
+      delivered = 0;
+    }
+  }
+
+  /**
+   * 실제 소켓 대신 send 호출 수(= 기록된 프레임 수)만 세는 emitter
+   */
+  static class CountingEmitter extends SseEmitter {
+    final AtomicLong frames = new AtomicLong();
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      frames.incrementAndGet();
+    }
+
+    long drain() {
+      return frames.getAndSet(0);
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    outboundDispatcher = new SseOutboundDispatcher(new SimpleMeterRegistry(), 64, 16, OverflowPolicy.DROP_OLDEST, 1);
+    EmitterRepository emitterRepository = new EmitterRepositoryImpl();
+    for (int i = 0; i < CONNECTIONS_PER_USER; i++) {
+      emitters[i] = new CountingEmitter();
+      emitterRepository.saveEmitter(userId, userId + "_" + i, emitters[i]);
+    }
+    emitterService = new EmitterService(
+        emitterRepository,
+        new EmitterCacheRepositoryImpl(100, 1800, 100_000),
+        notificationSequence,
+        mock(SseHeartbeatService.class),
+        outboundDispatcher,
+        new InMemoryClusterBus(),
+        null,
+        mock(UnreadNotificationCounter.class),
+        null,
+        null);
+    notification = new Notification(userId, NotificationType.DM_RECEIVED, "benchmark");
+  }
+
+  @TearDown
+  public void tearDown() {
+    outboundDispatcher.cleanup();
+  }
+
+  private void collect(FrameCounters counters) {
+    for (CountingEmitter emitter : emitters) {
+      counters.frames += emitter.drain();
+      counters.delivered++;
+    }
+  }
+
+  @Benchmark
+  public void probeThenSend(FrameCounters counters) throws IOException {
+    for (CountingEmitter emitter : emitters) {
+      emitter.send(SseEmitter.event().comment("connection-check"));
+      emitter.send(SseEmitter.event().id("1").name(notification.getType().getNotificationName()).data("benchmark"));
+    }
+    collect(counters);
+  }
+
+  @Benchmark
+  public void sendOnly(FrameCounters counters) {
+    emitterService.deliverLocally(userId, notification, notificationSequence.next());
+    // writer 스레드가 모든 연결에 기록할 때까지 대기
+    for (CountingEmitter emitter : emitters) {
+      while (emitter.frames.get() == 0) {
+        Thread.onSpinWait();
+      }
+    }
+    collect(counters);
+  }
+
+  @Test
+  @Tag("benchmark")
+  void run() throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(EmitterDeliveryBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
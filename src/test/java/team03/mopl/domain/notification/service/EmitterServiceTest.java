@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -27,8 +28,10 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.util.AssertionErrors.assertFalse;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -48,14 +51,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import team03.mopl.cluster.ClusterBus;
+import team03.mopl.cluster.ClusterMessage;
 import team03.mopl.domain.notification.entity.Notification;
 import team03.mopl.domain.notification.entity.NotificationType;
+import team03.mopl.domain.notification.repository.CachedNotification;
 import team03.mopl.domain.notification.repository.EmitterCacheRepository;
 import team03.mopl.domain.notification.repository.EmitterRepository;
+import team03.mopl.domain.notification.repository.NotificationSequence;
+import team03.mopl.domain.notification.service.SseOutboundDispatcher.OutboundEvent;
 
 @ExtendWith(MockitoExtension.class)
 class EmitterServiceTest {
@@ -66,7 +74,17 @@ class EmitterServiceTest {
   @Mock
   private EmitterCacheRepository emitterCacheRepository;
   @Mock
-  ScheduledExecutorService heartbeatExecutor;
+  private NotificationSequence notificationSequence;
+  @Mock
+  private SseHeartbeatService heartbeatService;
+  @Mock
+  private SseOutboundDispatcher outboundDispatcher;
+  @Mock
+  private ClusterBus clusterBus;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  @Mock
+  private UnreadNotificationCounter unreadCounter;
   @InjectMocks
   private EmitterService emitterService;
 
@@ -76,44 +94,97 @@ class EmitterServiceTest {
     // given
     UUID userId = UUID.randomUUID();
     String lastNotificationId = null;
-    when(emitterRepository.findAllEmittersByUserIdPrefix(userId.toString())).thenReturn(Map.of());
+    when(emitterRepository.findAllEmittersByUserId(userId)).thenReturn(Map.of());
     SseEmitter emitter = emitterService.subscribe(userId, lastNotificationId);
 
     // then
     assertNotNull(emitter);
     assertDoesNotThrow(() -> emitter.send(SseEmitter.event().comment("test")));
-    verify(emitterRepository).saveEmitter(anyString(), eq(emitter));
+    verify(emitterRepository).saveEmitter(eq(userId), anyString(), eq(emitter));
   }
 
   @Test
-  @DisplayName("sendLostData - 누락된 알림만 재전송")
+  @DisplayName("sendLostData - Last-Event-ID 이후 캐싱된 알림만 송신 큐로 재전송하고, 다 보낸 뒤 connected 를 넣는다")
   void sendLostData() {
     // given
     UUID userId = UUID.randomUUID();
-    String lastNotificationId = UUID.randomUUID().toString(); // 기준점
-
-    SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(60));
-    String emitterId = userId + "_test_" + UUID.randomUUID();
+    long lastSequence = 100L; // 기준점
 
-    when(emitterRepository.findAllEmittersByUserIdPrefix(userId.toString())).thenReturn(Map.of(emitterId, emitter));
+    when(emitterRepository.findAllEmittersByUserId(userId)).thenReturn(Map.of());
 
-    // 알림 캐시: 일부는 기준점 이전, 일부는 이후
-    Map<String, Notification> notificationCache = new ConcurrentHashMap<>();
-    for (int i = 0; i < 10; i++) {
-      UUID notificationId = UUID.randomUUID();
-      String notificationKey = notificationId + "_" + emitterId + "_" + userId;
+    // 알림 캐시: 기준점 이후의 알림만 조회된다고 가정
+    List<CachedNotification> missed = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
       Notification notification = new Notification(userId, NotificationType.FOLLOWED, "팔로우 알림 " + i);
-      notificationCache.put(notificationKey, notification);
+      missed.add(new CachedNotification(lastSequence + i, notification, System.currentTimeMillis()));
     }
+    when(emitterCacheRepository.findAllNotificationCachesAfter(userId, lastSequence)).thenReturn(missed);
+    given(outboundDispatcher.enqueue(anyString(), any(SseEmitter.class), any(OutboundEvent.class))).willReturn(true);
 
-    when(emitterCacheRepository.findAllNotificationCachesByUserIdPrefix(userId)).thenReturn(notificationCache);
+    // when
+    SseEmitter emitter = emitterService.subscribe(userId, String.valueOf(lastSequence));
+
+    // then: 요청 스레드는 직접 쓰지 않고 재전송 알림만 송신 큐에 넣음 (connected, 읽지 않은 수는 재전송 이후)
+    verify(emitterRepository, times(1)).saveEmitter(eq(userId), anyString(), eq(emitter));
+    verify(emitterCacheRepository).findAllNotificationCachesAfter(userId, lastSequence);
+    ArgumentCaptor<OutboundEvent> eventCaptor = ArgumentCaptor.forClass(OutboundEvent.class);
+    verify(outboundDispatcher, times(3)).enqueue(anyString(), eq(emitter), eventCaptor.capture());
+
+    // 마지막 재전송 알림이 전송되면 connected 와 보류했던 읽지 않은 수를 넣음
+    eventCaptor.getAllValues().get(2).onSuccess().run();
+    verify(outboundDispatcher, times(5)).enqueue(anyString(), eq(emitter), eventCaptor.capture());
+    assertThat(eventCaptor.getAllValues().get(eventCaptor.getAllValues().size() - 1).coalesceKey())
+        .isEqualTo("unread-count");
+  }
+
+  @Test
+  @DisplayName("sendLostData - 재전송 중에 온 실시간 알림은 재전송이 끝난 뒤 넣고, 이미 재전송한 알림은 다시 넣지 않는다")
+  void sendLostData_defersLiveEventsUntilReplayDone() {
+    // given
+    UUID userId = UUID.randomUUID();
+    when(emitterRepository.findAllEmittersByUserId(userId)).thenReturn(Map.of());
+    Notification replayedNotification = new Notification(UUID.randomUUID(), userId, NotificationType.FOLLOWED,
+        "재전송 알림", LocalDateTime.now());
+    Notification liveNotification = new Notification(UUID.randomUUID(), userId, NotificationType.FOLLOWED,
+        "실시간 알림", LocalDateTime.now());
+    when(emitterCacheRepository.findAllNotificationCachesAfter(userId, 100L))
+        .thenReturn(List.of(new CachedNotification(101L, replayedNotification, System.currentTimeMillis())));
+    given(outboundDispatcher.enqueue(anyString(), any(SseEmitter.class), any(OutboundEvent.class))).willReturn(true);
+
+    SseEmitter emitter = emitterService.subscribe(userId, "100");
+    ArgumentCaptor<String> emitterIdCaptor = ArgumentCaptor.forClass(String.class);
+    verify(emitterRepository).saveEmitter(eq(userId), emitterIdCaptor.capture(), eq(emitter));
+    when(emitterRepository.findAllEmittersByUserId(userId)).thenReturn(Map.of(emitterIdCaptor.getValue(), emitter));
+
+    // when: 재전송이 끝나기 전에 같은 알림(101)과 새 알림(102)이 실시간으로 도착
+    emitterService.deliverLocally(userId, replayedNotification, 101L);
+    emitterService.deliverLocally(userId, liveNotification, 102L);
+
+    // then: 재전송 알림 하나만 큐에 있음
+    ArgumentCaptor<OutboundEvent> eventCaptor = ArgumentCaptor.forClass(OutboundEvent.class);
+    verify(outboundDispatcher, times(1)).enqueue(anyString(), eq(emitter), eventCaptor.capture());
+
+    // 재전송이 끝나면 connected, 읽지 않은 수, 새 알림 순으로 넣음
+    eventCaptor.getValue().onSuccess().run();
+    verify(outboundDispatcher, times(4)).enqueue(anyString(), eq(emitter), eventCaptor.capture());
+    List<OutboundEvent> events = eventCaptor.getAllValues();
+    assertThat(events.get(events.size() - 2).coalesceKey()).isEqualTo("unread-count");
+    assertThat(events.get(events.size() - 1).coalesceKey()).isEqualTo("notification:" + liveNotification.getId());
+  }
+
+  @Test
+  @DisplayName("sendLostData - 시퀀스 형식이 아닌 Last-Event-ID는 재전송하지 않는다")
+  void sendLostData_ignoresLegacyEventId() {
+    // given
+    UUID userId = UUID.randomUUID();
+    String legacyEventId = UUID.randomUUID() + "_" + userId;
+    when(emitterRepository.findAllEmittersByUserId(userId)).thenReturn(Map.of());
 
     // when
-    emitterService.subscribe(userId, lastNotificationId);
+    emitterService.subscribe(userId, legacyEventId);
 
     // then
-    verify(emitterRepository, times(1)).saveEmitter(anyString(), any(SseEmitter.class));
-    assertDoesNotThrow(() -> emitter.send(SseEmitter.event().comment("test")));
+    verify(emitterCacheRepository, never()).findAllNotificationCachesAfter(any(), anyLong());
   }
 
   @Test
@@ -126,19 +197,6 @@ class EmitterServiceTest {
     // SseEmitter 를 spy 로 생성 (onCompletion/onError 호출 캡처 가능)
     SseEmitter emitter = Mockito.spy(new SseEmitter(TimeUnit.MINUTES.toMillis(5)));
 
-    // heartbeatExecutor 를 private 필드에 주입
-    ReflectionTestUtils.setField(emitterService, "heartbeatExecutor", heartbeatExecutor);
-
-    // scheduleAtFixedRate 호출 시 Runnable 캡처 (실제 실행은 우리가 수동으로)
-    ArgumentCaptor<Runnable> heartbeatCaptor = ArgumentCaptor.forClass(Runnable.class);
-    given(heartbeatExecutor.scheduleAtFixedRate(
-        heartbeatCaptor.capture(), anyLong(), anyLong(), any()))
-        .willReturn(Mockito.mock(ScheduledFuture.class));
-
-    // emitterRepository 에 현재 emitter 한 개 존재한다고 가정
-    given(emitterRepository.findAllEmittersByUserIdPrefix(userId.toString()))
-        .willReturn(Map.of(emitterId, emitter));
-
     // 리플렉션으로 private 메서드 호출
     Method m = EmitterService.class.getDeclaredMethod(
         "setupEmitterCallbacks", String.class, SseEmitter.class, UUID.class);
@@ -160,16 +218,35 @@ class EmitterServiceTest {
     // when: Broken pipe 예외를 발생시켜 onError 콜백 실행
     errorCallback.accept(new IOException("Broken pipe"));
 
-    // then: handleEmitterError 가 호출되어 repository 삭제 로직 수행
+    // then: heartbeat 휠에 등록되었는지 확인
+    verify(heartbeatService).register(eq(emitterId), eq(userId), eq(emitter), any(Runnable.class));
+
+    // then: handleEmitterError 가 호출되어 heartbeat 해제 및 repository 삭제 로직 수행
+    verify(heartbeatService).unregister(emitterId);
     verify(emitterRepository).deleteEmitterById(emitterId);
+  }
 
-    // heartbeat Runnable 존재 확인 및 실행해도 예외 없이 send 호출 시도하는지 확인
-    Runnable heartbeatTask = heartbeatCaptor.getValue();
-    assertThat(heartbeatTask).isNotNull();
+  @Test
+  @DisplayName("heartbeat 전송에 실패하면 송신 큐와 suspect 상태까지 다른 종료와 같은 경로로 정리한다")
+  void heartbeatFailure_cleansUpLikeTermination() throws Exception {
+    // given
+    UUID userId = UUID.randomUUID();
+    String emitterId = userId + "_ping";
+    SseEmitter emitter = mock(SseEmitter.class);
+    Method m = EmitterService.class.getDeclaredMethod(
+        "setupEmitterCallbacks", String.class, SseEmitter.class, UUID.class);
+    m.setAccessible(true);
+    m.invoke(emitterService, emitterId, emitter, userId);
+    ArgumentCaptor<Runnable> onDeadCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(heartbeatService).register(eq(emitterId), eq(userId), eq(emitter), onDeadCaptor.capture());
 
-    // spy emitter 의 send 호출이 예외 없이 진행되도록 기본 설정 (이미 spy 이므로 그냥 실행)
-    heartbeatTask.run();
-    verify(emitter, atLeastOnce()).send(any(SseEmitter.SseEventBuilder.class));
+    // when
+    onDeadCaptor.getValue().run();
+
+    // then
+    verify(heartbeatService).unregister(emitterId);
+    verify(outboundDispatcher).close(emitterId);
+    verify(emitterRepository).deleteEmitterById(emitterId);
   }
 
   @Test
@@ -184,12 +261,27 @@ class EmitterServiceTest {
     verify(emitterRepository).deleteEmitterById("emitter-id-456");
   }
 
-  private final TaskExecutor directExecutor = Runnable::run; //동기적 실행 트리거
+  // 송신 큐에 들어간 이벤트를 호출 스레드에서 바로 전송하도록 dispatcher 를 흉내낸다
+  private void givenDispatcherWritesImmediately() {
+    given(outboundDispatcher.enqueue(anyString(), any(SseEmitter.class), any(OutboundEvent.class)))
+        .willAnswer(invocation -> {
+          SseEmitter emitter = invocation.getArgument(1);
+          OutboundEvent event = invocation.getArgument(2);
+          try {
+            emitter.send(event.payload().get());
+          } catch (Exception e) {
+            event.onFailure().accept(e);
+            return true;
+          }
+          event.onSuccess().run();
+          return true;
+        });
+  }
 
   @Test
-  @DisplayName("sendNotificationToMember: 등록된 모든 emitters 에 캐시 저장 후 전송한다")
-  void sendNotificationToMember_sendsAndCaches() throws IOException {
-    ReflectionTestUtils.setField(emitterService, "notificationExecutor", directExecutor);
+  @DisplayName("deliverLocally: 등록된 모든 emitters 에 캐시 저장 후 전송한다")
+  void deliverLocally_sendsAndCaches() throws IOException {
+    givenDispatcherWritesImmediately();
 
     // given
     UUID userId = UUID.randomUUID();
@@ -201,146 +293,245 @@ class EmitterServiceTest {
     SseEmitter emitter1 = mock(SseEmitter.class);
     SseEmitter emitter2 = mock(SseEmitter.class);
 
-    given(emitterRepository.findAllEmittersByUserIdPrefix(userId.toString()))
+    given(emitterRepository.findAllEmittersByUserId(userId))
         .willReturn(Map.of(emitterId1, emitter1, emitterId2, emitter2));
 
-    // when: 비동기 CompletableFuture 가 바로 실행되도록 join()
-    emitterService.sendNotificationToMember(userId, notification).join();
+    // when
+    emitterService.deliverLocally(userId, notification, 1L);
 
-    //saveNotificationCache(notificationCacheId, notification)
-    //위 형식을 지키고 있는 지 확인
-    then(emitterCacheRepository).should().saveNotificationCache(
-        argThat(key -> key.startsWith(notification.getId() + "_" + emitterId1 + "_")),
-        eq(notification)
-    );
-    then(emitterCacheRepository).should().saveNotificationCache(
-        argThat(key -> key.startsWith(notification.getId() + "_" + emitterId2 + "_")),
-        eq(notification)
-    );
-    // isEmitterAlive + send
-    verify(emitter1, times(2))
+    // 재전송용 캐시는 emitter 수와 관계없이 알림당 한 번만 저장
+    then(emitterCacheRepository).should(times(1)).saveNotificationCache(userId, notification, 1L);
+    // 연결 확인용 프레임 없이 실제 알림만 한 번씩 전송
+    verify(emitter1, times(1))
         .send(any(SseEmitter.SseEventBuilder.class));
-    verify(emitter2, times(2))
+    verify(emitter2, times(1))
         .send(any(SseEmitter.SseEventBuilder.class));
   }
 
   @Test
-  @DisplayName("sendInitNotification: 정상적으로 CONNECTED 이벤트 전송")
-  void sendInitNotification_sendsConnectedEvent() throws Exception {
+  @DisplayName("deliverLocally: 전송 실패한 emitter 는 suspect 로 표시되고 해당 emitter 에만 재전송된다")
+  void deliverLocally_marksSuspectAndRetriesOnlyFailedEmitter() throws IOException {
+    givenDispatcherWritesImmediately();
+    ReflectionTestUtils.setField(emitterService, "retryScheduler", retryScheduler);
+
     // given
+    UUID userId = UUID.randomUUID();
+    Notification notification = new Notification(userId, NotificationType.DM_RECEIVED, "안녕하세요");
+    String emitterId = userId + "_flaky";
     SseEmitter emitter = mock(SseEmitter.class);
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
+    doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
 
     // when
-    emitterService.sendInitNotification(emitter);
+    emitterService.deliverLocally(userId, notification, 1L);
 
-    // then: SseEventBuilder 타입으로 한번 호출됐는지만 검증
-    verify(emitter, times(1))
-        .send(any(SseEmitter.SseEventBuilder.class));
+    // then: 즉시 삭제하지 않고 suspect 재전송을 예약
+    ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(retryScheduler).schedule(retryCaptor.capture(), eq(200L), eq(TimeUnit.MILLISECONDS));
+    verify(emitterRepository, never()).deleteEmitterById(emitterId);
+
+    // when: 재전송도 연속 실패하면 한도(3회)에 도달해 연결을 정리
+    retryCaptor.getValue().run();
+    verify(retryScheduler, times(2)).schedule(retryCaptor.capture(), eq(200L), eq(TimeUnit.MILLISECONDS));
+    retryCaptor.getValue().run();
+
+    // then
+    verify(emitter, times(3)).send(any(SseEmitter.SseEventBuilder.class));
+    verify(heartbeatService).unregister(emitterId);
+    verify(outboundDispatcher).close(emitterId);
+    verify(emitterRepository).deleteEmitterById(emitterId);
   }
 
   @Test
-  @DisplayName("sendInitNotification: send() 중 예외 발생해도 예외를 던지지 않는다")
-  void sendInitNotification_handlesException() throws Exception {
+  @DisplayName("deliverLocally: 호출 스레드는 송신 큐에 넣기만 하고 직접 전송하지 않는다")
+  void deliverLocally_onlyEnqueues() {
     // given
+    UUID userId = UUID.randomUUID();
+    Notification notification = new Notification(userId, NotificationType.DM_RECEIVED, "안녕하세요");
+    String emitterId = userId + "_slow";
     SseEmitter emitter = mock(SseEmitter.class);
-    doThrow(new IOException("Broken pipe"))
-        .when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
 
-    // when / then: 어떤 예외도 던지지 않아야 한다
-    assertThatCode(() -> emitterService.sendInitNotification(emitter)).doesNotThrowAnyException();
+    // when
+    emitterService.deliverLocally(userId, notification, 1L);
 
-    // 그리고 send는 한 번 시도된다
-    verify(emitter, times(1))
-        .send(any(SseEmitter.SseEventBuilder.class));
+    // then
+    ArgumentCaptor<OutboundEvent> eventCaptor = ArgumentCaptor.forClass(OutboundEvent.class);
+    verify(outboundDispatcher).enqueue(eq(emitterId), eq(emitter), eventCaptor.capture());
+    assertThat(eventCaptor.getValue().coalesceKey()).isNull();
+    verifyNoInteractions(emitter);
   }
 
-  @Mock
-  ScheduledExecutorService retryScheduler;
+  @Test
+  @DisplayName("sendNotificationToMember: 직접 전송하지 않고 클러스터 버스로 유저 대상 알림을 발행한다")
+  void sendNotificationToMember_publishesToClusterBus() {
+    // given
+    UUID userId = UUID.randomUUID();
+    Notification notification = new Notification(UUID.randomUUID(), userId, NotificationType.DM_RECEIVED, "안녕하세요", LocalDateTime.now());
+
+    // when
+    emitterService.sendNotificationToMember(userId, notification);
+
+    // then
+    ArgumentCaptor<ClusterMessage> messageCaptor = ArgumentCaptor.forClass(ClusterMessage.class);
+    verify(clusterBus).publish(messageCaptor.capture());
+    assertThat(messageCaptor.getValue().kind()).isEqualTo(ClusterMessage.Kind.SSE_NOTIFICATION);
+    assertThat(messageCaptor.getValue().target()).isEqualTo(userId.toString());
+    verifyNoInteractions(emitterCacheRepository, outboundDispatcher);
+  }
 
   @Test
-  @DisplayName("sendNotificationWithRetry: non-IOException failure 시 retryScheduler.schedule() 호출")
-  void sendNotificationWithRetry_nonIOExceptionFailure_schedulesRetry() {
-    // 1) notificationExecutor 를 동기 실행하는 executor 로 교체
-    ReflectionTestUtils.setField(emitterService, "notificationExecutor", directExecutor);
-    // 2) retryScheduler 에는 Mockito mock 을 주입
-    ReflectionTestUtils.setField(emitterService, "retryScheduler", retryScheduler);
+  @DisplayName("클러스터 버스로 받은 알림은 현재 노드의 연결에 전달한다")
+  void clusterNotification_isDeliveredLocally() {
+    // given: 발행한 메시지를 그대로 구독자에게 넘기는 버스
+    UUID userId = UUID.randomUUID();
+    UUID notificationId = UUID.randomUUID();
+    Notification notification = new Notification(notificationId, userId, NotificationType.DM_RECEIVED, "안녕하세요", LocalDateTime.now());
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Consumer<ClusterMessage>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+    emitterService.subscribeClusterNotifications();
+    verify(clusterBus).subscribe(eq(ClusterMessage.Kind.SSE_NOTIFICATION), listenerCaptor.capture());
+    doAnswer(invocation -> {
+      listenerCaptor.getValue().accept(invocation.getArgument(0));
+      return null;
+    }).when(clusterBus).publish(any(ClusterMessage.class));
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of());
+    given(notificationSequence.next()).willReturn(42L);
+
+    // when
+    emitterService.sendNotificationToMember(userId, notification);
 
+    // then: 발행 시 발급한 이벤트 ID 로 캐싱
+    ArgumentCaptor<Notification> cachedCaptor = ArgumentCaptor.forClass(Notification.class);
+    verify(emitterCacheRepository).saveNotificationCache(eq(userId), cachedCaptor.capture(), eq(42L));
+    assertThat(cachedCaptor.getValue().getId()).isEqualTo(notificationId);
+    assertThat(cachedCaptor.getValue().getContent()).isEqualTo("안녕하세요");
+  }
+
+  @Test
+  @DisplayName("deliverLocally: 새 알림은 카운터만 올리고 읽지 않은 알림 수 이벤트는 따로 보내지 않는다")
+  void deliverLocally_newNotificationIncrementsCounter() {
     // given
     UUID userId = UUID.randomUUID();
-    Notification notification = new Notification(userId, NotificationType.DM_RECEIVED, "테스트 메시지");
-
-    // emitter 하나만 등록
+    Notification notification = new Notification(userId, NotificationType.DM_RECEIVED, "안녕하세요");
     String emitterId = userId + "_one";
     SseEmitter emitter = mock(SseEmitter.class);
-    given(emitterRepository.findAllEmittersByUserIdPrefix(userId.toString()))
-        .willReturn(Map.of(emitterId, emitter));
-
-    // 캐시 저장 단계에서 RuntimeException 을 던지도록 설정 (IOException 은 아니므로 catch 블록 밖으로 빠져나감)
-    doThrow(new RuntimeException("cache-fail"))
-        .when(emitterCacheRepository).saveNotificationCache(anyString(), eq(notification));
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
 
-    // when: attempt = 1 으로 호출
-    emitterService.sendNotificationWithRetry(userId, notification, 1);
+    // when
+    emitterService.deliverLocally(userId, notification, 1L);
 
-    // then: attempt < 3 이므로 retryScheduler.schedule(...) 이 한 번 호출되어야 함
-    verify(retryScheduler).schedule(any(Runnable.class), eq(200L), eq(TimeUnit.MILLISECONDS));
+    // then
+    verify(unreadCounter).increment(userId);
+    verify(outboundDispatcher, times(1)).enqueue(eq(emitterId), eq(emitter), any(OutboundEvent.class));
   }
 
   @Test
-  @DisplayName("sendNotificationWithRetry: 세 번째 시도 실패 시 retryScheduler.schedule() 미호출")
-  void sendNotificationWithRetry_thirdAttemptFailure_doesNotScheduleRetry() {
-    // 1) notificationExecutor 를 동기 실행 executor 로 바꿔서 내부 로직을 바로 실행
-    ReflectionTestUtils.setField(emitterService, "notificationExecutor", directExecutor);
-    // 2) retryScheduler 에 Mockito mock 주입
-    ReflectionTestUtils.setField(emitterService, "retryScheduler", retryScheduler);
-
+  @DisplayName("deliverLocally: 병합된 알림은 읽지 않은 알림 수를 다시 세어 함께 보낸다")
+  void deliverLocally_mergedNotificationRecountsUnread() {
     // given
     UUID userId = UUID.randomUUID();
-    Notification notification = new Notification(userId, NotificationType.DM_RECEIVED, "최종 실패 테스트");
+    Notification merged = new Notification(UUID.randomUUID(), userId, NotificationType.PLAYLIST_SUBSCRIBED, UUID.randomUUID(),
+        "플레이리스트가 업데이트되었습니다", 3, LocalDateTime.now());
+    String emitterId = userId + "_one";
+    SseEmitter emitter = mock(SseEmitter.class);
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
+    given(unreadCounter.get(userId)).willReturn(4L);
+
+    // when
+    emitterService.deliverLocally(userId, merged, 1L);
 
-    // emitter 하나만 등록
-    String emitterId = userId + "_final";
+    // then
+    verify(unreadCounter).invalidate(userId);
+    verify(unreadCounter, never()).increment(userId);
+    ArgumentCaptor<OutboundEvent> eventCaptor = ArgumentCaptor.forClass(OutboundEvent.class);
+    verify(outboundDispatcher, times(2)).enqueue(eq(emitterId), eq(emitter), eventCaptor.capture());
+    assertThat(eventCaptor.getAllValues().stream().map(OutboundEvent::coalesceKey).toList())
+        .isEqualTo(List.of("notification:" + merged.getId(), "unread-count"));
+  }
+
+  @Test
+  @DisplayName("publishUnreadCount: 읽지 않은 알림 수를 클러스터 버스로 발행하고, 수신한 노드는 카운터를 덮어쓰고 연결에 전달한다")
+  void unreadCount_isPublishedAndAppliedOnEachNode() {
+    // given
+    UUID userId = UUID.randomUUID();
+    String emitterId = userId + "_one";
     SseEmitter emitter = mock(SseEmitter.class);
-    given(emitterRepository.findAllEmittersByUserIdPrefix(userId.toString()))
-        .willReturn(Map.of(emitterId, emitter));
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Consumer<ClusterMessage>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+    emitterService.subscribeClusterNotifications();
+    verify(clusterBus).subscribe(eq(ClusterMessage.Kind.UNREAD_COUNT), listenerCaptor.capture());
+    doAnswer(invocation -> {
+      listenerCaptor.getValue().accept(invocation.getArgument(0));
+      return null;
+    }).when(clusterBus).publish(any(ClusterMessage.class));
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
 
-    // 캐시 저장 단계에서 RuntimeException 을 던지도록 설정
-    doThrow(new RuntimeException("forced-failure"))
-        .when(emitterCacheRepository).saveNotificationCache(anyString(), eq(notification));
+    // when
+    emitterService.publishUnreadCount(userId, 0);
+
+    // then
+    verify(unreadCounter).set(userId, 0);
+    ArgumentCaptor<OutboundEvent> eventCaptor = ArgumentCaptor.forClass(OutboundEvent.class);
+    verify(outboundDispatcher).enqueue(eq(emitterId), eq(emitter), eventCaptor.capture());
+    assertThat(eventCaptor.getValue().coalesceKey()).isEqualTo("unread-count");
+  }
+
+  @Test
+  @DisplayName("sendInitNotification: 정상적으로 CONNECTED 이벤트 전송")
+  void sendInitNotification_sendsConnectedEvent() throws Exception {
+    // given
+    SseEmitter emitter = mock(SseEmitter.class);
 
-    // when: attempt=3 로 호출 (최종 실패 조건)
-    emitterService.sendNotificationWithRetry(userId, notification, 3);
+    // when
+    emitterService.sendInitNotification(emitter);
 
-    // then: attempt >= 3 이므로 retryScheduler.schedule() 이 절대 호출되지 않아야 함
-    verify(retryScheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    // then: SseEventBuilder 타입으로 한번 호출됐는지만 검증
+    verify(emitter, times(1))
+        .send(any(SseEmitter.SseEventBuilder.class));
   }
 
+  @Test
+  @DisplayName("sendInitNotification: send() 중 예외 발생해도 예외를 던지지 않는다")
+  void sendInitNotification_handlesException() throws Exception {
+    // given
+    SseEmitter emitter = mock(SseEmitter.class);
+    doThrow(new IOException("Broken pipe"))
+        .when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+    // when / then: 어떤 예외도 던지지 않아야 한다
+    assertThatCode(() -> emitterService.sendInitNotification(emitter)).doesNotThrowAnyException();
+
+    // 그리고 send는 한 번 시도된다
+    verify(emitter, times(1))
+        .send(any(SseEmitter.SseEventBuilder.class));
+  }
 
+  @Mock
+  ScheduledExecutorService retryScheduler;
 
   @Test
-  @DisplayName("sendNotificationWithRetry: 세 번째(마지막) 시도 실패 시 재시도 스케줄되지 않는다")
-  void whenLastAttemptFails_thenDoesNotScheduleRetry() throws IOException {
+  @DisplayName("deliverLocally: IOException 이 아닌 전송 실패(송신 큐 초과 등)는 재시도 없이 바로 정리한다")
+  void deliverLocally_nonIOExceptionFailure_cleansUpWithoutRetry() throws IOException {
+    givenDispatcherWritesImmediately();
+    ReflectionTestUtils.setField(emitterService, "retryScheduler", retryScheduler);
+
+    // given
     UUID userId = UUID.randomUUID();
-    String userIdStr = userId.toString();
+    Notification notification = new Notification(userId, NotificationType.DM_RECEIVED, "테스트 메시지");
     String emitterId = userId + "_one";
     SseEmitter emitter = mock(SseEmitter.class);
-    Notification notification = new Notification(userId, NotificationType.DM_RECEIVED, "Test");
-    // notificationExecutor 에도 directExecutor 주입
-    ReflectionTestUtils.setField(emitterService, "notificationExecutor", directExecutor);
-    // retryScheduler 교체
-    ReflectionTestUtils.setField(emitterService, "retryScheduler", retryScheduler);
-
-    // emitterRepository 가 이 하나만 리턴
-    when(emitterRepository.findAllEmittersByUserIdPrefix(userIdStr)).thenReturn(Map.of(emitterId, emitter));
-
-    // emitter.send() 가 무조건 실패하도록 세팅
-    doThrow(new RuntimeException("fail")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
+    doThrow(new IllegalStateException("SSE outbound queue overflow"))
+        .when(emitter).send(any(SseEmitter.SseEventBuilder.class));
 
-    // attempt=3 로 호출
-    emitterService.sendNotificationWithRetry(userId, notification, 3).join();
+    // when
+    emitterService.deliverLocally(userId, notification, 1L);
 
-    // attempt==3 이므로 retryScheduler 가 호출되면 안 된다
+    // then
     verifyNoInteractions(retryScheduler);
+    verify(heartbeatService).unregister(emitterId);
+    verify(emitterRepository).deleteEmitterById(emitterId);
   }
 
   @Test
@@ -358,11 +549,11 @@ class EmitterServiceTest {
     // when
     emitterService.deleteNotificationCaches(List.of(n1, n2));
 
-    // then: 정확히 두 번, 각 ID로 deleteNotificationCachesByNotificationIdPrefix 호출
+    // then: 정확히 두 번, 수신자와 각 ID로 deleteNotificationCache 호출
     verify(emitterCacheRepository, times(1))
-        .deleteNotificationCachesByNotificationIdPrefix(id1);
+        .deleteNotificationCache(userId, id1);
     verify(emitterCacheRepository, times(1))
-        .deleteNotificationCachesByNotificationIdPrefix(id2);
+        .deleteNotificationCache(userId, id2);
   }
 
   @Test
@@ -378,7 +569,7 @@ class EmitterServiceTest {
 
     // 의도적으로 첫 번째 호출 시 예외
     doThrow(new RuntimeException("DB down"))
-        .when(emitterCacheRepository).deleteNotificationCachesByNotificationIdPrefix(id1);
+        .when(emitterCacheRepository).deleteNotificationCache(userId, id1);
 
     // when / then: 메서드가 예외를 던지지 않아야 한다
     assertDoesNotThrow(() ->
@@ -387,50 +578,10 @@ class EmitterServiceTest {
 
     //emitterCacheRepository 모킹된 객체에서 뒤에 이어지는 메서드 호출이 정확히 1회 일어났는지 확인
     verify(emitterCacheRepository, times(1))
-        .deleteNotificationCachesByNotificationIdPrefix(id1);
+        .deleteNotificationCache(userId, id1);
     // 그리고 두 번째 ID는 정상 호출
     verify(emitterCacheRepository, times(1))
-        .deleteNotificationCachesByNotificationIdPrefix(id2);
-  }
-
-  @Test
-  @DisplayName("cleanup: 남아있는 heartbeat 작업은 취소하고, tasks 맵을 비운 뒤 executor를 종료한다")
-  void cleanup_shouldCancelPendingTasks_clearMap_andShutdownExecutor() {
-    // 1) heartbeatExecutor 를 mock 으로 교체
-    ScheduledExecutorService mockExecutor = mock(ScheduledExecutorService.class);
-    ReflectionTestUtils.setField(emitterService, "heartbeatExecutor", mockExecutor);
-
-    // 2) heartbeatTasks 맵에 두 개의 ScheduledFuture mock 추가
-    @SuppressWarnings("unchecked")
-    var tasks = (ConcurrentHashMap<String, ScheduledFuture<?>>)
-        ReflectionTestUtils.getField(emitterService, "heartbeatTasks");
-    ScheduledFuture<?> future1 = mock(ScheduledFuture.class);
-    ScheduledFuture<?> future2 = mock(ScheduledFuture.class);
-
-    // future1 은 아직 cancel 되지 않은 상태 → cancel(true) 되어야 함
-    when(future1.isCancelled()).thenReturn(false);
-    // future2 는 이미 cancel 됐다고 치자 → cancel() 호출되지 않아야 함
-    when(future2.isCancelled()).thenReturn(true);
-
-    tasks.put("task1", future1);
-    tasks.put("task2", future2);
-
-    // 3) cleanup() 호출
-    emitterService.cleanup();
-
-    // ---- 검증 ----
-    // 아직 취소되지 않은 future1 에만 cancel(true) 호출
-    verify(future1).cancel(true);
-    // 이미 cancel 됐던 future2 에는 cancel 호출 없어야 함
-    verify(future2, never()).cancel(anyBoolean());
-
-    // 맵이 완전히 비워졌는지
-    assertTrue(tasks.isEmpty(), "heartbeatTasks 맵이 비워져야 합니다");
-
-    // executor.shutdown() 과 shutdownNow() 가 호출됐는지
-    verify(mockExecutor).shutdown();
-    // 스텁하지 않은 mock 의 awaitTermination 은 false 를 반환하므로 shutdownNow() 까지 호출되는 시나리오입니다.
-    verify(mockExecutor).shutdownNow();
+        .deleteNotificationCache(userId, id2);
   }
 
   @Test
@@ -444,7 +595,7 @@ class EmitterServiceTest {
     // 두 개의 emitter 가 등록돼 있다고 가정
     SseEmitter dummy1 = new SseEmitter();
     SseEmitter dummy2 = new SseEmitter();
-    given(emitterRepository.findAllEmittersByUserIdPrefix(userId.toString()))
+    given(emitterRepository.findAllEmittersByUserId(userId))
         .willReturn(Map.of(emitterId1, dummy1, emitterId2, dummy2));
 
     // when
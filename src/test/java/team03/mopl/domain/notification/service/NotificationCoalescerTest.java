@@ -0,0 +1,179 @@
+package team03.mopl.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import team03.mopl.domain.notification.entity.NotificationType;
+import team03.mopl.domain.notification.service.NotificationCoalescer.Burst;
+import team03.mopl.domain.notification.service.NotificationCoalescer.Key;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+  // 구간 종료 작업을 붙잡아 두었다가 직접 실행한다
+  @Mock
+  ScheduledExecutorService scheduler;
+
+  // 구간 종료 시 넘겨진 flush 작업을 붙잡아 두었다가 직접 실행한다
+  @Mock
+  ExecutorService flushExecutor;
+
+  private SimpleMeterRegistry meterRegistry;
+  private NotificationCoalescer coalescer;
+  private final List<Burst> flushed = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    coalescer = new NotificationCoalescer(meterRegistry,
+        Map.of(NotificationType.PLAYLIST_SUBSCRIBED, Duration.ofSeconds(60)), scheduler,
+        flushExecutor);
+  }
+
+  private Runnable capturedClose() {
+    ArgumentCaptor<Runnable> closeCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(closeCaptor.capture(), eq(60_000L), eq(TimeUnit.MILLISECONDS));
+    return closeCaptor.getValue();
+  }
+
+  private Runnable capturedFlush() {
+    ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(flushExecutor).execute(flushCaptor.capture());
+    return flushCaptor.getValue();
+  }
+
+  @Test
+  @DisplayName("구간의 첫 이벤트는 바로 내보내고, 구간 안의 이벤트는 마지막 내용과 개수로 합쳐 구간이 끝날 때 한 번 내보낸다")
+  void submit_leadingThenTrailingBurst() {
+    // given
+    Key key = new Key(null, NotificationType.PLAYLIST_SUBSCRIBED, UUID.randomUUID());
+
+    // when
+    coalescer.submit(key, "업데이트 1", flushed::add);
+    coalescer.submit(key, "업데이트 2", flushed::add);
+    coalescer.submit(key, "업데이트 3", flushed::add);
+
+    // then: 첫 이벤트만 즉시 전송
+    assertThat(flushed).hasSize(1);
+    assertThat(flushed.get(0).content()).isEqualTo("업데이트 1");
+    assertThat(flushed.get(0).count()).isEqualTo(1);
+    assertThat(flushed.get(0).mergeSince()).isNotNull();
+    assertThat(meterRegistry.get("notification.coalesce.windows").gauge().value()).isEqualTo(1.0);
+
+    // 구간 종료 시 나머지 두 건이 하나로 합쳐져 flush 스레드 풀에서 내보내짐
+    capturedClose().run();
+    assertThat(flushed).hasSize(1);
+    assertThat(meterRegistry.get("notification.coalesce.windows").gauge().value()).isZero();
+    capturedFlush().run();
+    assertThat(flushed).hasSize(2);
+    assertThat(flushed.get(1).content()).isEqualTo("업데이트 3");
+    assertThat(flushed.get(1).count()).isEqualTo(2);
+    assertThat(meterRegistry.get("notification.coalesced").tag("type", "PLAYLIST_SUBSCRIBED").counter().count())
+        .isEqualTo(2.0);
+    assertThat(meterRegistry.get("notification.coalesce.windows").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("구간 안에 추가 이벤트가 없으면 구간이 끝나도 다시 내보내지 않는다")
+  void close_withoutPendingEvents() {
+    // given
+    Key key = new Key(null, NotificationType.PLAYLIST_SUBSCRIBED, UUID.randomUUID());
+    coalescer.submit(key, "업데이트", flushed::add);
+
+    // when
+    capturedClose().run();
+
+    // then
+    assertThat(flushed).hasSize(1);
+    verify(flushExecutor, never()).execute(any(Runnable.class));
+  }
+
+  @Test
+  @DisplayName("대상이 다르면 각각 별도의 구간으로 병합한다")
+  void submit_differentSubjects() {
+    // given
+    Key first = new Key(null, NotificationType.PLAYLIST_SUBSCRIBED, UUID.randomUUID());
+    Key second = new Key(null, NotificationType.PLAYLIST_SUBSCRIBED, UUID.randomUUID());
+
+    // when
+    coalescer.submit(first, "A", flushed::add);
+    coalescer.submit(second, "B", flushed::add);
+
+    // then
+    assertThat(flushed).extracting(Burst::content).containsExactly("A", "B");
+    verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @DisplayName("병합 구간이 설정되지 않은 타입은 이벤트마다 병합 없이 바로 내보낸다")
+  void submit_typeWithoutWindow() {
+    // given
+    Key key = new Key(null, NotificationType.FOLLOWING_POSTED_PLAYLIST, UUID.randomUUID());
+
+    // when
+    coalescer.submit(key, "A", flushed::add);
+    coalescer.submit(key, "B", flushed::add);
+
+    // then
+    assertThat(flushed).extracting(Burst::content).containsExactly("A", "B");
+    assertThat(flushed).allSatisfy(burst -> assertThat(burst.mergeSince()).isNull());
+    verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @DisplayName("flush 스레드 풀이 종료 중이면 구간이 끝날 때 그 자리에서 내보낸다")
+  void close_flushesInlineWhenRejected() {
+    // given
+    Key key = new Key(null, NotificationType.PLAYLIST_SUBSCRIBED, UUID.randomUUID());
+    coalescer.submit(key, "업데이트 1", flushed::add);
+    coalescer.submit(key, "업데이트 2", flushed::add);
+    doThrow(new RejectedExecutionException()).when(flushExecutor).execute(any(Runnable.class));
+
+    // when
+    capturedClose().run();
+
+    // then
+    assertThat(flushed).extracting(Burst::content).containsExactly("업데이트 1", "업데이트 2");
+  }
+
+  @Test
+  @DisplayName("종료 시 열린 구간의 병합된 이벤트를 바로 내보낸다")
+  void cleanup_flushesOpenWindows() {
+    // given
+    Key key = new Key(null, NotificationType.PLAYLIST_SUBSCRIBED, UUID.randomUUID());
+    coalescer.submit(key, "업데이트 1", flushed::add);
+    coalescer.submit(key, "업데이트 2", flushed::add);
+
+    // when
+    coalescer.cleanup();
+
+    // then
+    verify(scheduler).shutdownNow();
+    verify(flushExecutor).shutdown();
+    assertThat(flushed).extracting(Burst::count).containsExactly(1, 1);
+    assertThat(flushed.get(1).content()).isEqualTo("업데이트 2");
+  }
+}
@@ -0,0 +1,123 @@
+package team03.mopl.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import team03.mopl.domain.notification.entity.Notification;
+import team03.mopl.domain.notification.entity.NotificationType;
+import team03.mopl.domain.notification.repository.NotificationBulkRepository;
+import team03.mopl.domain.notification.service.NotificationCoalescer.Burst;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanoutServiceTest {
+
+  @Mock
+  private NotificationBulkRepository notificationBulkRepository;
+  @Mock
+  private EmitterService emitterService;
+
+  private SimpleMeterRegistry meterRegistry;
+  private NotificationFanoutService fanoutService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    // 페이지 크기 2
+    fanoutService = new NotificationFanoutService(notificationBulkRepository, emitterService, meterRegistry, 2);
+  }
+
+  // 저장 요청받은 수신자마다 알림을 만들어 돌려준다
+  private void givenBulkSaveReturnsNotifications() {
+    given(notificationBulkRepository.saveAll(anyList(), any(), any(), any(), anyInt(), any())).willAnswer(invocation -> {
+      List<UUID> receiverIds = invocation.getArgument(0);
+      return receiverIds.stream()
+          .map(id -> new Notification(UUID.randomUUID(), id, invocation.getArgument(1), invocation.getArgument(2),
+              invocation.getArgument(3), invocation.getArgument(4), LocalDateTime.now()))
+          .toList();
+    });
+  }
+
+  @Test
+  @DisplayName("마지막 수신자 ID 를 다음 페이지의 기준점으로 삼아 페이지마다 일괄 저장 후 유저별로 전송한다")
+  void fanOut_pagesByKeysetAndSendsPerUser() {
+    // given: 수신자 5명 -> 페이지 [2, 2, 1]
+    givenBulkSaveReturnsNotifications();
+    UUID subjectId = UUID.randomUUID();
+    List<UUID> recipients = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    List<UUID> cursors = new ArrayList<>();
+    NotificationFanoutService.RecipientPager pager = (lastRecipientId, size) -> {
+      cursors.add(lastRecipientId);
+      int from = lastRecipientId.equals(NotificationFanoutService.FIRST_CURSOR) ? 0 : recipients.indexOf(lastRecipientId) + 1;
+      return recipients.subList(from, Math.min(from + size, recipients.size()));
+    };
+
+    // when
+    int sent = fanoutService.fanOut(NotificationType.FOLLOWING_POSTED_PLAYLIST, subjectId, new Burst("새 플레이리스트", 1, null), pager);
+
+    // then
+    assertThat(sent).isEqualTo(5);
+    assertThat(cursors).containsExactly(NotificationFanoutService.FIRST_CURSOR, recipients.get(1), recipients.get(3));
+    verify(notificationBulkRepository, times(3)).saveAll(anyList(), eq(NotificationType.FOLLOWING_POSTED_PLAYLIST), eq(subjectId),
+        eq("새 플레이리스트"), eq(1), isNull());
+    recipients.forEach(id -> verify(emitterService).sendNotificationToMember(eq(id), any(Notification.class)));
+    assertThat(meterRegistry.get("notification.fanout.recipients").tag("type", "FOLLOWING_POSTED_PLAYLIST").counter().count())
+        .isEqualTo(5.0);
+    assertThat(meterRegistry.get("notification.fanout.duration").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("병합 결과의 이벤트 수와 병합 구간 시작 시각을 저장소에 넘기고, 병합된 알림을 그대로 전송한다")
+  void fanOut_passesBurstToRepository() {
+    // given
+    UUID subjectId = UUID.randomUUID();
+    UUID receiverId = UUID.randomUUID();
+    LocalDateTime mergeSince = LocalDateTime.now().minusSeconds(60);
+    Notification merged = new Notification(UUID.randomUUID(), receiverId, NotificationType.PLAYLIST_SUBSCRIBED, subjectId,
+        "업데이트", 4, mergeSince.plusSeconds(1));
+    given(notificationBulkRepository.saveAll(List.of(receiverId), NotificationType.PLAYLIST_SUBSCRIBED, subjectId, "업데이트", 3,
+        mergeSince)).willReturn(List.of(merged));
+
+    // when
+    int sent = fanoutService.fanOut(NotificationType.PLAYLIST_SUBSCRIBED, subjectId, new Burst("업데이트", 3, mergeSince),
+        (lastRecipientId, size) -> List.of(receiverId));
+
+    // then
+    assertThat(sent).isEqualTo(1);
+    verify(emitterService).sendNotificationToMember(receiverId, merged);
+  }
+
+  @Test
+  @DisplayName("수신자가 없으면 저장과 전송을 하지 않는다")
+  void fanOut_noRecipients() {
+    // given
+    NotificationFanoutService.RecipientPager pager = (lastRecipientId, size) -> List.of();
+
+    // when
+    int sent = fanoutService.fanOut(NotificationType.PLAYLIST_SUBSCRIBED, UUID.randomUUID(), new Burst("업데이트", 1, null), pager);
+
+    // then
+    assertThat(sent).isZero();
+    verify(notificationBulkRepository, never()).saveAll(anyList(), any(), any(), any(), anyInt(), any());
+    verifyNoInteractions(emitterService);
+  }
+}
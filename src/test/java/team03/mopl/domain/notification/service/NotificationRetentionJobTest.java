@@ -0,0 +1,71 @@
+package team03.mopl.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import team03.mopl.domain.notification.repository.NotificationRetentionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionJobTest {
+
+  @Mock
+  private NotificationRetentionRepository retentionRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+  private NotificationRetentionJob job;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    // 30일 지난 읽은 알림 보관, 보관 180일 후 삭제, 100행씩 처리
+    job = new NotificationRetentionJob(retentionRepository, meterRegistry, 30, 180, 100);
+  }
+
+  @Test
+  @DisplayName("처리된 행이 배치 크기보다 적을 때까지 보관 이동을 반복하고, 이어서 보관 기간이 지난 행을 삭제한다")
+  void run_repeatsUntilPartialBatch() {
+    // given
+    given(retentionRepository.archiveReadBefore(any(LocalDateTime.class), eq(100))).willReturn(100, 100, 40);
+    given(retentionRepository.purgeArchiveBefore(any(LocalDateTime.class), eq(100))).willReturn(7);
+
+    // when
+    job.run();
+
+    // then
+    ArgumentCaptor<LocalDateTime> archiveCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+    ArgumentCaptor<LocalDateTime> purgeCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(retentionRepository, times(3)).archiveReadBefore(archiveCutoff.capture(), eq(100));
+    verify(retentionRepository, times(1)).purgeArchiveBefore(purgeCutoff.capture(), eq(100));
+    assertThat(archiveCutoff.getValue()).isBefore(LocalDateTime.now().minusDays(29));
+    assertThat(purgeCutoff.getValue()).isBefore(LocalDateTime.now().minusDays(179));
+
+    assertThat(meterRegistry.get("notification.retention.rows").tag("step", "archive").counter().count()).isEqualTo(240.0);
+    assertThat(meterRegistry.get("notification.retention.rows").tag("step", "purge").counter().count()).isEqualTo(7.0);
+  }
+
+  @Test
+  @DisplayName("배치 중 오류가 나도 예외를 밖으로 던지지 않는다")
+  void run_swallowsFailure() {
+    // given
+    given(retentionRepository.archiveReadBefore(any(LocalDateTime.class), eq(100))).willThrow(new IllegalStateException("DB down"));
+
+    // when
+    job.run();
+
+    // then
+    verify(retentionRepository, times(0)).purgeArchiveBefore(any(), eq(100));
+  }
+}
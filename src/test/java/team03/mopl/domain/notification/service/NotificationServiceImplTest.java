@@ -4,6 +4,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -35,6 +36,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import team03.mopl.common.dto.Cursor;
 import team03.mopl.common.dto.CursorPageResponseDto;
 import team03.mopl.common.exception.notification.NotificationNotFoundException;
@@ -42,7 +45,9 @@ import team03.mopl.common.util.CursorCodecUtil;
 import team03.mopl.domain.notification.dto.NotificationDto;
 import team03.mopl.domain.notification.dto.NotificationPagingDto;
 import team03.mopl.domain.notification.entity.Notification;
+import team03.mopl.domain.notification.entity.NotificationReadState;
 import team03.mopl.domain.notification.entity.NotificationType;
+import team03.mopl.domain.notification.repository.NotificationReadStateRepository;
 import team03.mopl.domain.notification.repository.NotificationRepository;
 import team03.mopl.domain.notification.repository.NotificationRepositoryCustom;
 import team03.mopl.domain.user.UserService;
@@ -58,6 +63,10 @@ class NotificationServiceImplTest {
   private EmitterService emitterService;
   @Mock
   UserService userService;
+  @Mock
+  private NotificationReadStateRepository readStateRepository;
+  @Mock
+  private UnreadNotificationCounter unreadCounter;
 
   @InjectMocks
   private NotificationServiceImpl notificationService;
@@ -75,7 +84,9 @@ class NotificationServiceImplTest {
     notificationService = new NotificationServiceImpl(
         notificationRepository,
         notificationRepositoryCustom,
+        readStateRepository,
         emitterService,
+        unreadCounter,
         cursorCodecUtil
     );
   }
@@ -108,6 +119,7 @@ class NotificationServiceImplTest {
 
     // 커서 없이 20개 요청, 반환은 2개 (hasNext = false)
     when(notificationRepository.countByReceiverId(receiverId)).thenReturn(2L);
+    when(readStateRepository.findLastReadAt(receiverId)).thenReturn(NotificationReadState.NEVER);
     when(notificationRepositoryCustom.findByCursor(receiverId, 21, null, null)) // size + 1
         .thenReturn(List.of(n1, n2));
 
@@ -144,6 +156,7 @@ class NotificationServiceImplTest {
 
     // Mock repository
     when(notificationRepository.countByReceiverId(receiverId)).thenReturn((long) total);
+    when(readStateRepository.findLastReadAt(receiverId)).thenReturn(NotificationReadState.NEVER);
     List<Integer> list = new ArrayList<>();
     // Custom repo 커서 로직 mock (페이지마다 커서 조건에 맞는 리스트 리턴)
     int pageCount = (int) Math.ceil((double) total / pageSize);
@@ -190,26 +203,74 @@ class NotificationServiceImplTest {
 
 
   @Test
-  @DisplayName("markAllAsRead - 모든 알림 읽음 처리")
+  @DisplayName("getNotifications - 읽음 기준 시각 이전 알림과 개별로 읽은 알림만 읽음으로 표시")
+  void getNotifications_readStateFromWatermark() {
+    // given
+    UUID receiverId = UUID.randomUUID();
+    LocalDateTime lastReadAt = LocalDateTime.of(2025, 7, 18, 12, 0);
+    Notification before = notificationAt(receiverId, "기준 이전", lastReadAt.minusMinutes(1));
+    Notification after = notificationAt(receiverId, "기준 이후", lastReadAt.plusMinutes(1));
+    Notification readAfter = notificationAt(receiverId, "기준 이후 개별 읽음", lastReadAt.plusMinutes(2));
+    readAfter.setIsRead();
+
+    when(notificationRepository.countByReceiverId(receiverId)).thenReturn(3L);
+    when(notificationRepositoryCustom.findByCursor(receiverId, 21, null, null)).thenReturn(List.of(readAfter, after, before));
+    when(readStateRepository.findLastReadAt(receiverId)).thenReturn(lastReadAt);
+
+    // when
+    var result = notificationService.getNotifications(new NotificationPagingDto(null, 20), receiverId);
+
+    // then
+    assertThat(result.data()).extracting(NotificationDto::getIsRead).containsExactly(true, false, true);
+  }
+
+  private Notification notificationAt(UUID receiverId, String content, LocalDateTime createdAt) {
+    return new Notification(UUID.randomUUID(), receiverId, NotificationType.FOLLOWED, content, createdAt);
+  }
+
+  @Test
+  @DisplayName("markAllAsRead - 알림 행을 건드리지 않고 읽음 기준 시각 한 행만 갱신")
   void markAllAsRead() {
     // given
-    Notification n1 = new Notification(receiverId, NotificationType.FOLLOWED, "팔로우 알림");
-    Notification n2 = new Notification(receiverId, NotificationType.DM_RECEIVED, "DM 알림");
+    UUID receiverId = UUID.randomUUID();
+    given(readStateRepository.upsertLastReadAt(eq(receiverId), any(LocalDateTime.class))).willReturn(1);
 
-    // isRead false 초기값
-    given(notificationRepository.findByReceiverIdAndIsRead(receiverId, false)).willReturn(List.of(n1, n2));
+    // when
+    notificationService.markAllAsRead(receiverId);
+
+    // then
+    then(notificationRepository).shouldHaveNoInteractions();
+    then(emitterService).should().deleteAllNotificationCaches(receiverId);
+    then(emitterService).should().publishUnreadCount(receiverId, 0);
+  }
+
+  @Test
+  @DisplayName("markAllAsRead - 읽음 기준 시각이 옮겨지지 않으면 캐시 정리와 발행을 건너뜀")
+  void markAllAsRead_watermarkUnchanged() {
+    // given
+    UUID receiverId = UUID.randomUUID();
+    given(readStateRepository.upsertLastReadAt(eq(receiverId), any(LocalDateTime.class))).willReturn(0);
 
     // when
     notificationService.markAllAsRead(receiverId);
 
     // then
-    assertThat(n1.isRead()).isTrue();
-    assertThat(n2.isRead()).isTrue();
-    then(notificationRepository).should().saveAll(anyList());
+    then(emitterService).shouldHaveNoInteractions();
   }
 
   @Test
-  @DisplayName("읽지 않은 알림 - 읽음 처리 및 캐시 삭제 호출")
+  @DisplayName("getUnreadCount - 메모리 카운터의 값을 반환")
+  void getUnreadCount() {
+    // given
+    UUID receiverId = UUID.randomUUID();
+    given(unreadCounter.get(receiverId)).willReturn(5L);
+
+    // when & then
+    assertThat(notificationService.getUnreadCount(receiverId)).isEqualTo(5L);
+  }
+
+  @Test
+  @DisplayName("읽지 않은 알림 - 읽음 처리, 캐시 삭제, 줄어든 읽지 않은 알림 수 발행")
   void readNotification_unread() {
     // given
     UUID receiverId = UUID.randomUUID();
@@ -217,7 +278,9 @@ class NotificationServiceImplTest {
     Notification notification = mock(Notification.class);
 
     when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(notification));
-    when(notification.isRead()).thenReturn(false);
+    when(readStateRepository.findLastReadAt(receiverId)).thenReturn(NotificationReadState.NEVER);
+    when(notification.isReadAt(NotificationReadState.NEVER)).thenReturn(false);
+    when(unreadCounter.decrement(receiverId)).thenReturn(2L);
 
     // when
     notificationService.readNotification(receiverId, notificationId);
@@ -225,18 +288,55 @@ class NotificationServiceImplTest {
     // then
     verify(notification).setIsRead();
     verify(emitterService).deleteNotificationCaches(List.of(notification));
+    verify(emitterService).publishUnreadCount(receiverId, 2L);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 읽음 처리하면 카운터 차감과 발행은 커밋 후에 한다")
+  void readNotification_publishesAfterCommit() {
+    // given
+    UUID receiverId = UUID.randomUUID();
+    UUID notificationId = UUID.randomUUID();
+    Notification notification = mock(Notification.class);
+
+    when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(notification));
+    when(readStateRepository.findLastReadAt(receiverId)).thenReturn(NotificationReadState.NEVER);
+    when(notification.isReadAt(NotificationReadState.NEVER)).thenReturn(false);
+    when(unreadCounter.decrement(receiverId)).thenReturn(2L);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      notificationService.readNotification(receiverId, notificationId);
+      List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+      // then - 커밋 전
+      verify(notification).setIsRead();
+      verify(unreadCounter, never()).decrement(receiverId);
+      verify(emitterService, never()).publishUnreadCount(any(), anyLong());
+
+      // when
+      synchronizations.forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // then - 커밋 후
+    verify(emitterService).deleteNotificationCaches(List.of(notification));
+    verify(emitterService).publishUnreadCount(receiverId, 2L);
   }
 
   @Test
-  @DisplayName("이미 읽은 알림 - setIsRead, 캐시 삭제 미호출")
+  @DisplayName("이미 읽은 알림 (개별 읽음 또는 읽음 기준 시각 이전) - setIsRead, 캐시 삭제 미호출")
   void readNotification_alreadyRead() {
     // given
     UUID receiverId = UUID.randomUUID();
     UUID notificationId = UUID.randomUUID();
     Notification notification = mock(Notification.class);
+    LocalDateTime lastReadAt = LocalDateTime.now();
 
     when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(notification));
-    when(notification.isRead()).thenReturn(true);
+    when(readStateRepository.findLastReadAt(receiverId)).thenReturn(lastReadAt);
+    when(notification.isReadAt(lastReadAt)).thenReturn(true);
 
     // when
     notificationService.readNotification(receiverId, notificationId);
@@ -244,6 +344,7 @@ class NotificationServiceImplTest {
     // then
     verify(notification, never()).setIsRead();
     verify(emitterService, never()).deleteNotificationCaches(any());
+    verify(emitterService, never()).publishUnreadCount(any(), anyLong());
   }
 
   @Test
@@ -265,12 +366,14 @@ class NotificationServiceImplTest {
   void deleteNotificationByUserId() {
     // given
     UUID authenticatedUserId = receiverId;
+    LocalDateTime lastReadAt = LocalDateTime.now();
+    given(readStateRepository.findLastReadAt(receiverId)).willReturn(lastReadAt);
 
     // when
     notificationService.deleteNotificationByUserId(authenticatedUserId);
 
     // then
-    then(notificationRepository).should().deleteByReceiverIdAndIsRead(receiverId, true);
+    then(notificationRepository).should().deleteRead(receiverId, lastReadAt);
   }
   @Test
   @DisplayName("deleteNotification - 존재하는 알림 ID로 삭제 요청 시 정상 삭제됨")
@@ -0,0 +1,162 @@
+package team03.mopl.domain.notification.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isA;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import team03.mopl.domain.notification.repository.EmitterRepository;
+import team03.mopl.domain.notification.service.SseOutboundDispatcher.OutboundEvent;
+import team03.mopl.domain.notification.service.SseOutboundDispatcher.OverflowPolicy;
+
+@ExtendWith(MockitoExtension.class)
+class SseHeartbeatServiceTest {
+
+  @Mock
+  EmitterRepository emitterRepository;
+
+  @Mock
+  Runnable onDead;
+
+  private SimpleMeterRegistry meterRegistry;
+  private SseOutboundDispatcher outboundDispatcher;
+  private SseHeartbeatService heartbeatService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    // ping 은 실제 송신 큐를 거쳐 writer 스레드에서 전송된다
+    outboundDispatcher = new SseOutboundDispatcher(meterRegistry, 8, 16, OverflowPolicy.COALESCE,
+        Executors.newSingleThreadExecutor());
+    // 주기 3초, tick 1초 -> 버킷 3개짜리 휠 (ticker 는 시작하지 않고 tick() 을 직접 호출)
+    heartbeatService = new SseHeartbeatService(emitterRepository, outboundDispatcher, meterRegistry, 3, 1000, 2, 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    heartbeatService.cleanup();
+    outboundDispatcher.cleanup();
+  }
+
+  private void tickFullRevolution() {
+    for (int i = 0; i < 3; i++) {
+      heartbeatService.tick();
+    }
+  }
+
+  @Test
+  @DisplayName("등록된 연결은 휠이 한 바퀴 돌면 heartbeat 를 한 번 받는다")
+  void register_sendsHeartbeatOncePerRevolution() throws Exception {
+    // given
+    UUID userId = UUID.randomUUID();
+    String emitterId = userId + "_test_" + UUID.randomUUID();
+    SseEmitter emitter = mock(SseEmitter.class);
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
+
+    // when
+    heartbeatService.register(emitterId, userId, emitter, onDead);
+    tickFullRevolution();
+
+    // then
+    verify(emitter, timeout(1000).times(1)).send(isA(SseEmitter.SseEventBuilder.class));
+    assertEquals(3, meterRegistry.get("sse.heartbeat.tick.lag").timer().count());
+    assertEquals(1, meterRegistry.get("sse.heartbeat.batch.size").summary().count());
+  }
+
+  @Test
+  @DisplayName("한 버킷의 연결은 batchSize 단위로 나눠서 전송한다")
+  void tick_splitsBucketIntoBatches() throws Exception {
+    // given: batchSize = 2, 같은 버킷에 3개 연결
+    for (int i = 0; i < 3; i++) {
+      UUID userId = UUID.randomUUID();
+      String emitterId = userId + "_" + i;
+      SseEmitter emitter = mock(SseEmitter.class);
+      given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
+      heartbeatService.register(emitterId, userId, emitter, onDead);
+    }
+
+    // when
+    tickFullRevolution();
+
+    // then
+    assertEquals(2, meterRegistry.get("sse.heartbeat.batch.size").summary().count());
+    assertEquals(3.0, meterRegistry.get("sse.heartbeat.batch.size").summary().totalAmount());
+  }
+
+  @Test
+  @DisplayName("전송에 실패한 연결은 휠에서 빠지고 등록 시 받은 종료 콜백으로 정리된다")
+  void tick_removesDeadConnections() throws Exception {
+    // given
+    UUID userId = UUID.randomUUID();
+    String emitterId = userId + "_dead";
+    SseEmitter emitter = mock(SseEmitter.class);
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
+    doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+    heartbeatService.register(emitterId, userId, emitter, onDead);
+
+    // when
+    tickFullRevolution();
+
+    // then
+    verify(onDead, timeout(1000)).run();
+    verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    assertEquals(0.0, meterRegistry.get("sse.heartbeat.connections").gauge().value());
+  }
+
+  @Test
+  @DisplayName("ping 스레드는 소켓에 직접 쓰지 않고 heartbeat 키로 연결의 송신 큐에 넣기만 한다")
+  void tick_enqueuesCoalescibleHeartbeat() {
+    // given
+    SseOutboundDispatcher mockDispatcher = mock(SseOutboundDispatcher.class);
+    SseHeartbeatService service = new SseHeartbeatService(emitterRepository, mockDispatcher, meterRegistry, 1, 1000, 2, 1);
+    UUID userId = UUID.randomUUID();
+    String emitterId = userId + "_slow";
+    SseEmitter emitter = mock(SseEmitter.class);
+    given(emitterRepository.findAllEmittersByUserId(userId)).willReturn(Map.of(emitterId, emitter));
+    service.register(emitterId, userId, emitter, onDead);
+
+    // when
+    service.tick();
+    service.tick();
+
+    // then: 대기 중인 ping 은 COALESCE 정책에서 새 ping 으로 교체될 수 있음
+    ArgumentCaptor<OutboundEvent> eventCaptor = ArgumentCaptor.forClass(OutboundEvent.class);
+    verify(mockDispatcher, timeout(1000).times(2)).enqueue(eq(emitterId), eq(emitter), eventCaptor.capture());
+    assertTrue(eventCaptor.getAllValues().stream().allMatch(event -> "heartbeat".equals(event.coalesceKey())));
+    verifyNoInteractions(emitter);
+    service.cleanup();
+  }
+
+  @Test
+  @DisplayName("등록 해제된 연결에는 heartbeat 를 보내지 않는다")
+  void unregister_stopsHeartbeat() throws Exception {
+    // given
+    UUID userId = UUID.randomUUID();
+    String emitterId = userId + "_gone";
+    SseEmitter emitter = mock(SseEmitter.class);
+    heartbeatService.register(emitterId, userId, emitter, onDead);
+
+    // when
+    heartbeatService.unregister(emitterId);
+    tickFullRevolution();
+
+    // then
+    verifyNoInteractions(emitter);
+    verifyNoInteractions(emitterRepository);
+  }
+}
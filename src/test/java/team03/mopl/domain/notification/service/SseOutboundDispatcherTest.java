@@ -0,0 +1,195 @@
+package team03.mopl.domain.notification.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import team03.mopl.domain.notification.service.SseOutboundDispatcher.OutboundEvent;
+import team03.mopl.domain.notification.service.SseOutboundDispatcher.OverflowPolicy;
+
+@ExtendWith(MockitoExtension.class)
+class SseOutboundDispatcherTest {
+
+  // writer 스레드 대신 drain 작업을 붙잡아 두었다가 직접 실행한다
+  @Mock
+  ExecutorService writerPool;
+
+  private SimpleMeterRegistry meterRegistry;
+  private final List<String> written = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  private SseOutboundDispatcher dispatcher(int capacity, OverflowPolicy policy) {
+    return new SseOutboundDispatcher(meterRegistry, capacity, 16, policy, writerPool);
+  }
+
+  private OutboundEvent event(String key, String name) {
+    return new OutboundEvent(key, () -> {
+      written.add(name);
+      return SseEmitter.event().name(name).data(name);
+    }, () -> {}, e -> {});
+  }
+
+  private void runPendingDrain() {
+    ArgumentCaptor<Runnable> drainCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(writerPool, atLeastOnce()).execute(drainCaptor.capture());
+    drainCaptor.getValue().run();
+  }
+
+  private double shedCount(String reason) {
+    return meterRegistry.get("sse.outbound.shed").tag("reason", reason).counter().count();
+  }
+
+  @Test
+  @DisplayName("drain 중에는 추가 drain 을 예약하지 않고, writer 가 큐의 이벤트를 순서대로 전송한다")
+  void enqueue_drainsInOrder() throws Exception {
+    // given
+    SseOutboundDispatcher dispatcher = dispatcher(8, OverflowPolicy.DROP_OLDEST);
+    SseEmitter emitter = mock(SseEmitter.class);
+
+    // when
+    dispatcher.enqueue("em1", emitter, event("A", "1"));
+    dispatcher.enqueue("em1", emitter, event("B", "2"));
+
+    // then
+    verify(writerPool, times(1)).execute(any(Runnable.class));
+    assertEquals(2.0, meterRegistry.get("sse.outbound.queue.depth").gauge().value());
+
+    runPendingDrain();
+    assertEquals(List.of("1", "2"), written);
+    verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    assertEquals(0.0, meterRegistry.get("sse.outbound.queue.depth").gauge().value());
+  }
+
+  @Test
+  @DisplayName("DROP_OLDEST - 큐가 가득 차면 가장 오래된 이벤트를 버린다")
+  void dropOldest_shedsOldestEvent() {
+    // given
+    SseOutboundDispatcher dispatcher = dispatcher(2, OverflowPolicy.DROP_OLDEST);
+    SseEmitter emitter = mock(SseEmitter.class);
+
+    // when
+    dispatcher.enqueue("em1", emitter, event("A", "1"));
+    dispatcher.enqueue("em1", emitter, event("A", "2"));
+    dispatcher.enqueue("em1", emitter, event("A", "3"));
+    runPendingDrain();
+
+    // then
+    assertEquals(List.of("2", "3"), written);
+    assertEquals(1.0, shedCount("drop_oldest"));
+  }
+
+  @Test
+  @DisplayName("COALESCE - 큐가 가득 차면 같은 키의 대기 이벤트를 새 이벤트로 교체한다")
+  void coalesce_replacesSameKindEvent() {
+    // given
+    SseOutboundDispatcher dispatcher = dispatcher(2, OverflowPolicy.COALESCE);
+    SseEmitter emitter = mock(SseEmitter.class);
+
+    // when
+    dispatcher.enqueue("em1", emitter, event("A", "a1"));
+    dispatcher.enqueue("em1", emitter, event("B", "b1"));
+    dispatcher.enqueue("em1", emitter, event("A", "a2"));
+    runPendingDrain();
+
+    // then
+    assertEquals(List.of("b1", "a2"), written);
+    assertEquals(1.0, shedCount("coalesce"));
+  }
+
+  @Test
+  @DisplayName("COALESCE - 키가 없는 이벤트는 다른 대기 이벤트를 교체하지 않고 가장 오래된 이벤트를 버린다")
+  void coalesce_withoutKeyDropsOldest() {
+    // given
+    SseOutboundDispatcher dispatcher = dispatcher(2, OverflowPolicy.COALESCE);
+    SseEmitter emitter = mock(SseEmitter.class);
+
+    // when
+    dispatcher.enqueue("em1", emitter, event(null, "n1"));
+    dispatcher.enqueue("em1", emitter, event(null, "n2"));
+    dispatcher.enqueue("em1", emitter, event(null, "n3"));
+    runPendingDrain();
+
+    // then
+    assertEquals(List.of("n2", "n3"), written);
+    assertEquals(1.0, shedCount("drop_oldest"));
+  }
+
+  @Test
+  @DisplayName("DISCONNECT - 큐가 가득 차면 연결을 종료하고 대기 이벤트를 버린다")
+  void disconnect_completesEmitterOnOverflow() throws Exception {
+    // given
+    SseOutboundDispatcher dispatcher = dispatcher(1, OverflowPolicy.DISCONNECT);
+    SseEmitter emitter = mock(SseEmitter.class);
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    dispatcher.enqueue("em1", emitter, event("A", "1"));
+
+    // when
+    boolean accepted = dispatcher.enqueue("em1", emitter,
+        new OutboundEvent("A", () -> SseEmitter.event().data("2"), () -> {}, failure::set));
+    runPendingDrain();
+
+    // then
+    assertFalse(accepted);
+    verify(emitter).complete();
+    verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    assertInstanceOf(IllegalStateException.class, failure.get());
+    assertEquals(1.0, shedCount("disconnect"));
+    assertEquals(0.0, meterRegistry.get("sse.outbound.queue.depth").gauge().value());
+  }
+
+  @Test
+  @DisplayName("전송 실패 시 onFailure 로 예외를 전달하고 onSuccess 는 호출하지 않는다")
+  void write_failureIsReportedToCallback() throws Exception {
+    // given
+    SseOutboundDispatcher dispatcher = dispatcher(8, OverflowPolicy.DROP_OLDEST);
+    SseEmitter emitter = mock(SseEmitter.class);
+    doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    Runnable onSuccess = mock(Runnable.class);
+
+    // when
+    dispatcher.enqueue("em1", emitter,
+        new OutboundEvent("A", () -> SseEmitter.event().data("1"), onSuccess, failure::set));
+    runPendingDrain();
+
+    // then
+    assertInstanceOf(IOException.class, failure.get());
+    verifyNoInteractions(onSuccess);
+  }
+
+  @Test
+  @DisplayName("close 된 연결의 대기 이벤트는 전송하지 않는다")
+  void close_discardsPendingEvents() {
+    // given
+    SseOutboundDispatcher dispatcher = dispatcher(8, OverflowPolicy.DROP_OLDEST);
+    SseEmitter emitter = mock(SseEmitter.class);
+    dispatcher.enqueue("em1", emitter, event("A", "1"));
+
+    // when
+    dispatcher.close("em1");
+    runPendingDrain();
+
+    // then
+    assertTrue(written.isEmpty());
+    verifyNoInteractions(emitter);
+    assertEquals(0.0, meterRegistry.get("sse.outbound.queue.depth").gauge().value());
+  }
+}
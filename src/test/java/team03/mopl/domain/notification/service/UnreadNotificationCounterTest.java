@@ -0,0 +1,116 @@
+package team03.mopl.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import team03.mopl.domain.notification.repository.NotificationReadStateRepository;
+import team03.mopl.domain.notification.repository.NotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCounterTest {
+
+  @Mock
+  private NotificationRepository notificationRepository;
+  @Mock
+  private NotificationReadStateRepository readStateRepository;
+
+  private final UUID userId = UUID.randomUUID();
+  private final LocalDateTime lastReadAt = LocalDateTime.of(2025, 7, 18, 12, 0);
+
+  private UnreadNotificationCounter counter(int maxUsers) {
+    return new UnreadNotificationCounter(notificationRepository, readStateRepository, new SimpleMeterRegistry(), maxUsers);
+  }
+
+  private void givenUnreadInDb(long unread) {
+    given(readStateRepository.findLastReadAt(userId)).willReturn(lastReadAt);
+    given(notificationRepository.countUnread(userId, lastReadAt)).willReturn(unread);
+  }
+
+  @Test
+  @DisplayName("처음 조회할 때만 읽음 기준 시각으로 DB 에서 세고, 이후에는 메모리 값을 갱신한다")
+  void get_loadsOnceThenCountsInMemory() {
+    // given
+    givenUnreadInDb(2);
+    UnreadNotificationCounter counter = counter(10);
+
+    // when
+    long first = counter.get(userId);
+    counter.increment(userId);
+    counter.increment(userId);
+    long afterDecrement = counter.decrement(userId);
+
+    // then
+    assertThat(first).isEqualTo(2);
+    assertThat(afterDecrement).isEqualTo(3);
+    assertThat(counter.get(userId)).isEqualTo(3);
+    verify(notificationRepository, times(1)).countUnread(userId, lastReadAt);
+  }
+
+  @Test
+  @DisplayName("보관 중이 아닌 유저의 증가는 무시하고, 다음 조회에서 DB 값을 사용한다")
+  void increment_ignoredUntilLoaded() {
+    // given
+    givenUnreadInDb(5);
+    UnreadNotificationCounter counter = counter(10);
+
+    // when
+    counter.increment(userId);
+
+    // then
+    assertThat(counter.get(userId)).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("0 아래로 줄어들지 않고, set 으로 덮어쓴 값은 DB 조회 없이 사용한다")
+  void set_overridesAndDecrementFloorsAtZero() {
+    // given
+    UnreadNotificationCounter counter = counter(10);
+
+    // when
+    counter.set(userId, 0);
+
+    // then
+    assertThat(counter.decrement(userId)).isZero();
+    assertThat(counter.get(userId)).isZero();
+  }
+
+  @Test
+  @DisplayName("invalidate 후에는 다시 DB 에서 센다")
+  void invalidate_reloads() {
+    // given
+    givenUnreadInDb(1);
+    UnreadNotificationCounter counter = counter(10);
+    counter.set(userId, 7);
+
+    // when
+    counter.invalidate(userId);
+
+    // then
+    assertThat(counter.get(userId)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("보관 유저 수가 한도에 도달하면 새 유저는 보관하지 않고 매번 DB 에서 센다")
+  void get_overCapacityAlwaysLoads() {
+    // given
+    givenUnreadInDb(4);
+    UnreadNotificationCounter counter = counter(0);
+
+    // when
+    counter.get(userId);
+    counter.get(userId);
+
+    // then
+    verify(notificationRepository, times(2)).countUnread(userId, lastReadAt);
+  }
+}
@@ -21,6 +21,10 @@ import org.springframework.web.multipart.MultipartFile;
 import team03.mopl.common.exception.auth.InvalidPasswordException;
 import team03.mopl.common.exception.user.UserNotFoundException;
 import team03.mopl.domain.follow.service.FollowService;
+import team03.mopl.jwt.AuthenticatedUserCache;
+import team03.mopl.jwt.JwtService;
+import team03.mopl.jwt.JwtSession;
+import team03.mopl.jwt.JwtSessionRepository;
 import team03.mopl.storage.ProfileImageStorage;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +42,15 @@ class UserServiceImplTest {
   @Mock
   private FollowService followService;
 
+  @Mock
+  private AuthenticatedUserCache authenticatedUserCache;
+
+  @Mock
+  private JwtService jwtService;
+
+  @Mock
+  private JwtSessionRepository jwtSessionRepository;
+
   @InjectMocks
   private UserServiceImpl userService;
 
@@ -127,6 +140,7 @@ class UserServiceImplTest {
     // then
     assertThat(user.getPassword()).isEqualTo("encoded-newpass");
     assertThat(response.name()).isEqualTo("수정맨");
+    then(authenticatedUserCache).should().invalidate(id);
   }
 
   @Test
@@ -237,6 +251,25 @@ class UserServiceImplTest {
 
     // then
     then(userRepository).should().deleteById(id);
+    then(jwtService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("유저 삭제 - 로그인 세션이 있으면 세션을 지우고 access token 을 블랙리스트에 올린다")
+  void deleteUser_invalidatesSession() {
+    // given
+    UUID id = UUID.randomUUID();
+    JwtSession session = JwtSession.builder()
+        .refreshToken("refresh-token")
+        .build();
+    given(jwtSessionRepository.findFirstByUserId(id)).willReturn(Optional.of(session));
+
+    // when
+    userService.delete(id);
+
+    // then
+    then(jwtService).should().invalidateSessionByRefreshToken("refresh-token", true);
+    then(userRepository).should().deleteById(id);
   }
 
   @Test
@@ -33,6 +33,7 @@ import team03.mopl.domain.watchroom.dto.WatchRoomCreateRequest;
 import team03.mopl.domain.watchroom.dto.WatchRoomDto;
 import team03.mopl.domain.watchroom.dto.WatchRoomSearchDto;
 import team03.mopl.common.exception.watchroom.WatchRoomRoomNotFoundException;
+import team03.mopl.domain.watchroom.service.WatchRoomMessageService;
 import team03.mopl.domain.watchroom.service.WatchRoomService;
 
 
@@ -54,6 +55,9 @@ class WatchRoomControllerTest {
   @MockitoBean
   private WatchRoomService watchRoomService;
 
+  @MockitoBean
+  private WatchRoomMessageService watchRoomMessageService;
+
   @Nested
   @DisplayName("시청방 생성 요청")
   class createWatchRoom {
@@ -2,13 +2,20 @@ package team03.mopl.domain.watchroom.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.security.Principal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,14 +23,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import team03.mopl.cluster.ClusterMessagingTemplate;
 import team03.mopl.common.exception.watchroom.UnsupportedVideoControlActionException;
 import team03.mopl.common.exception.watchroom.VideoControlPermissionDeniedException;
+import team03.mopl.domain.watchroom.dto.participant.ParticipantsInfoDto;
 import team03.mopl.domain.watchroom.dto.video.VideoControlRequest;
 import team03.mopl.domain.watchroom.dto.video.VideoSyncDto;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageCreateRequest;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
 import team03.mopl.domain.watchroom.entity.VideoControlAction;
+import team03.mopl.domain.watchroom.service.WatchRoomEventDispatcher;
 import team03.mopl.domain.watchroom.service.WatchRoomMessageService;
 import team03.mopl.domain.watchroom.service.WatchRoomService;
 
@@ -37,11 +46,23 @@ class WatchRoomWebSocketControllerTest {
   private WatchRoomService watchRoomService;
 
   @Mock
-  private SimpMessagingTemplate messagingTemplate;
+  private ClusterMessagingTemplate messagingTemplate;
+
+  @Mock
+  private WatchRoomEventDispatcher dispatcher;
 
   @InjectMocks
   private WatchRoomWebSocketController watchRoomWebSocketController;
 
+  @BeforeEach
+  void setUp() {
+    // 메일박스 작업을 호출 스레드에서 바로 실행
+    lenient().doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(2).run();
+      return null;
+    }).when(dispatcher).dispatch(any(UUID.class), anyString(), any(Runnable.class));
+  }
+
   @Nested
   @DisplayName("채팅방 메세지 전송 요청")
   class sendMessage {
@@ -66,11 +87,16 @@ class WatchRoomWebSocketControllerTest {
           content,
           LocalDateTime.now()
       );
-      //when & then
-      WatchRoomMessageDto watchRoomMessageDto = watchRoomWebSocketController.sendMessage(mockRoomId,
-          request, principal);
+      WatchRoomMessageDto watchRoomMessageDto = new WatchRoomMessageDto(
+          UUID.randomUUID(), UUID.randomUUID(), username, mockRoomId, content, LocalDateTime.now());
+      when(watchRoomMessageService.create(request, username)).thenReturn(watchRoomMessageDto);
 
+      //when
+      watchRoomWebSocketController.sendMessage(mockRoomId, request, principal);
+
+      //then
       verify(watchRoomMessageService).create(request, username);
+      verify(messagingTemplate).convertAndSend("/topic/rooms/" + mockRoomId + "/chat", watchRoomMessageDto);
     }
 
     @Test
@@ -118,8 +144,30 @@ class WatchRoomWebSocketControllerTest {
 
       //then
       verify(watchRoomService).joinWatchRoomAndGetInfo(mockRoomId, principal.getName());
-      verify(watchRoomService).getParticipants(mockRoomId);
+      // 기존 참여자에게 전체 목록을 다시 보내지 않음
+      verify(watchRoomService, never()).getParticipants(mockRoomId);
+
+    }
+  }
 
+  @Nested
+  @DisplayName("참여자 목록 다시 요청")
+  class participants {
+
+    @Test
+    @DisplayName("요청한 유저에게만 참여자 목록을 보낸다")
+    void success() {
+      //given
+      UUID mockRoomId = UUID.randomUUID();
+      Principal principal = () -> "test@test.com";
+      ParticipantsInfoDto participantsInfoDto = new ParticipantsInfoDto(List.of(), 0, 3);
+      when(watchRoomService.getParticipants(mockRoomId)).thenReturn(participantsInfoDto);
+
+      //when
+      watchRoomWebSocketController.participants(mockRoomId, principal);
+
+      //then
+      verify(messagingTemplate).convertAndSendToUser("test@test.com", "/queue/participants", participantsInfoDto);
     }
   }
 
@@ -152,6 +200,7 @@ class WatchRoomWebSocketControllerTest {
 
       //then
       verify(watchRoomService).updateVideoStatus(roomId, request, principal.getName());
+      verify(messagingTemplate).convertAndSend("/topic/rooms/" + roomId + "/video", videoSyncDto);
     }
 
     @Test
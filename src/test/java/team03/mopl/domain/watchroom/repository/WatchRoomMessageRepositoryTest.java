@@ -0,0 +1,73 @@
+package team03.mopl.domain.watchroom.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import team03.mopl.common.config.JpaConfig;
+import team03.mopl.common.config.QueryDslConfig;
+import team03.mopl.common.util.SpringApplicationContext;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaConfig.class, SpringApplicationContext.class})
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.defer-datasource-initialization=true",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.data-locations=classpath:sql/watchroom-test-data.sql"
+})
+@DisplayName("채팅 메세지 레포지토리 단위 테스트")
+class WatchRoomMessageRepositoryTest {
+
+  @Autowired
+  private WatchRoomMessageRepository watchRoomMessageRepository;
+
+  // 테스트 데이터 ID (SQL 스크립트에 정의된)
+  private final UUID ownerId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+  private final UUID watchRoomId = UUID.fromString("44444444-4444-4444-4444-444444444444");
+  private final UUID firstId = UUID.fromString("99999999-9999-9999-9999-999999999991");
+  private final UUID secondId = UUID.fromString("99999999-9999-9999-9999-999999999992");
+  private final UUID thirdId = UUID.fromString("99999999-9999-9999-9999-999999999993");
+
+  @Test
+  @DisplayName("방의 메세지를 최신순으로 limit 개 조회하고, 생성 시각이 같으면 id 내림차순")
+  void findPageByWatchRoomId_firstPage() {
+    //when
+    List<WatchRoomMessageDto> result = watchRoomMessageRepository.findPageByWatchRoomId(watchRoomId, null, null,
+        2);
+
+    //then
+    assertEquals(List.of(thirdId, secondId), result.stream().map(WatchRoomMessageDto::id).toList());
+    assertEquals(ownerId, result.get(0).senderId());
+    assertEquals("owner", result.get(0).senderName());
+    assertEquals(watchRoomId, result.get(0).chatRoomId());
+  }
+
+  @Test
+  @DisplayName("커서보다 오래된 메세지만 조회 (생성 시각이 같은 메세지 포함)")
+  void findPageByWatchRoomId_afterCursor() {
+    //given
+    LocalDateTime cursorCreatedAt = LocalDateTime.of(2025, 1, 1, 13, 2);
+
+    //when
+    List<WatchRoomMessageDto> result = watchRoomMessageRepository.findPageByWatchRoomId(watchRoomId,
+        cursorCreatedAt, thirdId, 10);
+
+    //then
+    assertEquals(List.of(secondId, firstId), result.stream().map(WatchRoomMessageDto::id).toList());
+  }
+
+  @Test
+  @DisplayName("방의 메세지 수")
+  void countByWatchRoomId() {
+    assertEquals(3L, watchRoomMessageRepository.countByWatchRoomId(watchRoomId));
+  }
+}
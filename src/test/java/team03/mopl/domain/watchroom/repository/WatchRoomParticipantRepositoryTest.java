@@ -606,6 +606,32 @@ class WatchRoomParticipantRepositoryTest {
       // 참여자 수가 1명보다 많거나, 1명이면서 ID가 더 큰 방들이 나와야 함
     }
 
+    @Test
+    @DisplayName("참여자 수 내림차순 정렬은 저장된 참여자 수와 ID 순서를 따름")
+    void sortedByStoredParticipantCountDesc() {
+      //given
+      Cursor cursor = new Cursor(null, null);
+
+      WatchRoomSearchInternalDto request = WatchRoomSearchInternalDto.builder()
+          .searchKeyword("테스트시청방")
+          .sortBy("participantCount")
+          .direction("desc")
+          .cursor(cursor)
+          .size(3)
+          .build();
+
+      //when
+      List<WatchRoomContentWithParticipantCountDto> result =
+          watchRoomParticipantRepository.getAllWatchRoomContentWithHeadcountDtoPaginated(request);
+
+      //then: 참여자 2명인 방 7, 8, 9 가 ID 내림차순으로 먼저 나오고, 다음 페이지 확인용 한 건이 더 조회됨
+      assertEquals(4, result.size());
+      assertEquals(UUID.fromString("55555555-5555-5555-5555-555555555559"), result.get(0).getWatchRoom().getId());
+      assertEquals(room7Id, result.get(2).getWatchRoom().getId());
+      assertEquals(2L, result.get(2).getParticipantCount().longValue());
+      assertEquals(1L, result.get(3).getParticipantCount().longValue());
+    }
+
     @Test
     @DisplayName("키워드 없음, 정렬 조건 없음, cursor null")
     void whenNoKeyword() {
@@ -0,0 +1,62 @@
+package team03.mopl.domain.watchroom.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import team03.mopl.common.config.JpaConfig;
+import team03.mopl.common.config.QueryDslConfig;
+import team03.mopl.common.util.SpringApplicationContext;
+import team03.mopl.domain.user.User;
+import team03.mopl.domain.watchroom.entity.WatchRoom;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaConfig.class, SpringApplicationContext.class})
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.defer-datasource-initialization=true",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.data-locations=classpath:sql/watchroom-test-data.sql"
+})
+@DisplayName("시청방 레포지토리 단위 테스트")
+class WatchRoomRepositoryTest {
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private WatchRoomRepository watchRoomRepository;
+
+  // 테스트 데이터 ID (SQL 스크립트에 정의된)
+  private final UUID userId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+  private final UUID watchRoomId = UUID.fromString("44444444-4444-4444-4444-444444444444");
+
+  @Test
+  @DisplayName("재생 상태 저장 전에 조회한 엔티티로 방장을 바꿔도 저장된 재생 상태를 덮어쓰지 않는다")
+  void changeOwner_keepsPlayback() {
+    //given: 방장 변경용으로 먼저 조회한 엔티티는 이전 재생 상태를 들고 있음
+    WatchRoom watchRoom = em.find(WatchRoom.class, watchRoomId);
+    User newOwner = em.find(User.class, userId);
+    LocalDateTime stateUpdatedAt = LocalDateTime.of(2025, 7, 1, 12, 0);
+    watchRoomRepository.updatePlayback(watchRoomId, 42.5, true, stateUpdatedAt);
+
+    //when
+    watchRoom.changeOwner(newOwner);
+    em.flush();
+    em.clear();
+
+    //then
+    WatchRoom saved = em.find(WatchRoom.class, watchRoomId);
+    assertEquals(userId, saved.getOwner().getId());
+    assertEquals(42.5, saved.getPlayTime());
+    assertTrue(saved.getIsPlaying());
+    assertEquals(stateUpdatedAt, saved.getVideoStateUpdatedAt());
+  }
+}
@@ -0,0 +1,296 @@
+package team03.mopl.domain.watchroom.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.cluster.InMemoryClusterBus;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessagePagingDto;
+import team03.mopl.domain.watchroom.repository.WatchRoomMessageRepository;
+import team03.mopl.domain.watchroom.service.WatchRoomChatHistory.Page;
+
+@ExtendWith(MockitoExtension.class)
+class WatchRoomChatHistoryTest {
+
+  private static final int RECENT_SIZE = 5;
+
+  @Mock
+  private WatchRoomMessageRepository watchRoomMessageRepository;
+
+  @Mock
+  private WatchRoomMessageWriter watchRoomMessageWriter;
+
+  private final InMemoryClusterBus clusterBus = new InMemoryClusterBus();
+  private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+  private final UUID roomId = UUID.randomUUID();
+  private final LocalDateTime base = LocalDateTime.of(2025, 7, 1, 12, 0);
+  private SimpleMeterRegistry meterRegistry;
+  private WatchRoomChatHistory history;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    history = new WatchRoomChatHistory(watchRoomMessageRepository, watchRoomMessageWriter, clusterBus,
+        objectMapper, meterRegistry, RECENT_SIZE, Duration.ofMinutes(10), Duration.ofMinutes(1));
+  }
+
+  private WatchRoomMessageDto message(int second) {
+    return new WatchRoomMessageDto(UUID.randomUUID(), UUID.randomUUID(), "유저", roomId, "메세지 " + second,
+        base.plusSeconds(second));
+  }
+
+  // 최신순
+  private List<WatchRoomMessageDto> messages(int fromSecond, int toSecond) {
+    return IntStream.rangeClosed(fromSecond, toSecond)
+        .map(i -> toSecond - i + fromSecond)
+        .mapToObj(this::message)
+        .toList();
+  }
+
+  private void broadcast(WatchRoomMessageDto message) throws Exception {
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.STOMP, null,
+        "/topic/rooms/" + message.chatRoomId() + "/chat", objectMapper.writeValueAsString(message)));
+  }
+
+  private double reads(String source) {
+    return meterRegistry.get("watchroom.chat.history.reads").tag("source", source).counter().count();
+  }
+
+  @Test
+  @DisplayName("처음 조회할 때 DB 의 최근 메세지와 저장 대기 메세지로 버퍼를 채우고, 이후 페이지는 DB 를 읽지 않는다")
+  void findBefore_seedsOnceAndServesFromMemory() {
+    // given: DB 에 100 개, 그중 최근 5 개를 읽고 저장 대기 메세지 1 개
+    List<WatchRoomMessageDto> rows = messages(96, 100);
+    WatchRoomMessageDto pending = message(101);
+    given(watchRoomMessageWriter.pending(roomId)).willReturn(List.of(pending));
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, RECENT_SIZE)).willReturn(rows);
+    given(watchRoomMessageRepository.countByWatchRoomId(roomId)).willReturn(100L);
+
+    // when
+    Page first = history.findBefore(roomId, null, null, 3);
+    WatchRoomMessageDto last = first.messages().get(2);
+    Page second = history.findBefore(roomId, last.createdAt(), last.id(), 2);
+
+    // then: 버퍼에는 최근 5 개만 남음
+    assertThat(first.messages()).containsExactly(pending, rows.get(0), rows.get(1));
+    assertThat(first.totalElements()).isEqualTo(101L);
+    assertThat(second.messages()).containsExactly(rows.get(2), rows.get(3));
+    verify(watchRoomMessageRepository, times(1)).findPageByWatchRoomId(any(), any(), any(), anyInt());
+    assertThat(reads("memory")).isEqualTo(2.0);
+    assertThat(meterRegistry.get("watchroom.chat.history.rooms").gauge().value()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("버퍼보다 오래된 기록은 커서로 DB 에서 조회한다")
+  void findBefore_fallsBackToDatabase() {
+    // given
+    List<WatchRoomMessageDto> rows = messages(96, 100);
+    given(watchRoomMessageWriter.pending(roomId)).willReturn(List.of());
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, RECENT_SIZE)).willReturn(rows);
+    given(watchRoomMessageRepository.countByWatchRoomId(roomId)).willReturn(100L);
+    WatchRoomMessageDto cursor = rows.get(3);
+    List<WatchRoomMessageDto> older = new ArrayList<>(List.of(rows.get(4)));
+    older.addAll(messages(93, 95));
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, cursor.createdAt(), cursor.id(), 4))
+        .willReturn(older);
+
+    // when: 버퍼에는 cursor 보다 오래된 메세지가 1 개뿐
+    Page page = history.findBefore(roomId, cursor.createdAt(), cursor.id(), 4);
+
+    // then
+    assertThat(page.messages()).isEqualTo(older);
+    assertThat(page.totalElements()).isEqualTo(100L);
+    assertThat(reads("database")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("방의 메세지가 버퍼보다 적으면 개수를 세지 않고, 마지막 페이지도 메모리에서 반환한다")
+  void findBefore_holdsWholeHistory() {
+    // given
+    List<WatchRoomMessageDto> rows = messages(1, 3);
+    given(watchRoomMessageWriter.pending(roomId)).willReturn(List.of());
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, RECENT_SIZE)).willReturn(rows);
+
+    // when
+    Page page = history.findBefore(roomId, null, null, 11);
+
+    // then
+    assertThat(page.messages()).isEqualTo(rows);
+    assertThat(page.totalElements()).isEqualTo(3L);
+    verify(watchRoomMessageRepository, never()).countByWatchRoomId(any());
+    assertThat(reads("memory")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("전송된 채팅 메세지로 버퍼를 갱신하고, 중복과 늦게 도착한 메세지는 정렬 위치에 한 번만 넣는다")
+  void broadcast_updatesBuffer() throws Exception {
+    // given
+    List<WatchRoomMessageDto> rows = messages(1, 2);
+    given(watchRoomMessageWriter.pending(roomId)).willReturn(List.of());
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, RECENT_SIZE)).willReturn(rows);
+    history.findBefore(roomId, null, null, 1);
+    WatchRoomMessageDto newest = message(10);
+    WatchRoomMessageDto late = message(5);
+
+    // when
+    broadcast(newest);
+    broadcast(newest);
+    broadcast(late);
+    // 다른 방, 다른 목적지의 메세지는 무시
+    broadcast(new WatchRoomMessageDto(UUID.randomUUID(), UUID.randomUUID(), "유저", UUID.randomUUID(), "다른 방",
+        base));
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.STOMP, null, "/topic/rooms/" + roomId + "/video",
+        "{}"));
+
+    // then
+    Page page = history.findBefore(roomId, null, null, 10);
+    assertThat(page.messages()).containsExactly(newest, late, rows.get(0), rows.get(1));
+    assertThat(page.totalElements()).isEqualTo(4L);
+  }
+
+  @Test
+  @DisplayName("버퍼가 가득 차면 가장 오래된 메세지를 버리고, 그보다 오래된 기록은 DB 에서 조회한다")
+  void broadcast_evictsOldest() throws Exception {
+    // given
+    List<WatchRoomMessageDto> rows = messages(1, 4);
+    given(watchRoomMessageWriter.pending(roomId)).willReturn(List.of());
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, RECENT_SIZE)).willReturn(rows);
+    history.findBefore(roomId, null, null, 1);
+    List<WatchRoomMessageDto> sent = new ArrayList<>();
+    for (int second = 5; second <= 7; second++) {
+      sent.add(message(second));
+      broadcast(sent.get(sent.size() - 1));
+    }
+
+    List<WatchRoomMessageDto> stored = new ArrayList<>(List.of(sent.get(2), sent.get(1), sent.get(0)));
+    stored.addAll(rows.subList(0, 3));
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, 6)).willReturn(stored);
+
+    // when
+    Page memory = history.findBefore(roomId, null, null, 5);
+    Page database = history.findBefore(roomId, null, null, 6);
+
+    // then
+    assertThat(memory.messages()).hasSize(5).first().isEqualTo(sent.get(2));
+    assertThat(memory.messages().get(4)).isEqualTo(rows.get(1));
+    assertThat(memory.totalElements()).isEqualTo(7L);
+    assertThat(database.messages()).isEqualTo(stored);
+    assertThat(reads("database")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("DB 에서 조회한 페이지에 아직 저장되지 않은 버퍼의 메세지를 id 기준으로 합친다")
+  void findBefore_mergesUnsavedIntoDatabasePage() throws Exception {
+    // given: 버퍼에는 최근 5 개, 방금 전송된 메세지는 아직 DB 에 없음
+    List<WatchRoomMessageDto> rows = messages(96, 100);
+    given(watchRoomMessageWriter.pending(roomId)).willReturn(List.of());
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, RECENT_SIZE)).willReturn(rows);
+    given(watchRoomMessageRepository.countByWatchRoomId(roomId)).willReturn(100L);
+    history.findBefore(roomId, null, null, 1);
+    WatchRoomMessageDto unsaved = message(101);
+    broadcast(unsaved);
+    List<WatchRoomMessageDto> stored = new ArrayList<>(rows);
+    stored.add(message(95));
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, 6)).willReturn(stored);
+
+    // when
+    Page page = history.findBefore(roomId, null, null, 6);
+
+    // then
+    List<WatchRoomMessageDto> expected = new ArrayList<>(List.of(unsaved));
+    expected.addAll(rows);
+    assertThat(page.messages()).isEqualTo(expected);
+    assertThat(reads("database")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("다시 채울 때가 지난 버퍼는 DB 를 다시 읽어 버스에서 놓친 메세지를 채운다")
+  void findBefore_reseedsStaleBuffer() {
+    // given
+    history = new WatchRoomChatHistory(watchRoomMessageRepository, watchRoomMessageWriter, clusterBus,
+        objectMapper, meterRegistry, RECENT_SIZE, Duration.ofMinutes(10), Duration.ZERO);
+    List<WatchRoomMessageDto> rows = messages(1, 3);
+    WatchRoomMessageDto missed = message(4);
+    List<WatchRoomMessageDto> reloaded = new ArrayList<>(List.of(missed));
+    reloaded.addAll(rows);
+    given(watchRoomMessageWriter.pending(roomId)).willReturn(List.of());
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, RECENT_SIZE))
+        .willReturn(rows, reloaded);
+
+    // when
+    Page first = history.findBefore(roomId, null, null, 10);
+    Page second = history.findBefore(roomId, null, null, 10);
+
+    // then
+    assertThat(first.messages()).isEqualTo(rows);
+    assertThat(second.messages()).isEqualTo(reloaded);
+    assertThat(second.totalElements()).isEqualTo(4L);
+  }
+
+  @Test
+  @DisplayName("설정한 버퍼 크기가 작아도 최대 페이지 크기 + 1 개는 보관한다")
+  void constructor_keepsAtLeastOnePage() {
+    // given
+    history = new WatchRoomChatHistory(watchRoomMessageRepository, watchRoomMessageWriter, clusterBus,
+        objectMapper, meterRegistry, RECENT_SIZE, 600, 30);
+    given(watchRoomMessageWriter.pending(roomId)).willReturn(List.of());
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null,
+        WatchRoomMessagePagingDto.MAX_SIZE + 1)).willReturn(List.of());
+
+    // when
+    Page page = history.findBefore(roomId, null, null, WatchRoomMessagePagingDto.MAX_SIZE + 1);
+
+    // then
+    assertThat(page.messages()).isEmpty();
+    assertThat(reads("memory")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("생성 시각이 같으면 DB 처럼 id 를 부호 없는 값으로 비교해 정렬한다")
+  void compareIds_unsigned() {
+    UUID low = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    UUID high = UUID.fromString("ffffffff-0000-0000-0000-000000000000");
+
+    assertThat(WatchRoomChatHistory.compareIds(low, high)).isNegative();
+    assertThat(low.compareTo(high)).isPositive();
+  }
+
+  @Test
+  @DisplayName("오래 조회되지 않은 방의 버퍼를 내린다")
+  void evictIdle_removesIdleRooms() {
+    // given
+    history = new WatchRoomChatHistory(watchRoomMessageRepository, watchRoomMessageWriter, clusterBus,
+        objectMapper, meterRegistry, RECENT_SIZE, Duration.ZERO, Duration.ofMinutes(1));
+    given(watchRoomMessageWriter.pending(roomId)).willReturn(List.of());
+    given(watchRoomMessageRepository.findPageByWatchRoomId(roomId, null, null, RECENT_SIZE)).willReturn(List.of());
+    history.findBefore(roomId, null, null, 1);
+
+    // when
+    history.evictIdle();
+
+    // then
+    assertThat(history.size()).isZero();
+  }
+}
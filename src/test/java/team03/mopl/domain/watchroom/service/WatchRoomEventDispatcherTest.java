@@ -0,0 +1,160 @@
+package team03.mopl.domain.watchroom.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WatchRoomEventDispatcherTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ExecutorService pool;
+  // 직접 실행할 수 있도록 붙잡아 둔 메일박스 작업
+  private final List<Runnable> captured = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    pool = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  private void runCaptured() {
+    while (!captured.isEmpty()) {
+      captured.remove(0).run();
+    }
+  }
+
+  @Test
+  @DisplayName("같은 방의 이벤트는 넣은 순서대로 한 번에 하나씩 실행한다")
+  void dispatch_sameRoomInOrder() throws InterruptedException {
+    // given
+    WatchRoomEventDispatcher dispatcher = new WatchRoomEventDispatcher(meterRegistry, 1000, 500, pool);
+    UUID roomId = UUID.randomUUID();
+    List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(200);
+
+    // when
+    for (int i = 0; i < 200; i++) {
+      int sequence = i;
+      dispatcher.dispatch(roomId, "chat", () -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        handled.add(sequence);
+        running.decrementAndGet();
+        done.countDown();
+      });
+    }
+
+    // then
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(handled).containsExactlyElementsOf(IntStream.range(0, 200).boxed().toList());
+    assertThat(maxRunning.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("서로 다른 방의 이벤트는 병렬로 실행한다")
+  void dispatch_differentRoomsInParallel() throws InterruptedException {
+    // given
+    WatchRoomEventDispatcher dispatcher = new WatchRoomEventDispatcher(meterRegistry, 1000, 500, pool);
+    CountDownLatch otherRoomHandled = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(1);
+
+    // when: 첫 번째 방의 이벤트는 두 번째 방의 이벤트가 끝날 때까지 기다림
+    dispatcher.dispatch(UUID.randomUUID(), "video", () -> {
+      try {
+        if (otherRoomHandled.await(5, TimeUnit.SECONDS)) {
+          done.countDown();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    dispatcher.dispatch(UUID.randomUUID(), "video", otherRoomHandled::countDown);
+
+    // then
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("메일박스는 한 번만 풀에 넣고, 이벤트를 모두 처리하면 지운다")
+  void dispatch_removesDrainedMailbox() {
+    // given
+    WatchRoomEventDispatcher dispatcher = new WatchRoomEventDispatcher(meterRegistry, 1000, 500, captured::add);
+    UUID roomId = UUID.randomUUID();
+    List<String> handled = new ArrayList<>();
+
+    // when
+    dispatcher.dispatch(roomId, "join", () -> handled.add("join"));
+    dispatcher.dispatch(roomId, "leave", () -> handled.add("leave"));
+
+    // then
+    assertThat(captured).hasSize(1);
+    assertThat(dispatcher.mailboxCount()).isEqualTo(1);
+    assertThat(meterRegistry.get("watchroom.dispatch.queued").gauge().value()).isEqualTo(2.0);
+
+    runCaptured();
+    assertThat(handled).containsExactly("join", "leave");
+    assertThat(dispatcher.mailboxCount()).isZero();
+    assertThat(meterRegistry.get("watchroom.dispatch.queued").gauge().value()).isZero();
+    assertThat(meterRegistry.get("watchroom.dispatch.latency").tag("event", "join").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("메일박스가 가득 차면 새 이벤트를 거절한다")
+  void dispatch_rejectsOverMaxDepth() {
+    // given
+    WatchRoomEventDispatcher dispatcher = new WatchRoomEventDispatcher(meterRegistry, 2, 500, captured::add);
+    UUID roomId = UUID.randomUUID();
+    dispatcher.dispatch(roomId, "chat", () -> {});
+    dispatcher.dispatch(roomId, "chat", () -> {});
+
+    // when & then
+    assertThatThrownBy(() -> dispatcher.dispatch(roomId, "chat", () -> {}))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(meterRegistry.get("watchroom.dispatch.rejected").counter().count()).isEqualTo(1.0);
+
+    // 다른 방은 영향 없음
+    dispatcher.dispatch(UUID.randomUUID(), "chat", () -> {});
+    assertThat(dispatcher.mailboxCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("실패한 이벤트가 있어도 같은 방의 다음 이벤트를 계속 처리한다")
+  void dispatch_continuesAfterFailure() {
+    // given
+    WatchRoomEventDispatcher dispatcher = new WatchRoomEventDispatcher(meterRegistry, 1000, 500, captured::add);
+    UUID roomId = UUID.randomUUID();
+    List<String> handled = new ArrayList<>();
+
+    // when
+    dispatcher.dispatch(roomId, "video", () -> {
+      throw new IllegalStateException("실패");
+    });
+    dispatcher.dispatch(roomId, "chat", () -> handled.add("chat"));
+    runCaptured();
+
+    // then
+    assertThat(handled).containsExactly("chat");
+    assertThat(dispatcher.mailboxCount()).isZero();
+  }
+}
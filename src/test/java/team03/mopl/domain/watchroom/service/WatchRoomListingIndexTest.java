@@ -0,0 +1,244 @@
+package team03.mopl.domain.watchroom.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import team03.mopl.cluster.InMemoryClusterBus;
+import team03.mopl.common.dto.Cursor;
+import team03.mopl.domain.content.Content;
+import team03.mopl.domain.user.User;
+import team03.mopl.domain.watchroom.dto.WatchRoomDto;
+import team03.mopl.domain.watchroom.dto.WatchRoomSearchInternalDto;
+import team03.mopl.domain.watchroom.entity.WatchRoom;
+import team03.mopl.domain.watchroom.repository.WatchRoomRepository;
+
+@ExtendWith(MockitoExtension.class)
+class WatchRoomListingIndexTest {
+
+  @Mock
+  private WatchRoomRepository watchRoomRepository;
+
+  private final InMemoryClusterBus clusterBus = new InMemoryClusterBus();
+  private final User owner = User.builder().id(UUID.randomUUID()).name("Owner").build();
+  private final Content content = Content.builder().id(UUID.randomUUID()).title("미생").titleNormalized("미생").build();
+  private final LocalDateTime now = LocalDateTime.of(2025, 7, 20, 12, 0);
+  private final WatchRoom first = room("11111111-1111-1111-1111-111111111111", "가나다", 3, now.minusHours(3));
+  private final WatchRoom second = room("22222222-2222-2222-2222-222222222222", "다라마", 1, now.minusHours(2));
+  private final WatchRoom third = room("f3333333-3333-3333-3333-333333333333", "나다라", 3, now.minusHours(1));
+  private WatchRoomListingIndex index;
+
+  @BeforeEach
+  void setUp() {
+    // 다시 읽기는 호출 스레드에서 바로 실행
+    index = new WatchRoomListingIndex(watchRoomRepository, clusterBus, new SimpleMeterRegistry(), 2, Runnable::run);
+  }
+
+  private WatchRoom room(String id, String title, long participantCount, LocalDateTime createdAt) {
+    return room(id, title, participantCount, createdAt, 0L);
+  }
+
+  private WatchRoom room(String id, String title, long participantCount, LocalDateTime createdAt,
+      long participantVersion) {
+    return WatchRoom.builder()
+        .id(UUID.fromString(id))
+        .title(title)
+        .titleNormalized(title)
+        .owner(owner)
+        .content(content)
+        .createdAt(createdAt)
+        .participantCount(participantCount)
+        .participantVersion(participantVersion)
+        .build();
+  }
+
+  private void givenRebuilt() {
+    given(watchRoomRepository.findAllBy(any(Pageable.class))).willAnswer(invocation -> {
+      Pageable pageable = invocation.getArgument(0);
+      List<WatchRoom> rooms = List.of(first, second, third);
+      int from = (int) pageable.getOffset();
+      int to = Math.min(from + pageable.getPageSize(), rooms.size());
+      return new SliceImpl<>(rooms.subList(from, to), pageable, to < rooms.size());
+    });
+    index.rebuild();
+  }
+
+  private WatchRoomSearchInternalDto request(String keyword, String sortBy, String direction, Cursor cursor,
+      int size) {
+    return WatchRoomSearchInternalDto.builder()
+        .searchKeyword(keyword)
+        .sortBy(sortBy)
+        .direction(direction)
+        .cursor(cursor)
+        .size(size)
+        .build();
+  }
+
+  private List<UUID> ids(List<WatchRoomDto> rooms) {
+    return rooms.stream().map(WatchRoomDto::id).toList();
+  }
+
+  @Test
+  @DisplayName("시작 시 DB 에서 전체 방을 나눠 읽어 인덱스를 만든다")
+  void rebuild_loadsAllPages() {
+    // when
+    givenRebuilt();
+
+    // then
+    assertThat(index.isReady()).isTrue();
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.count(null)).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("기본 정렬은 참여자 수 내림차순, 같으면 id 내림차순이며 커서 다음부터 이어서 반환한다")
+  void find_participantCountDescWithCursor() {
+    // given
+    givenRebuilt();
+
+    // when
+    List<WatchRoomDto> firstPage = index.find(request(null, null, null, new Cursor(null, null), 1));
+    List<WatchRoomDto> nextPage = index.find(request(null, null, "desc",
+        new Cursor("3", third.getId().toString()), 2));
+
+    // then: 다음 페이지 확인용 한 개를 더 반환
+    assertThat(ids(firstPage)).containsExactly(third.getId(), first.getId());
+    assertThat(ids(nextPage)).containsExactly(first.getId(), second.getId());
+  }
+
+  @Test
+  @DisplayName("제목, 생성일 정렬과 검색어 조건을 DB 조회와 같게 적용한다")
+  void find_titleAndCreatedAtWithKeyword() {
+    // given
+    givenRebuilt();
+
+    // when
+    List<WatchRoomDto> byTitle = index.find(request(null, "title", "asc", new Cursor(null, null), 10));
+    List<WatchRoomDto> byCreatedAt = index.find(request(null, "createdAt", "asc",
+        new Cursor(first.getCreatedAt().toString(), first.getId().toString()), 10));
+    List<WatchRoomDto> byKeyword = index.find(request("다라", "title", "asc", new Cursor(null, null), 10));
+
+    // then
+    assertThat(ids(byTitle)).containsExactly(first.getId(), third.getId(), second.getId());
+    assertThat(ids(byCreatedAt)).containsExactly(second.getId(), third.getId());
+    assertThat(ids(byKeyword)).containsExactly(third.getId(), second.getId());
+    assertThat(index.count("다라")).isEqualTo(2);
+    assertThat(index.count("owner")).isEqualTo(3);
+    assertThat(index.count("미생")).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("방 변경을 알리면 그 방만 DB 에서 다시 읽어 정렬 위치를 바꾸고, 삭제된 방은 제거한다")
+  void refresh_reloadsSingleRoom() {
+    // given
+    givenRebuilt();
+    WatchRoom joined = room(second.getId().toString(), "다라마", 5, second.getCreatedAt());
+    given(watchRoomRepository.findWithOwnerById(second.getId())).willReturn(Optional.of(joined));
+    given(watchRoomRepository.findWithOwnerById(first.getId())).willReturn(Optional.empty());
+
+    // when
+    index.refresh(second.getId());
+    index.refresh(first.getId());
+
+    // then
+    List<WatchRoomDto> rooms = index.find(request(null, null, "desc", new Cursor(null, null), 10));
+    assertThat(ids(rooms)).containsExactly(second.getId(), third.getId());
+    assertThat(rooms.get(0).headCount()).isEqualTo(5L);
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("인덱스를 만들지 못하면 준비되지 않은 상태로 남는다")
+  void rebuild_failureLeavesIndexNotReady() {
+    // given
+    given(watchRoomRepository.findAllBy(any(Pageable.class))).willThrow(new IllegalStateException("DB 오류"));
+
+    // when
+    index.rebuild();
+
+    // then
+    assertThat(index.isReady()).isFalse();
+  }
+
+  @Test
+  @DisplayName("같은 방을 다시 읽은 결과가 늦게 도착하면 참여자 버전이 낮은 값으로 덮어쓰지 않는다")
+  void refresh_ignoresOlderVersion() {
+    // given
+    givenRebuilt();
+    WatchRoom newer = room(second.getId().toString(), "다라마", 5, second.getCreatedAt(), 4L);
+    WatchRoom older = room(second.getId().toString(), "다라마", 4, second.getCreatedAt(), 3L);
+    given(watchRoomRepository.findWithOwnerById(second.getId()))
+        .willReturn(Optional.of(newer), Optional.of(older));
+
+    // when
+    index.refresh(second.getId());
+    index.refresh(second.getId());
+
+    // then
+    List<WatchRoomDto> rooms = index.find(request(null, null, "desc", new Cursor(null, null), 10));
+    assertThat(rooms.get(0).id()).isEqualTo(second.getId());
+    assertThat(rooms.get(0).headCount()).isEqualTo(5L);
+  }
+
+  @Test
+  @DisplayName("주기적으로 DB 와 대조해 놓친 변경을 반영하고 삭제된 방을 제거한다")
+  void reconcile_fixesMissedChanges() {
+    // given: 인덱스를 만든 뒤 first 는 삭제되고 second 는 참여자가 늘었지만 메시지를 받지 못함
+    givenRebuilt();
+    WatchRoom joined = room(second.getId().toString(), "다라마", 5, second.getCreatedAt(), 1L);
+    given(watchRoomRepository.findAllBy(any(Pageable.class)))
+        .willAnswer(invocation -> new SliceImpl<>(List.of(joined, third), invocation.getArgument(0), false));
+
+    // when
+    index.reconcile();
+
+    // then
+    List<WatchRoomDto> rooms = index.find(request(null, null, "desc", new Cursor(null, null), 10));
+    assertThat(ids(rooms)).containsExactly(second.getId(), third.getId());
+    assertThat(rooms.get(0).headCount()).isEqualTo(5L);
+  }
+
+  @Test
+  @DisplayName("버스 메시지를 받은 스레드는 DB 를 조회하지 않고, 조회 전에 겹친 같은 방 변경은 한 번만 다시 읽는다")
+  void refresh_reloadsOffBusThreadAndCoalesces() {
+    // given
+    List<Runnable> reloads = new ArrayList<>();
+    WatchRoomListingIndex deferred = new WatchRoomListingIndex(watchRoomRepository, new InMemoryClusterBus(),
+        new SimpleMeterRegistry(), 2, reloads::add);
+    WatchRoom joined = room(second.getId().toString(), "다라마", 5, second.getCreatedAt(), 1L);
+    given(watchRoomRepository.findWithOwnerById(second.getId())).willReturn(Optional.of(joined));
+
+    // when
+    deferred.refresh(second.getId());
+    deferred.refresh(second.getId());
+
+    // then
+    then(watchRoomRepository).should(never()).findWithOwnerById(any());
+    assertThat(reloads).hasSize(1);
+
+    reloads.get(0).run();
+    then(watchRoomRepository).should(times(1)).findWithOwnerById(second.getId());
+    assertThat(deferred.size()).isEqualTo(1);
+
+    // 다시 읽기를 시작한 뒤의 변경은 새로 예약됨
+    deferred.refresh(second.getId());
+    assertThat(reloads).hasSize(2);
+  }
+}
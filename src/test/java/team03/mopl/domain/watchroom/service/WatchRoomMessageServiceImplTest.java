@@ -2,13 +2,14 @@ package team03.mopl.domain.watchroom.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,37 +20,37 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import team03.mopl.common.exception.user.UserNotFoundException;
+import team03.mopl.common.dto.Cursor;
+import team03.mopl.common.dto.CursorPageResponseDto;
+import team03.mopl.common.util.CursorCodecUtil;
+import team03.mopl.domain.watchroom.dto.participant.ParticipantDto;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageCreateRequest;
 import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessagePagingDto;
 import team03.mopl.domain.watchroom.entity.WatchRoom;
-import team03.mopl.domain.watchroom.entity.WatchRoomMessage;
 import team03.mopl.common.exception.watchroom.WatchRoomRoomNotFoundException;
-import team03.mopl.domain.watchroom.repository.WatchRoomMessageRepository;
-import team03.mopl.domain.watchroom.repository.WatchRoomParticipantRepository;
-import team03.mopl.domain.watchroom.repository.WatchRoomRepository;
 import team03.mopl.domain.content.Content;
 import team03.mopl.domain.content.ContentType;
 import team03.mopl.domain.user.Role;
 import team03.mopl.domain.user.User;
-import team03.mopl.domain.user.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("채팅 메세지 서비스 테스트")
 class WatchRoomMessageServiceImplTest {
 
   @Mock
-  private UserRepository userRepository;
+  private WatchRoomParticipantRoster watchRoomParticipantRoster;
 
   @Mock
-  private WatchRoomMessageRepository watchRoomMessageRepository;
+  private WatchRoomMessageWriter watchRoomMessageWriter;
 
   @Mock
-  private WatchRoomRepository watchRoomRepository;
+  private WatchRoomChatHistory watchRoomChatHistory;
 
-  @Mock
-  private WatchRoomParticipantRepository watchRoomParticipantRepository;
+  @Spy
+  private CursorCodecUtil cursorCodecUtil = new CursorCodecUtil(new ObjectMapper());
 
   @InjectMocks
   private WatchRoomMessageServiceImpl chatMessageService;
@@ -98,7 +99,7 @@ class WatchRoomMessageServiceImplTest {
   class CreateWatchRoomMessage {
 
     @Test
-    @DisplayName("성공")
+    @DisplayName("성공 - 참여자 명단으로 확인하고 DB 를 거치지 않고 저장 큐에 넣음")
     void success() {
       //given
       LocalDateTime now = LocalDateTime.now();
@@ -109,56 +110,28 @@ class WatchRoomMessageServiceImplTest {
           now
       );
 
-      UUID chatMessageId = UUID.randomUUID();
-      WatchRoomMessageDto expected = new WatchRoomMessageDto(chatMessageId, senderId,
+      WatchRoomMessageDto expected = new WatchRoomMessageDto(UUID.randomUUID(), senderId,
           sender.getName(), chatRoomId, "테스트용 채팅 메세지입니다.", now);
 
-      WatchRoomMessage watchRoomMessage = WatchRoomMessage.builder()
-          .id(chatMessageId)
-          .watchRoom(watchRoom)
-          .content(request.content())
-          .sender(sender)
-          .build();
-
-      when(userRepository.findByEmail(sender.getEmail())).thenReturn(Optional.of(sender));
-      when(watchRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(watchRoom));
-      when(watchRoomParticipantRepository
-          .existsWatchRoomParticipantByWatchRoomAndUser(watchRoom, sender)).thenReturn(true);
-      when(watchRoomMessageRepository.save(any(WatchRoomMessage.class))).thenReturn(
-          watchRoomMessage);
+      when(watchRoomParticipantRoster.member(chatRoomId, sender.getEmail()))
+          .thenReturn(Optional.of(new ParticipantDto(senderId, sender.getName(), null, false)));
 
       //when
       WatchRoomMessageDto result = chatMessageService.create(request, sender.getEmail());
 
       //then
       assertNotNull(result);
+      assertNotNull(result.id());
+      assertNotNull(result.createdAt());
       assertEquals(expected.senderId(), result.senderId());
+      assertEquals(expected.senderName(), result.senderName());
       assertEquals(expected.chatRoomId(), result.chatRoomId());
       assertEquals(expected.content(), result.content());
 
-      verify(watchRoomMessageRepository, times(1)).save(any(WatchRoomMessage.class));
-    }
-
-    @Test
-    @DisplayName("존재하지 않는 작성자")
-    void failsWhenUserNotFound() {
-      //given
-      UUID randomUserId = UUID.randomUUID();
-
-      WatchRoomMessageCreateRequest request = new WatchRoomMessageCreateRequest(
-          chatRoomId,
-          "테스트용 채팅 메세지입니다.",
-          LocalDateTime.now()
-      );
-
-      when(userRepository.findByEmail(sender.getEmail())).thenReturn(Optional.empty());
-
-      //when & then
-      assertThrows(UserNotFoundException.class,
-          () -> chatMessageService.create(request, sender.getEmail()
-));
+      // 메모리 기록과 DB 의 커서 비교가 같도록 DB 정밀도(마이크로초)로 생성
+      assertEquals(result.createdAt().truncatedTo(ChronoUnit.MICROS), result.createdAt());
 
-      verify(watchRoomMessageRepository, never()).save(any(WatchRoomMessage.class));
+      verify(watchRoomMessageWriter).append(result);
     }
 
     @Test
@@ -175,14 +148,14 @@ class WatchRoomMessageServiceImplTest {
           now
       );
 
-      when(userRepository.findByEmail(sender.getEmail())).thenReturn(Optional.of(sender));
-      when(watchRoomRepository.findById(randomChatRoomId)).thenReturn(Optional.empty());
+      when(watchRoomParticipantRoster.member(randomChatRoomId, sender.getEmail()))
+          .thenThrow(new WatchRoomRoomNotFoundException());
 
       //when & then
       assertThrows(WatchRoomRoomNotFoundException.class,
           () -> chatMessageService.create(request, sender.getEmail()));
 
-      verify(watchRoomMessageRepository, never()).save(any(WatchRoomMessage.class));
+      verify(watchRoomMessageWriter, never()).append(any(WatchRoomMessageDto.class));
     }
 
     @Test
@@ -197,17 +170,31 @@ class WatchRoomMessageServiceImplTest {
           now
       );
 
-      when(userRepository.findByEmail(sender.getEmail())).thenReturn(Optional.of(sender));
-      when(watchRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(watchRoom));
-      when(watchRoomParticipantRepository
-          .existsWatchRoomParticipantByWatchRoomAndUser(watchRoom, sender)).thenReturn(false);
+      when(watchRoomParticipantRoster.member(chatRoomId, sender.getEmail())).thenReturn(Optional.empty());
 
       //when & then
       assertThrows(WatchRoomRoomNotFoundException.class,
           () -> chatMessageService.create(request, sender.getEmail()
 ));
 
-      verify(watchRoomMessageRepository, never()).save(any(WatchRoomMessage.class));
+      verify(watchRoomMessageWriter, never()).append(any(WatchRoomMessageDto.class));
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 길이의 메세지")
+    void failsWhenContentTooLong() {
+      //given
+      WatchRoomMessageCreateRequest request = new WatchRoomMessageCreateRequest(
+          chatRoomId,
+          "가".repeat(256),
+          LocalDateTime.now()
+      );
+
+      //when & then
+      assertThrows(IllegalArgumentException.class,
+          () -> chatMessageService.create(request, sender.getEmail()));
+
+      verify(watchRoomMessageWriter, never()).append(any(WatchRoomMessageDto.class));
     }
   }
 
@@ -215,73 +202,60 @@ class WatchRoomMessageServiceImplTest {
   @DisplayName("채팅 메세지 조회 테스트")
   class getWatchRoomMessage {
 
-    //todo - 페이지네이션 조회
+    private WatchRoomMessageDto message(String content, LocalDateTime createdAt) {
+      return new WatchRoomMessageDto(UUID.randomUUID(), senderId, sender.getName(), chatRoomId, content,
+          createdAt);
+    }
 
     @Test
-    @DisplayName("성공")
+    @DisplayName("성공 - 최신순으로 size 개를 반환하고 마지막 메세지를 다음 커서로 인코딩")
     void success() {
-
       //given
       LocalDateTime now = LocalDateTime.now();
+      WatchRoomMessageDto newest = message("세번째", now);
+      WatchRoomMessageDto middle = message("두번째", now.minusSeconds(1));
+      WatchRoomMessageDto oldest = message("첫번째", now.minusSeconds(2));
 
-      WatchRoomMessage mockWatchRoomMessage1 = WatchRoomMessage.builder()
-          .sender(sender)
-          .watchRoom(watchRoom)
-          .content("테스트용 첫번째 채팅 메세지입니다.")
-          .build();
-      WatchRoomMessage mockWatchRoomMessage2 = WatchRoomMessage.builder()
-          .sender(sender)
-          .watchRoom(watchRoom)
-          .content("테스트용 두번째 채팅 메세지입니다.")
-          .build();
-
-      List<WatchRoomMessage> searchResult = new ArrayList<>();
-      searchResult.add(mockWatchRoomMessage1);
-      searchResult.add(mockWatchRoomMessage2);
-
-      UUID mockChatMessage1Id = UUID.randomUUID();
-      UUID mockChatMessage2Id = UUID.randomUUID();
-      WatchRoomMessageDto expected1 = new WatchRoomMessageDto(mockChatMessage1Id, senderId,
-          sender.getName(), chatRoomId, "테스트용 첫번째 채팅 메세지입니다.", now);
-      WatchRoomMessageDto expected2 = new WatchRoomMessageDto(mockChatMessage2Id, senderId,
-          sender.getName(), chatRoomId, "테스트용 두번째 채팅 메세지입니다.", now);
-
-      List<WatchRoomMessageDto> expected = new ArrayList<>();
-      expected.add(expected1);
-      expected.add(expected2);
-
-      //todo - 고민
-      //네번이나 조회할 필요가 있을까?
-      // 이것도 chatRoomParticipantRepository에서 chatRoomId로 찾지못하면 없는 채널로 판단하기?
-      when(userRepository.findById(senderId)).thenReturn(Optional.of(sender));
-      when(watchRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(watchRoom));
-      when(watchRoomParticipantRepository
-          .existsWatchRoomParticipantByWatchRoomAndUser(watchRoom, sender))
-          .thenReturn(true);
-      when(watchRoomMessageRepository.findAllByWatchRoom(watchRoom)).thenReturn(searchResult);
+      when(watchRoomParticipantRoster.member(chatRoomId, sender.getEmail()))
+          .thenReturn(Optional.of(new ParticipantDto(senderId, sender.getName(), null, false)));
+      when(watchRoomChatHistory.findBefore(chatRoomId, null, null, 3))
+          .thenReturn(new WatchRoomChatHistory.Page(List.of(newest, middle, oldest), 10L));
 
       //when
-      List<WatchRoomMessageDto> result = chatMessageService.getAllByRoomId(chatRoomId, senderId);
+      CursorPageResponseDto<WatchRoomMessageDto> result = chatMessageService.getMessages(chatRoomId,
+          sender.getEmail(), new WatchRoomMessagePagingDto(null, 2));
 
       //then
-      assertNotNull(result);
-      assertEquals(expected.size(), result.size());
-      assertEquals(expected.get(0).content(), result.get(0).content());
+      assertEquals(List.of(newest, middle), result.data());
+      assertEquals(2, result.size());
+      assertEquals(10L, result.totalElements());
+      assertTrue(result.hasNext());
+      Cursor nextCursor = cursorCodecUtil.decodeCursor(result.nextCursor());
+      assertEquals(middle.createdAt().toString(), nextCursor.lastValue());
+      assertEquals(middle.id().toString(), nextCursor.lastId());
     }
 
-
     @Test
-    @DisplayName("존재하지 않는 유저")
-    void failsWhenUserNotFound() {
+    @DisplayName("커서가 있으면 커서보다 오래된 메세지를 조회하고, 마지막 페이지에는 다음 커서가 없음")
+    void successWithCursor() {
       //given
-      UUID randomId = UUID.randomUUID();
+      WatchRoomMessageDto last = message("마지막 페이지의 메세지", LocalDateTime.now().minusMinutes(1));
+      WatchRoomMessageDto previous = message("이전 페이지의 마지막 메세지", LocalDateTime.now());
+      String cursor = cursorCodecUtil.encodeNextCursor(previous);
 
-      when(userRepository.findById(randomId)).thenReturn(Optional.empty());
+      when(watchRoomParticipantRoster.member(chatRoomId, sender.getEmail()))
+          .thenReturn(Optional.of(new ParticipantDto(senderId, sender.getName(), null, false)));
+      when(watchRoomChatHistory.findBefore(chatRoomId, previous.createdAt(), previous.id(), 3))
+          .thenReturn(new WatchRoomChatHistory.Page(List.of(last), 3L));
 
-      //when & then
-      assertThrows(UserNotFoundException.class,
-          () -> chatMessageService.getAllByRoomId(chatRoomId, randomId));
+      //when
+      CursorPageResponseDto<WatchRoomMessageDto> result = chatMessageService.getMessages(chatRoomId,
+          sender.getEmail(), new WatchRoomMessagePagingDto(cursor, 2));
 
+      //then
+      assertEquals(List.of(last), result.data());
+      assertFalse(result.hasNext());
+      assertNull(result.nextCursor());
     }
 
     @Test
@@ -290,30 +264,25 @@ class WatchRoomMessageServiceImplTest {
       //given
       UUID randomId = UUID.randomUUID();
 
-      when(userRepository.findById(senderId)).thenReturn(Optional.of(sender));
-      when(watchRoomRepository.findById(randomId)).thenReturn(Optional.empty());
+      when(watchRoomParticipantRoster.member(randomId, sender.getEmail()))
+          .thenThrow(new WatchRoomRoomNotFoundException());
 
       //when & then
       assertThrows(WatchRoomRoomNotFoundException.class,
-          () -> chatMessageService.getAllByRoomId(randomId, senderId));
+          () -> chatMessageService.getMessages(randomId, sender.getEmail(), new WatchRoomMessagePagingDto()));
     }
 
     @Test
     @DisplayName("채팅방에 참여하지 않는 유저")
     void failsWhenUserNotParticipant() {
       //given
-      UUID randomId = UUID.randomUUID();
-      User mockUser = User.builder().build();
-
-      when(userRepository.findById(randomId)).thenReturn(Optional.of(mockUser));
-      when(watchRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(watchRoom));
-      when(watchRoomParticipantRepository
-          .existsWatchRoomParticipantByWatchRoomAndUser(watchRoom, mockUser))
-          .thenReturn(false);
+      when(watchRoomParticipantRoster.member(chatRoomId, sender.getEmail())).thenReturn(Optional.empty());
 
       //when & then
       assertThrows(WatchRoomRoomNotFoundException.class,
-          () -> chatMessageService.getAllByRoomId(chatRoomId, randomId));
+          () -> chatMessageService.getMessages(chatRoomId, sender.getEmail(), new WatchRoomMessagePagingDto()));
+
+      verify(watchRoomChatHistory, never()).findBefore(any(), any(), any(), anyInt());
     }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package team03.mopl.domain.watchroom.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import team03.mopl.domain.watchroom.dto.watchroommessage.WatchRoomMessageDto;
+import team03.mopl.domain.watchroom.repository.WatchRoomMessageBulkRepository;
+
+@ExtendWith(MockitoExtension.class)
+class WatchRoomMessageWriterTest {
+
+  @Mock
+  private WatchRoomMessageBulkRepository watchRoomMessageBulkRepository;
+
+  // 주기 저장 작업은 실행하지 않고 flush 를 직접 호출한다
+  @Mock
+  private ScheduledExecutorService scheduler;
+
+  private final UUID roomId = UUID.randomUUID();
+  private SimpleMeterRegistry meterRegistry;
+  private WatchRoomMessageWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    writer = new WatchRoomMessageWriter(watchRoomMessageBulkRepository, meterRegistry, 5, 200, 2, scheduler);
+  }
+
+  private WatchRoomMessageDto message(UUID roomId, String content) {
+    return new WatchRoomMessageDto(UUID.randomUUID(), UUID.randomUUID(), "유저", roomId, content, LocalDateTime.now());
+  }
+
+  @Test
+  @DisplayName("쌓인 메세지를 batchSize 개씩 순서대로 묶어 저장하고 묶음 크기와 지연을 기록한다")
+  void flush_writesInBatches() {
+    // given
+    List<List<WatchRoomMessageDto>> written = new ArrayList<>();
+    given(watchRoomMessageBulkRepository.insertAll(anyList())).willAnswer(invocation -> {
+      List<WatchRoomMessageDto> messages = invocation.getArgument(0);
+      written.add(messages);
+      return messages.size();
+    });
+    WatchRoomMessageDto first = message(roomId, "1");
+    WatchRoomMessageDto second = message(roomId, "2");
+    WatchRoomMessageDto third = message(roomId, "3");
+    writer.append(first);
+    writer.append(second);
+    writer.append(third);
+
+    // when
+    writer.flush();
+
+    // then
+    assertThat(written).containsExactly(List.of(first, second), List.of(third));
+    assertThat(writer.size()).isZero();
+    assertThat(meterRegistry.get("watchroom.chat.flush.batch").summary().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("watchroom.chat.flush.lag").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("batchSize 개가 쌓이면 주기를 기다리지 않고 저장을 한 번만 요청한다")
+  void append_requestsFlushWhenBatchFull() {
+    // when
+    writer.append(message(roomId, "1"));
+    writer.append(message(roomId, "2"));
+    writer.append(message(roomId, "3"));
+
+    // then
+    verify(scheduler).execute(any(Runnable.class));
+  }
+
+  @Test
+  @DisplayName("큐가 가득 차면 메세지를 거절한다")
+  void append_rejectsWhenQueueFull() {
+    // given
+    for (int i = 0; i < 5; i++) {
+      writer.append(message(roomId, String.valueOf(i)));
+    }
+
+    // when & then
+    assertThatThrownBy(() -> writer.append(message(roomId, "6"))).isInstanceOf(IllegalStateException.class);
+    assertThat(meterRegistry.get("watchroom.chat.rejected").counter().count()).isEqualTo(1.0);
+    assertThat(writer.size()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("저장 전인 메세지는 방별로 조회할 수 있다")
+  void pending_returnsUnsavedMessagesOfRoom() {
+    // given
+    WatchRoomMessageDto mine = message(roomId, "1");
+    writer.append(mine);
+    writer.append(message(UUID.randomUUID(), "다른 방"));
+
+    // when & then
+    assertThat(writer.pending(roomId)).containsExactly(mine);
+  }
+
+  @Test
+  @DisplayName("묶음 저장이 실패하면 한 건씩 다시 저장하고, 실패하거나 방이 삭제된 메세지만 버린다")
+  void flush_retriesOneByOneOnFailure() {
+    // given
+    WatchRoomMessageDto saved = message(roomId, "저장됨");
+    WatchRoomMessageDto roomDeleted = message(UUID.randomUUID(), "방 삭제됨");
+    given(watchRoomMessageBulkRepository.insertAll(anyList())).willAnswer(invocation -> {
+      List<WatchRoomMessageDto> messages = invocation.getArgument(0);
+      if (messages.size() > 1) {
+        throw new IllegalStateException("외래 키 위반");
+      }
+      return messages.get(0) == roomDeleted ? 0 : 1;
+    });
+    writer.append(saved);
+    writer.append(roomDeleted);
+
+    // when
+    writer.flush();
+
+    // then
+    verify(watchRoomMessageBulkRepository).insertAll(List.of(saved));
+    verify(watchRoomMessageBulkRepository).insertAll(List.of(roomDeleted));
+    assertThat(meterRegistry.get("watchroom.chat.dropped").tag("reason", "room_deleted").counter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("watchroom.chat.dropped").tag("reason", "error").counter().count()).isZero();
+    assertThat(writer.pending(roomId)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("종료 시 남은 메세지를 모두 저장한다")
+  void cleanup_flushesRemaining() throws InterruptedException {
+    // given
+    given(scheduler.awaitTermination(anyLong(), any(TimeUnit.class))).willReturn(true);
+    writer.append(message(roomId, "1"));
+
+    // when
+    writer.cleanup();
+
+    // then
+    verify(scheduler).shutdown();
+    verify(scheduler, never()).shutdownNow();
+    verify(watchRoomMessageBulkRepository).insertAll(argThat(messages -> messages.size() == 1));
+  }
+}
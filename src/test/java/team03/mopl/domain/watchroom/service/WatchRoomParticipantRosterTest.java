@@ -0,0 +1,275 @@
+package team03.mopl.domain.watchroom.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.cluster.ClusterMessagingTemplate;
+import team03.mopl.cluster.InMemoryClusterBus;
+import team03.mopl.common.exception.watchroom.WatchRoomRoomNotFoundException;
+import team03.mopl.domain.user.User;
+import team03.mopl.domain.watchroom.dto.participant.ParticipantDto;
+import team03.mopl.domain.watchroom.dto.participant.ParticipantEventDto;
+import team03.mopl.domain.watchroom.dto.participant.ParticipantsInfoDto;
+import team03.mopl.domain.watchroom.entity.WatchRoom;
+import team03.mopl.domain.watchroom.entity.WatchRoomParticipant;
+import team03.mopl.domain.watchroom.repository.WatchRoomParticipantRepository;
+import team03.mopl.domain.watchroom.repository.WatchRoomRepository;
+import team03.mopl.domain.watchroom.service.WatchRoomParticipantRoster.Change;
+
+@ExtendWith(MockitoExtension.class)
+class WatchRoomParticipantRosterTest {
+
+  @Mock
+  private WatchRoomRepository watchRoomRepository;
+
+  @Mock
+  private WatchRoomParticipantRepository watchRoomParticipantRepository;
+
+  @Mock
+  private ClusterMessagingTemplate messagingTemplate;
+
+  private final InMemoryClusterBus clusterBus = new InMemoryClusterBus();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final UUID roomId = UUID.randomUUID();
+  private final User owner = User.builder().id(UUID.randomUUID()).name("방장").email("owner@test.com").build();
+  private final User guest = User.builder().id(UUID.randomUUID()).name("참여자").email("guest@test.com").build();
+  private SimpleMeterRegistry meterRegistry;
+  private WatchRoomParticipantRoster roster;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    roster = new WatchRoomParticipantRoster(watchRoomRepository, watchRoomParticipantRepository, clusterBus,
+        messagingTemplate, objectMapper, meterRegistry, 60_000, 600);
+  }
+
+  private void givenStored(long version, User... users) {
+    WatchRoom watchRoom = WatchRoom.builder().id(roomId).owner(owner).build();
+    given(watchRoomRepository.findWithOwnerById(roomId)).willReturn(Optional.of(watchRoom));
+    given(watchRoomRepository.findParticipantVersion(roomId)).willReturn(version);
+    given(watchRoomParticipantRepository.findWithUserByWatchRoomId(roomId)).willReturn(
+        List.of(users).stream()
+            .map(user -> WatchRoomParticipant.builder().user(user).watchRoom(watchRoom).build())
+            .toList());
+  }
+
+  private List<UUID> ids(ParticipantsInfoDto participantsInfoDto) {
+    return participantsInfoDto.participantDtoList().stream().map(ParticipantDto::id).toList();
+  }
+
+  private void publishFromOtherNode(Change change) throws Exception {
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.WATCH_ROOM_PARTICIPANTS, roomId.toString(), null,
+        objectMapper.writeValueAsString(change)));
+  }
+
+  @Test
+  @DisplayName("처음 조회할 때만 DB 에서 참여자와 버전을 읽고, 방장 여부를 채워 반환한다")
+  void snapshot_loadsOnce() {
+    // given
+    givenStored(4L, owner);
+
+    // when
+    ParticipantsInfoDto first = roster.snapshot(roomId);
+    ParticipantsInfoDto second = roster.snapshot(roomId);
+
+    // then
+    assertThat(ids(first)).containsExactly(owner.getId());
+    assertThat(first.participantDtoList().get(0).isOwner()).isTrue();
+    assertThat(first.version()).isEqualTo(4L);
+    assertThat(second).isEqualTo(first);
+    verify(watchRoomParticipantRepository, times(1)).findWithUserByWatchRoomId(roomId);
+    assertThat(meterRegistry.get("watchroom.participants.rosters").gauge().value()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 방은 명단을 만들지 않는다")
+  void snapshot_roomNotFound() {
+    // given
+    given(watchRoomRepository.findWithOwnerById(roomId)).willReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> roster.snapshot(roomId)).isInstanceOf(WatchRoomRoomNotFoundException.class);
+    assertThat(roster.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("입장/퇴장은 참여자 한 명만 담은 이벤트로 보내고, 명단은 DB 를 다시 읽지 않고 갱신한다")
+  void joinedAndLeft_sendDeltas() {
+    // given
+    givenStored(1L, owner);
+    roster.snapshot(roomId);
+
+    // when
+    roster.joined(roomId, guest, owner.getId(), 2L);
+    ParticipantsInfoDto afterJoin = roster.snapshot(roomId);
+    // 방장이 나가면서 방장이 guest 로 바뀜
+    roster.left(roomId, owner, guest.getId(), 3L);
+    ParticipantsInfoDto afterLeave = roster.snapshot(roomId);
+
+    // then
+    assertThat(ids(afterJoin)).containsExactly(owner.getId(), guest.getId());
+    assertThat(afterJoin.version()).isEqualTo(2L);
+    assertThat(ids(afterLeave)).containsExactly(guest.getId());
+    assertThat(afterLeave.participantDtoList().get(0).isOwner()).isTrue();
+    assertThat(afterLeave.version()).isEqualTo(3L);
+    assertThat(roster.member(roomId, guest.getEmail())).map(ParticipantDto::isOwner).contains(true);
+    assertThat(roster.member(roomId, owner.getEmail())).isEmpty();
+
+    verify(messagingTemplate).convertAndSend("/topic/rooms/" + roomId + "/participant-joined",
+        new ParticipantEventDto(new ParticipantDto(guest.getId(), guest.getName(), null, false), owner.getId(), 2L));
+    verify(messagingTemplate).convertAndSend("/topic/rooms/" + roomId + "/participant-left",
+        new ParticipantEventDto(new ParticipantDto(owner.getId(), owner.getName(), null, false), guest.getId(), 3L));
+    verify(watchRoomParticipantRepository, times(1)).findWithUserByWatchRoomId(roomId);
+  }
+
+  @Test
+  @DisplayName("다른 노드의 변경은 버전 순서대로 반영하고, 버전이 건너뛰면 명단을 지워 다시 읽는다")
+  void clusterChange_resyncsOnGap() throws Exception {
+    // given
+    givenStored(1L, owner);
+    roster.snapshot(roomId);
+    ParticipantDto guestDto = new ParticipantDto(guest.getId(), guest.getName(), null, false);
+
+    // when: 다음 버전은 반영, 이미 반영한 버전은 무시
+    publishFromOtherNode(new Change(roomId, guestDto, guest.getEmail(), null, owner.getId(), 2L));
+    publishFromOtherNode(new Change(roomId, guestDto, guest.getEmail(), null, owner.getId(), 2L));
+
+    // then
+    assertThat(ids(roster.snapshot(roomId))).containsExactly(owner.getId(), guest.getId());
+
+    // when: 버전 3 을 놓치고 4 를 받음
+    publishFromOtherNode(new Change(roomId, null, null, guest.getId(), owner.getId(), 4L));
+
+    // then
+    assertThat(roster.size()).isZero();
+    assertThat(meterRegistry.get("watchroom.participants.resync").counter().count()).isEqualTo(1.0);
+    verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+  }
+
+  @Test
+  @DisplayName("방이 삭제되면 모든 노드의 명단을 지운다")
+  void removed_evictsRoster() {
+    // given
+    givenStored(1L, owner);
+    roster.snapshot(roomId);
+
+    // when
+    roster.removed(roomId);
+
+    // then
+    assertThat(roster.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("트랜잭션이 롤백되면 이벤트를 보내지 않고 미리 반영한 명단을 지운다")
+  void joined_rollbackEvictsRoster() {
+    // given
+    givenStored(1L, owner);
+    roster.snapshot(roomId);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      roster.joined(roomId, guest, owner.getId(), 2L);
+      List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+      // when
+      synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // then
+    assertThat(roster.size()).isZero();
+    verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+  }
+
+  @Test
+  @DisplayName("버스에서 놓친 변경으로 명단이 DB 버전보다 뒤처지면 다시 읽는다")
+  void member_reloadsWhenBehindDatabase() {
+    // given
+    roster = new WatchRoomParticipantRoster(watchRoomRepository, watchRoomParticipantRepository, clusterBus,
+        messagingTemplate, objectMapper, meterRegistry, 0, 600);
+    givenStored(4L, owner);
+    assertThat(roster.member(roomId, guest.getEmail())).isEmpty();
+    // 다른 노드에서 입장했지만 변경 메시지를 받지 못함
+    givenStored(5L, owner, guest);
+    given(watchRoomRepository.findParticipantVersionIfExists(roomId)).willReturn(Optional.of(5L));
+
+    // when
+    Optional<ParticipantDto> member = roster.member(roomId, guest.getEmail());
+
+    // then
+    assertThat(member).map(ParticipantDto::id).contains(guest.getId());
+    assertThat(meterRegistry.get("watchroom.participants.resync").counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("명단이 DB 버전과 같으면 다시 읽지 않는다")
+  void member_keepsRosterWhenUpToDate() {
+    // given
+    roster = new WatchRoomParticipantRoster(watchRoomRepository, watchRoomParticipantRepository, clusterBus,
+        messagingTemplate, objectMapper, meterRegistry, 0, 600);
+    givenStored(4L, owner);
+    given(watchRoomRepository.findParticipantVersionIfExists(roomId)).willReturn(Optional.of(4L));
+    roster.member(roomId, owner.getEmail());
+
+    // when
+    Optional<ParticipantDto> member = roster.member(roomId, owner.getEmail());
+
+    // then
+    assertThat(member).isPresent();
+    verify(watchRoomParticipantRepository, times(1)).findWithUserByWatchRoomId(roomId);
+  }
+
+  @Test
+  @DisplayName("확인 시점에 방이 삭제되었으면 명단을 지우고 방이 없다고 응답한다")
+  void member_roomDeleted() {
+    // given
+    roster = new WatchRoomParticipantRoster(watchRoomRepository, watchRoomParticipantRepository, clusterBus,
+        messagingTemplate, objectMapper, meterRegistry, 0, 600);
+    givenStored(4L, owner);
+    roster.member(roomId, owner.getEmail());
+    given(watchRoomRepository.findParticipantVersionIfExists(roomId)).willReturn(Optional.empty());
+    given(watchRoomRepository.findWithOwnerById(roomId)).willReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> roster.member(roomId, owner.getEmail()))
+        .isInstanceOf(WatchRoomRoomNotFoundException.class);
+    assertThat(roster.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("오래 조회되지 않은 방의 명단을 내린다")
+  void evictIdle_removesIdleRosters() {
+    // given
+    roster = new WatchRoomParticipantRoster(watchRoomRepository, watchRoomParticipantRepository, clusterBus,
+        messagingTemplate, objectMapper, meterRegistry, 60_000, 0);
+    givenStored(4L, owner);
+    roster.snapshot(roomId);
+
+    // when
+    roster.evictIdle();
+
+    // then
+    assertThat(roster.size()).isZero();
+  }
+}
@@ -2,6 +2,8 @@ package team03.mopl.domain.watchroom.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
@@ -54,6 +56,7 @@ import team03.mopl.domain.content.repository.ContentRepository;
 import team03.mopl.domain.user.Role;
 import team03.mopl.domain.user.User;
 import team03.mopl.domain.user.UserRepository;
+import team03.mopl.domain.watchroom.service.WatchRoomStateEngine.PlaybackState;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("채팅방 서비스 테스트")
@@ -77,6 +80,15 @@ class WatchRoomServiceImplTest {
   @Mock
   private CursorCodecUtil codecUtil;
 
+  @Mock
+  private WatchRoomStateEngine watchRoomStateEngine;
+
+  @Mock
+  private WatchRoomListingIndex watchRoomListingIndex;
+
+  @Mock
+  private WatchRoomParticipantRoster watchRoomParticipantRoster;
+
   @InjectMocks
   private WatchRoomServiceImpl watchRoomService;
 
@@ -327,6 +339,38 @@ class WatchRoomServiceImplTest {
     }
 
 
+    @Test
+    @DisplayName("목록 인덱스가 준비되어 있으면 DB 를 조회하지 않음")
+    void successFromListingIndex() {
+      // given
+      WatchRoomSearchDto request = WatchRoomSearchDto.builder()
+          .searchKeyword("테스트")
+          .size(1)
+          .direction("DESC")
+          .build();
+
+      List<WatchRoomDto> indexed = watchRooms.stream()
+          .map(watchRoom -> WatchRoomDto.fromWatchRoomWithHeadcount(watchRoom, 1L))
+          .toList();
+
+      when(watchRoomListingIndex.isReady()).thenReturn(true);
+      when(watchRoomListingIndex.find(any(WatchRoomSearchInternalDto.class))).thenReturn(indexed);
+      when(watchRoomListingIndex.count("테스트")).thenReturn(2L);
+      when(codecUtil.encodeNextCursor(any(WatchRoomDto.class), isNull())).thenReturn("cursor");
+
+      // when
+      CursorPageResponseDto<WatchRoomDto> result = watchRoomService.getAll(request);
+
+      // then
+      assertEquals(1, result.data().size());
+      assertEquals(chatRoom1Id, result.data().get(0).id());
+      assertTrue(result.hasNext());
+      assertEquals(2L, result.totalElements());
+      verify(watchRoomParticipantRepository, never())
+          .getAllWatchRoomContentWithHeadcountDtoPaginated(any(WatchRoomSearchInternalDto.class));
+      verify(watchRoomParticipantRepository, never()).countWatchRoomContentWithHeadcountDto(anyString());
+    }
+
     @Test
     @DisplayName("커서 있음")
     void successWithCursor() throws JsonProcessingException {
@@ -556,7 +600,7 @@ class WatchRoomServiceImplTest {
           }).toList();
 
       ParticipantsInfoDto participantsInfoDto = new ParticipantsInfoDto(participantDtos,
-          participantDtos.size());
+          participantDtos.size(), 7L);
 
       Double expectedNowPlayTime =
           (double) Duration.between(watchRoom.getVideoStateUpdatedAt(), LocalDateTime.now())
@@ -575,10 +619,10 @@ class WatchRoomServiceImplTest {
       when(watchRoomParticipantRepository
           .existsWatchRoomParticipantByWatchRoomAndUser(watchRoom, participant))
           .thenReturn(false);
-      when(watchRoomParticipantRepository.findByWatchRoom(watchRoom))
-          .thenReturn(watchRoomParticipant);
       when(watchRoomParticipantRepository.save(any(WatchRoomParticipant.class))).thenReturn(
           watchRoomParticipant.get(0));
+      when(watchRoomRepository.findParticipantVersion(chatRoomId)).thenReturn(7L);
+      when(watchRoomParticipantRoster.snapshot(chatRoomId)).thenReturn(participantsInfoDto);
 
       //when
       WatchRoomInfoDto watchRoomInfoDto = watchRoomService
@@ -590,9 +634,44 @@ class WatchRoomServiceImplTest {
       assertEquals(expectedNowPlayTime, watchRoomInfoDto.playTime());
       assertEquals(expected.participantsInfoDto().participantCount(),
           watchRoomInfoDto.participantsInfoDto().participantCount());
+      assertEquals(7L, watchRoomInfoDto.participantsInfoDto().version());
 
       verify(watchRoomParticipantRepository, times(1))
           .save(any(WatchRoomParticipant.class));
+      verify(watchRoomRepository).adjustParticipantCount(chatRoomId, 1);
+      verify(watchRoomListingIndex).refresh(chatRoomId);
+      // 기존 참여자에게는 새 참여자만 변경 이벤트로 전송
+      verify(watchRoomParticipantRoster).joined(chatRoomId, participant, userId, 7L);
+    }
+
+    @Test
+    @DisplayName("재생 상태는 DB 보다 재생 상태 엔진의 메모리 상태를 우선 사용")
+    void successWithInMemoryPlaybackState() {
+      //given
+      UUID chatRoomId = UUID.randomUUID();
+      WatchRoom watchRoom = WatchRoom.builder()
+          .id(chatRoomId)
+          .title("테스트용 시청방")
+          .playTime(1.0)
+          .isPlaying(true)
+          .owner(user)
+          .content(content)
+          .build();
+
+      when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+      when(watchRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(watchRoom));
+      when(watchRoomParticipantRepository.existsWatchRoomParticipantByWatchRoomAndUser(watchRoom, user))
+          .thenReturn(true);
+      when(watchRoomParticipantRoster.snapshot(chatRoomId)).thenReturn(new ParticipantsInfoDto(List.of(), 0, 0L));
+      when(watchRoomStateEngine.find(chatRoomId))
+          .thenReturn(Optional.of(new PlaybackState(userId, user.getEmail(), 42.0, false, LocalDateTime.now())));
+
+      //when
+      WatchRoomInfoDto watchRoomInfoDto = watchRoomService.joinWatchRoomAndGetInfo(chatRoomId, user.getEmail());
+
+      //then
+      assertFalse(watchRoomInfoDto.isPlaying());
+      assertEquals(42.0, watchRoomInfoDto.playTime());
     }
 
     @Test
@@ -650,16 +729,14 @@ class WatchRoomServiceImplTest {
           .content(content)
           .build();
 
-      WatchRoomParticipant watchRoomParticipantOwner = WatchRoomParticipant.builder()
-          .user(user)
-          .watchRoom(watchRoom)
+      ParticipantDto owner = ParticipantDto.builder()
+          .id(userId)
+          .username(user.getName())
+          .isOwner(true)
           .build();
 
-      List<WatchRoomParticipant> watchRoomParticipants = List.of(watchRoomParticipantOwner);
-
-      when(watchRoomRepository.findById(watchRoomId)).thenReturn(Optional.of(watchRoom));
-      when(watchRoomParticipantRepository.findByWatchRoom(watchRoom))
-          .thenReturn(watchRoomParticipants);
+      when(watchRoomParticipantRoster.snapshot(watchRoomId))
+          .thenReturn(new ParticipantsInfoDto(List.of(owner), 1, 3L));
 
       // when
       ParticipantsInfoDto participants = watchRoomService.getParticipants(watchRoomId);
@@ -667,6 +744,8 @@ class WatchRoomServiceImplTest {
       // then
       assertNotNull(participants);
       assertEquals(1, participants.participantCount());
+      assertEquals(3L, participants.version());
+      verify(watchRoomParticipantRepository, never()).findByWatchRoom(any(WatchRoom.class));
     }
 
     @Test
@@ -675,7 +754,7 @@ class WatchRoomServiceImplTest {
       //given
       UUID randomUUID = UUID.randomUUID();
 
-      when(watchRoomRepository.findById(randomUUID)).thenReturn(Optional.empty());
+      when(watchRoomParticipantRoster.snapshot(randomUUID)).thenThrow(new WatchRoomRoomNotFoundException());
 
       // when & then
       assertThrows(WatchRoomRoomNotFoundException.class,
@@ -712,9 +791,8 @@ class WatchRoomServiceImplTest {
           .timestamp(System.currentTimeMillis())
           .build();
 
-      when(watchRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(watchRoom));
-      when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-      when(watchRoomRepository.save(any(WatchRoom.class))).thenReturn(watchRoom);
+      when(watchRoomStateEngine.control(chatRoomId, VideoControlAction.PAUSE, 10.0, user.getEmail()))
+          .thenReturn(new PlaybackState(userId, user.getEmail(), 10.0, false, LocalDateTime.now()));
 
       //when
       VideoSyncDto videoSyncDto = watchRoomService.updateVideoStatus(chatRoomId, request,
@@ -724,7 +802,9 @@ class WatchRoomServiceImplTest {
       assertEquals(expected.videoControlAction(), videoSyncDto.videoControlAction());
       assertEquals(expected.isPlaying(), videoSyncDto.isPlaying());
 
-      verify(watchRoomRepository, times(1)).save(watchRoom);
+      // 메모리 상태에만 반영하고 DB 는 엔진이 지연 쓰기
+      verify(watchRoomRepository, never()).save(any(WatchRoom.class));
+      verify(userRepository, never()).findByEmail(any());
 
     }
 
@@ -751,9 +831,8 @@ class WatchRoomServiceImplTest {
           .timestamp(System.currentTimeMillis())
           .build();
 
-      when(watchRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(watchRoom));
-      when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-      when(watchRoomRepository.save(any(WatchRoom.class))).thenReturn(watchRoom);
+      when(watchRoomStateEngine.control(chatRoomId, VideoControlAction.PLAY, 10.0, user.getEmail()))
+          .thenReturn(new PlaybackState(userId, user.getEmail(), 10.0, true, LocalDateTime.now()));
 
       //when
       VideoSyncDto videoSyncDto = watchRoomService
@@ -763,7 +842,7 @@ class WatchRoomServiceImplTest {
       assertEquals(expected.videoControlAction(), videoSyncDto.videoControlAction());
       assertEquals(expected.isPlaying(), videoSyncDto.isPlaying());
 
-      verify(watchRoomRepository, times(1)).save(watchRoom);
+      verify(watchRoomRepository, never()).save(any(WatchRoom.class));
 
     }
 
@@ -790,9 +869,8 @@ class WatchRoomServiceImplTest {
           .timestamp(System.currentTimeMillis())
           .build();
 
-      when(watchRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(watchRoom));
-      when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-      when(watchRoomRepository.save(any(WatchRoom.class))).thenReturn(watchRoom);
+      when(watchRoomStateEngine.control(chatRoomId, VideoControlAction.SEEK, 20.0, user.getEmail()))
+          .thenReturn(new PlaybackState(userId, user.getEmail(), 20.0, true, LocalDateTime.now()));
 
       //when
       VideoSyncDto videoSyncDto = watchRoomService.updateVideoStatus(chatRoomId, request,
@@ -803,7 +881,7 @@ class WatchRoomServiceImplTest {
       assertEquals(expected.isPlaying(), videoSyncDto.isPlaying());
       assertEquals(20.0, videoSyncDto.currentTime());
 
-      verify(watchRoomRepository, times(1)).save(watchRoom);
+      verify(watchRoomRepository, never()).save(any(WatchRoom.class));
 
     }
 
@@ -859,6 +937,7 @@ class WatchRoomServiceImplTest {
           .thenReturn(Optional.of(watchRoomParticipantOwner));
       when(watchRoomParticipantRepository.findFirstByWatchRoom(watchRoom))
           .thenReturn(Optional.of(watchRoomParticipant));
+      when(watchRoomRepository.findParticipantVersion(watchRoomId)).thenReturn(5L);
 
       // when
       watchRoomService.leave(watchRoomId, user.getEmail());
@@ -866,6 +945,11 @@ class WatchRoomServiceImplTest {
       // then
       assertEquals(watchRoomId, watchRoom.getId());
       assertEquals(participant.getEmail(), watchRoom.getOwner().getEmail());
+      verify(watchRoomParticipantRepository).delete(watchRoomParticipantOwner);
+      verify(watchRoomRepository).adjustParticipantCount(watchRoomId, -1);
+      verify(watchRoomListingIndex).refresh(watchRoomId);
+      verify(watchRoomStateEngine).invalidate(watchRoomId);
+      verify(watchRoomParticipantRoster).left(watchRoomId, user, participantId, 5L);
     }
 
     @Test
@@ -896,7 +980,11 @@ class WatchRoomServiceImplTest {
       watchRoomService.leave(watchRoomId, user.getEmail());
 
       // then
+      verify(watchRoomRepository).adjustParticipantCount(watchRoomId, -1);
       verify(watchRoomRepository, times(1)).delete(watchRoom);
+      verify(watchRoomStateEngine).invalidate(watchRoomId);
+      verify(watchRoomParticipantRoster).removed(watchRoomId);
+      verify(watchRoomParticipantRoster, never()).left(any(), any(), any(), anyLong());
     }
 
     @Test
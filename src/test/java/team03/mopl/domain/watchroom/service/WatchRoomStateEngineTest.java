@@ -0,0 +1,192 @@
+package team03.mopl.domain.watchroom.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.cluster.InMemoryClusterBus;
+import team03.mopl.common.exception.watchroom.VideoControlPermissionDeniedException;
+import team03.mopl.common.exception.watchroom.WatchRoomRoomNotFoundException;
+import team03.mopl.domain.user.Role;
+import team03.mopl.domain.user.User;
+import team03.mopl.domain.watchroom.entity.VideoControlAction;
+import team03.mopl.domain.watchroom.entity.WatchRoom;
+import team03.mopl.domain.watchroom.repository.WatchRoomRepository;
+import team03.mopl.domain.watchroom.service.WatchRoomStateEngine.PlaybackState;
+
+@ExtendWith(MockitoExtension.class)
+class WatchRoomStateEngineTest {
+
+  @Mock
+  private WatchRoomRepository watchRoomRepository;
+
+  // 지연 쓰기 작업을 붙잡아 두었다가 직접 실행한다
+  @Mock
+  private ScheduledExecutorService scheduler;
+
+  private final InMemoryClusterBus clusterBus = new InMemoryClusterBus();
+  private final UUID roomId = UUID.randomUUID();
+  private final User owner = User.builder()
+      .id(UUID.randomUUID())
+      .email("owner@test.com")
+      .role(Role.USER)
+      .build();
+  private SimpleMeterRegistry meterRegistry;
+  private WatchRoomStateEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    engine = new WatchRoomStateEngine(watchRoomRepository, clusterBus, meterRegistry, 1_000, 600, scheduler);
+  }
+
+  private void givenRoom(double playTime, boolean isPlaying) {
+    given(watchRoomRepository.findWithOwnerById(roomId)).willReturn(Optional.of(WatchRoom.builder()
+        .id(roomId)
+        .owner(owner)
+        .playTime(playTime)
+        .isPlaying(isPlaying)
+        .videoStateUpdatedAt(LocalDateTime.now())
+        .build()));
+  }
+
+  private Runnable capturedFlush(int times) {
+    ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler, times(times)).schedule(flushCaptor.capture(), eq(1_000L), eq(TimeUnit.MILLISECONDS));
+    return flushCaptor.getValue();
+  }
+
+  @Test
+  @DisplayName("처음 제어할 때만 DB 에서 읽고, 이후 제어는 메모리에 반영한다")
+  void control_loadsOnceThenAppliesInMemory() {
+    // given
+    givenRoom(10.0, false);
+
+    // when
+    engine.control(roomId, VideoControlAction.PLAY, 10.0, owner.getEmail());
+    engine.control(roomId, VideoControlAction.SEEK, 30.0, owner.getEmail());
+    PlaybackState paused = engine.control(roomId, VideoControlAction.PAUSE, 35.0, owner.getEmail());
+
+    // then
+    assertThat(paused.isPlaying()).isFalse();
+    assertThat(paused.playTime()).isEqualTo(35.0);
+    assertThat(engine.find(roomId)).contains(paused);
+    verify(watchRoomRepository, times(1)).findWithOwnerById(roomId);
+    verify(watchRoomRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("구간 안의 여러 제어는 마지막 상태 한 번으로 DB 에 쓴다")
+  void control_debouncesFlush() {
+    // given
+    givenRoom(0.0, false);
+    engine.control(roomId, VideoControlAction.PLAY, 0.0, owner.getEmail());
+    engine.control(roomId, VideoControlAction.SEEK, 12.0, owner.getEmail());
+    PlaybackState last = engine.control(roomId, VideoControlAction.SEEK, 20.0, owner.getEmail());
+
+    // when: 첫 변경에서만 예약되고, 예약된 쓰기는 마지막 상태를 씀
+    capturedFlush(1).run();
+
+    // then
+    verify(watchRoomRepository, times(1)).updatePlayback(roomId, 20.0, true, last.videoStateUpdatedAt());
+    assertThat(meterRegistry.get("watchroom.state.flush").counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("방장이 아니면 제어할 수 없다")
+  void control_deniedForNonOwner() {
+    // given
+    givenRoom(0.0, false);
+
+    // when & then
+    assertThatThrownBy(() -> engine.control(roomId, VideoControlAction.PLAY, 0.0, "other@test.com"))
+        .isInstanceOf(VideoControlPermissionDeniedException.class);
+    verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 방이면 예외")
+  void control_roomNotFound() {
+    // given
+    given(watchRoomRepository.findWithOwnerById(roomId)).willReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> engine.control(roomId, VideoControlAction.PLAY, 0.0, owner.getEmail()))
+        .isInstanceOf(WatchRoomRoomNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("무효화하면 남은 상태를 쓰고 메모리에서 지워, 다음 접근 때 DB 에서 다시 읽는다")
+  void invalidate_flushesAndReloads() {
+    // given
+    givenRoom(0.0, false);
+    engine.control(roomId, VideoControlAction.SEEK, 5.0, owner.getEmail());
+
+    // when
+    engine.invalidate(roomId);
+
+    // then
+    verify(watchRoomRepository, times(1)).updatePlayback(eq(roomId), eq(5.0), eq(false), any());
+    assertThat(engine.find(roomId)).isEmpty();
+
+    // 예약되어 있던 쓰기가 나중에 실행되어도 다시 쓰지 않음
+    capturedFlush(1).run();
+    verify(watchRoomRepository, times(1)).updatePlayback(any(), anyDouble(), anyBoolean(), any());
+  }
+
+  @Test
+  @DisplayName("다른 노드의 더 최신 재생 상태를 반영한다")
+  void clusterPlayback_appliesNewerState() {
+    // given
+    givenRoom(0.0, false);
+    engine.control(roomId, VideoControlAction.SEEK, 5.0, owner.getEmail());
+    long newer = System.currentTimeMillis() + 60_000;
+
+    // when
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.WATCH_ROOM_STATE, roomId.toString(), null,
+        "42.5:true:" + newer));
+
+    // then
+    PlaybackState state = engine.find(roomId).orElseThrow();
+    assertThat(state.playTime()).isEqualTo(42.5);
+    assertThat(state.isPlaying()).isTrue();
+  }
+
+  @Test
+  @DisplayName("변경 없이 오래 지난 방은 메모리에서 내린다")
+  void evictIdle() {
+    // given
+    engine = new WatchRoomStateEngine(watchRoomRepository, clusterBus, meterRegistry, 1_000, 0, scheduler);
+    givenRoom(0.0, false);
+    engine.control(roomId, VideoControlAction.SEEK, 7.0, owner.getEmail());
+
+    // when
+    engine.evictIdle();
+
+    // then
+    assertThat(engine.size()).isZero();
+    verify(watchRoomRepository).updatePlayback(eq(roomId), eq(7.0), eq(false), any());
+  }
+}
@@ -0,0 +1,103 @@
+package team03.mopl.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.cluster.InMemoryClusterBus;
+import team03.mopl.domain.user.Role;
+import team03.mopl.domain.user.User;
+
+class AuthenticatedUserCacheTest {
+
+  private final InMemoryClusterBus clusterBus = new InMemoryClusterBus();
+  private final UUID userId = UUID.randomUUID();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final Function<UUID, User> loader = id -> {
+    loads.incrementAndGet();
+    return User.builder().id(id).email("cache@test.com").name("유저" + loads.get()).role(Role.USER).build();
+  };
+
+  private AuthenticatedUserCache cache(long ttlSeconds, int maxSize) {
+    return new AuthenticatedUserCache(clusterBus, new SimpleMeterRegistry(), ttlSeconds, maxSize);
+  }
+
+  @Test
+  @DisplayName("ttl 안에서는 한 번만 조회하고 같은 유저를 반환한다")
+  void get_cachesWithinTtl() {
+    // given
+    AuthenticatedUserCache cache = cache(60, 10);
+
+    // when
+    User first = cache.get(userId, loader);
+    User second = cache.get(userId, loader);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("ttl 이 지나면 다시 조회한다")
+  void get_reloadsAfterTtl() {
+    // given
+    AuthenticatedUserCache cache = cache(0, 10);
+
+    // when
+    cache.get(userId, loader);
+    cache.get(userId, loader);
+
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("invalidate 하면 다음 조회에서 새 값을 읽는다")
+  void invalidate_reloads() {
+    // given
+    AuthenticatedUserCache cache = cache(60, 10);
+    cache.get(userId, loader);
+
+    // when
+    cache.invalidate(userId);
+    User reloaded = cache.get(userId, loader);
+
+    // then
+    assertThat(reloaded.getName()).isEqualTo("유저2");
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 전파된 무효화 메시지로도 지워진다")
+  void clusterInvalidation_evicts() {
+    // given
+    AuthenticatedUserCache cache = cache(60, 10);
+    cache.get(userId, loader);
+
+    // when
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.USER_INVALIDATED, userId.toString(), null, null));
+    cache.get(userId, loader);
+
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("보관 한도에 도달하면 새 유저는 캐시하지 않고 매번 조회한다")
+  void get_overCapacityAlwaysLoads() {
+    // given
+    AuthenticatedUserCache cache = cache(60, 0);
+
+    // when
+    cache.get(userId, loader);
+    cache.get(userId, loader);
+
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+  }
+}
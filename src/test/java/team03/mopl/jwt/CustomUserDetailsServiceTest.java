@@ -2,9 +2,13 @@ package team03.mopl.jwt;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import team03.mopl.domain.user.Role;
 import team03.mopl.domain.user.User;
 import team03.mopl.domain.user.UserRepository;
 
@@ -22,6 +27,9 @@ class CustomUserDetailsServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private AuthenticatedUserCache authenticatedUserCache;
+
   @InjectMocks
   private CustomUserDetailsService customUserDetailsService;
 
@@ -73,4 +81,28 @@ class CustomUserDetailsServiceTest {
 
     assertThrows(UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByUsername(email));
   }
-}
\ No newline at end of file
+
+  @Test
+  void loadUserByClaims_조회없이_클레임으로_생성() {
+    JwtClaims claims = new JwtClaims(userId, email, Role.ADMIN, "access", Instant.now().plusSeconds(60));
+
+    CustomUserDetails userDetails = customUserDetailsService.loadUserByClaims(claims);
+
+    assertEquals(userId, userDetails.getId());
+    assertEquals(email, userDetails.getUsername());
+    assertEquals("ROLE_ADMIN", userDetails.getAuthorities().iterator().next().getAuthority());
+    verifyNoInteractions(userRepository, authenticatedUserCache);
+  }
+
+  @Test
+  void loadUserByClaims_유저정보는_캐시로_조회() {
+    JwtClaims claims = new JwtClaims(userId, email, Role.USER, "access", Instant.now().plusSeconds(60));
+    when(authenticatedUserCache.get(eq(userId), any())).thenReturn(testUser);
+
+    CustomUserDetails userDetails = customUserDetailsService.loadUserByClaims(claims);
+
+    assertEquals("password", userDetails.getPassword());
+    assertEquals(testUser, userDetails.getUser());
+    verify(authenticatedUserCache).get(eq(userId), any());
+  }
+}
@@ -0,0 +1,131 @@
+package team03.mopl.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import team03.mopl.domain.user.Role;
+import team03.mopl.domain.user.User;
+
+/**
+ * 인증 필터의 토큰 검증 비용 비교
+ * - legacyValidateThenExtract: 기존 방식 (validateToken + 블랙리스트 재확인 + extractUserId, 호출마다 키/파서 생성 후 서명 두 번 검증)
+ * - verifyOnce: 캐시된 파서로 한 번 검증해 JwtClaims 를 얻는 비용
+ * - filterVerifyOnce: JwtAuthenticationFilter 전체 경로 (요청 객체 생성, SecurityContext 설정 포함)
+ * - filterBypassedProbe: 우회 경로(/actuator/health)로 들어온 토큰 있는 요청이 필터를 통과하는 비용
+ *
+ * 실행: ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(0)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String SECRET = "benchmarkSecretKey12345678901234567890";
+
+  private final JwtBlacklist jwtBlacklist = new MemoryJwtBlacklist();
+  private JwtProvider jwtProvider;
+  private JwtAuthenticationFilter filter;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtProvider = new JwtProvider(jwtBlacklist);
+    ReflectionTestUtils.setField(jwtProvider, "jwtSecret", SECRET);
+    ReflectionTestUtils.setField(jwtProvider, "accessTokenExpiration", 3_600_000L);
+    jwtProvider.init();
+
+    User user = User.builder()
+        .id(UUID.randomUUID())
+        .email("bench@example.com")
+        .role(Role.USER)
+        .build();
+    token = jwtProvider.generateToken(user);
+
+    // claims 모드: principal 을 클레임으로 만들므로 저장소/캐시를 거치지 않음
+    filter = new JwtAuthenticationFilter(jwtProvider, new CustomUserDetailsService(null, null),
+        List.of("/profile/**", "/actuator/health/**"), new SimpleMeterRegistry());
+  }
+
+  @Benchmark
+  public UUID legacyValidateThenExtract() {
+    if (jwtBlacklist.blacklisted(token)) {
+      return null;
+    }
+    Jwts.parser()
+        .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+        .build()
+        .parseSignedClaims(token);
+    if (jwtBlacklist.blacklisted(token)) {
+      return null;
+    }
+    return UUID.fromString(Jwts.parser()
+        .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+        .build()
+        .parseSignedClaims(token)
+        .getPayload()
+        .getSubject());
+  }
+
+  @Benchmark
+  public UUID verifyOnce() {
+    return jwtProvider.verify(token).map(JwtClaims::userId).orElse(null);
+  }
+
+  @Benchmark
+  public Object filterVerifyOnce() throws ServletException, IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notifications");
+    request.addHeader("Authorization", "Bearer " + token);
+    try {
+      filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+      return SecurityContextHolder.getContext().getAuthentication();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  @Benchmark
+  public Object filterBypassedProbe() throws ServletException, IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+    request.addHeader("Authorization", "Bearer " + token);
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+    return chain.getRequest();
+  }
+
+  @Test
+  @Tag("benchmark")
+  void run() throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
@@ -0,0 +1,131 @@
+package team03.mopl.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import team03.mopl.domain.user.Role;
+import team03.mopl.domain.user.User;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+  @Mock
+  private JwtProvider jwtProvider;
+
+  @Mock
+  private CustomUserDetailsService userDetailsService;
+
+  private SimpleMeterRegistry meterRegistry;
+  private JwtAuthenticationFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    filter = new JwtAuthenticationFilter(jwtProvider, userDetailsService,
+        List.of("/static/**", " /actuator/health/** ", "/actuator/prometheus", ""), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private MockFilterChain doFilter(String uri, String authorization) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+    if (authorization != null) {
+      request.addHeader("Authorization", authorization);
+    }
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+    return chain;
+  }
+
+  private long timerCount(String route, String outcome) {
+    return meterRegistry.get("security.jwt.filter").tag("route", route).tag("outcome", outcome).timer().count();
+  }
+
+  @Test
+  @DisplayName("우회 경로는 토큰이 있어도 검증하지 않고 통과한다")
+  void bypassPath_skipsVerification() throws Exception {
+    // when
+    MockFilterChain health = doFilter("/actuator/health", "Bearer token");
+    MockFilterChain liveness = doFilter("/actuator/health/liveness", "Bearer token");
+    MockFilterChain asset = doFilter("/static/js/app.js", "Bearer token");
+
+    // then
+    assertThat(health.getRequest()).isNotNull();
+    assertThat(liveness.getRequest()).isNotNull();
+    assertThat(asset.getRequest()).isNotNull();
+    verify(jwtProvider, never()).verify(any());
+    assertThat(timerCount("/actuator/health/**", "bypassed")).isEqualTo(2);
+    assertThat(timerCount("/static/**", "bypassed")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Authorization 헤더가 없으면 토큰 처리 없이 통과한다")
+  void noAuthorizationHeader_shortCircuits() throws Exception {
+    // when
+    MockFilterChain chain = doFilter("/api/contents", null);
+
+    // then
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    verify(jwtProvider, never()).verify(any());
+    assertThat(timerCount("other", "no_token")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("유효한 토큰이면 인증 정보를 설정한다")
+  void validToken_authenticates() throws Exception {
+    // given
+    UUID userId = UUID.randomUUID();
+    JwtClaims claims = new JwtClaims(userId, "filter@test.com", Role.USER, "access", Instant.now().plusSeconds(60));
+    given(jwtProvider.verify("token")).willReturn(Optional.of(claims));
+    given(userDetailsService.loadUserByClaims(claims)).willReturn(new CustomUserDetails(User.builder()
+        .id(userId)
+        .email("filter@test.com")
+        .role(Role.USER)
+        .build()));
+
+    // when
+    doFilter("/api/contents", "Bearer token");
+
+    // then
+    assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("filter@test.com");
+    assertThat(timerCount("other", "authenticated")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("검증에 실패하면 인증 정보 없이 다음 필터로 넘긴다")
+  void invalidToken_continuesUnauthenticated() throws Exception {
+    // given
+    given(jwtProvider.verify("invalid")).willReturn(Optional.empty());
+
+    // when
+    MockFilterChain chain = doFilter("/api/contents", "Bearer invalid");
+
+    // then
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    assertThat(timerCount("other", "rejected")).isEqualTo(1);
+  }
+}
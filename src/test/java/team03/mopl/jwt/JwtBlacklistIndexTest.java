@@ -0,0 +1,103 @@
+package team03.mopl.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtBlacklistIndexTest {
+
+  private static final long TICK = 1_000L;
+  private static final long NOW = 1_700_000_000_000L;
+
+  private final JwtBlacklistIndex index = new JwtBlacklistIndex(TICK, 8, 1_000);
+
+  @Test
+  @DisplayName("추가한 토큰만 만료 시각 전까지 블랙리스트로 판단한다")
+  void contains_untilDeadline() {
+    // given
+    index.add("token-a", NOW + 5_000);
+
+    // then
+    assertThat(index.contains("token-a", NOW)).isTrue();
+    assertThat(index.contains("token-b", NOW)).isFalse();
+    assertThat(index.contains("token-a", NOW + 5_000)).isFalse();
+  }
+
+  @Test
+  @DisplayName("만료 시각이 지난 버킷의 항목만 지운다")
+  void expire_removesOnlyPastDeadlines() {
+    // given
+    index.add("short", NOW + 2_000);
+    index.add("long", NOW + 6_000);
+    index.expire(NOW);
+
+    // when
+    int removed = index.expire(NOW + 3_000);
+
+    // then
+    assertThat(removed).isEqualTo(1);
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.contains("long", NOW + 3_000)).isTrue();
+  }
+
+  @Test
+  @DisplayName("휠 한 바퀴보다 먼 만료 시각은 바퀴가 돌아도 만료 전까지 유지한다")
+  void expire_keepsDeadlinesBeyondOneRevolution() {
+    // given: 휠 8칸 * 1초 = 8초보다 먼 20초 뒤 만료
+    index.add("far", NOW + 20_000);
+    index.expire(NOW);
+
+    // when
+    int removedEarly = index.expire(NOW + 12_000);
+    int removedLate = index.expire(NOW + 21_000);
+
+    // then
+    assertThat(removedEarly).isZero();
+    assertThat(removedLate).isEqualTo(1);
+    assertThat(index.contains("far", NOW + 21_000)).isFalse();
+  }
+
+  @Test
+  @DisplayName("같은 토큰을 다시 추가하면 더 늦은 만료 시각을 유지한다")
+  void add_keepsLaterDeadline() {
+    // given
+    index.add("token", NOW + 2_000);
+    index.add("token", NOW + 7_000);
+    index.expire(NOW);
+
+    // when
+    index.expire(NOW + 3_000);
+
+    // then
+    assertThat(index.contains("token", NOW + 3_000)).isTrue();
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("만료로 Bloom filter 를 다시 만들어도 남은 항목은 계속 찾는다")
+  void expire_rebuildsBloomWithRemainingEntries() {
+    // given
+    for (int i = 0; i < 100; i++) {
+      index.add("token-" + i, NOW + (i % 2 == 0 ? 2_000 : 6_000));
+    }
+    index.expire(NOW);
+
+    // when
+    index.expire(NOW + 3_000);
+
+    // then
+    for (int i = 0; i < 100; i++) {
+      assertThat(index.contains("token-" + i, NOW + 3_000)).isEqualTo(i % 2 == 1);
+    }
+  }
+
+  @Test
+  @DisplayName("digest 는 16진수 문자열로 바꿨다가 되돌려도 같다")
+  void tokenDigest_hexRoundTrip() {
+    TokenDigest digest = TokenDigest.of("some.jwt.token");
+
+    assertThat(digest.toHex()).hasSize(32);
+    assertThat(TokenDigest.fromHex(digest.toHex())).isEqualTo(digest);
+  }
+}
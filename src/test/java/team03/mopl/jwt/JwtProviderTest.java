@@ -147,4 +147,40 @@ class JwtProviderTest {
 
     assertFalse(jwtProvider.validateToken(token));
   }
-}
\ No newline at end of file
+
+  @Test
+  void 검증_한번에_클레임_반환() {
+    ReflectionTestUtils.setField(jwtProvider, "accessTokenExpiration", 60000L);
+    User user = User.builder()
+        .id(UUID.randomUUID())
+        .email("claims@example.com")
+        .role(Role.ADMIN)
+        .build();
+
+    String token = jwtProvider.generateToken(user);
+
+    JwtClaims claims = jwtProvider.verify(token).orElseThrow();
+    assertEquals(user.getId(), claims.userId());
+    assertEquals("claims@example.com", claims.email());
+    assertEquals(Role.ADMIN, claims.role());
+    assertEquals("access", claims.type());
+    assertTrue(claims.remainingMillis() > 0);
+  }
+
+  @Test
+  void 검증_위조토큰_블랙리스트토큰_empty() {
+    ReflectionTestUtils.setField(jwtProvider, "accessTokenExpiration", 60000L);
+    User user = User.builder()
+        .id(UUID.randomUUID())
+        .email("verify@example.com")
+        .role(Role.USER)
+        .build();
+
+    String token = jwtProvider.generateToken(user);
+    assertTrue(jwtProvider.verify(token + "x").isEmpty());
+    assertTrue(jwtProvider.verify("not-a-jwt").isEmpty());
+
+    jwtBlacklist.addBlacklist(token, 60000L);
+    assertTrue(jwtProvider.verify(token).isEmpty());
+  }
+}
@@ -2,11 +2,13 @@ package team03.mopl.jwt;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import team03.mopl.cluster.InMemoryClusterBus;
 import team03.mopl.domain.user.Role;
 import team03.mopl.domain.user.User;
 
@@ -27,6 +31,10 @@ class JwtServiceImplTest {
  @Mock
      private JwtProvider jwtProvider;
 
+ @Spy
+     private JwtSessionCache jwtSessionCache =
+         new JwtSessionCache(new InMemoryClusterBus(), new SimpleMeterRegistry(), 60, 100);
+
  @InjectMocks
      private JwtServiceImpl jwtService;
 
@@ -55,7 +63,10 @@ class JwtServiceImplTest {
     jwtService.save(user, accessToken, refreshToken, expirationMillis);
 
     // then
-    verify(jwtSessionRepository).save(any(JwtSession.class));
+    verify(jwtSessionRepository).upsertByUserId(any(UUID.class), eq(user.getId()), eq(accessToken), eq(refreshToken),
+        eq(TokenDigest.hexOf(accessToken)), eq(TokenDigest.hexOf(refreshToken)),
+        any(LocalDateTime.class), any(LocalDateTime.class));
+    verify(jwtSessionRepository, never()).findByUser(any());
   }
 
   @DisplayName("사용자 정보를 기반으로 JWT  삭제")
@@ -69,6 +80,7 @@ class JwtServiceImplTest {
         .build();
     JwtSession mockSession = mock(JwtSession.class);
     when(mockSession.getAccessToken()).thenReturn("access-token");
+    when(mockSession.getRefreshTokenHash()).thenReturn(TokenDigest.hexOf("refresh-token"));
     when(jwtSessionRepository.findByUser(user)).thenReturn(Optional.of(mockSession));
 
     // when
@@ -100,7 +112,7 @@ class JwtServiceImplTest {
         .isActive(true)
         .build();
 
-    when(jwtSessionRepository.findByRefreshToken(refreshToken))
+    when(jwtSessionRepository.findByRefreshTokenHash(TokenDigest.hexOf(refreshToken)))
         .thenReturn(Optional.of(session));
     when(jwtProvider.generateToken(user)).thenReturn(expectedAccessToken);
 
@@ -123,7 +135,7 @@ class JwtServiceImplTest {
         .isActive(true)
         .build();
 
-    when(jwtSessionRepository.findByRefreshToken(refreshToken))
+    when(jwtSessionRepository.findByRefreshTokenHash(TokenDigest.hexOf(refreshToken)))
         .thenReturn(Optional.of(session));
 
     // when
@@ -139,7 +151,7 @@ class JwtServiceImplTest {
   void getAccessTokenByRefreshToken_shouldReturnEmpty_whenSessionNotFound() {
     // given
     String refreshToken = "nonexistent-token";
-    when(jwtSessionRepository.findByRefreshToken(refreshToken))
+    when(jwtSessionRepository.findByRefreshTokenHash(TokenDigest.hexOf(refreshToken)))
         .thenReturn(Optional.empty());
 
     // when
@@ -170,7 +182,7 @@ class JwtServiceImplTest {
         .isActive(true)
         .build();
 
-    when(jwtSessionRepository.findByRefreshToken(refreshToken)).thenReturn(Optional.of(session));
+    when(jwtSessionRepository.findByRefreshTokenHash(TokenDigest.hexOf(refreshToken))).thenReturn(Optional.of(session));
 
     // when
     jwtService.invalidateSessionByRefreshToken(refreshToken, false);
@@ -201,9 +213,12 @@ class JwtServiceImplTest {
         .isActive(true)
         .build();
 
-    when(jwtSessionRepository.findByRefreshToken(oldRefreshToken)).thenReturn(Optional.of(session));
+    when(jwtSessionRepository.findByRefreshTokenHash(TokenDigest.hexOf(oldRefreshToken))).thenReturn(Optional.of(session));
     when(jwtProvider.generateToken(user)).thenReturn(newAccessToken);
     when(jwtProvider.generateRefreshToken(user)).thenReturn(newRefreshToken);
+    when(jwtSessionRepository.rotateByUserId(eq(user.getId()), eq(newAccessToken), eq(newRefreshToken),
+        eq(TokenDigest.hexOf(newAccessToken)), eq(TokenDigest.hexOf(newRefreshToken)),
+        any(LocalDateTime.class), eq(TokenDigest.hexOf(oldRefreshToken)))).thenReturn(1);
 
     // when
     TokenPair tokenPair = jwtService.reissueTokenPair(oldRefreshToken, expirationMillis);
@@ -211,8 +226,37 @@ class JwtServiceImplTest {
     // then
     assertThat(tokenPair.getAccessToken()).isEqualTo(newAccessToken);
     assertThat(tokenPair.getRefreshToken()).isEqualTo(newRefreshToken);
-    verify(jwtSessionRepository).delete(session);
-    verify(jwtSessionRepository).save(any(JwtSession.class));
+    verify(jwtSessionRepository, never()).delete(any(JwtSession.class));
+    verify(jwtSessionRepository, never()).save(any(JwtSession.class));
+  }
+
+  @DisplayName("다른 요청이 먼저 회전했거나 세션이 삭제되어 회전이 반영되지 않으면 예외가 발생")
+  @Test
+  void reissueTokenPair_shouldThrowException_whenRotatedConcurrently() {
+    // given
+    String oldRefreshToken = "old-refresh-token";
+    User user = User.builder()
+        .id(UUID.randomUUID())
+        .email("race@example.com")
+        .role(Role.USER)
+        .build();
+    JwtSession session = JwtSession.builder()
+        .user(user)
+        .refreshToken(oldRefreshToken)
+        .expiresAt(LocalDateTime.now().plusMinutes(10))
+        .isActive(true)
+        .build();
+
+    when(jwtSessionRepository.findByRefreshTokenHash(TokenDigest.hexOf(oldRefreshToken))).thenReturn(Optional.of(session));
+    when(jwtProvider.generateToken(user)).thenReturn("new-access-token");
+    when(jwtProvider.generateRefreshToken(user)).thenReturn("new-refresh-token");
+    when(jwtSessionRepository.rotateByUserId(any(), any(), any(), any(), any(), any(),
+        eq(TokenDigest.hexOf(oldRefreshToken))))
+        .thenReturn(0);
+
+    // when & then
+    org.junit.jupiter.api.Assertions.assertThrows(IllegalStateException.class,
+        () -> jwtService.reissueTokenPair(oldRefreshToken, 3600000L));
   }
 
   @DisplayName("만료된 세션으로 토큰을 재발급하면 예외가 발생")
@@ -226,11 +270,69 @@ class JwtServiceImplTest {
         .isActive(true)
         .build();
 
-    when(jwtSessionRepository.findByRefreshToken(expiredRefreshToken))
+    when(jwtSessionRepository.findByRefreshTokenHash(TokenDigest.hexOf(expiredRefreshToken)))
         .thenReturn(Optional.of(expiredSession));
 
     // when & then
     org.junit.jupiter.api.Assertions.assertThrows(RuntimeException.class,
         () -> jwtService.reissueTokenPair(expiredRefreshToken, 3600000L));
   }
-}
\ No newline at end of file
+
+  @DisplayName("한 번 조회한 활성 세션은 캐시에서 찾아 DB 를 다시 조회하지 않는다")
+  @Test
+  void getAccessTokenByRefreshToken_shouldUseCache_afterFirstLookup() {
+    // given
+    String refreshToken = "cached-refresh-token";
+    User user = User.builder()
+        .id(UUID.randomUUID())
+        .email("cache@example.com")
+        .role(Role.USER)
+        .build();
+    JwtSession session = JwtSession.builder()
+        .user(user)
+        .refreshToken(refreshToken)
+        .accessToken("old-access-token")
+        .expiresAt(LocalDateTime.now().plusMinutes(30))
+        .isActive(true)
+        .build();
+
+    when(jwtSessionRepository.findByRefreshTokenHash(TokenDigest.hexOf(refreshToken)))
+        .thenReturn(Optional.of(session));
+    when(jwtProvider.generateToken(any())).thenReturn("new-access-token");
+
+    // when
+    jwtService.getAccessTokenByRefreshToken(refreshToken);
+    Optional<String> second = jwtService.getAccessTokenByRefreshToken(refreshToken);
+
+    // then
+    assertThat(second).contains("new-access-token");
+    verify(jwtSessionRepository, org.mockito.Mockito.times(1)).findByRefreshTokenHash(TokenDigest.hexOf(refreshToken));
+  }
+
+  @DisplayName("회전하면 이전 refresh token 은 캐시에서 지우고 새 refresh token 을 캐시에 넣는다")
+  @Test
+  void reissueTokenPair_shouldReplaceCachedSession() {
+    // given
+    String oldRefreshToken = "old-refresh-token";
+    User user = User.builder()
+        .id(UUID.randomUUID())
+        .email("rotate@example.com")
+        .role(Role.USER)
+        .build();
+    jwtSessionCache.put(TokenDigest.hexOf(oldRefreshToken),
+        new JwtSessionCache.ActiveSession(user, "old-access-token", LocalDateTime.now().plusMinutes(10)));
+
+    when(jwtProvider.generateToken(any())).thenReturn("new-access-token");
+    when(jwtProvider.generateRefreshToken(any())).thenReturn("new-refresh-token");
+    when(jwtSessionRepository.rotateByUserId(any(), any(), any(), any(), any(), any(),
+        eq(TokenDigest.hexOf(oldRefreshToken)))).thenReturn(1);
+
+    // when
+    jwtService.reissueTokenPair(oldRefreshToken, 3600000L);
+
+    // then
+    verify(jwtSessionRepository, never()).findByRefreshTokenHash(any());
+    assertThat(jwtSessionCache.get(TokenDigest.hexOf(oldRefreshToken))).isEmpty();
+    assertThat(jwtSessionCache.get(TokenDigest.hexOf("new-refresh-token"))).isPresent();
+  }
+}
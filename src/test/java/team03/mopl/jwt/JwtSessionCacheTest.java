@@ -0,0 +1,133 @@
+package team03.mopl.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team03.mopl.cluster.ClusterMessage;
+import team03.mopl.cluster.InMemoryClusterBus;
+import team03.mopl.domain.user.Role;
+import team03.mopl.domain.user.User;
+import team03.mopl.jwt.JwtSessionCache.ActiveSession;
+
+class JwtSessionCacheTest {
+
+  private final InMemoryClusterBus clusterBus = new InMemoryClusterBus();
+  private final String refreshTokenHash = TokenDigest.hexOf("refresh-token");
+  private final User user = User.builder()
+      .id(UUID.randomUUID())
+      .email("session@test.com")
+      .name("세션 유저")
+      .role(Role.USER)
+      .build();
+
+  private JwtSessionCache cache(long ttlSeconds, int maxSize) {
+    return new JwtSessionCache(clusterBus, new SimpleMeterRegistry(), ttlSeconds, maxSize);
+  }
+
+  private ActiveSession session(LocalDateTime expiresAt) {
+    return new ActiveSession(user, "access-token", expiresAt);
+  }
+
+  @Test
+  @DisplayName("토큰 발급에 필요한 값만 복사한 스냅샷을 보관한다")
+  void put_storesSnapshot() {
+    // given
+    JwtSessionCache cache = cache(60, 10);
+
+    // when
+    cache.put(refreshTokenHash, session(LocalDateTime.now().plusDays(1)));
+    ActiveSession cached = cache.get(refreshTokenHash).orElseThrow();
+
+    // then
+    assertThat(cached.user()).isNotSameAs(user);
+    assertThat(cached.user().getId()).isEqualTo(user.getId());
+    assertThat(cached.user().getEmail()).isEqualTo(user.getEmail());
+    assertThat(cached.user().getRole()).isEqualTo(Role.USER);
+    assertThat(cached.user().getName()).isNull();
+    assertThat(cached.accessToken()).isEqualTo("access-token");
+  }
+
+  @Test
+  @DisplayName("캐시 ttl 이나 refresh token 만료 시각이 지나면 반환하지 않는다")
+  void get_skipsExpired() {
+    // given
+    JwtSessionCache ttlExpired = cache(0, 10);
+    JwtSessionCache sessionExpired = cache(60, 10);
+
+    // when
+    ttlExpired.put(refreshTokenHash, session(LocalDateTime.now().plusDays(1)));
+    sessionExpired.put(refreshTokenHash, session(LocalDateTime.now().minusSeconds(1)));
+
+    // then
+    assertThat(ttlExpired.get(refreshTokenHash)).isEmpty();
+    assertThat(sessionExpired.get(refreshTokenHash)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("최대 크기에 도달하면 새 세션은 보관하지 않는다")
+  void put_overCapacity() {
+    // given
+    JwtSessionCache cache = cache(60, 1);
+    String otherHash = TokenDigest.hexOf("other-refresh-token");
+
+    // when
+    cache.put(refreshTokenHash, session(LocalDateTime.now().plusDays(1)));
+    cache.put(otherHash, session(LocalDateTime.now().plusDays(1)));
+
+    // then
+    assertThat(cache.get(refreshTokenHash)).isPresent();
+    assertThat(cache.get(otherHash)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("evict 와 다른 노드에서 전파된 무효화 메시지로 지워진다")
+  void evict_removesLocallyAndFromCluster() {
+    // given
+    JwtSessionCache cache = cache(60, 10);
+    String otherHash = TokenDigest.hexOf("other-refresh-token");
+    cache.put(refreshTokenHash, session(LocalDateTime.now().plusDays(1)));
+    cache.put(otherHash, session(LocalDateTime.now().plusDays(1)));
+
+    // when
+    cache.evict(refreshTokenHash);
+    clusterBus.publish(new ClusterMessage(ClusterMessage.Kind.SESSION_INVALIDATED, otherHash, null, null));
+
+    // then
+    assertThat(cache.get(refreshTokenHash)).isEmpty();
+    assertThat(cache.get(otherHash)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 evict 하면 이 노드에서는 바로 지우고 다른 노드에는 커밋 후에 전파한다")
+  void evict_insideTransactionPropagatesAfterCommit() {
+    // given
+    JwtSessionCache local = cache(60, 10);
+    JwtSessionCache remote = cache(60, 10);
+    local.put(refreshTokenHash, session(LocalDateTime.now().plusDays(1)));
+    remote.put(refreshTokenHash, session(LocalDateTime.now().plusDays(1)));
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      local.evict(refreshTokenHash);
+      List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+      // then - 커밋 전
+      assertThat(local.get(refreshTokenHash)).isEmpty();
+      assertThat(remote.get(refreshTokenHash)).isPresent();
+
+      // when
+      synchronizations.forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // then - 커밋 후
+    assertThat(remote.get(refreshTokenHash)).isEmpty();
+  }
+}
@@ -0,0 +1,102 @@
+package team03.mopl.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import team03.mopl.common.config.JpaConfig;
+import team03.mopl.common.config.QueryDslConfig;
+import team03.mopl.domain.user.Role;
+import team03.mopl.domain.user.User;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaConfig.class})
+@TestPropertySource(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("JWT 세션 레포지토리 단위 테스트")
+class JwtSessionRepositoryTest {
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private JwtSessionRepository jwtSessionRepository;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = User.builder()
+        .email("session@test.com")
+        .name("session")
+        .password("pw")
+        .role(Role.USER)
+        .build();
+    em.persist(user);
+    em.persist(JwtSession.builder()
+        .user(user)
+        .accessToken("access-token")
+        .refreshToken("refresh-token")
+        .createdAt(LocalDateTime.now())
+        .expiresAt(LocalDateTime.now().plusDays(1))
+        .isActive(true)
+        .build());
+    em.flush();
+    em.clear();
+  }
+
+  private int rotate(String expectedRefreshToken) {
+    return jwtSessionRepository.rotateByUserId(user.getId(), "new-access-token", "new-refresh-token",
+        TokenDigest.hexOf("new-access-token"), TokenDigest.hexOf("new-refresh-token"),
+        LocalDateTime.now().plusDays(1), TokenDigest.hexOf(expectedRefreshToken));
+  }
+
+  @Test
+  @DisplayName("저장된 refresh token 으로 회전하면 세션의 토큰을 교체한다")
+  void rotateByUserId_success() {
+    // when
+    int rotated = rotate("refresh-token");
+
+    // then
+    assertThat(rotated).isEqualTo(1);
+    assertThat(jwtSessionRepository.findByRefreshToken("new-refresh-token")).isPresent();
+    assertThat(jwtSessionRepository.findByRefreshToken("refresh-token")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("이미 회전된 refresh token 으로는 회전하지 않는다")
+  void rotateByUserId_alreadyRotated() {
+    // given
+    rotate("refresh-token");
+
+    // when
+    int rotated = rotate("refresh-token");
+
+    // then
+    assertThat(rotated).isZero();
+  }
+
+  @Test
+  @DisplayName("로그아웃으로 세션이 삭제된 뒤에는 회전해도 새 세션을 만들지 않는다")
+  void rotateByUserId_afterLogout() {
+    // given
+    jwtSessionRepository.deleteByRefreshToken("refresh-token");
+    em.flush();
+
+    // when
+    int rotated = rotate("refresh-token");
+
+    // then
+    assertThat(rotated).isZero();
+    assertThat(jwtSessionRepository.count()).isZero();
+  }
+}
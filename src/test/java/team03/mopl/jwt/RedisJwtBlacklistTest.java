@@ -0,0 +1,133 @@
+package team03.mopl.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.ServerSocket;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+import team03.mopl.cluster.InMemoryClusterBus;
+
+/**
+ * 내장 Redis 위에서 버스가 연결되지 않은 노드 두 개로 Redis 동기화 경로를 검증
+ */
+class RedisJwtBlacklistTest {
+
+  private static RedisServer redisServer;
+  private static int port;
+
+  private LettuceConnectionFactory connectionFactory;
+  private StringRedisTemplate redisTemplate;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    redisServer = new RedisServer(port);
+    redisServer.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory = new LettuceConnectionFactory("localhost", port);
+    connectionFactory.afterPropertiesSet();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+    redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectionFactory.destroy();
+  }
+
+  private RedisJwtBlacklist node() {
+    return new RedisJwtBlacklist(redisTemplate, new InMemoryClusterBus(), new SimpleMeterRegistry(), 60_000L, 64, 1_000,
+        60_000L);
+  }
+
+  @Test
+  @DisplayName("추가한 노드는 바로, 다른 노드는 Redis 동기화 후 블랙리스트로 판단한다")
+  void addBlacklist_visibleAfterReload() {
+    // given
+    RedisJwtBlacklist nodeA = node();
+    RedisJwtBlacklist nodeB = node();
+
+    // when
+    nodeA.addBlacklist("logout.token", 60_000L);
+
+    // then
+    assertThat(nodeA.blacklisted("logout.token")).isTrue();
+    assertThat(nodeB.blacklisted("logout.token")).isFalse();
+    assertThat(nodeB.reload()).isEqualTo(1);
+    assertThat(nodeB.blacklisted("logout.token")).isTrue();
+    assertThat(nodeB.blacklisted("other.token")).isFalse();
+  }
+
+  @Test
+  @DisplayName("Redis 에는 토큰 원문이 아닌 digest 키를 TTL 과 함께 저장한다")
+  void addBlacklist_storesDigestWithTtl() {
+    // given
+    RedisJwtBlacklist blacklist = node();
+
+    // when
+    blacklist.addBlacklist("logout.token", 60_000L);
+
+    // then
+    String key = "blacklist:" + TokenDigest.of("logout.token").toHex();
+    assertThat(redisTemplate.hasKey(key)).isTrue();
+    assertThat(redisTemplate.getExpire(key)).isPositive();
+    assertThat(redisTemplate.hasKey("blacklist:logout.token")).isFalse();
+  }
+
+  @Test
+  @DisplayName("tick 동기화는 추가 기록에서 직전 동기화 이후 항목만 읽는다")
+  void syncRecent_readsOnlyNewEntries() {
+    // given
+    RedisJwtBlacklist nodeA = node();
+    RedisJwtBlacklist nodeB = node();
+    nodeA.addBlacklist("first.token", 60_000L);
+    assertThat(nodeB.syncRecent()).isEqualTo(1);
+
+    // when
+    String staleMember = TokenDigest.of("stale.token").toHex() + ":" + (System.currentTimeMillis() + 60_000L) + ":"
+        + JwtBlacklistIndex.hash1("stale.token") + ":" + JwtBlacklistIndex.hash2("stale.token");
+    redisTemplate.opsForZSet().add("mopl:jwt:blacklist-log", staleMember, 1);
+    nodeA.addBlacklist("second.token", 60_000L);
+
+    // then
+    assertThat(nodeB.syncRecent()).isEqualTo(2);
+    assertThat(nodeB.blacklisted("first.token")).isTrue();
+    assertThat(nodeB.blacklisted("second.token")).isTrue();
+    assertThat(nodeB.blacklisted("stale.token")).isFalse();
+  }
+
+  @Test
+  @DisplayName("보관 기간이 지난 추가 기록은 동기화할 때 지운다")
+  void syncRecent_prunesOldEntries() {
+    // given
+    RedisJwtBlacklist blacklist = node();
+    redisTemplate.opsForZSet().add("mopl:jwt:blacklist-log", "old", 1);
+    blacklist.addBlacklist("logout.token", 60_000L);
+
+    // when
+    blacklist.syncRecent();
+
+    // then
+    assertThat(redisTemplate.opsForZSet().score("mopl:jwt:blacklist-log", "old")).isNull();
+    assertThat(redisTemplate.opsForZSet().size("mopl:jwt:blacklist-log")).isEqualTo(1);
+  }
+}
@@ -0,0 +1,110 @@
+package team03.mopl.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RefreshTokenSingleFlightTest {
+
+  private final AtomicInteger rotations = new AtomicInteger();
+
+  private TokenPair rotate() {
+    int n = rotations.incrementAndGet();
+    return new TokenPair("access-" + n, "refresh-" + n);
+  }
+
+  @Test
+  @DisplayName("같은 refresh token 의 동시 요청은 한 번만 회전하고 모두 같은 토큰 쌍을 받는다")
+  void rotate_concurrentRequestsShareOneRotation() throws Exception {
+    // given
+    RefreshTokenSingleFlight singleFlight = new RefreshTokenSingleFlight(10_000L, 5_000L);
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // when
+    List<Future<TokenPair>> results = new ArrayList<>();
+    results.add(executor.submit(() -> singleFlight.rotate("refresh-token", () -> {
+      leaderStarted.countDown();
+      awaitQuietly(release);
+      return rotate();
+    })));
+    leaderStarted.await(1, TimeUnit.SECONDS);
+    for (int i = 0; i < 3; i++) {
+      results.add(executor.submit(() -> singleFlight.rotate("refresh-token", this::rotate)));
+    }
+    release.countDown();
+
+    // then
+    for (Future<TokenPair> result : results) {
+      assertThat(result.get(1, TimeUnit.SECONDS).getRefreshToken()).isEqualTo("refresh-1");
+    }
+    assertThat(rotations.get()).isEqualTo(1);
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("회전이 끝난 뒤에도 grace 기간 동안은 이전 refresh token 으로 같은 결과를 받는다")
+  void rotate_returnsSameResultWithinGrace() {
+    // given
+    RefreshTokenSingleFlight singleFlight = new RefreshTokenSingleFlight(10_000L, 5_000L);
+    TokenPair first = singleFlight.rotate("refresh-token", this::rotate);
+
+    // when
+    TokenPair second = singleFlight.rotate("refresh-token", this::rotate);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(rotations.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("grace 기간이 지나면 다시 회전을 시도하고, 만료된 결과는 정리된다")
+  void rotate_retriesAfterGrace() {
+    // given
+    RefreshTokenSingleFlight singleFlight = new RefreshTokenSingleFlight(0L, 5_000L);
+    singleFlight.rotate("refresh-token", this::rotate);
+
+    // when
+    TokenPair second = singleFlight.rotate("refresh-token", this::rotate);
+    singleFlight.evictExpired();
+
+    // then
+    assertThat(second.getRefreshToken()).isEqualTo("refresh-2");
+    assertThat(singleFlight.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("회전이 실패하면 결과를 남기지 않아 다음 요청이 다시 시도한다")
+  void rotate_failureIsNotCached() {
+    // given
+    RefreshTokenSingleFlight singleFlight = new RefreshTokenSingleFlight(10_000L, 5_000L);
+
+    // when
+    assertThatThrownBy(() -> singleFlight.rotate("refresh-token", () -> {
+      throw new IllegalStateException("Refresh token 만료");
+    })).isInstanceOf(IllegalStateException.class);
+    TokenPair retried = singleFlight.rotate("refresh-token", this::rotate);
+
+    // then
+    assertThat(retried.getRefreshToken()).isEqualTo("refresh-1");
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
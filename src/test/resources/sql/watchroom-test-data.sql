@@ -1,6 +1,7 @@
 -- H2 데이터베이스용 테스트 데이터
 
 -- 기존 데이터 초기화 (외래 키 제약조건 고려하여 역순으로)
+DELETE FROM watch_room_messages;
 DELETE FROM watch_room_participants;
 DELETE FROM watch_rooms;
 DELETE FROM contents;
@@ -18,9 +19,9 @@ VALUES
     ('33333333-3333-3333-3333-333333333333', '미생', '미생', 'TV', '2025-01-01 12:00:00', '2025-01-01 12:00:00', 'https://www.youtube.com');
 
 -- 시청방 데이터
-INSERT INTO watch_rooms (id, title, title_normalized,owner_id, content_id, created_at)
+INSERT INTO watch_rooms (id, title, title_normalized,owner_id, content_id, created_at, participant_count)
 VALUES
-    ('44444444-4444-4444-4444-444444444444', '장그래 힘내라', '장그래힘내라', '11111111-1111-1111-1111-111111111111', '33333333-3333-3333-3333-333333333333', '2025-01-01 13:00:00');
+    ('44444444-4444-4444-4444-444444444444', '장그래 힘내라', '장그래힘내라', '11111111-1111-1111-1111-111111111111', '33333333-3333-3333-3333-333333333333', '2025-01-01 13:00:00', 1);
 
 -- 시청방 참여자 데이터 (주 테스트용)
 INSERT INTO watch_room_participants (id, room_id, user_id, created_at)
@@ -28,27 +29,27 @@ VALUES
     ('66666666-6666-6666-6666-666666666666', '44444444-4444-4444-4444-444444444444', '11111111-1111-1111-1111-111111111111', '2025-01-01 13:00:00');
 
 -- 10개의 시청방 데이터 (페이지네이션 테스트용)
-INSERT INTO watch_rooms (id, title, title_normalized,owner_id, content_id, created_at)
-VALUES
-    ('55555555-5555-5555-5555-555555555550', '테스트시청방0', '테스트시청방0', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-01 00:00:00'),
-    ('55555555-5555-5555-5555-555555555551', '테스트시청방1', '테스트시청방1', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-02 00:00:00'),
-    ('55555555-5555-5555-5555-555555555552', '테스트시청방2', '테스트시청방2', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-03 00:00:00'),
-    ('55555555-5555-5555-5555-555555555553', '테스트시청방3', '테스트시청방3', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-04 00:00:00'),
-    ('55555555-5555-5555-5555-555555555554', '테스트시청방4', '테스트시청방4', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-05 00:00:00'),
-    ('55555555-5555-5555-5555-555555555555', '테스트시청방5', '테스트시청방5', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-06 00:00:00'),
-    ('55555555-5555-5555-5555-555555555556', '테스트시청방6', '테스트시청방6', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-07 00:00:00'),
-    ('55555555-5555-5555-5555-555555555557', '테스트시청방7', '테스트시청방7', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-08 00:00:00'),
-    ('55555555-5555-5555-5555-555555555558', '테스트시청방8', '테스트시청방8', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-09 00:00:00'),
-    ('55555555-5555-5555-5555-555555555559', '테스트시청방9', '테스트시청방9', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-10 00:00:00');
+INSERT INTO watch_rooms (id, title, title_normalized,owner_id, content_id, created_at, participant_count)
+VALUES
+    ('55555555-5555-5555-5555-555555555550', '테스트시청방0', '테스트시청방0', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-01 00:00:00', 1),
+    ('55555555-5555-5555-5555-555555555551', '테스트시청방1', '테스트시청방1', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-02 00:00:00', 1),
+    ('55555555-5555-5555-5555-555555555552', '테스트시청방2', '테스트시청방2', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-03 00:00:00', 1),
+    ('55555555-5555-5555-5555-555555555553', '테스트시청방3', '테스트시청방3', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-04 00:00:00', 1),
+    ('55555555-5555-5555-5555-555555555554', '테스트시청방4', '테스트시청방4', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-05 00:00:00', 1),
+    ('55555555-5555-5555-5555-555555555555', '테스트시청방5', '테스트시청방5', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-06 00:00:00', 1),
+    ('55555555-5555-5555-5555-555555555556', '테스트시청방6', '테스트시청방6', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-07 00:00:00', 1),
+    ('55555555-5555-5555-5555-555555555557', '테스트시청방7', '테스트시청방7', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-08 00:00:00', 2),
+    ('55555555-5555-5555-5555-555555555558', '테스트시청방8', '테스트시청방8', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-09 00:00:00', 2),
+    ('55555555-5555-5555-5555-555555555559', '테스트시청방9', '테스트시청방9', '22222222-2222-2222-2222-222222222222', '33333333-3333-3333-3333-333333333333', '2025-01-10 00:00:00', 2);
 
 -- 모든 시청방에 user 참여 (참여자 1명)
 INSERT INTO watch_room_participants (id, room_id, user_id, created_at)
 VALUES
     ('77777777-7777-7777-7777-777777777770', '55555555-5555-5555-5555-555555555550', '22222222-2222-2222-2222-222222222222', '2025-01-01 00:00:00'),
-    ('77777777-7777-7777-7777-777777777771', '55555555-5555-5555-5555-555555555551', '22222222-2222-2222-2222-222222222222', '2025-01-02 00:00:00'),
-    ('77777777-7777-7777-7777-777777777772', '55555555-5555-5555-5555-555555555552', '22222222-2222-2222-2222-222222222222', '2025-01-03 00:00:00'),
-    ('77777777-7777-7777-7777-777777777773', '55555555-5555-5555-5555-555555555553', '22222222-2222-2222-2222-222222222222', '2025-01-04 00:00:00'),
-    ('77777777-7777-7777-7777-777777777774', '55555555-5555-5555-5555-555555555554', '22222222-2222-2222-2222-222222222222', '2025-01-05 00:00:00'),
+    ('99999999-9999-9999-9999-999999999991', '55555555-5555-5555-5555-555555555551', '22222222-2222-2222-2222-222222222222', '2025-01-02 00:00:00'),
+    ('99999999-9999-9999-9999-999999999992', '55555555-5555-5555-5555-555555555552', '22222222-2222-2222-2222-222222222222', '2025-01-03 00:00:00'),
+    ('99999999-9999-9999-9999-999999999993', '55555555-5555-5555-5555-555555555553', '22222222-2222-2222-2222-222222222222', '2025-01-04 00:00:00'),
+    ('99999999-9999-9999-9999-999999999994', '55555555-5555-5555-5555-555555555554', '22222222-2222-2222-2222-222222222222', '2025-01-05 00:00:00'),
     ('77777777-7777-7777-7777-777777777775', '55555555-5555-5555-5555-555555555555', '22222222-2222-2222-2222-222222222222', '2025-01-06 00:00:00'),
     ('77777777-7777-7777-7777-777777777776', '55555555-5555-5555-5555-555555555556', '22222222-2222-2222-2222-222222222222', '2025-01-07 00:00:00'),
     ('77777777-7777-7777-7777-777777777777', '55555555-5555-5555-5555-555555555557', '22222222-2222-2222-2222-222222222222', '2025-01-08 00:00:00'),
@@ -60,4 +61,12 @@ INSERT INTO watch_room_participants (id, room_id, user_id, created_at)
 VALUES
     ('88888888-8888-8888-8888-888888888887', '55555555-5555-5555-5555-555555555557', '11111111-1111-1111-1111-111111111111', '2025-01-08 00:00:00'),
     ('88888888-8888-8888-8888-888888888888', '55555555-5555-5555-5555-555555555558', '11111111-1111-1111-1111-111111111111', '2025-01-09 00:00:00'),
-    ('88888888-8888-8888-8888-888888888889', '55555555-5555-5555-5555-555555555559', '11111111-1111-1111-1111-111111111111', '2025-01-10 00:00:00');
\ No newline at end of file
+    ('88888888-8888-8888-8888-888888888889', '55555555-5555-5555-5555-555555555559', '11111111-1111-1111-1111-111111111111', '2025-01-10 00:00:00');
+
+-- 채팅 메세지 데이터 (커서 페이지네이션 테스트용, 99...2 와 99...3 은 생성 시각이 같음)
+INSERT INTO watch_room_messages (id, room_id, sender_id, content, created_at)
+VALUES
+    ('99999999-9999-9999-9999-999999999991', '44444444-4444-4444-4444-444444444444', '11111111-1111-1111-1111-111111111111', '첫번째 메세지', '2025-01-01 13:01:00'),
+    ('99999999-9999-9999-9999-999999999992', '44444444-4444-4444-4444-444444444444', '11111111-1111-1111-1111-111111111111', '두번째 메세지', '2025-01-01 13:02:00'),
+    ('99999999-9999-9999-9999-999999999993', '44444444-4444-4444-4444-444444444444', '11111111-1111-1111-1111-111111111111', '세번째 메세지', '2025-01-01 13:02:00'),
+    ('99999999-9999-9999-9999-999999999994', '55555555-5555-5555-5555-555555555550', '11111111-1111-1111-1111-111111111111', '다른 방 메세지', '2025-01-01 13:03:00');